@@ -19,6 +19,8 @@ import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.input.Input;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceResponse;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorResponse;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
@@ -55,6 +57,30 @@ public interface MachineLearningClient {
      */
     void predict(String modelId, MLInput mlInput, ActionListener<MLOutput> listener);
 
+    /**
+     * Predict many text docs with a deployed model. The docs are split into batches of batchSize docs which
+     * are predicted in parallel on the worker nodes of the model.
+     * @param modelId the deployed model id
+     * @param mlInput ML input with text docs
+     * @param batchSize how many docs are predicted in one batch, default batch size is used if null
+     * @return ActionFuture of MLOutput
+     */
+    default ActionFuture<MLOutput> batchPredict(String modelId, MLInput mlInput, Integer batchSize) {
+        PlainActionFuture<MLOutput> actionFuture = PlainActionFuture.newFuture();
+        batchPredict(modelId, mlInput, batchSize, actionFuture);
+        return actionFuture;
+    }
+
+    /**
+     * Predict many text docs with a deployed model. The docs are split into batches of batchSize docs which
+     * are predicted in parallel on the worker nodes of the model.
+     * @param modelId the deployed model id
+     * @param mlInput ML input with text docs
+     * @param batchSize how many docs are predicted in one batch, default batch size is used if null
+     * @param listener a listener to be notified of the result
+     */
+    void batchPredict(String modelId, MLInput mlInput, Integer batchSize, ActionListener<MLOutput> listener);
+
     /**
      * Train model then predict with the same data set.
      * For additional info on train and predict, refer: https://opensearch.org/docs/latest/ml-commons-plugin/api/#train-and-predict
@@ -271,6 +297,26 @@ public interface MachineLearningClient {
      */
     void deploy(String modelId, ActionListener<MLDeployModelResponse> listener);
 
+    /**
+     * Start a bulk inference task which predicts the source field of all docs in source index with a deployed model
+     * and writes the results to target field, or resume a stopped bulk inference task if task id is set.
+     * @param bulkInferenceInput bulk inference input
+     * @return ActionFuture of bulk inference response with the task id
+     */
+    default ActionFuture<MLBulkInferenceResponse> bulkInference(MLBulkInferenceInput bulkInferenceInput) {
+        PlainActionFuture<MLBulkInferenceResponse> actionFuture = PlainActionFuture.newFuture();
+        bulkInference(bulkInferenceInput, actionFuture);
+        return actionFuture;
+    }
+
+    /**
+     * Start a bulk inference task which predicts the source field of all docs in source index with a deployed model
+     * and writes the results to target field, or resume a stopped bulk inference task if task id is set.
+     * @param bulkInferenceInput bulk inference input
+     * @param listener a listener to be notified of the result
+     */
+    void bulkInference(MLBulkInferenceInput bulkInferenceInput, ActionListener<MLBulkInferenceResponse> listener);
+
     /**
      * Create connector for remote model
      * @param mlCreateConnectorInput Create Connector Input, refer: https://opensearch.org/docs/latest/ml-commons-plugin/extensibility/connectors/
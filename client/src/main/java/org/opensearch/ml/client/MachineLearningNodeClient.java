@@ -31,6 +31,10 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceAction;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceRequest;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceResponse;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorAction;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorRequest;
@@ -51,6 +55,8 @@ import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupRequest;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupResponse;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskRequest;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
@@ -90,6 +96,19 @@ public class MachineLearningNodeClient implements MachineLearningClient {
         client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, getMlPredictionTaskResponseActionListener(listener));
     }
 
+    @Override
+    public void batchPredict(String modelId, MLInput mlInput, Integer batchSize, ActionListener<MLOutput> listener) {
+        validateMLInput(mlInput, true);
+
+        MLBatchPredictionTaskRequest batchPredictionRequest = MLBatchPredictionTaskRequest
+            .builder()
+            .modelId(modelId)
+            .mlInput(mlInput)
+            .batchSize(batchSize)
+            .build();
+        client.execute(MLBatchPredictionTaskAction.INSTANCE, batchPredictionRequest, getMlPredictionTaskResponseActionListener(listener));
+    }
+
     @Override
     public void trainAndPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
         validateMLInput(mlInput, true);
@@ -249,6 +268,13 @@ public class MachineLearningNodeClient implements MachineLearningClient {
             );
     }
 
+    @Override
+    public void bulkInference(MLBulkInferenceInput bulkInferenceInput, ActionListener<MLBulkInferenceResponse> listener) {
+        MLBulkInferenceRequest bulkInferenceRequest = new MLBulkInferenceRequest(bulkInferenceInput);
+        client
+            .execute(MLBulkInferenceAction.INSTANCE, bulkInferenceRequest, ActionListener.wrap(listener::onResponse, listener::onFailure));
+    }
+
     @Override
     public void createConnector(MLCreateConnectorInput mlCreateConnectorInput, ActionListener<MLCreateConnectorResponse> listener) {
         MLCreateConnectorRequest createConnectorRequest = new MLCreateConnectorRequest(mlCreateConnectorInput);
@@ -42,6 +42,8 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLTrainingOutput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceResponse;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorResponse;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
@@ -79,6 +81,9 @@ public class MachineLearningClientTest {
     @Mock
     MLDeployModelResponse deployModelResponse;
 
+    @Mock
+    MLBulkInferenceResponse bulkInferenceResponse;
+
     @Mock
     MLCreateConnectorResponse createConnectorResponse;
 
@@ -108,6 +113,11 @@ public class MachineLearningClientTest {
                 listener.onResponse(output);
             }
 
+            @Override
+            public void batchPredict(String modelId, MLInput mlInput, Integer batchSize, ActionListener<MLOutput> listener) {
+                listener.onResponse(output);
+            }
+
             @Override
             public void trainAndPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
                 listener.onResponse(output);
@@ -163,6 +173,11 @@ public class MachineLearningClientTest {
                 listener.onResponse(deployModelResponse);
             }
 
+            @Override
+            public void bulkInference(MLBulkInferenceInput bulkInferenceInput, ActionListener<MLBulkInferenceResponse> listener) {
+                listener.onResponse(bulkInferenceResponse);
+            }
+
             @Override
             public void createConnector(MLCreateConnectorInput mlCreateConnectorInput, ActionListener<MLCreateConnectorResponse> listener) {
                 listener.onResponse(createConnectorResponse);
@@ -210,6 +225,12 @@ public class MachineLearningClientTest {
         assertEquals(output, machineLearningClient.predict("modelId", mlInput).actionGet());
     }
 
+    @Test
+    public void batchPredict() {
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(input)).build();
+        assertEquals(output, machineLearningClient.batchPredict("modelId", mlInput, 10).actionGet());
+    }
+
     @Test
     public void predict_WithAlgoAndInputDataAndListener() {
         MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(input)).build();
@@ -344,6 +365,18 @@ public class MachineLearningClientTest {
         assertEquals(deployModelResponse, machineLearningClient.deploy("modelId").actionGet());
     }
 
+    @Test
+    public void bulkInference() {
+        MLBulkInferenceInput bulkInferenceInput = MLBulkInferenceInput
+            .builder()
+            .modelId("modelId")
+            .sourceIndex("source_index")
+            .sourceField("text")
+            .targetField("embedding")
+            .build();
+        assertEquals(bulkInferenceResponse, machineLearningClient.bulkInference(bulkInferenceInput).actionGet());
+    }
+
     @Test
     public void createConnector() {
         Map<String, String> params = Map.ofEntries(Map.entry("endpoint", "endpoint"), Map.entry("temp", "7"));
@@ -60,6 +60,7 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.input.Input;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.execute.metricscorrelation.MetricsCorrelationInput;
@@ -73,7 +74,12 @@ import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor;
 import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensors;
 import org.opensearch.ml.common.output.execute.metrics_correlation.MetricsCorrelationOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceAction;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceRequest;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceResponse;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorAction;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorRequest;
@@ -94,6 +100,8 @@ import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupRequest;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupResponse;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskRequest;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
@@ -157,6 +165,9 @@ public class MachineLearningNodeClientTest {
     @Mock
     ActionListener<MLDeployModelResponse> deployModelActionListener;
 
+    @Mock
+    ActionListener<MLBulkInferenceResponse> bulkInferenceActionListener;
+
     @Mock
     ActionListener<MLCreateConnectorResponse> createConnectorActionListener;
 
@@ -200,6 +211,31 @@ public class MachineLearningNodeClientTest {
         assertEquals(output, ((MLPredictionOutput) dataFrameArgumentCaptor.getValue()).getPredictionResult());
     }
 
+    @Test
+    public void batchPredict() {
+        ModelTensorOutput tensorOutput = new ModelTensorOutput(Collections.emptyList());
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(tensorOutput).build());
+            return null;
+        }).when(client).execute(eq(MLBatchPredictionTaskAction.INSTANCE), any(), any());
+
+        ArgumentCaptor<MLOutput> outputArgumentCaptor = ArgumentCaptor.forClass(MLOutput.class);
+        ArgumentCaptor<MLBatchPredictionTaskRequest> requestArgumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionTaskRequest.class);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc1", "doc2")).build())
+            .build();
+        machineLearningNodeClient.batchPredict("modelId", mlInput, 1, dataFrameActionListener);
+
+        verify(client).execute(eq(MLBatchPredictionTaskAction.INSTANCE), requestArgumentCaptor.capture(), any());
+        assertEquals("modelId", requestArgumentCaptor.getValue().getModelId());
+        assertEquals(1, requestArgumentCaptor.getValue().getBatchSize());
+        verify(dataFrameActionListener).onResponse(outputArgumentCaptor.capture());
+        assertEquals(tensorOutput, outputArgumentCaptor.getValue());
+    }
+
     @Test
     public void predict_Exception_WithNullAlgorithm() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -649,6 +685,33 @@ public class MachineLearningNodeClientTest {
         assertEquals(status, (argumentCaptor.getValue()).getStatus());
     }
 
+    @Test
+    public void bulkInference() {
+        String taskId = "taskId";
+        String status = MLTaskState.CREATED.name();
+        doAnswer(invocation -> {
+            ActionListener<MLBulkInferenceResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLBulkInferenceResponse(taskId, status));
+            return null;
+        }).when(client).execute(eq(MLBulkInferenceAction.INSTANCE), any(), any());
+
+        MLBulkInferenceInput bulkInferenceInput = MLBulkInferenceInput
+            .builder()
+            .modelId("modelId")
+            .sourceIndex("source_index")
+            .sourceField("text")
+            .targetField("embedding")
+            .build();
+        ArgumentCaptor<MLBulkInferenceResponse> argumentCaptor = ArgumentCaptor.forClass(MLBulkInferenceResponse.class);
+        machineLearningNodeClient.bulkInference(bulkInferenceInput, bulkInferenceActionListener);
+
+        verify(client).execute(eq(MLBulkInferenceAction.INSTANCE), isA(MLBulkInferenceRequest.class), any());
+        verify(bulkInferenceActionListener).onResponse(argumentCaptor.capture());
+        assertEquals(taskId, argumentCaptor.getValue().getTaskId());
+        assertEquals(MLTaskType.BULK_INFERENCE, argumentCaptor.getValue().getTaskType());
+        assertEquals(status, argumentCaptor.getValue().getStatus());
+    }
+
     @Test
     public void createConnector() {
 
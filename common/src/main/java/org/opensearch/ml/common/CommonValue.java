@@ -6,6 +6,9 @@
 package org.opensearch.ml.common;
 
 import org.opensearch.ml.common.connector.AbstractConnector;
+import org.opensearch.ml.common.output.MLTrainingOutput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint;
+import org.opensearch.ml.common.transport.deploy.MLDeployProgress;
 
 import static org.opensearch.ml.common.model.MLModelConfig.ALL_CONFIG_FIELD;
 import static org.opensearch.ml.common.model.MLModelConfig.MODEL_TYPE_FIELD;
@@ -38,7 +41,7 @@ public class CommonValue {
     public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 2;
     public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 7;
     public static final String ML_CONNECTOR_INDEX = ".plugins-ml-connector";
-    public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 2;
+    public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 5;
     public static final Integer ML_CONNECTOR_SCHEMA_VERSION = 2;
     public static final String ML_CONFIG_INDEX = ".plugins-ml-config";
     public static final Integer ML_CONFIG_INDEX_SCHEMA_VERSION = 2;
@@ -263,6 +266,18 @@ public class CommonValue {
             + "      \""
             + MLTask.IS_ASYNC_TASK_FIELD
             + "\" : {\"type\" : \"boolean\"}, \n"
+            + "      \""
+            + MLTrainingOutput.ESTIMATED_MEMORY_BYTES_FIELD
+            + "\": {\"type\": \"long\"},\n"
+            + "      \""
+            + MLTrainingOutput.PEAK_MEMORY_BYTES_FIELD
+            + "\": {\"type\": \"long\"},\n"
+            + "      \""
+            + MLBulkInferenceCheckpoint.CHECKPOINT_FIELD
+            + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
+            + "      \""
+            + MLDeployProgress.DEPLOY_PROGRESS_FIELD
+            + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
             + USER_FIELD_MAPPING
             + "    }\n"
             + "}";
@@ -32,6 +32,12 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     public static final String REQUEST_BODY_FIELD = "request_body";
     public static final String ACTION_PRE_PROCESS_FUNCTION = "pre_process_function";
     public static final String ACTION_POST_PROCESS_FUNCTION = "post_process_function";
+    public static final String MAX_BATCH_SIZE_FIELD = "max_batch_size";
+    public static final String MAX_PAYLOAD_BYTES_FIELD = "max_payload_bytes";
+    public static final String MAX_CONCURRENT_REQUESTS_FIELD = "max_concurrent_requests";
+    public static final String RATE_LIMIT_FIELD = "rate_limit";
+    public static final String RESILIENCE_FIELD = "resilience";
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
 
     private ActionType actionType;
     private String method;
@@ -40,8 +46,17 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     private String requestBody;
     private String preProcessFunction;
     private String postProcessFunction;
+    // Text docs are split into sub-batches of at most this many docs, one request per sub-batch.
+    private Integer maxBatchSize;
+    // Text docs are split into sub-batches whose docs take at most this many bytes in UTF-8.
+    private Integer maxPayloadBytes;
+    // How many sub-batch requests are sent at the same time, defaults to DEFAULT_MAX_CONCURRENT_REQUESTS.
+    private Integer maxConcurrentRequests;
+    private ConnectorRateLimit rateLimit;
+    private ConnectorResilience resilience;
+    // Split from requestBody on first use, transient so it's left out of equals and hashCode.
+    private transient volatile PayloadTemplate requestBodyTemplate;
 
-    @Builder(toBuilder = true)
     public ConnectorAction(
         ActionType actionType,
         String method,
@@ -50,6 +65,24 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         String requestBody,
         String preProcessFunction,
         String postProcessFunction
+    ) {
+        this(actionType, method, url, headers, requestBody, preProcessFunction, postProcessFunction, null, null, null, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public ConnectorAction(
+        ActionType actionType,
+        String method,
+        String url,
+        Map<String, String> headers,
+        String requestBody,
+        String preProcessFunction,
+        String postProcessFunction,
+        Integer maxBatchSize,
+        Integer maxPayloadBytes,
+        Integer maxConcurrentRequests,
+        ConnectorRateLimit rateLimit,
+        ConnectorResilience resilience
     ) {
         if (actionType == null) {
             throw new IllegalArgumentException("action type can't null");
@@ -60,6 +93,15 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         if (method == null) {
             throw new IllegalArgumentException("method can't null");
         }
+        if (maxBatchSize != null && maxBatchSize <= 0) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxPayloadBytes != null && maxPayloadBytes <= 0) {
+            throw new IllegalArgumentException("max payload bytes must be positive");
+        }
+        if (maxConcurrentRequests != null && maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("max concurrent requests must be positive");
+        }
         this.actionType = actionType;
         this.method = method;
         this.url = url;
@@ -67,6 +109,11 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         this.requestBody = requestBody;
         this.preProcessFunction = preProcessFunction;
         this.postProcessFunction = postProcessFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.rateLimit = rateLimit;
+        this.resilience = resilience;
     }
 
     public ConnectorAction(StreamInput input) throws IOException {
@@ -79,6 +126,15 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         this.requestBody = input.readOptionalString();
         this.preProcessFunction = input.readOptionalString();
         this.postProcessFunction = input.readOptionalString();
+        this.maxBatchSize = input.readOptionalInt();
+        this.maxPayloadBytes = input.readOptionalInt();
+        this.maxConcurrentRequests = input.readOptionalInt();
+        if (input.readBoolean()) {
+            this.rateLimit = new ConnectorRateLimit(input);
+        }
+        if (input.readBoolean()) {
+            this.resilience = new ConnectorResilience(input);
+        }
     }
 
     @Override
@@ -95,6 +151,21 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         out.writeOptionalString(requestBody);
         out.writeOptionalString(preProcessFunction);
         out.writeOptionalString(postProcessFunction);
+        out.writeOptionalInt(maxBatchSize);
+        out.writeOptionalInt(maxPayloadBytes);
+        out.writeOptionalInt(maxConcurrentRequests);
+        if (rateLimit != null) {
+            out.writeBoolean(true);
+            rateLimit.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (resilience != null) {
+            out.writeBoolean(true);
+            resilience.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
     @Override
@@ -121,9 +192,50 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         if (postProcessFunction != null) {
             builder.field(ACTION_POST_PROCESS_FUNCTION, postProcessFunction);
         }
+        if (maxBatchSize != null) {
+            builder.field(MAX_BATCH_SIZE_FIELD, maxBatchSize);
+        }
+        if (maxPayloadBytes != null) {
+            builder.field(MAX_PAYLOAD_BYTES_FIELD, maxPayloadBytes);
+        }
+        if (maxConcurrentRequests != null) {
+            builder.field(MAX_CONCURRENT_REQUESTS_FIELD, maxConcurrentRequests);
+        }
+        if (rateLimit != null) {
+            builder.field(RATE_LIMIT_FIELD, rateLimit);
+        }
+        if (resilience != null) {
+            builder.field(RESILIENCE_FIELD, resilience);
+        }
         return builder.endObject();
     }
 
+    /**
+     * Get the request body template, split into text and placeholders on first use.
+     * @return the request body template, or null if there's no request body
+     */
+    public PayloadTemplate getRequestBodyTemplate() {
+        if (requestBody == null) {
+            return null;
+        }
+        if (requestBodyTemplate == null) {
+            requestBodyTemplate = new PayloadTemplate(requestBody);
+        }
+        return requestBodyTemplate;
+    }
+
+    /**
+     * Whether text docs need to be split into sub-batches before sending them to the remote model.
+     * @return true if max batch size or max payload bytes is set
+     */
+    public boolean isBatchLimited() {
+        return maxBatchSize != null || maxPayloadBytes != null;
+    }
+
+    public int getMaxConcurrentRequestsOrDefault() {
+        return maxConcurrentRequests == null ? DEFAULT_MAX_CONCURRENT_REQUESTS : maxConcurrentRequests;
+    }
+
     public static ConnectorAction fromStream(StreamInput in) throws IOException {
         ConnectorAction action = new ConnectorAction(in);
         return action;
@@ -137,6 +249,11 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         String requestBody = null;
         String preProcessFunction = null;
         String postProcessFunction = null;
+        Integer maxBatchSize = null;
+        Integer maxPayloadBytes = null;
+        Integer maxConcurrentRequests = null;
+        ConnectorRateLimit rateLimit = null;
+        ConnectorResilience resilience = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -165,6 +282,21 @@ public class ConnectorAction implements ToXContentObject, Writeable {
                 case ACTION_POST_PROCESS_FUNCTION:
                     postProcessFunction = parser.text();
                     break;
+                case MAX_BATCH_SIZE_FIELD:
+                    maxBatchSize = parser.intValue();
+                    break;
+                case MAX_PAYLOAD_BYTES_FIELD:
+                    maxPayloadBytes = parser.intValue();
+                    break;
+                case MAX_CONCURRENT_REQUESTS_FIELD:
+                    maxConcurrentRequests = parser.intValue();
+                    break;
+                case RATE_LIMIT_FIELD:
+                    rateLimit = ConnectorRateLimit.parse(parser);
+                    break;
+                case RESILIENCE_FIELD:
+                    resilience = ConnectorResilience.parse(parser);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -178,6 +310,11 @@ public class ConnectorAction implements ToXContentObject, Writeable {
                 .requestBody(requestBody)
                 .preProcessFunction(preProcessFunction)
                 .postProcessFunction(postProcessFunction)
+                .maxBatchSize(maxBatchSize)
+                .maxPayloadBytes(maxPayloadBytes)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .rateLimit(rateLimit)
+                .resilience(resilience)
                 .build();
     }
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Client side rate limit of the requests a model sends to its remote service. Requests over the budget wait for
+ * up to max wait millis, and are rejected if they can't be sent by then.
+ */
+@Getter
+@EqualsAndHashCode
+public class ConnectorRateLimit implements ToXContentObject, Writeable {
+
+    public static final String REQUESTS_PER_SECOND_FIELD = "requests_per_second";
+    public static final String TOKENS_PER_MINUTE_FIELD = "tokens_per_minute";
+    public static final String MAX_WAIT_MILLIS_FIELD = "max_wait_millis";
+    public static final String SCOPE_FIELD = "scope";
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 10_000;
+
+    private Double requestsPerSecond;
+    // Tokens are estimated from the payload size, see RemoteRateLimiter.
+    private Long tokensPerMinute;
+    private Long maxWaitMillis;
+    private Scope scope;
+
+    @Builder(toBuilder = true)
+    public ConnectorRateLimit(Double requestsPerSecond, Long tokensPerMinute, Long maxWaitMillis, Scope scope) {
+        if (requestsPerSecond == null && tokensPerMinute == null) {
+            throw new IllegalArgumentException("rate limit needs requests per second or tokens per minute");
+        }
+        if (requestsPerSecond != null && requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requests per second must be positive");
+        }
+        if (tokensPerMinute != null && tokensPerMinute <= 0) {
+            throw new IllegalArgumentException("tokens per minute must be positive");
+        }
+        if (maxWaitMillis != null && maxWaitMillis < 0) {
+            throw new IllegalArgumentException("max wait millis can't be negative");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.tokensPerMinute = tokensPerMinute;
+        this.maxWaitMillis = maxWaitMillis;
+        this.scope = scope;
+    }
+
+    public ConnectorRateLimit(StreamInput input) throws IOException {
+        this.requestsPerSecond = input.readOptionalDouble();
+        this.tokensPerMinute = input.readOptionalLong();
+        this.maxWaitMillis = input.readOptionalLong();
+        if (input.readBoolean()) {
+            this.scope = input.readEnum(Scope.class);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalDouble(requestsPerSecond);
+        out.writeOptionalLong(tokensPerMinute);
+        out.writeOptionalLong(maxWaitMillis);
+        if (scope != null) {
+            out.writeBoolean(true);
+            out.writeEnum(scope);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder xContentBuilder, Params params) throws IOException {
+        XContentBuilder builder = xContentBuilder.startObject();
+        if (requestsPerSecond != null) {
+            builder.field(REQUESTS_PER_SECOND_FIELD, requestsPerSecond);
+        }
+        if (tokensPerMinute != null) {
+            builder.field(TOKENS_PER_MINUTE_FIELD, tokensPerMinute);
+        }
+        if (maxWaitMillis != null) {
+            builder.field(MAX_WAIT_MILLIS_FIELD, maxWaitMillis);
+        }
+        if (scope != null) {
+            builder.field(SCOPE_FIELD, scope);
+        }
+        return builder.endObject();
+    }
+
+    public long getMaxWaitMillisOrDefault() {
+        return maxWaitMillis == null ? DEFAULT_MAX_WAIT_MILLIS : maxWaitMillis;
+    }
+
+    /**
+     * Whether the budget is for the whole cluster, which is divided evenly across the worker nodes of the model.
+     * @return true if the scope is cluster
+     */
+    public boolean isClusterScope() {
+        return scope == Scope.CLUSTER;
+    }
+
+    public static ConnectorRateLimit parse(XContentParser parser) throws IOException {
+        Double requestsPerSecond = null;
+        Long tokensPerMinute = null;
+        Long maxWaitMillis = null;
+        Scope scope = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case REQUESTS_PER_SECOND_FIELD:
+                    requestsPerSecond = parser.doubleValue();
+                    break;
+                case TOKENS_PER_MINUTE_FIELD:
+                    tokensPerMinute = parser.longValue();
+                    break;
+                case MAX_WAIT_MILLIS_FIELD:
+                    maxWaitMillis = parser.longValue();
+                    break;
+                case SCOPE_FIELD:
+                    scope = Scope.valueOf(parser.text().toUpperCase(Locale.ROOT));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return ConnectorRateLimit.builder()
+                .requestsPerSecond(requestsPerSecond)
+                .tokensPerMinute(tokensPerMinute)
+                .maxWaitMillis(maxWaitMillis)
+                .scope(scope)
+                .build();
+    }
+
+    public enum Scope {
+        // Every worker node of the model gets the full budget
+        NODE,
+        // The budget is divided across the worker nodes of the model
+        CLUSTER
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * How a remote model handles transient failures of its remote service: retries with jittered exponential backoff,
+ * hedged requests when a request is slower than usual, and a circuit breaker which fast-fails requests to an
+ * endpoint while it keeps failing.
+ */
+@Getter
+@EqualsAndHashCode
+public class ConnectorResilience implements ToXContentObject, Writeable {
+
+    public static final String MAX_RETRIES_FIELD = "max_retries";
+    public static final String RETRY_BACKOFF_MILLIS_FIELD = "retry_backoff_millis";
+    public static final String MAX_RETRY_BACKOFF_MILLIS_FIELD = "max_retry_backoff_millis";
+    public static final String HEDGE_PERCENTILE_FIELD = "hedge_percentile";
+    public static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_FIELD = "circuit_breaker_failure_threshold";
+    public static final String CIRCUIT_BREAKER_OPEN_MILLIS_FIELD = "circuit_breaker_open_millis";
+    public static final long DEFAULT_RETRY_BACKOFF_MILLIS = 100;
+    public static final long DEFAULT_MAX_RETRY_BACKOFF_MILLIS = 10_000;
+    public static final long DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS = 30_000;
+
+    private Integer maxRetries;
+    // Backoff of the first retry, doubled for every retry after it
+    private Long retryBackoffMillis;
+    private Long maxRetryBackoffMillis;
+    // A hedged request is sent when the first one takes longer than this percentile of recent latencies
+    private Double hedgePercentile;
+    // Consecutive failures which open the circuit breaker, the breaker is disabled if null
+    private Integer circuitBreakerFailureThreshold;
+    private Long circuitBreakerOpenMillis;
+
+    @Builder(toBuilder = true)
+    public ConnectorResilience(
+        Integer maxRetries,
+        Long retryBackoffMillis,
+        Long maxRetryBackoffMillis,
+        Double hedgePercentile,
+        Integer circuitBreakerFailureThreshold,
+        Long circuitBreakerOpenMillis
+    ) {
+        if (maxRetries != null && maxRetries < 0) {
+            throw new IllegalArgumentException("max retries can't be negative");
+        }
+        if (retryBackoffMillis != null && retryBackoffMillis < 0) {
+            throw new IllegalArgumentException("retry backoff millis can't be negative");
+        }
+        if (maxRetryBackoffMillis != null && maxRetryBackoffMillis < 0) {
+            throw new IllegalArgumentException("max retry backoff millis can't be negative");
+        }
+        if (hedgePercentile != null && (hedgePercentile <= 0 || hedgePercentile >= 100)) {
+            throw new IllegalArgumentException("hedge percentile must be between 0 and 100");
+        }
+        if (circuitBreakerFailureThreshold != null && circuitBreakerFailureThreshold <= 0) {
+            throw new IllegalArgumentException("circuit breaker failure threshold must be positive");
+        }
+        if (circuitBreakerOpenMillis != null && circuitBreakerOpenMillis <= 0) {
+            throw new IllegalArgumentException("circuit breaker open millis must be positive");
+        }
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+        this.hedgePercentile = hedgePercentile;
+        this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+        this.circuitBreakerOpenMillis = circuitBreakerOpenMillis;
+    }
+
+    public ConnectorResilience(StreamInput input) throws IOException {
+        this.maxRetries = input.readOptionalInt();
+        this.retryBackoffMillis = input.readOptionalLong();
+        this.maxRetryBackoffMillis = input.readOptionalLong();
+        this.hedgePercentile = input.readOptionalDouble();
+        this.circuitBreakerFailureThreshold = input.readOptionalInt();
+        this.circuitBreakerOpenMillis = input.readOptionalLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalInt(maxRetries);
+        out.writeOptionalLong(retryBackoffMillis);
+        out.writeOptionalLong(maxRetryBackoffMillis);
+        out.writeOptionalDouble(hedgePercentile);
+        out.writeOptionalInt(circuitBreakerFailureThreshold);
+        out.writeOptionalLong(circuitBreakerOpenMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder xContentBuilder, Params params) throws IOException {
+        XContentBuilder builder = xContentBuilder.startObject();
+        if (maxRetries != null) {
+            builder.field(MAX_RETRIES_FIELD, maxRetries);
+        }
+        if (retryBackoffMillis != null) {
+            builder.field(RETRY_BACKOFF_MILLIS_FIELD, retryBackoffMillis);
+        }
+        if (maxRetryBackoffMillis != null) {
+            builder.field(MAX_RETRY_BACKOFF_MILLIS_FIELD, maxRetryBackoffMillis);
+        }
+        if (hedgePercentile != null) {
+            builder.field(HEDGE_PERCENTILE_FIELD, hedgePercentile);
+        }
+        if (circuitBreakerFailureThreshold != null) {
+            builder.field(CIRCUIT_BREAKER_FAILURE_THRESHOLD_FIELD, circuitBreakerFailureThreshold);
+        }
+        if (circuitBreakerOpenMillis != null) {
+            builder.field(CIRCUIT_BREAKER_OPEN_MILLIS_FIELD, circuitBreakerOpenMillis);
+        }
+        return builder.endObject();
+    }
+
+    public int getMaxRetriesOrDefault() {
+        return maxRetries == null ? 0 : maxRetries;
+    }
+
+    public long getRetryBackoffMillisOrDefault() {
+        return retryBackoffMillis == null ? DEFAULT_RETRY_BACKOFF_MILLIS : retryBackoffMillis;
+    }
+
+    public long getMaxRetryBackoffMillisOrDefault() {
+        return maxRetryBackoffMillis == null ? DEFAULT_MAX_RETRY_BACKOFF_MILLIS : maxRetryBackoffMillis;
+    }
+
+    public long getCircuitBreakerOpenMillisOrDefault() {
+        return circuitBreakerOpenMillis == null ? DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS : circuitBreakerOpenMillis;
+    }
+
+    public static ConnectorResilience parse(XContentParser parser) throws IOException {
+        Integer maxRetries = null;
+        Long retryBackoffMillis = null;
+        Long maxRetryBackoffMillis = null;
+        Double hedgePercentile = null;
+        Integer circuitBreakerFailureThreshold = null;
+        Long circuitBreakerOpenMillis = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case MAX_RETRIES_FIELD:
+                    maxRetries = parser.intValue();
+                    break;
+                case RETRY_BACKOFF_MILLIS_FIELD:
+                    retryBackoffMillis = parser.longValue();
+                    break;
+                case MAX_RETRY_BACKOFF_MILLIS_FIELD:
+                    maxRetryBackoffMillis = parser.longValue();
+                    break;
+                case HEDGE_PERCENTILE_FIELD:
+                    hedgePercentile = parser.doubleValue();
+                    break;
+                case CIRCUIT_BREAKER_FAILURE_THRESHOLD_FIELD:
+                    circuitBreakerFailureThreshold = parser.intValue();
+                    break;
+                case CIRCUIT_BREAKER_OPEN_MILLIS_FIELD:
+                    circuitBreakerOpenMillis = parser.longValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return ConnectorResilience.builder()
+                .maxRetries(maxRetries)
+                .retryBackoffMillis(retryBackoffMillis)
+                .maxRetryBackoffMillis(maxRetryBackoffMillis)
+                .hedgePercentile(hedgePercentile)
+                .circuitBreakerFailureThreshold(circuitBreakerFailureThreshold)
+                .circuitBreakerOpenMillis(circuitBreakerOpenMillis)
+                .build();
+    }
+}
@@ -9,7 +9,6 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -26,8 +25,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
@@ -252,10 +249,7 @@ public class HttpConnector extends AbstractConnector {
     public  <T> T createPredictPayload(Map<String, String> parameters) {
         Optional<ConnectorAction> predictAction = findPredictAction();
         if (predictAction.isPresent() && predictAction.get().getRequestBody() != null) {
-            String payload = predictAction.get().getRequestBody();
-            payload = fillNullParameters(parameters, payload);
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            payload = substitutor.replace(payload);
+            String payload = predictAction.get().getRequestBodyTemplate().fill(parameters);
 
             if (!isJson(payload)) {
                 throw new IllegalArgumentException("Invalid JSON in payload");
@@ -265,30 +259,6 @@ public class HttpConnector extends AbstractConnector {
         return (T) parameters.get("http_body");
     }
 
-    protected String fillNullParameters(Map<String, String> parameters, String payload) {
-        List<String> bodyParams = findStringParametersWithNullDefaultValue(payload);
-        String newPayload = payload;
-        for (String key : bodyParams) {
-            if (!parameters.containsKey(key) || parameters.get(key) == null) {
-                newPayload = newPayload.replace("\"${parameters." + key + ":-null}\"", "null");
-            }
-        }
-        return newPayload;
-    }
-
-    private List<String> findStringParametersWithNullDefaultValue(String input) {
-        String regex = "\"\\$\\{parameters\\.(\\w+):-null}\"";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(input);
-
-        List<String> paramList = new ArrayList<>();
-        while (matcher.find()) {
-            String parameterValue = matcher.group(1);
-            paramList.add(parameterValue);
-        }
-        return paramList;
-    }
-
     @Override
     public void decrypt(Function<String, String> function) {
         Map<String, String> decrypted = new HashMap<>();
@@ -54,6 +54,27 @@ public class MLPostProcessFunction {
         };
     }
 
+    /**
+     * Build sentence embedding tensors from embeddings already read as floats, e.g. by streaming the model response.
+     * @param embeddings the embeddings
+     * @return one tensor per embedding
+     */
+    public static List<ModelTensor> buildModelTensors(List<float[]> embeddings) {
+        List<ModelTensor> modelTensors = new ArrayList<>(embeddings.size());
+        for (float[] embedding : embeddings) {
+            modelTensors.add(
+                ModelTensor
+                    .builder()
+                    .name("sentence_embedding")
+                    .dataType(MLResultDataType.FLOAT32)
+                    .shape(new long[]{embedding.length})
+                    .floatData(embedding)
+                    .build()
+            );
+        }
+        return modelTensors;
+    }
+
     public static String getResponseFilter(String postProcessFunction) {
         return JSON_PATH_EXPRESSION.get(postProcessFunction);
     }
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import org.apache.commons.text.StringSubstitutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A request body template split into text and parameter placeholders once, so filling in a request body
+ * doesn't search the template for placeholders every time.
+ *
+ * Placeholders are filled in the same way as with StringSubstitutor:
+ * "${parameters.key:-null}" including its quotes becomes null if the parameter is missing or null,
+ * ${parameters.key:-default} falls back to its default, placeholders in parameter values are filled in too,
+ * and placeholders of missing parameters are kept as they are.
+ */
+public class PayloadTemplate {
+    private static final String PREFIX = "${parameters.";
+    private static final String SUFFIX = "}";
+    private static final String DEFAULT_DELIMITER = ":-";
+    private static final String NULL_DEFAULT = "null";
+    private static final Pattern NULL_DEFAULT_PATTERN = Pattern.compile("\"\\$\\{parameters\\.(\\w+):-null}\"");
+
+    private final String template;
+    // Text and placeholders in order.
+    private final List<Object> parts = new ArrayList<>();
+    // Escaped or nested placeholders aren't split, the template is filled in by StringSubstitutor instead.
+    private final boolean substitute;
+
+    public PayloadTemplate(String template) {
+        this.template = template;
+        this.substitute = template.contains("$" + PREFIX) || !split();
+    }
+
+    private boolean split() {
+        int start = 0;
+        int index;
+        while ((index = template.indexOf(PREFIX, start)) >= 0) {
+            int end = template.indexOf(SUFFIX, index + PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            String variable = template.substring(index + PREFIX.length(), end);
+            if (variable.contains("${")) {
+                return false;
+            }
+            String name = variable;
+            String defaultValue = null;
+            int delimiter = variable.indexOf(DEFAULT_DELIMITER);
+            if (delimiter >= 0) {
+                name = variable.substring(0, delimiter);
+                defaultValue = variable.substring(delimiter + DEFAULT_DELIMITER.length());
+            }
+            int textEnd = index;
+            int next = end + SUFFIX.length();
+            boolean quoted = NULL_DEFAULT.equals(defaultValue)
+                && name.matches("\\w+")
+                && index > 0
+                && template.charAt(index - 1) == '"'
+                && next < template.length()
+                && template.charAt(next) == '"';
+            if (quoted) {
+                // The quotes belong to the placeholder, so it can become an unquoted null.
+                textEnd--;
+                next++;
+            }
+            if (textEnd > start) {
+                parts.add(template.substring(start, textEnd));
+            }
+            parts.add(new Placeholder(name, defaultValue, quoted));
+            start = next;
+        }
+        if (start < template.length()) {
+            parts.add(template.substring(start));
+        }
+        return true;
+    }
+
+    /**
+     * Fill in the parameters.
+     * @param parameters parameter values, can be null
+     * @return the request body
+     */
+    public String fill(Map<String, String> parameters) {
+        if (substitute) {
+            return substitute(template, parameters);
+        }
+        StringBuilder builder = new StringBuilder(template.length() + 64);
+        for (Object part : parts) {
+            if (part instanceof String) {
+                builder.append((String) part);
+            } else {
+                ((Placeholder) part).fill(builder, parameters);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String substitute(String template, Map<String, String> parameters) {
+        Matcher matcher = NULL_DEFAULT_PATTERN.matcher(template);
+        String payload = template;
+        while (matcher.find()) {
+            String key = matcher.group(1);
+            if (parameters == null || parameters.get(key) == null) {
+                payload = payload.replace("\"${parameters." + key + ":-null}\"", "null");
+            }
+        }
+        StringSubstitutor substitutor = new StringSubstitutor(parameters, PREFIX, SUFFIX);
+        return substitutor.replace(payload);
+    }
+
+    private static class Placeholder {
+        private final String name;
+        private final String defaultValue;
+        private final boolean quoted;
+
+        private Placeholder(String name, String defaultValue, boolean quoted) {
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.quoted = quoted;
+        }
+
+        private void fill(StringBuilder builder, Map<String, String> parameters) {
+            String value = parameters == null ? null : parameters.get(name);
+            if (value == null && quoted) {
+                builder.append(NULL_DEFAULT);
+                return;
+            }
+            if (value == null) {
+                value = defaultValue;
+            }
+            if (quoted) {
+                builder.append('"');
+            }
+            if (value == null) {
+                builder.append(PREFIX).append(name).append(SUFFIX);
+            } else if (value.contains(PREFIX)) {
+                // Values may refer to other parameters.
+                builder.append(new StringSubstitutor(parameters, PREFIX, SUFFIX).replace(value));
+            } else {
+                builder.append(value);
+            }
+            if (quoted) {
+                builder.append('"');
+            }
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class KMeansParams implements MLAlgoParams {
     public static final String CENTROIDS_FIELD = "centroids";
     public static final String ITERATIONS_FIELD = "iterations";
     public static final String DISTANCE_TYPE_FIELD = "distance_type";
+    public static final String MINI_BATCH_SIZE_FIELD = "mini_batch_size";
 
     //The number of centroids to use.
     private Integer centroids;
@@ -43,13 +44,20 @@ public class KMeansParams implements MLAlgoParams {
     private Integer iterations;
     //The distance function.
     private DistanceType distanceType;
+    //The number of samples per mini-batch. Train with mini-batch KMeans instead of full passes if set.
+    private Integer miniBatchSize;
     //TODO: expose number of thread and seed?
 
     @Builder(toBuilder = true)
-    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType) {
+    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType, Integer miniBatchSize) {
         this.centroids = centroids;
         this.iterations = iterations;
         this.distanceType = distanceType;
+        this.miniBatchSize = miniBatchSize;
+    }
+
+    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType) {
+        this(centroids, iterations, distanceType, null);
     }
 
     public KMeansParams(StreamInput in) throws IOException {
@@ -58,12 +66,14 @@ public class KMeansParams implements MLAlgoParams {
         if (in.readBoolean()) {
             this.distanceType = in.readEnum(DistanceType.class);
         }
+        this.miniBatchSize = in.readOptionalInt();
     }
 
     public static MLAlgoParams parse(XContentParser parser) throws IOException {
         Integer k = null;
         Integer iterations = null;
         DistanceType distanceType = null;
+        Integer miniBatchSize = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -80,12 +90,15 @@ public class KMeansParams implements MLAlgoParams {
                 case DISTANCE_TYPE_FIELD:
                     distanceType = DistanceType.from(parser.text());
                     break;
+                case MINI_BATCH_SIZE_FIELD:
+                    miniBatchSize = parser.intValue(false);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new KMeansParams(k, iterations, distanceType);
+        return new KMeansParams(k, iterations, distanceType, miniBatchSize);
     }
 
     @Override
@@ -103,6 +116,7 @@ public class KMeansParams implements MLAlgoParams {
         } else {
             out.writeBoolean(false);
         }
+        out.writeOptionalInt(miniBatchSize);
     }
 
     @Override
@@ -117,6 +131,9 @@ public class KMeansParams implements MLAlgoParams {
         if (distanceType != null) {
             builder.field(DISTANCE_TYPE_FIELD, distanceType.name());
         }
+        if (miniBatchSize != null) {
+            builder.field(MINI_BATCH_SIZE_FIELD, miniBatchSize);
+        }
         builder.endObject();
         return builder;
     }
@@ -36,6 +36,7 @@ public class RCFSummarizeParams implements MLAlgoParams {
     public static final String DISTANCE_TYPE_FIELD = "distance_type";
     public static final String PHASE1_REASSIGN_FIELD = "phase1_reassign";
     public static final String PARALLEL__FIELD = "parallel";
+    public static final String MAX_SAMPLE_SIZE_FIELD = "max_sample_size";
 
     // The max of K allowed 
     private Integer maxK;
@@ -47,16 +48,23 @@ public class RCFSummarizeParams implements MLAlgoParams {
     private Boolean phase1Reassign;
     // Whether to train in parallel
     private Boolean parallel;
+    // The max number of points to summarize, larger inputs are summarized from a uniform sample
+    private Integer maxSampleSize;
     // TODO: expose seed?
 
     @Builder(toBuilder = true)
-    public RCFSummarizeParams(Integer maxK, Integer initialK, DistanceType distanceType, Boolean phase1Reassign, Boolean parallel) {
+    public RCFSummarizeParams(Integer maxK, Integer initialK, DistanceType distanceType, Boolean phase1Reassign, Boolean parallel, Integer maxSampleSize) {
 
         this.maxK = maxK;
         this.initialK = initialK;
         this.distanceType = distanceType;
         this.phase1Reassign = phase1Reassign;
         this.parallel = parallel;
+        this.maxSampleSize = maxSampleSize;
+    }
+
+    public RCFSummarizeParams(Integer maxK, Integer initialK, DistanceType distanceType, Boolean phase1Reassign, Boolean parallel) {
+        this(maxK, initialK, distanceType, phase1Reassign, parallel, null);
     }
 
     public RCFSummarizeParams(StreamInput in) throws IOException {
@@ -68,6 +76,7 @@ public class RCFSummarizeParams implements MLAlgoParams {
         if (in.readBoolean()) {
             this.distanceType = in.readEnum(DistanceType.class);
         }
+        this.maxSampleSize = in.readOptionalInt();
     }
 
     public static MLAlgoParams parse(XContentParser parser) throws IOException {
@@ -76,6 +85,7 @@ public class RCFSummarizeParams implements MLAlgoParams {
         Boolean phase1Reassign = null;
         Boolean parallel = null;
         DistanceType distanceType = null;
+        Integer maxSampleSize = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -98,13 +108,16 @@ public class RCFSummarizeParams implements MLAlgoParams {
                 case DISTANCE_TYPE_FIELD:
                     distanceType = DistanceType.from(parser.text().toUpperCase());
                     break;
+                case MAX_SAMPLE_SIZE_FIELD:
+                    maxSampleSize = parser.intValue(false);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
 
-        return new RCFSummarizeParams(maxK, initialK, distanceType, phase1Reassign, parallel);
+        return new RCFSummarizeParams(maxK, initialK, distanceType, phase1Reassign, parallel, maxSampleSize);
     }
 
     @Override
@@ -124,6 +137,7 @@ public class RCFSummarizeParams implements MLAlgoParams {
         } else {
             out.writeBoolean(false);
         }
+        out.writeOptionalInt(maxSampleSize);
     }
 
     @Override
@@ -148,6 +162,10 @@ public class RCFSummarizeParams implements MLAlgoParams {
         if (distanceType != null) {
             builder.field(DISTANCE_TYPE_FIELD, distanceType.name());
         }
+
+        if (maxSampleSize != null) {
+            builder.field(MAX_SAMPLE_SIZE_FIELD, maxSampleSize);
+        }
         builder.endObject();
         return builder;
     }
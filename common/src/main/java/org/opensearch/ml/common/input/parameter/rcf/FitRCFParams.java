@@ -40,6 +40,7 @@ public class FitRCFParams implements MLAlgoParams {
     public static final String TIME_FIELD = "time_field";
     public static final String DATE_FORMAT = "date_format";
     public static final String TIME_ZONE = "time_zone";
+    public static final String ENTITY_FIELD = "entity_field";
     private Integer numberOfTrees;
     private Integer shingleSize;
     private Integer sampleSize;
@@ -49,6 +50,8 @@ public class FitRCFParams implements MLAlgoParams {
     private String timeField;
     private String dateFormat;
     private String timeZone;
+    // Rows are partitioned by this field and every entity gets its own forest
+    private String entityField;
 
     @Builder
     public FitRCFParams(Integer numberOfTrees,
@@ -59,7 +62,8 @@ public class FitRCFParams implements MLAlgoParams {
                         Double anomalyRate,
                         String timeField,
                         String dateFormat,
-                        String timeZone) {
+                        String timeZone,
+                        String entityField) {
         this.numberOfTrees = numberOfTrees;
         this.shingleSize = shingleSize;
         this.sampleSize = sampleSize;
@@ -69,6 +73,7 @@ public class FitRCFParams implements MLAlgoParams {
         this.timeField = timeField;
         this.dateFormat = dateFormat;
         this.timeZone = timeZone;
+        this.entityField = entityField;
     }
 
     public FitRCFParams(StreamInput in) throws IOException {
@@ -81,6 +86,7 @@ public class FitRCFParams implements MLAlgoParams {
         this.timeField = in.readOptionalString();
         this.dateFormat = in.readOptionalString();
         this.timeZone = in.readOptionalString();
+        this.entityField = in.readOptionalString();
     }
 
     @Override
@@ -94,6 +100,7 @@ public class FitRCFParams implements MLAlgoParams {
         out.writeOptionalString(timeField);
         out.writeOptionalString(dateFormat);
         out.writeOptionalString(timeZone);
+        out.writeOptionalString(entityField);
     }
 
     public static FitRCFParams parse(XContentParser parser) throws IOException {
@@ -106,6 +113,7 @@ public class FitRCFParams implements MLAlgoParams {
         String timeField = null;
         String dateFormat = null;
         String timeZone = null;
+        String entityField = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -140,13 +148,16 @@ public class FitRCFParams implements MLAlgoParams {
                 case TIME_ZONE:
                     timeZone = parser.text();
                     break;
+                case ENTITY_FIELD:
+                    entityField = parser.text();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
         return new FitRCFParams(numberOfTrees, shingleSize, sampleSize, outputAfter,
-                timeDecay, anomalyRate, timeField, dateFormat, timeZone);
+                timeDecay, anomalyRate, timeField, dateFormat, timeZone, entityField);
     }
 
     @Override
@@ -189,6 +200,9 @@ public class FitRCFParams implements MLAlgoParams {
         if (timeZone != null) {
             builder.field(TIME_ZONE, timeZone);
         }
+        if (entityField != null) {
+            builder.field(ENTITY_FIELD, entityField);
+        }
         builder.endObject();
         return builder;
     }
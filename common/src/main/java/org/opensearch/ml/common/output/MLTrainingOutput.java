@@ -23,16 +23,28 @@ public class MLTrainingOutput extends MLOutput {
     public static final String MODEL_ID_FIELD = "model_id";
     public static final String TASK_ID_FIELD = "task_id";
     public static final String STATUS_FIELD = "status";
+    public static final String ESTIMATED_MEMORY_BYTES_FIELD = "estimated_memory_bytes";
+    public static final String PEAK_MEMORY_BYTES_FIELD = "peak_memory_bytes";
     private String modelId;
     private String taskId;
     private String status;
+    // Heap bytes reserved for training based on the algorithm's estimation
+    private Long estimatedMemoryBytes;
+    // Observed peak heap growth while training
+    private Long peakMemoryBytes;
 
-    @Builder
     public MLTrainingOutput(String modelId, String taskId, String status) {
+        this(modelId, taskId, status, null, null);
+    }
+
+    @Builder
+    public MLTrainingOutput(String modelId, String taskId, String status, Long estimatedMemoryBytes, Long peakMemoryBytes) {
         super(OUTPUT_TYPE);
         this.modelId = modelId;
         this.taskId = taskId;
         this.status= status;
+        this.estimatedMemoryBytes = estimatedMemoryBytes;
+        this.peakMemoryBytes = peakMemoryBytes;
     }
 
     public MLTrainingOutput(StreamInput in) throws IOException {
@@ -40,6 +52,8 @@ public class MLTrainingOutput extends MLOutput {
         this.modelId = in.readOptionalString();
         this.taskId = in.readOptionalString();
         this.status = in.readOptionalString();
+        this.estimatedMemoryBytes = in.readOptionalLong();
+        this.peakMemoryBytes = in.readOptionalLong();
     }
 
     @Override
@@ -53,6 +67,8 @@ public class MLTrainingOutput extends MLOutput {
         out.writeOptionalString(modelId);
         out.writeOptionalString(taskId);
         out.writeOptionalString(status);
+        out.writeOptionalLong(estimatedMemoryBytes);
+        out.writeOptionalLong(peakMemoryBytes);
     }
 
     @Override
@@ -65,6 +81,12 @@ public class MLTrainingOutput extends MLOutput {
             builder.field(TASK_ID_FIELD, taskId);
         }
         builder.field(STATUS_FIELD, status);
+        if (estimatedMemoryBytes != null) {
+            builder.field(ESTIMATED_MEMORY_BYTES_FIELD, estimatedMemoryBytes);
+        }
+        if (peakMemoryBytes != null) {
+            builder.field(PEAK_MEMORY_BYTES_FIELD, peakMemoryBytes);
+        }
         builder.endObject();
         return builder;
     }
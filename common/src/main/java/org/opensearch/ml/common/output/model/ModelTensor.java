@@ -7,6 +7,7 @@ package org.opensearch.ml.common.output.model;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -43,19 +44,30 @@ public class ModelTensor implements Writeable, ToXContentObject {
 
     private String name;
     private Number[] data;
+    // Floating point data without boxing, e.g. embeddings. Compared through getData(), so it equals the same data as numbers.
+    @EqualsAndHashCode.Exclude
+    private float[] floatData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
-    @Builder
     public ModelTensor(String name, Number[] data, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        this(name, data, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    @Builder
+    public ModelTensor(String name, Number[] data, float[] floatData, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
+        if ((data != null || floatData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data needs a floating point data type");
+        }
         this.name = name;
         this.data = data;
+        this.floatData = floatData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -63,6 +75,31 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.dataAsMap = dataAsMap;
     }
 
+    /**
+     * Get the data as numbers. Data stored as floats is boxed on every call, so prefer getFloatData() for it.
+     * @return the data as numbers
+     */
+    public Number[] getData() {
+        if (data == null && floatData != null) {
+            Number[] numbers = new Number[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                numbers[i] = floatData[i];
+            }
+            return numbers;
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+    }
+
+    public void setFloatData(float[] floatData) {
+        this.floatData = floatData;
+        this.data = null;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -75,10 +112,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (floatData != null) {
+            builder.array(DATA_FIELD, floatData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
-        if (byteBuffer != null) {
+        if (byteBuffer != null && byteBuffer.hasArray()) {
             builder.startObject(BYTE_BUFFER_FIELD);
             builder.field(BYTE_BUFFER_ARRAY_FIELD, byteBuffer.array());
             builder.field(BYTE_BUFFER_ORDER_FIELD, byteBuffer.order().toString());
@@ -195,17 +234,17 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
+                // Read all floats at once instead of boxing them one by one.
+                byte[] bytes = new byte[size * Float.BYTES];
+                in.readBytes(bytes, 0, bytes.length);
+                floatData = new float[size];
+                ByteBuffer.wrap(bytes).asFloatBuffer().get(floatData);
             } else if (dataType.isInteger() || dataType.isBoolean()) {
+                data = new Number[size];
                 for (int i = 0; i < size; i++) {
                     data[i] = in.readInt();
                 }
-            } else {
-                data = null;
             }
         }
         if (in.readBoolean()) {
@@ -244,7 +283,14 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if (floatData != null) {
+            // Same bytes as writing every float with writeFloat, like floating point data below.
+            out.writeBoolean(true);
+            out.writeInt(floatData.length);
+            ByteBuffer buffer = ByteBuffer.allocate(floatData.length * Float.BYTES);
+            buffer.asFloatBuffer().put(floatData);
+            out.writeBytes(buffer.array());
+        } else if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
             out.writeInt(data.length);
             if (dataType.isFloating()) {
@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import org.opensearch.action.ActionType;
+
+public class MLBulkInferenceAction extends ActionType<MLBulkInferenceResponse> {
+    public static final MLBulkInferenceAction INSTANCE = new MLBulkInferenceAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/bulk_inference";
+
+    private MLBulkInferenceAction() {
+        super(NAME, MLBulkInferenceResponse::new);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import lombok.Builder;
+import lombok.Data;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Checkpoint of bulk inference job, saved in the ML task doc. The source index is read with a point in time in
+ * slices, every slice records the sort value of the last doc written to target index, so a stopped job can resume
+ * from the checkpoint as long as the point in time is alive.
+ */
+@Data
+public class MLBulkInferenceCheckpoint implements ToXContentObject {
+
+    public static final String CHECKPOINT_FIELD = "checkpoint";
+    public static final String INPUT_FIELD = "input";
+    public static final String PIT_ID_FIELD = "pit_id";
+    public static final String TOTAL_DOCS_FIELD = "total_docs";
+    public static final String PROCESSED_DOCS_FIELD = "processed_docs";
+    public static final String FAILED_DOCS_FIELD = "failed_docs";
+    public static final String SLICES_FIELD = "slices";
+    public static final String SEARCH_AFTER_FIELD = "search_after";
+    public static final String DONE_FIELD = "done";
+
+    private MLBulkInferenceInput input;
+    private String pitId;
+    private long totalDocs;
+    private long processedDocs;
+    private long failedDocs;
+    private List<Slice> slices;
+
+    @Builder(toBuilder = true)
+    public MLBulkInferenceCheckpoint(MLBulkInferenceInput input, String pitId, long totalDocs, long processedDocs, long failedDocs,
+                                     List<Slice> slices) {
+        this.input = input;
+        this.pitId = pitId;
+        this.totalDocs = totalDocs;
+        this.processedDocs = processedDocs;
+        this.failedDocs = failedDocs;
+        this.slices = slices;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (input != null) {
+            builder.field(INPUT_FIELD, input);
+        }
+        if (pitId != null) {
+            builder.field(PIT_ID_FIELD, pitId);
+        }
+        builder.field(TOTAL_DOCS_FIELD, totalDocs);
+        builder.field(PROCESSED_DOCS_FIELD, processedDocs);
+        builder.field(FAILED_DOCS_FIELD, failedDocs);
+        if (slices != null) {
+            builder.startArray(SLICES_FIELD);
+            for (Slice slice : slices) {
+                slice.toXContent(builder, params);
+            }
+            builder.endArray();
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public static MLBulkInferenceCheckpoint parse(XContentParser parser) throws IOException {
+        MLBulkInferenceInput input = null;
+        String pitId = null;
+        long totalDocs = 0;
+        long processedDocs = 0;
+        long failedDocs = 0;
+        List<Slice> slices = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case INPUT_FIELD:
+                    input = MLBulkInferenceInput.parse(parser, null);
+                    break;
+                case PIT_ID_FIELD:
+                    pitId = parser.text();
+                    break;
+                case TOTAL_DOCS_FIELD:
+                    totalDocs = parser.longValue();
+                    break;
+                case PROCESSED_DOCS_FIELD:
+                    processedDocs = parser.longValue();
+                    break;
+                case FAILED_DOCS_FIELD:
+                    failedDocs = parser.longValue();
+                    break;
+                case SLICES_FIELD:
+                    slices = new ArrayList<>();
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        slices.add(Slice.parse(parser));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLBulkInferenceCheckpoint(input, pitId, totalDocs, processedDocs, failedDocs, slices);
+    }
+
+    @Data
+    public static class Slice implements ToXContentObject {
+        // Sort value of the last written doc, null if no doc of the slice written yet
+        private Integer searchAfter;
+        private boolean done;
+
+        @Builder
+        public Slice(Integer searchAfter, boolean done) {
+            this.searchAfter = searchAfter;
+            this.done = done;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            if (searchAfter != null) {
+                builder.field(SEARCH_AFTER_FIELD, searchAfter);
+            }
+            builder.field(DONE_FIELD, done);
+            builder.endObject();
+            return builder;
+        }
+
+        public static Slice parse(XContentParser parser) throws IOException {
+            Integer searchAfter = null;
+            boolean done = false;
+
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                switch (fieldName) {
+                    case SEARCH_AFTER_FIELD:
+                        searchAfter = parser.intValue();
+                        break;
+                    case DONE_FIELD:
+                        done = parser.booleanValue();
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+            return new Slice(searchAfter, done);
+        }
+    }
+}
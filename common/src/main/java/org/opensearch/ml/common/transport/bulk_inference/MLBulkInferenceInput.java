@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import lombok.Builder;
+import lombok.Data;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Input of bulk inference job which predicts the text of source field for all docs of source index with a deployed
+ * model and writes the model output into target field of target index. Set task id to resume a stopped job from
+ * its last checkpoint, the other fields are read from the checkpoint then.
+ */
+@Data
+public class MLBulkInferenceInput implements ToXContentObject, Writeable {
+
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String TASK_ID_FIELD = "task_id";
+    public static final String SOURCE_INDEX_FIELD = "source_index";
+    public static final String SOURCE_FIELD_FIELD = "source_field";
+    // Target index is optional, the model output is written back to the source docs if not set
+    public static final String TARGET_INDEX_FIELD = "target_index";
+    public static final String TARGET_FIELD_FIELD = "target_field";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String MAX_IN_FLIGHT_BATCHES_FIELD = "max_in_flight_batches";
+    // Not throttled if not set
+    public static final String MAX_DOCS_PER_SECOND_FIELD = "max_docs_per_second";
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 2;
+    // A batch is sent to the model as one predict request, and every in flight batch holds its docs and model output in memory
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_IN_FLIGHT_BATCHES = 16;
+
+    private String modelId;
+    private String taskId;
+    private String sourceIndex;
+    private String sourceField;
+    private String targetIndex;
+    private String targetField;
+    private int batchSize;
+    private int maxInFlightBatches;
+    private Float maxDocsPerSecond;
+
+    @Builder(toBuilder = true)
+    public MLBulkInferenceInput(String modelId,
+                                String taskId,
+                                String sourceIndex,
+                                String sourceField,
+                                String targetIndex,
+                                String targetField,
+                                Integer batchSize,
+                                Integer maxInFlightBatches,
+                                Float maxDocsPerSecond) {
+        this.modelId = modelId;
+        this.taskId = taskId;
+        this.sourceIndex = sourceIndex;
+        this.sourceField = sourceField;
+        this.targetIndex = targetIndex == null ? sourceIndex : targetIndex;
+        this.targetField = targetField;
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        this.maxInFlightBatches = maxInFlightBatches == null ? DEFAULT_MAX_IN_FLIGHT_BATCHES : maxInFlightBatches;
+        this.maxDocsPerSecond = maxDocsPerSecond;
+    }
+
+    public MLBulkInferenceInput(StreamInput in) throws IOException {
+        this.modelId = in.readOptionalString();
+        this.taskId = in.readOptionalString();
+        this.sourceIndex = in.readOptionalString();
+        this.sourceField = in.readOptionalString();
+        this.targetIndex = in.readOptionalString();
+        this.targetField = in.readOptionalString();
+        this.batchSize = in.readInt();
+        this.maxInFlightBatches = in.readInt();
+        this.maxDocsPerSecond = in.readOptionalFloat();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(modelId);
+        out.writeOptionalString(taskId);
+        out.writeOptionalString(sourceIndex);
+        out.writeOptionalString(sourceField);
+        out.writeOptionalString(targetIndex);
+        out.writeOptionalString(targetField);
+        out.writeInt(batchSize);
+        out.writeInt(maxInFlightBatches);
+        out.writeOptionalFloat(maxDocsPerSecond);
+    }
+
+    public boolean isResume() {
+        return taskId != null;
+    }
+
+    public boolean isWriteToSourceIndex() {
+        return sourceIndex != null && sourceIndex.equals(targetIndex);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (modelId != null) {
+            builder.field(MODEL_ID_FIELD, modelId);
+        }
+        if (taskId != null) {
+            builder.field(TASK_ID_FIELD, taskId);
+        }
+        if (sourceIndex != null) {
+            builder.field(SOURCE_INDEX_FIELD, sourceIndex);
+        }
+        if (sourceField != null) {
+            builder.field(SOURCE_FIELD_FIELD, sourceField);
+        }
+        if (targetIndex != null) {
+            builder.field(TARGET_INDEX_FIELD, targetIndex);
+        }
+        if (targetField != null) {
+            builder.field(TARGET_FIELD_FIELD, targetField);
+        }
+        builder.field(BATCH_SIZE_FIELD, batchSize);
+        builder.field(MAX_IN_FLIGHT_BATCHES_FIELD, maxInFlightBatches);
+        if (maxDocsPerSecond != null) {
+            builder.field(MAX_DOCS_PER_SECOND_FIELD, maxDocsPerSecond);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public static MLBulkInferenceInput parse(XContentParser parser, String modelId) throws IOException {
+        String taskId = null;
+        String sourceIndex = null;
+        String sourceField = null;
+        String targetIndex = null;
+        String targetField = null;
+        Integer batchSize = null;
+        Integer maxInFlightBatches = null;
+        Float maxDocsPerSecond = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case MODEL_ID_FIELD:
+                    modelId = parser.text();
+                    break;
+                case TASK_ID_FIELD:
+                    taskId = parser.text();
+                    break;
+                case SOURCE_INDEX_FIELD:
+                    sourceIndex = parser.text();
+                    break;
+                case SOURCE_FIELD_FIELD:
+                    sourceField = parser.text();
+                    break;
+                case TARGET_INDEX_FIELD:
+                    targetIndex = parser.text();
+                    break;
+                case TARGET_FIELD_FIELD:
+                    targetField = parser.text();
+                    break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parseBoundedInt(parser, BATCH_SIZE_FIELD, MAX_BATCH_SIZE);
+                    break;
+                case MAX_IN_FLIGHT_BATCHES_FIELD:
+                    maxInFlightBatches = parseBoundedInt(parser, MAX_IN_FLIGHT_BATCHES_FIELD, MAX_IN_FLIGHT_BATCHES);
+                    break;
+                case MAX_DOCS_PER_SECOND_FIELD:
+                    maxDocsPerSecond = parser.floatValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLBulkInferenceInput(modelId, taskId, sourceIndex, sourceField, targetIndex, targetField, batchSize,
+                maxInFlightBatches, maxDocsPerSecond);
+    }
+
+    private static int parseBoundedInt(XContentParser parser, String fieldName, int maxValue) throws IOException {
+        int value = parser.intValue();
+        if (value <= 0 || value > maxValue) {
+            throw new IllegalArgumentException(fieldName + " must be between 1 and " + maxValue);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public class MLBulkInferenceRequest extends ActionRequest {
+
+    MLBulkInferenceInput bulkInferenceInput;
+
+    @Builder
+    public MLBulkInferenceRequest(MLBulkInferenceInput bulkInferenceInput) {
+        this.bulkInferenceInput = bulkInferenceInput;
+    }
+
+    public MLBulkInferenceRequest(StreamInput in) throws IOException {
+        super(in);
+        this.bulkInferenceInput = new MLBulkInferenceInput(in);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (bulkInferenceInput == null) {
+            exception = addValidationError("Bulk inference input can't be null", exception);
+            return exception;
+        }
+        if (bulkInferenceInput.getModelId() == null) {
+            exception = addValidationError("model id can't be null", exception);
+        }
+        if (bulkInferenceInput.isResume()) {
+            // other fields are read from the checkpoint of the task
+            return exception;
+        }
+        if (bulkInferenceInput.getSourceIndex() == null) {
+            exception = addValidationError("source index can't be null", exception);
+        }
+        if (bulkInferenceInput.getSourceField() == null) {
+            exception = addValidationError("source field can't be null", exception);
+        }
+        if (bulkInferenceInput.getTargetField() == null) {
+            exception = addValidationError("target field can't be null", exception);
+        }
+        if (bulkInferenceInput.getBatchSize() <= 0 || bulkInferenceInput.getBatchSize() > MLBulkInferenceInput.MAX_BATCH_SIZE) {
+            exception = addValidationError("batch size must be between 1 and " + MLBulkInferenceInput.MAX_BATCH_SIZE, exception);
+        }
+        if (bulkInferenceInput.getMaxInFlightBatches() <= 0
+                || bulkInferenceInput.getMaxInFlightBatches() > MLBulkInferenceInput.MAX_IN_FLIGHT_BATCHES) {
+            exception = addValidationError("max in flight batches must be between 1 and " + MLBulkInferenceInput.MAX_IN_FLIGHT_BATCHES,
+                    exception);
+        }
+        if (bulkInferenceInput.getMaxDocsPerSecond() != null && bulkInferenceInput.getMaxDocsPerSecond() <= 0) {
+            exception = addValidationError("max docs per second must be positive", exception);
+        }
+        return exception;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        this.bulkInferenceInput.writeTo(out);
+    }
+
+    public static MLBulkInferenceRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBulkInferenceRequest) {
+            return (MLBulkInferenceRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBulkInferenceRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionRequest into MLBulkInferenceRequest", e);
+        }
+    }
+}
@@ -24,6 +24,8 @@ public class MLDeployModelInput implements Writeable {
     private String coordinatingNodeId;
     private Boolean isDeployToAllNodes;
     private MLTask mlTask;
+    // Worker node which already deployed the model, model chunks are fetched from it instead of model index if set
+    private String sourceNodeId;
 
     public MLDeployModelInput(StreamInput in) throws IOException {
         this.modelId = in.readString();
@@ -33,10 +35,15 @@ public class MLDeployModelInput implements Writeable {
         this.coordinatingNodeId = in.readString();
         this.isDeployToAllNodes = in.readOptionalBoolean();
         this.mlTask = new MLTask(in);
+        this.sourceNodeId = in.readOptionalString();
     }
 
-    @Builder
     public MLDeployModelInput(String modelId, String taskId, String modelContentHash, Integer nodeCount, String coordinatingNodeId, Boolean isDeployToAllNodes, MLTask mlTask) {
+        this(modelId, taskId, modelContentHash, nodeCount, coordinatingNodeId, isDeployToAllNodes, mlTask, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLDeployModelInput(String modelId, String taskId, String modelContentHash, Integer nodeCount, String coordinatingNodeId, Boolean isDeployToAllNodes, MLTask mlTask, String sourceNodeId) {
         this.modelId = modelId;
         this.taskId = taskId;
         this.modelContentHash = modelContentHash;
@@ -44,6 +51,7 @@ public class MLDeployModelInput implements Writeable {
         this.coordinatingNodeId = coordinatingNodeId;
         this.isDeployToAllNodes = isDeployToAllNodes;
         this.mlTask = mlTask;
+        this.sourceNodeId = sourceNodeId;
     }
 
     public MLDeployModelInput() {
@@ -58,6 +66,7 @@ public class MLDeployModelInput implements Writeable {
         out.writeString(coordinatingNodeId);
         out.writeOptionalBoolean(isDeployToAllNodes);
         mlTask.writeTo(out);
+        out.writeOptionalString(sourceNodeId);
     }
 
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.Builder;
+import lombok.Data;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Progress of fetching model chunks on one worker node, saved in the deploy model task doc under the id of the node.
+ */
+@Data
+public class MLDeployProgress implements ToXContentObject {
+
+    public static final String DEPLOY_PROGRESS_FIELD = "deploy_progress";
+    public static final String SOURCE_NODE_ID_FIELD = "source_node_id";
+    public static final String FETCHED_CHUNKS_FIELD = "fetched_chunks";
+    public static final String TOTAL_CHUNKS_FIELD = "total_chunks";
+    public static final String FETCHED_BYTES_FIELD = "fetched_bytes";
+    public static final String BYTES_PER_SECOND_FIELD = "bytes_per_second";
+
+    // Peer node the chunks are fetched from, null if they are fetched from model index
+    private String sourceNodeId;
+    private int fetchedChunks;
+    private int totalChunks;
+    private long fetchedBytes;
+    private long bytesPerSecond;
+
+    @Builder(toBuilder = true)
+    public MLDeployProgress(String sourceNodeId, int fetchedChunks, int totalChunks, long fetchedBytes, long bytesPerSecond) {
+        this.sourceNodeId = sourceNodeId;
+        this.fetchedChunks = fetchedChunks;
+        this.totalChunks = totalChunks;
+        this.fetchedBytes = fetchedBytes;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (sourceNodeId != null) {
+            builder.field(SOURCE_NODE_ID_FIELD, sourceNodeId);
+        }
+        builder.field(FETCHED_CHUNKS_FIELD, fetchedChunks);
+        builder.field(TOTAL_CHUNKS_FIELD, totalChunks);
+        builder.field(FETCHED_BYTES_FIELD, fetchedBytes);
+        builder.field(BYTES_PER_SECOND_FIELD, bytesPerSecond);
+        builder.endObject();
+        return builder;
+    }
+
+    public static MLDeployProgress parse(XContentParser parser) throws IOException {
+        String sourceNodeId = null;
+        int fetchedChunks = 0;
+        int totalChunks = 0;
+        long fetchedBytes = 0;
+        long bytesPerSecond = 0;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case SOURCE_NODE_ID_FIELD:
+                    sourceNodeId = parser.text();
+                    break;
+                case FETCHED_CHUNKS_FIELD:
+                    fetchedChunks = parser.intValue();
+                    break;
+                case TOTAL_CHUNKS_FIELD:
+                    totalChunks = parser.intValue();
+                    break;
+                case FETCHED_BYTES_FIELD:
+                    fetchedBytes = parser.longValue();
+                    break;
+                case BYTES_PER_SECOND_FIELD:
+                    bytesPerSecond = parser.longValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLDeployProgress(sourceNodeId, fetchedChunks, totalChunks, fetchedBytes, bytesPerSecond);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Reads a model chunk from a worker node which has deployed the model, so other nodes can deploy the model without
+ * reading all chunks from model index.
+ */
+public class MLGetModelChunkAction extends ActionType<MLGetModelChunkResponse> {
+    public static MLGetModelChunkAction INSTANCE = new MLGetModelChunkAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/model_chunk/get";
+
+    private MLGetModelChunkAction() {
+        super(NAME, MLGetModelChunkResponse::new);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public class MLGetModelChunkRequest extends ActionRequest {
+
+    String modelId;
+    int chunkNumber;
+    // Node to read the chunk from
+    String nodeId;
+
+    @Builder
+    public MLGetModelChunkRequest(String modelId, int chunkNumber, String nodeId) {
+        this.modelId = modelId;
+        this.chunkNumber = chunkNumber;
+        this.nodeId = nodeId;
+    }
+
+    public MLGetModelChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.chunkNumber = in.readInt();
+        this.nodeId = in.readString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelId);
+        out.writeInt(chunkNumber);
+        out.writeString(nodeId);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (modelId == null) {
+            exception = addValidationError("ML model id can't be null", exception);
+        }
+        if (chunkNumber < 0) {
+            exception = addValidationError("Model chunk number can't be negative", exception);
+        }
+        if (nodeId == null) {
+            exception = addValidationError("Node id can't be null", exception);
+        }
+        return exception;
+    }
+
+    public static MLGetModelChunkRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLGetModelChunkRequest) {
+            return (MLGetModelChunkRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLGetModelChunkRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionRequest into MLGetModelChunkRequest", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.Getter;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Getter
+public class MLGetModelChunkResponse extends ActionResponse {
+
+    // Raw bytes of the chunk, not base64 encoded as in model index
+    private final byte[] content;
+
+    public MLGetModelChunkResponse(byte[] content) {
+        this.content = content;
+    }
+
+    public MLGetModelChunkResponse(StreamInput in) throws IOException {
+        super(in);
+        this.content = in.readByteArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeByteArray(content);
+    }
+
+    public static MLGetModelChunkResponse fromActionResponse(ActionResponse actionResponse) {
+        if (actionResponse instanceof MLGetModelChunkResponse) {
+            return (MLGetModelChunkResponse) actionResponse;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionResponse.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLGetModelChunkResponse(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionResponse into MLGetModelChunkResponse", e);
+        }
+    }
+}
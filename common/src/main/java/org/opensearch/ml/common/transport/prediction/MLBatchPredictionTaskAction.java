@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+
+public class MLBatchPredictionTaskAction extends ActionType<MLTaskResponse> {
+    public static final MLBatchPredictionTaskAction INSTANCE = new MLBatchPredictionTaskAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/batch_predict";
+
+    private MLBatchPredictionTaskAction() {
+        super(NAME, MLTaskResponse::new);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.input.MLInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Predict request for many text docs. The docs are split into batches which are predicted in parallel
+ * on the worker nodes of the model.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ToString
+public class MLBatchPredictionTaskRequest extends ActionRequest {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    String modelId;
+    MLInput mlInput;
+    // How many docs are predicted in one predict request
+    int batchSize;
+    @Setter
+    User user;
+
+    @Builder
+    public MLBatchPredictionTaskRequest(String modelId, MLInput mlInput, Integer batchSize, User user) {
+        this.modelId = modelId;
+        this.mlInput = mlInput;
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        this.user = user;
+    }
+
+    public MLBatchPredictionTaskRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.mlInput = new MLInput(in);
+        this.batchSize = in.readInt();
+        if (in.readBoolean()) {
+            this.user = new User(in);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelId);
+        mlInput.writeTo(out);
+        out.writeInt(batchSize);
+        if (user != null) {
+            out.writeBoolean(true);
+            user.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (this.modelId == null) {
+            exception = addValidationError("model id can't be null", exception);
+        }
+        if (this.mlInput == null) {
+            exception = addValidationError("ML input can't be null", exception);
+        } else if (this.mlInput.getInputDataset() == null) {
+            exception = addValidationError("input data can't be null", exception);
+        } else if (this.mlInput.getInputDataset().getInputDataType() != MLInputDataType.TEXT_DOCS) {
+            exception = addValidationError("batch predict only supports text docs", exception);
+        }
+        if (this.batchSize <= 0) {
+            exception = addValidationError("batch size must be positive", exception);
+        }
+        return exception;
+    }
+
+    public static MLBatchPredictionTaskRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBatchPredictionTaskRequest) {
+            return (MLBatchPredictionTaskRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBatchPredictionTaskRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLBatchPredictionTaskRequest", e);
+        }
+    }
+}
@@ -38,13 +38,20 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
     MLInput mlInput;
     @Setter
     User user;
+    // Feed input data into deployed model to update its state instead of only predicting
+    boolean onlineUpdate;
 
     @Builder
-    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
+    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user, boolean onlineUpdate) {
         super(dispatchTask);
         this.mlInput = mlInput;
         this.modelId = modelId;
         this.user = user;
+        this.onlineUpdate = onlineUpdate;
+    }
+
+    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
+        this(modelId, mlInput, dispatchTask, user, false);
     }
 
     public MLPredictionTaskRequest(String modelId, MLInput mlInput, User user) {
@@ -58,6 +65,7 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         if (in.readBoolean()) {
             this.user = new User(in);
         }
+        this.onlineUpdate = in.readBoolean();
     }
 
     @Override
@@ -71,6 +79,7 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else {
             out.writeBoolean(false);
         }
+        out.writeBoolean(onlineUpdate);
     }
 
     @Override
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import org.opensearch.core.common.Strings;
+
+/**
+ * Estimates how many tokens a text takes from its length, so no model specific tokenizer is needed. The estimate
+ * errs on the high side: an over budget prompt fails the whole request, and a request sent over the remote model's
+ * rate limit is rejected there.
+ */
+public class TokenEstimator {
+
+    // English text averages about 4 ASCII chars per token with BPE tokenizers, code and punctuation fewer.
+    public static final int CHARS_PER_TOKEN = 3;
+
+    /**
+     * Estimate how many tokens a text takes. Non-ASCII characters, like CJK ones, often take a token or more
+     * each, so every one of them counts as a token.
+     * @param text the text
+     * @return estimated token count
+     */
+    public static int estimateTokens(String text) {
+        if (Strings.isNullOrEmpty(text)) {
+            return 0;
+        }
+        int asciiChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i += Character.charCount(text.codePointAt(i))) {
+            if (text.codePointAt(i) < 0x80) {
+                asciiChars++;
+            } else {
+                otherChars++;
+            }
+        }
+        return tokens(asciiChars, otherChars);
+    }
+
+    /**
+     * Cut a text to its longest prefix which fits into the given tokens.
+     * @param text the text
+     * @param maxTokens max estimated tokens of the prefix
+     * @return the prefix
+     */
+    public static String truncate(String text, int maxTokens) {
+        int asciiChars = 0;
+        int otherChars = 0;
+        int end = 0;
+        while (end < text.length()) {
+            int codePoint = text.codePointAt(end);
+            if (codePoint < 0x80) {
+                asciiChars++;
+            } else {
+                otherChars++;
+            }
+            if (tokens(asciiChars, otherChars) > maxTokens) {
+                break;
+            }
+            end += Character.charCount(codePoint);
+        }
+        return text.substring(0, end);
+    }
+
+    private static int tokens(int asciiChars, int otherChars) {
+        return (asciiChars + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN + otherChars;
+    }
+}
@@ -140,4 +140,47 @@ public class ConnectorActionTest {
         Assert.assertEquals("connector.pre_process.openai.embedding", action.getPreProcessFunction());
         Assert.assertEquals("connector.post_process.openai.embedding", action.getPostProcessFunction());
     }
+
+    @Test
+    public void constructor_InvalidMaxBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max batch size must be positive");
+        ConnectorAction.builder().actionType(ConnectorAction.ActionType.PREDICT).method("post").url("https://test.com").maxBatchSize(0).build();
+    }
+
+    @Test
+    public void writeTo_BatchLimits() throws IOException {
+        ConnectorAction action = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("post")
+                .url("https://test.com")
+                .maxBatchSize(96)
+                .maxPayloadBytes(1024)
+                .maxConcurrentRequests(2)
+                .build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        action.writeTo(output);
+        ConnectorAction action2 = new ConnectorAction(output.bytes().streamInput());
+        Assert.assertEquals(action, action2);
+        Assert.assertTrue(action2.isBatchLimited());
+        Assert.assertEquals(2, action2.getMaxConcurrentRequestsOrDefault());
+    }
+
+    @Test
+    public void parse_BatchLimits() throws IOException {
+        String jsonStr = "{\"action_type\":\"PREDICT\",\"method\":\"http\",\"url\":\"https://test.com\"," +
+                "\"max_batch_size\":96,\"max_payload_bytes\":1024}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+        ConnectorAction action = ConnectorAction.parse(parser);
+        Assert.assertEquals(Integer.valueOf(96), action.getMaxBatchSize());
+        Assert.assertEquals(Integer.valueOf(1024), action.getMaxPayloadBytes());
+        Assert.assertNull(action.getMaxConcurrentRequests());
+        Assert.assertEquals(ConnectorAction.DEFAULT_MAX_CONCURRENT_REQUESTS, action.getMaxConcurrentRequestsOrDefault());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        action.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertEquals(jsonStr, TestHelper.xContentBuilderToString(builder));
+    }
 }
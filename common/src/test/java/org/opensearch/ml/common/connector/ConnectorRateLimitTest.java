@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+import org.opensearch.search.SearchModule;
+
+import java.io.IOException;
+import java.util.Collections;
+
+public class ConnectorRateLimitTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void constructor_NoBudget() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("rate limit needs requests per second or tokens per minute");
+        ConnectorRateLimit.builder().maxWaitMillis(100L).build();
+    }
+
+    @Test
+    public void constructor_InvalidRequestsPerSecond() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("requests per second must be positive");
+        ConnectorRateLimit.builder().requestsPerSecond(0.0).build();
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.builder()
+                .requestsPerSecond(10.0)
+                .tokensPerMinute(100000L)
+                .scope(ConnectorRateLimit.Scope.CLUSTER)
+                .build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        rateLimit.writeTo(output);
+        ConnectorRateLimit rateLimit2 = new ConnectorRateLimit(output.bytes().streamInput());
+        Assert.assertEquals(rateLimit, rateLimit2);
+        Assert.assertTrue(rateLimit2.isClusterScope());
+        Assert.assertEquals(ConnectorRateLimit.DEFAULT_MAX_WAIT_MILLIS, rateLimit2.getMaxWaitMillisOrDefault());
+    }
+
+    @Test
+    public void parse() throws IOException {
+        String jsonStr = "{\"requests_per_second\":10.0,\"tokens_per_minute\":100000,\"max_wait_millis\":500,\"scope\":\"CLUSTER\"}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.parse(parser);
+        Assert.assertEquals(Double.valueOf(10.0), rateLimit.getRequestsPerSecond());
+        Assert.assertEquals(Long.valueOf(100000L), rateLimit.getTokensPerMinute());
+        Assert.assertEquals(500L, rateLimit.getMaxWaitMillisOrDefault());
+        Assert.assertEquals(ConnectorRateLimit.Scope.CLUSTER, rateLimit.getScope());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        rateLimit.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertEquals(jsonStr, TestHelper.xContentBuilderToString(builder));
+    }
+}
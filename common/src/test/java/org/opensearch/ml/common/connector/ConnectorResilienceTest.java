@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+import org.opensearch.search.SearchModule;
+
+import java.io.IOException;
+import java.util.Collections;
+
+public class ConnectorResilienceTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void constructor_InvalidHedgePercentile() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("hedge percentile must be between 0 and 100");
+        ConnectorResilience.builder().hedgePercentile(100.0).build();
+    }
+
+    @Test
+    public void constructor_NegativeMaxRetries() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max retries can't be negative");
+        ConnectorResilience.builder().maxRetries(-1).build();
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        ConnectorResilience resilience = ConnectorResilience.builder()
+                .maxRetries(3)
+                .hedgePercentile(95.0)
+                .circuitBreakerFailureThreshold(5)
+                .build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        resilience.writeTo(output);
+        ConnectorResilience resilience2 = new ConnectorResilience(output.bytes().streamInput());
+        Assert.assertEquals(resilience, resilience2);
+        Assert.assertEquals(ConnectorResilience.DEFAULT_RETRY_BACKOFF_MILLIS, resilience2.getRetryBackoffMillisOrDefault());
+        Assert.assertEquals(ConnectorResilience.DEFAULT_CIRCUIT_BREAKER_OPEN_MILLIS, resilience2.getCircuitBreakerOpenMillisOrDefault());
+    }
+
+    @Test
+    public void parse() throws IOException {
+        String jsonStr = "{\"max_retries\":3,\"retry_backoff_millis\":200,\"max_retry_backoff_millis\":5000,\"hedge_percentile\":95.0," +
+                "\"circuit_breaker_failure_threshold\":5,\"circuit_breaker_open_millis\":10000}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+        ConnectorResilience resilience = ConnectorResilience.parse(parser);
+        Assert.assertEquals(3, resilience.getMaxRetriesOrDefault());
+        Assert.assertEquals(200, resilience.getRetryBackoffMillisOrDefault());
+        Assert.assertEquals(5000, resilience.getMaxRetryBackoffMillisOrDefault());
+        Assert.assertEquals(Double.valueOf(95.0), resilience.getHedgePercentile());
+        Assert.assertEquals(Integer.valueOf(5), resilience.getCircuitBreakerFailureThreshold());
+        Assert.assertEquals(10000, resilience.getCircuitBreakerOpenMillisOrDefault());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        resilience.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertEquals(jsonStr, TestHelper.xContentBuilderToString(builder));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class PayloadTemplateTest {
+
+    @Test
+    public void fill() {
+        PayloadTemplate template = new PayloadTemplate("{\"model\": \"${parameters.model}\", \"input\": ${parameters.input}}");
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("model", "test-model");
+        parameters.put("input", "[\"a\", \"b\"]");
+        Assert.assertEquals("{\"model\": \"test-model\", \"input\": [\"a\", \"b\"]}", template.fill(parameters));
+    }
+
+    @Test
+    public void fill_MissingParameter() {
+        PayloadTemplate template = new PayloadTemplate("{\"input\": \"${parameters.input}\"}");
+        Assert.assertEquals("{\"input\": \"${parameters.input}\"}", template.fill(null));
+        Assert.assertEquals("{\"input\": \"${parameters.input}\"}", template.fill(new HashMap<>()));
+    }
+
+    @Test
+    public void fill_DefaultValue() {
+        PayloadTemplate template = new PayloadTemplate("{\"temperature\": ${parameters.temperature:-0.5}}");
+        Assert.assertEquals("{\"temperature\": 0.5}", template.fill(new HashMap<>()));
+        Assert.assertEquals("{\"temperature\": 1.0}", template.fill(Map.of("temperature", "1.0")));
+    }
+
+    @Test
+    public void fill_NullDefaultValue() {
+        PayloadTemplate template = new PayloadTemplate("{\"input1\": \"${parameters.input1:-null}\", \"input2\": \"${parameters.input2:-null}\"}");
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input1", "value1");
+        parameters.put("input2", null);
+        Assert.assertEquals("{\"input1\": \"value1\", \"input2\": null}", template.fill(parameters));
+    }
+
+    @Test
+    public void fill_ParameterInValue() {
+        PayloadTemplate template = new PayloadTemplate("{\"prompt\": \"${parameters.prompt}\"}");
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("prompt", "Human: ${parameters.question} Assistant:");
+        parameters.put("question", "hello");
+        Assert.assertEquals("{\"prompt\": \"Human: hello Assistant:\"}", template.fill(parameters));
+    }
+
+    @Test
+    public void fill_EscapedPlaceholder() {
+        PayloadTemplate template = new PayloadTemplate("{\"text\": \"$${parameters.input}\", \"input\": \"${parameters.input}\"}");
+        Assert.assertEquals("{\"text\": \"${parameters.input}\", \"input\": \"hello\"}", template.fill(Map.of("input", "hello")));
+    }
+
+    @Test
+    public void getRequestBodyTemplate() {
+        ConnectorAction action = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("https://test.com")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .build();
+        Assert.assertSame(action.getRequestBodyTemplate(), action.getRequestBodyTemplate());
+        Assert.assertEquals("{\"input\": \"hello\"}", action.getRequestBodyTemplate().fill(Map.of("input", "hello")));
+    }
+}
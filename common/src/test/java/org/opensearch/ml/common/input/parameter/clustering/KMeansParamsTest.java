@@ -79,6 +79,13 @@ public class KMeansParamsTest {
         readInputStream(KMeansParams.builder().build());
     }
 
+    @Test
+    public void readInputStream_Success_MiniBatch() throws IOException {
+        KMeansParams miniBatchParams = params.toBuilder().miniBatchSize(100).build();
+        readInputStream(miniBatchParams);
+        TestHelper.testParse(miniBatchParams, function);
+    }
+
     private void readInputStream(KMeansParams params) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         params.writeTo(bytesStreamOutput);
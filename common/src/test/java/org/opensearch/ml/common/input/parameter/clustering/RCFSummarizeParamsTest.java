@@ -79,6 +79,13 @@ public class RCFSummarizeParamsTest {
         readInputStream(RCFSummarizeParams.builder().build());
     }
 
+    @Test
+    public void readInputStream_Success_MaxSampleSize() throws IOException {
+        RCFSummarizeParams sampledParams = params.toBuilder().maxSampleSize(1000).build();
+        readInputStream(sampledParams);
+        TestHelper.testParse(sampledParams, function);
+    }
+
     private void readInputStream(RCFSummarizeParams params) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         params.writeTo(bytesStreamOutput);
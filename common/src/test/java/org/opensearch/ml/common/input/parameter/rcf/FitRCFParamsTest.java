@@ -40,6 +40,7 @@ public class FitRCFParamsTest {
                 .timeField("timestamp")
                 .dateFormat("yyyy-mm-dd")
                 .timeZone("UTC")
+                .entityField("host")
                 .build();
     }
 
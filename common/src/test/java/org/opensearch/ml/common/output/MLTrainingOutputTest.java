@@ -6,6 +6,8 @@
 package org.opensearch.ml.common.output;
 
 import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.ToXContent;
@@ -25,4 +27,27 @@ public class MLTrainingOutputTest {
         String jsonStr = builder.toString();
         assertEquals("{\"model_id\":\"test_modelId\",\"status\":\"test_status\"}", jsonStr);
     }
+
+    @Test
+    public void parse_MLTrain_MemoryUsage() throws IOException {
+        MLTrainingOutput output = MLTrainingOutput.builder()
+                .modelId("test_modelId").status("test_status").estimatedMemoryBytes(1024L).peakMemoryBytes(512L).build();
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        output.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String jsonStr = builder.toString();
+        assertEquals("{\"model_id\":\"test_modelId\",\"status\":\"test_status\",\"estimated_memory_bytes\":1024,\"peak_memory_bytes\":512}", jsonStr);
+    }
+
+    @Test
+    public void readInputStream_MemoryUsage() throws IOException {
+        MLTrainingOutput output = MLTrainingOutput.builder()
+                .modelId("test_modelId").status("test_status").estimatedMemoryBytes(1024L).peakMemoryBytes(512L).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        output.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.readEnum(MLOutputType.class);
+        MLTrainingOutput parsedOutput = new MLTrainingOutput(streamInput);
+        assertEquals(Long.valueOf(1024L), parsedOutput.getEstimatedMemoryBytes());
+        assertEquals(Long.valueOf(512L), parsedOutput.getPeakMemoryBytes());
+    }
 }
@@ -20,7 +20,9 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -90,6 +92,67 @@ public class ModelTensorTest {
         assertEquals(tensor, parsedTensor);
     }
 
+    @Test
+    public void test_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, -2f})
+                .shape(new long[]{2})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        assertArrayEquals(new Number[]{1.5f, -2f}, tensor.getData());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"name\":\"sentence_embedding\",\"data_type\":\"FLOAT32\",\"shape\":[2],\"data\":[1.5,-2.0]}", modelTensorContent);
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(tensor.getData(), parsedTensor.getData());
+    }
+
+    @Test
+    public void test_FloatData_SameWireFormat() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .data(new Number[]{1.5f, -2f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        BytesStreamOutput boxedOutput = new BytesStreamOutput();
+        tensor.writeTo(boxedOutput);
+
+        ModelTensor floatTensor = ModelTensor.builder()
+                .floatData(new float[]{1.5f, -2f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        BytesStreamOutput floatOutput = new BytesStreamOutput();
+        floatTensor.writeTo(floatOutput);
+        assertEquals(boxedOutput.bytes(), floatOutput.bytes());
+
+        ModelTensor parsedTensor = new ModelTensor(boxedOutput.bytes().streamInput());
+        assertArrayEquals(new float[]{1.5f, -2f}, parsedTensor.getFloatData(), 0.0f);
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_SetData_ClearsFloatData() {
+        ModelTensor tensor = ModelTensor.builder()
+                .floatData(new float[]{1.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        tensor.setData(null);
+        assertNull(tensor.getFloatData());
+        assertNull(tensor.getData());
+    }
+
+    @Test
+    public void test_FloatData_NotFloatingDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data needs a floating point data type");
+        ModelTensor.builder().floatData(new float[]{1.5f}).dataType(MLResultDataType.INT32).build();
+    }
+
     @Test
     public void test_UnknownDataType() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import org.junit.Test;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class MLBulkInferenceCheckpointTest {
+
+    @Test
+    public void toXContentAndParse() throws IOException {
+        MLBulkInferenceInput input = MLBulkInferenceInput.builder()
+                .modelId("test_model_id")
+                .sourceIndex("source_index")
+                .sourceField("text")
+                .targetField("embedding")
+                .build();
+        MLBulkInferenceCheckpoint checkpoint = MLBulkInferenceCheckpoint.builder()
+                .input(input)
+                .pitId("test_pit_id")
+                .totalDocs(10)
+                .processedDocs(6)
+                .failedDocs(1)
+                .slices(Arrays.asList(new MLBulkInferenceCheckpoint.Slice(5, true), new MLBulkInferenceCheckpoint.Slice(null, false)))
+                .build();
+
+        String content = TestHelper.contentObjectToString(checkpoint);
+        assertEquals("{\"input\":{\"model_id\":\"test_model_id\",\"source_index\":\"source_index\",\"source_field\":\"text\"," +
+                "\"target_index\":\"source_index\",\"target_field\":\"embedding\",\"batch_size\":100,\"max_in_flight_batches\":2}," +
+                "\"pit_id\":\"test_pit_id\",\"total_docs\":10,\"processed_docs\":6,\"failed_docs\":1," +
+                "\"slices\":[{\"search_after\":5,\"done\":true},{\"done\":false}]}", content);
+
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        assertEquals(checkpoint, MLBulkInferenceCheckpoint.parse(parser));
+    }
+}
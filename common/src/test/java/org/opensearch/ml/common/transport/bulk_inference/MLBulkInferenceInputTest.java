@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MLBulkInferenceInputTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private MLBulkInferenceInput input;
+
+    @Before
+    public void setUp() {
+        input = MLBulkInferenceInput.builder()
+                .modelId("test_model_id")
+                .sourceIndex("source_index")
+                .sourceField("text")
+                .targetIndex("target_index")
+                .targetField("embedding")
+                .batchSize(10)
+                .maxInFlightBatches(4)
+                .maxDocsPerSecond(100f)
+                .build();
+    }
+
+    @Test
+    public void readInputStream() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        input.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        MLBulkInferenceInput parsedInput = new MLBulkInferenceInput(streamInput);
+        assertEquals(input, parsedInput);
+    }
+
+    @Test
+    public void toXContent() throws IOException {
+        String content = TestHelper.contentObjectToString(input);
+        assertEquals("{\"model_id\":\"test_model_id\",\"source_index\":\"source_index\",\"source_field\":\"text\"," +
+                "\"target_index\":\"target_index\",\"target_field\":\"embedding\",\"batch_size\":10," +
+                "\"max_in_flight_batches\":4,\"max_docs_per_second\":100.0}", content);
+    }
+
+    @Test
+    public void parse() throws IOException {
+        String content = TestHelper.contentObjectToString(input);
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        MLBulkInferenceInput parsedInput = MLBulkInferenceInput.parse(parser, null);
+        assertEquals(input, parsedInput);
+    }
+
+    @Test
+    public void parse_Defaults() throws IOException {
+        String content = "{\"task_id\":\"test_task_id\",\"source_index\":\"source_index\"}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        MLBulkInferenceInput parsedInput = MLBulkInferenceInput.parse(parser, "test_model_id");
+        assertEquals("test_model_id", parsedInput.getModelId());
+        assertTrue(parsedInput.isResume());
+        assertTrue(parsedInput.isWriteToSourceIndex());
+        assertEquals("source_index", parsedInput.getTargetIndex());
+        assertEquals(MLBulkInferenceInput.DEFAULT_BATCH_SIZE, parsedInput.getBatchSize());
+        assertEquals(MLBulkInferenceInput.DEFAULT_MAX_IN_FLIGHT_BATCHES, parsedInput.getMaxInFlightBatches());
+        assertNull(parsedInput.getMaxDocsPerSecond());
+        assertFalse(input.isWriteToSourceIndex());
+    }
+
+    @Test
+    public void parse_ExceedMaxBatchSize() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch_size must be between 1 and 1000");
+        parseContent("{\"source_index\":\"source_index\",\"batch_size\":1001}");
+    }
+
+    @Test
+    public void parse_ExceedMaxInFlightBatches() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max_in_flight_batches must be between 1 and 16");
+        parseContent("{\"source_index\":\"source_index\",\"max_in_flight_batches\":100}");
+    }
+
+    @Test
+    public void parse_NonPositiveBatchSize() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch_size must be between 1 and 1000");
+        parseContent("{\"source_index\":\"source_index\",\"batch_size\":0}");
+    }
+
+    private MLBulkInferenceInput parseContent(String content) throws IOException {
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        return MLBulkInferenceInput.parse(parser, "test_model_id");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.bulk_inference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MLBulkInferenceRequestTest {
+
+    private MLBulkInferenceInput input;
+
+    @Before
+    public void setUp() {
+        input = MLBulkInferenceInput.builder()
+                .modelId("test_model_id")
+                .sourceIndex("source_index")
+                .sourceField("text")
+                .targetField("embedding")
+                .build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLBulkInferenceRequest request = new MLBulkInferenceRequest(input);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLBulkInferenceRequest parsedRequest = new MLBulkInferenceRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals(input, parsedRequest.getBulkInferenceInput());
+    }
+
+    @Test
+    public void validate_Success() {
+        assertNull(new MLBulkInferenceRequest(input).validate());
+    }
+
+    @Test
+    public void validate_Success_Resume() {
+        MLBulkInferenceInput resumeInput = MLBulkInferenceInput.builder().modelId("test_model_id").taskId("test_task_id").build();
+        assertNull(new MLBulkInferenceRequest(resumeInput).validate());
+    }
+
+    @Test
+    public void validate_Exception_NullInput() {
+        ActionRequestValidationException exception = new MLBulkInferenceRequest(null).validate();
+        assertEquals("Validation Failed: 1: Bulk inference input can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_MissingFields() {
+        MLBulkInferenceInput emptyInput = MLBulkInferenceInput.builder().build();
+        ActionRequestValidationException exception = new MLBulkInferenceRequest(emptyInput).validate();
+        assertEquals("Validation Failed: 1: model id can't be null;2: source index can't be null;" +
+                "3: source field can't be null;4: target field can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_InvalidThrottling() {
+        MLBulkInferenceInput invalidInput = input.toBuilder().batchSize(0).maxInFlightBatches(0).maxDocsPerSecond(0f).build();
+        ActionRequestValidationException exception = new MLBulkInferenceRequest(invalidInput).validate();
+        assertEquals("Validation Failed: 1: batch size must be between 1 and 1000;2: max in flight batches must be between 1 and 16;" +
+                "3: max docs per second must be positive;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_ExceedMaxThrottling() {
+        MLBulkInferenceInput invalidInput = input.toBuilder().batchSize(1001).maxInFlightBatches(17).build();
+        ActionRequestValidationException exception = new MLBulkInferenceRequest(invalidInput).validate();
+        assertEquals("Validation Failed: 1: batch size must be between 1 and 1000;2: max in flight batches must be between 1 and 16;",
+                exception.getMessage());
+    }
+
+    @Test
+    public void fromActionRequest_Success() {
+        MLBulkInferenceRequest request = new MLBulkInferenceRequest(input);
+        assertSame(request, MLBulkInferenceRequest.fromActionRequest(request));
+
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLBulkInferenceRequest result = MLBulkInferenceRequest.fromActionRequest(actionRequest);
+        assertNotSame(request, result);
+        assertEquals(input, result.getBulkInferenceInput());
+    }
+}
@@ -65,4 +65,15 @@ public class MLDeployModelInputTest {
         assertEquals(mlDeployModelInput.getModelId(), parsedInput.getModelId());
         assertEquals(mlDeployModelInput.getTaskId(), parsedInput.getTaskId());
     }
+
+    @Test
+    public void readInputStream_SourceNodeId() throws IOException {
+        MLDeployModelInput input = mlDeployModelInput.toBuilder().sourceNodeId("sourceNodeId").build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        input.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        MLDeployModelInput parsedInput = new MLDeployModelInput(streamInput);
+        assertEquals("sourceNodeId", parsedInput.getSourceNodeId());
+        assertNull(mlDeployModelInput.getSourceNodeId());
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.junit.Test;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+public class MLDeployProgressTest {
+
+    @Test
+    public void toXContentAndParse() throws IOException {
+        MLDeployProgress progress = MLDeployProgress.builder()
+                .sourceNodeId("node1")
+                .fetchedChunks(3)
+                .totalChunks(10)
+                .fetchedBytes(30_000_000L)
+                .bytesPerSecond(15_000_000L)
+                .build();
+
+        String content = TestHelper.contentObjectToString(progress);
+        assertEquals("{\"source_node_id\":\"node1\",\"fetched_chunks\":3,\"total_chunks\":10,\"fetched_bytes\":30000000," +
+                "\"bytes_per_second\":15000000}", content);
+
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        assertEquals(progress, MLDeployProgress.parse(parser));
+    }
+
+    @Test
+    public void toXContent_FromModelIndex() throws IOException {
+        MLDeployProgress progress = MLDeployProgress.builder().fetchedChunks(1).totalChunks(2).fetchedBytes(100L).bytesPerSecond(50L).build();
+        assertEquals("{\"fetched_chunks\":1,\"total_chunks\":2,\"fetched_bytes\":100,\"bytes_per_second\":50}",
+                TestHelper.contentObjectToString(progress));
+    }
+}
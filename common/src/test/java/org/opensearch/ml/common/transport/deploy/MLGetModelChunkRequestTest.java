@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MLGetModelChunkRequestTest {
+
+    @Test
+    public void writeToAndReadFrom() throws IOException {
+        MLGetModelChunkRequest request = MLGetModelChunkRequest.builder().modelId("test_model_id").chunkNumber(2).nodeId("node1").build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLGetModelChunkRequest parsedRequest = new MLGetModelChunkRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals("test_model_id", parsedRequest.getModelId());
+        assertEquals(2, parsedRequest.getChunkNumber());
+        assertEquals("node1", parsedRequest.getNodeId());
+        assertNull(parsedRequest.validate());
+    }
+
+    @Test
+    public void validate_Invalid() {
+        ActionRequestValidationException exception = new MLGetModelChunkRequest(null, -1, null).validate();
+        assertEquals(
+                "Validation Failed: 1: ML model id can't be null;2: Model chunk number can't be negative;3: Node id can't be null;",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    public void fromActionRequest() {
+        MLGetModelChunkRequest request = MLGetModelChunkRequest.builder().modelId("test_model_id").chunkNumber(1).nodeId("node1").build();
+        assertSame(request, MLGetModelChunkRequest.fromActionRequest(request));
+
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLGetModelChunkRequest parsedRequest = MLGetModelChunkRequest.fromActionRequest(actionRequest);
+        assertNotSame(request, parsedRequest);
+        assertEquals(1, parsedRequest.getChunkNumber());
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class MLGetModelChunkResponseTest {
+
+    @Test
+    public void writeToAndReadFrom() throws IOException {
+        byte[] content = new byte[] { 1, 2, 3 };
+        MLGetModelChunkResponse response = new MLGetModelChunkResponse(content);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        MLGetModelChunkResponse parsedResponse = new MLGetModelChunkResponse(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(content, parsedResponse.getContent());
+        assertArrayEquals(content, MLGetModelChunkResponse.fromActionResponse(parsedResponse).getContent());
+    }
+}
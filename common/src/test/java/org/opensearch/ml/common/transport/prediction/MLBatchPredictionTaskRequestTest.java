@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MLBatchPredictionTaskRequestTest {
+
+    private MLInput mlInput;
+
+    @Before
+    public void setUp() {
+        mlInput = MLInput.builder()
+                .algorithm(FunctionName.TEXT_EMBEDDING)
+                .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc1", "doc2", "doc3")).build())
+                .build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder()
+                .modelId("test_model_id")
+                .mlInput(mlInput)
+                .batchSize(2)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLBatchPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals("test_model_id", request.getModelId());
+        assertEquals(2, request.getBatchSize());
+        assertEquals(FunctionName.TEXT_EMBEDDING, request.getMlInput().getAlgorithm());
+        assertEquals(Arrays.asList("doc1", "doc2", "doc3"), ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs());
+        assertNull(request.getUser());
+    }
+
+    @Test
+    public void validate_Success() {
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder()
+                .modelId("test_model_id")
+                .mlInput(mlInput)
+                .build();
+        assertEquals(MLBatchPredictionTaskRequest.DEFAULT_BATCH_SIZE, request.getBatchSize());
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Exception_NullModelIdAndMLInput() {
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder().build();
+
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: model id can't be null;2: ML input can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_NotTextDocs() {
+        mlInput.setInputDataset(DataFrameInputDataset.builder()
+                .dataFrame(DataFrameBuilder.load(Collections.singletonList(new HashMap<String, Object>() {{
+                    put("key1", 2.0D);
+                }})))
+                .build());
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder()
+                .modelId("test_model_id")
+                .mlInput(mlInput)
+                .build();
+
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: batch predict only supports text docs;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_InvalidBatchSize() {
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder()
+                .modelId("test_model_id")
+                .mlInput(mlInput)
+                .batchSize(0)
+                .build();
+
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: batch size must be positive;", exception.getMessage());
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithMLBatchPredictionTaskRequest() {
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder()
+                .modelId("test_model_id")
+                .mlInput(mlInput)
+                .build();
+        assertSame(MLBatchPredictionTaskRequest.fromActionRequest(request), request);
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithNonMLBatchPredictionTaskRequest() {
+        MLBatchPredictionTaskRequest request = MLBatchPredictionTaskRequest.builder()
+                .modelId("test_model_id")
+                .mlInput(mlInput)
+                .batchSize(2)
+                .build();
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLBatchPredictionTaskRequest result = MLBatchPredictionTaskRequest.fromActionRequest(actionRequest);
+        assertNotSame(result, request);
+        assertEquals(request.getModelId(), result.getModelId());
+        assertEquals(request.getBatchSize(), result.getBatchSize());
+        assertEquals(request.getMlInput().getAlgorithm(), result.getMlInput().getAlgorithm());
+    }
+}
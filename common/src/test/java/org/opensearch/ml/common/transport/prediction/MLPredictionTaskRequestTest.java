@@ -34,6 +34,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MLPredictionTaskRequestTest {
 
@@ -76,6 +77,19 @@ public class MLPredictionTaskRequestTest {
         assertNull(request.getModelId());
     }
 
+    @Test
+    public void writeTo_Success_OnlineUpdate() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .onlineUpdate(true)
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertTrue(request.isOnlineUpdate());
+        assertEquals(FunctionName.KMEANS, request.getMlInput().getAlgorithm());
+    }
+
     @Test
     public void validate_Success() {
         MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TokenEstimatorTest {
+
+    @Test
+    public void estimateTokens() {
+        Assert.assertEquals(0, TokenEstimator.estimateTokens(null));
+        Assert.assertEquals(0, TokenEstimator.estimateTokens(""));
+        Assert.assertEquals(1, TokenEstimator.estimateTokens("abc"));
+        Assert.assertEquals(2, TokenEstimator.estimateTokens("abcde"));
+    }
+
+    @Test
+    public void estimateTokens_NonAscii() {
+        Assert.assertEquals(5, TokenEstimator.estimateTokens("你好，世界"));
+        Assert.assertEquals(3, TokenEstimator.estimateTokens("Größe"));
+        // Characters outside the BMP count once, not per UTF-16 char
+        Assert.assertEquals(1, TokenEstimator.estimateTokens("\uD83D\uDE00"));
+        Assert.assertEquals(3, TokenEstimator.estimateTokens("abc日本"));
+    }
+
+    @Test
+    public void truncate() {
+        Assert.assertEquals("abcdef", TokenEstimator.truncate("abcdefgh", 2));
+        Assert.assertEquals("abc日", TokenEstimator.truncate("abc日本", 2));
+        Assert.assertEquals("", TokenEstimator.truncate("日本", 0));
+        Assert.assertEquals("abc", TokenEstimator.truncate("abc", 10));
+    }
+}
@@ -37,6 +37,7 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.service.ClusterService;
@@ -131,6 +132,8 @@ public class ConversationMetaIndex {
                         ConversationalIndexConstants.USER_FIELD,
                         userstr == null ? null : User.parse(userstr).getName()
                     );
+                // Wait for the new conversation to become searchable, so reads never need to refresh the index
+                request.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                 try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                     ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
@@ -171,6 +174,7 @@ public class ConversationMetaIndex {
     public void getConversations(int from, int maxResults, ActionListener<List<ConversationMeta>> listener) {
         if (!clusterService.state().metadata().hasIndex(indexName)) {
             listener.onResponse(List.of());
+            return;
         }
         SearchRequest request = Requests.searchRequest(indexName);
         String userstr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
@@ -194,13 +198,7 @@ public class ConversationMetaIndex {
                 log.error("Failed to retrieve conversations", e);
                 internalListener.onFailure(e);
             });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(indexName), ActionListener.wrap(refreshResponse -> { client.search(request, al); }, e -> {
-                    log.error("Failed to retrieve conversations during refresh", e);
-                    internalListener.onFailure(e);
-                }));
+            client.search(request, al);
         } catch (Exception e) {
             log.error("Failed to retrieve conversations", e);
             listener.onFailure(e);
@@ -226,6 +224,7 @@ public class ConversationMetaIndex {
             listener.onResponse(true);
         }
         DeleteRequest delRequest = Requests.deleteRequest(indexName).id(conversationId);
+        delRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
         String userstr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
         String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
         this.checkAccess(conversationId, ActionListener.wrap(access -> {
@@ -290,15 +289,20 @@ public class ConversationMetaIndex {
                 }
                 internalListener.onResponse(true);
             }, e -> { internalListener.onFailure(e); });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(indexName), ActionListener.wrap(refreshResponse -> { client.get(getRequest, al); }, e -> {
-                    log.error("Failed to refresh conversations index during check access ", e);
-                    internalListener.onFailure(e);
-                }));
+            // Get is realtime, it sees the latest version of the conversation without a refresh
+            client.get(getRequest, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
+
+    /**
+     * Get the name of the user making the current request
+     * @return the user name, or null if security is off
+     */
+    public String getCurrentUser() {
+        String userstr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        User user = User.parse(userstr);
+        return user == null ? null : user.getName();
+    }
 }
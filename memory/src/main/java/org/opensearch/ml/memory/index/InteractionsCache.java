@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.conversation.Interaction;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Node-local cache of the most recent interactions of each conversation, sorted by recency.
+ * Consecutive turns of a conversation differ by one interaction, so keeping the latest ones around
+ * lets multi-turn chats skip searching the interactions index.
+ * Entries are bounded in number and expire after a while, which also bounds how long changes made
+ * through other nodes stay invisible to this node.
+ * Every conversation has a generation which adding an interaction or invalidating bumps, so a search
+ * which started before the change can't overwrite the entry with its older results.
+ */
+public class InteractionsCache {
+    public static final long DEFAULT_MAX_CONVERSATIONS = 1000;
+    public static final int DEFAULT_MAX_INTERACTIONS = 50;
+    public static final TimeValue DEFAULT_EXPIRE_AFTER_WRITE = TimeValue.timeValueMinutes(1);
+
+    private final Cache<String, Entry> cache;
+    private final int maxInteractions;
+    // Generation of recently changed conversations, values are taken from clock so they only grow
+    private final Cache<String, AtomicLong> generations;
+    private final AtomicLong clock = new AtomicLong();
+    // Highest generation dropped from generations, stands for every conversation without one
+    private final AtomicLong droppedGeneration = new AtomicLong();
+
+    public InteractionsCache() {
+        this(DEFAULT_MAX_CONVERSATIONS, DEFAULT_MAX_INTERACTIONS, DEFAULT_EXPIRE_AFTER_WRITE);
+    }
+
+    /**
+     * Constructor
+     * @param maxConversations how many conversations to keep interactions for
+     * @param maxInteractions how many of the most recent interactions to keep per conversation
+     * @param expireAfterWrite how long an entry stays valid after it's loaded or updated
+     */
+    public InteractionsCache(long maxConversations, int maxInteractions, TimeValue expireAfterWrite) {
+        this.cache = CacheBuilder.<String, Entry>builder().setMaximumWeight(maxConversations).setExpireAfterWrite(expireAfterWrite).build();
+        this.maxInteractions = maxInteractions;
+        this.generations = CacheBuilder
+            .<String, AtomicLong>builder()
+            .setMaximumWeight(maxConversations)
+            .setExpireAfterWrite(expireAfterWrite)
+            .removalListener(notification -> droppedGeneration.accumulateAndGet(notification.getValue().get(), Math::max))
+            .build();
+    }
+
+    /**
+     * Get the generation of a conversation. Take it before searching the interactions index and pass it to put
+     * @param conversationId the conversation whose generation to get
+     * @return the current generation of the conversation
+     */
+    public synchronized long generation(String conversationId) {
+        AtomicLong generation = generations.get(conversationId);
+        return generation == null ? droppedGeneration.get() : generation.get();
+    }
+
+    /**
+     * Get a page of interactions of a conversation from the cache
+     * @param conversationId the conversation whose interactions to get
+     * @param user the user asking, null if security is off. Only the user who loaded the entry can read it
+     * @param from where to start listing from
+     * @param maxResults how many interactions to get
+     * @return the interactions sorted by recency, or null if the cache can't answer the whole page
+     */
+    public List<Interaction> get(String conversationId, String user, int from, int maxResults) {
+        Entry entry = cache.get(conversationId);
+        if (entry == null || !Objects.equals(entry.user, user)) {
+            return null;
+        }
+        int size = entry.interactions.size();
+        if (from + maxResults <= size) {
+            return new ArrayList<>(entry.interactions.subList(from, from + maxResults));
+        }
+        if (entry.complete) {
+            return new ArrayList<>(entry.interactions.subList(Math.min(from, size), size));
+        }
+        return null;
+    }
+
+    /**
+     * Cache interactions loaded from the index. Only the first page of a conversation is cached
+     * @param conversationId the conversation the interactions belong to
+     * @param user the user who loaded them, null if security is off
+     * @param generation the generation of the conversation taken before loading them
+     * @param from where the interactions were listed from
+     * @param maxResults how many interactions were asked for
+     * @param interactions the interactions sorted by recency
+     */
+    public synchronized void put(
+        String conversationId,
+        String user,
+        long generation,
+        int from,
+        int maxResults,
+        List<Interaction> interactions
+    ) {
+        // The conversation changed while the interactions were loaded, so they may miss the change
+        if (from != 0 || generation != generation(conversationId)) {
+            return;
+        }
+        // Fewer results than asked for means these are all the interactions of the conversation
+        boolean complete = interactions.size() < maxResults && interactions.size() <= maxInteractions;
+        List<Interaction> recent = new ArrayList<>(interactions.subList(0, Math.min(interactions.size(), maxInteractions)));
+        cache.put(conversationId, new Entry(user, recent, complete));
+    }
+
+    /**
+     * Add a newly created interaction to its conversation, if the conversation is cached
+     * @param interaction the new interaction
+     */
+    public synchronized void add(Interaction interaction) {
+        bumpGeneration(interaction.getConversationId());
+        Entry entry = cache.get(interaction.getConversationId());
+        if (entry == null) {
+            return;
+        }
+        List<Interaction> recent = new ArrayList<>(Math.min(entry.interactions.size() + 1, maxInteractions));
+        recent.add(interaction);
+        recent.addAll(entry.interactions.subList(0, Math.min(entry.interactions.size(), maxInteractions - 1)));
+        boolean complete = entry.complete && entry.interactions.size() < maxInteractions;
+        cache.put(interaction.getConversationId(), new Entry(entry.user, recent, complete));
+    }
+
+    /**
+     * Drop a conversation from the cache
+     * @param conversationId the conversation to drop
+     */
+    public synchronized void invalidate(String conversationId) {
+        bumpGeneration(conversationId);
+        cache.invalidate(conversationId);
+    }
+
+    private void bumpGeneration(String conversationId) {
+        AtomicLong generation = generations.get(conversationId);
+        if (generation == null) {
+            // Set the value in place afterwards, replacing the entry would count it as dropped
+            generation = new AtomicLong();
+            generations.put(conversationId, generation);
+        }
+        generation.set(clock.incrementAndGet());
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final String user;
+        private final List<Interaction> interactions;
+        // Whether interactions holds every interaction of the conversation
+        private final boolean complete;
+    }
+}
@@ -33,6 +33,7 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.service.ClusterService;
@@ -156,6 +157,8 @@ public class InteractionsIndex {
                                 ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
                                 timestamp
                             );
+                        // Wait for the new interaction to become searchable, so reads never need to refresh the index
+                        request.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
@@ -244,12 +247,7 @@ public class InteractionsIndex {
                 }
                 internalListener.onResponse(result);
             }, e -> { internalListener.onFailure(e); });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(indexName), ActionListener.wrap(r -> { client.search(request, al); }, e -> {
-                    internalListener.onFailure(e);
-                }));
+            client.search(request, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -317,6 +315,7 @@ public class InteractionsIndex {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             ActionListener<List<Interaction>> searchListener = ActionListener.wrap(interactions -> {
                 BulkRequest request = Requests.bulkRequest();
+                request.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                 for (Interaction interaction : interactions) {
                     DeleteRequest delRequest = Requests.deleteRequest(indexName).id(interaction.getId());
                     request.add(delRequest);
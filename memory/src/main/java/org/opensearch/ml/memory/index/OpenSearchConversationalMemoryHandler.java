@@ -43,6 +43,7 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
 
     private ConversationMetaIndex conversationMetaIndex;
     private InteractionsIndex interactionsIndex;
+    private InteractionsCache interactionsCache;
 
     /**
      * Constructor
@@ -52,12 +53,23 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
     public OpenSearchConversationalMemoryHandler(Client client, ClusterService clusterService) {
         this.conversationMetaIndex = new ConversationMetaIndex(client, clusterService);
         this.interactionsIndex = new InteractionsIndex(client, clusterService, this.conversationMetaIndex);
+        this.interactionsCache = new InteractionsCache();
     }
 
     @VisibleForTesting
     OpenSearchConversationalMemoryHandler(ConversationMetaIndex conversationMetaIndex, InteractionsIndex interactionsIndex) {
+        this(conversationMetaIndex, interactionsIndex, new InteractionsCache());
+    }
+
+    @VisibleForTesting
+    OpenSearchConversationalMemoryHandler(
+        ConversationMetaIndex conversationMetaIndex,
+        InteractionsIndex interactionsIndex,
+        InteractionsCache interactionsCache
+    ) {
         this.conversationMetaIndex = conversationMetaIndex;
         this.interactionsIndex = interactionsIndex;
+        this.interactionsCache = interactionsCache;
     }
 
     /**
@@ -118,7 +130,26 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
         ActionListener<String> listener
     ) {
         Instant time = Instant.now();
-        interactionsIndex.createInteraction(conversationId, input, promptTemplate, response, origin, additionalInfo, time, listener);
+        InteractionBuilder builder = Interaction
+            .builder()
+            .conversationId(conversationId)
+            .input(input)
+            .promptTemplate(promptTemplate)
+            .response(response)
+            .origin(origin)
+            .additionalInfo(additionalInfo)
+            .createTime(time);
+        interactionsIndex
+            .createInteraction(
+                conversationId,
+                input,
+                promptTemplate,
+                response,
+                origin,
+                additionalInfo,
+                time,
+                cacheInteraction(builder, listener)
+            );
     }
 
     /**
@@ -161,10 +192,17 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
                 interaction.getOrigin(),
                 interaction.getAdditionalInfo(),
                 interaction.getCreateTime(),
-                listener
+                cacheInteraction(builder, listener)
             );
     }
 
+    private ActionListener<String> cacheInteraction(InteractionBuilder builder, ActionListener<String> listener) {
+        return ActionListener.wrap(interactionId -> {
+            interactionsCache.add(builder.id(interactionId).build());
+            listener.onResponse(interactionId);
+        }, listener::onFailure);
+    }
+
     /**
      * Adds an interaction to the index, updating the associated Conversational Metadata
      * @param builder Interaction builder that creates the Interaction to be added. id should be null
@@ -184,7 +222,18 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
      * @param listener gets the list of interactions in this conversation, sorted by recency
      */
     public void getInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
-        interactionsIndex.getInteractions(conversationId, from, maxResults, listener);
+        String user = conversationMetaIndex.getCurrentUser();
+        // Entries are only served to the user who loaded them, who already passed the access check
+        List<Interaction> cached = interactionsCache.get(conversationId, user, from, maxResults);
+        if (cached != null) {
+            listener.onResponse(cached);
+            return;
+        }
+        long generation = interactionsCache.generation(conversationId);
+        interactionsIndex.getInteractions(conversationId, from, maxResults, ActionListener.wrap(interactions -> {
+            interactionsCache.put(conversationId, user, generation, from, maxResults, interactions);
+            listener.onResponse(interactions);
+        }, listener::onFailure));
     }
 
     /**
@@ -265,6 +314,7 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
                     );
 
                 metaDeleteListener.whenComplete(metaDeleteResult -> {
+                    interactionsCache.invalidate(conversationId);
                     log.info("SUCCESSFUL DELETION OF CONVERSATION " + conversationId);
                     listener.onResponse(metaDeleteResult && interactionsListener.result());
                 }, listener::onFailure);
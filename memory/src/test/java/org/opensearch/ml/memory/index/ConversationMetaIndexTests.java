@@ -23,6 +23,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,7 +37,6 @@ import org.opensearch.OpenSearchWrapperException;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
-import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
@@ -109,14 +109,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         }).when(indicesAdminClient).create(any(), any());
     }
 
-    private void setupRefreshSuccess() {
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onResponse(mock(RefreshResponse.class));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
-    }
-
     private void blanketGrantAccess() {
         doAnswer(invocation -> {
             ActionListener<Boolean> al = invocation.getArgument(1);
@@ -301,7 +293,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testGet_SearchFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        setupRefreshSuccess();
         doAnswer(invocation -> {
             ActionListener<SearchResponse> al = invocation.getArgument(1);
             al.onFailure(new Exception("Test Exception"));
@@ -315,30 +306,28 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Test Exception"));
     }
 
-    public void testGet_RefreshFails_ThenFail() {
+    public void testGet_DoesNotRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Test Exception"));
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<ConversationMeta>> getConversationsListener = mock(ActionListener.class);
         conversationMetaIndex.getConversations(10, getConversationsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getConversationsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Refresh Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Search Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<ConversationMeta>> getConversationsListener = mock(ActionListener.class);
         conversationMetaIndex.getConversations(10, getConversationsListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getConversationsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Client Failure"));
+        assert (argCaptor.getValue().getMessage().equals("Search Client Failure"));
     }
 
     public void testDelete_NoIndex_ThenReturnTrue() {
@@ -404,7 +393,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testCheckAccess_DoesNotExist_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
         GetResponse response = mock(GetResponse.class);
         doReturn(false).when(response).isExists();
@@ -424,7 +412,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testCheckAccess_WrongId_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
         GetResponse response = mock(GetResponse.class);
         doReturn(true).when(response).isExists();
@@ -445,7 +432,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testCheckAccess_GetFails_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
         doAnswer(invocation -> {
             ActionListener<GetResponse> al = invocation.getArgument(1);
@@ -462,7 +448,6 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testCheckAccess_ClientFails_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
         doThrow(new RuntimeException("Client Test Fail")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InteractionsCacheTests extends OpenSearchTestCase {
+
+    private static List<Interaction> interactions(int count) {
+        List<Interaction> interactions = new ArrayList<>();
+        for (int i = count - 1; i >= 0; i--) {
+            interactions.add(Interaction.builder().id("iid" + i).conversationId("cid").build());
+        }
+        return interactions;
+    }
+
+    public void testGet_Miss_ThenNull() {
+        InteractionsCache cache = new InteractionsCache();
+        assert (cache.get("cid", null, 0, 10) == null);
+    }
+
+    public void testGet_CompleteConversation() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", "user", cache.generation("cid"), 0, 10, interactions(3));
+        List<Interaction> result = cache.get("cid", "user", 0, 10);
+        assert (result.size() == 3);
+        assert (result.get(0).getId().equals("iid2"));
+        assert (cache.get("cid", "user", 1, 1).get(0).getId().equals("iid1"));
+        assert (cache.get("cid", "user", 5, 10).isEmpty());
+    }
+
+    public void testGet_OtherUser_ThenNull() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", "user", cache.generation("cid"), 0, 10, interactions(3));
+        assert (cache.get("cid", "other", 0, 10) == null);
+        assert (cache.get("cid", null, 0, 10) == null);
+    }
+
+    public void testGet_BeyondPartialEntry_ThenNull() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", null, cache.generation("cid"), 0, 3, interactions(3));
+        assert (cache.get("cid", null, 0, 3).size() == 3);
+        assert (cache.get("cid", null, 0, 4) == null);
+    }
+
+    public void testPut_NotFirstPage_Ignored() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", null, cache.generation("cid"), 2, 10, interactions(3));
+        assert (cache.get("cid", null, 0, 1) == null);
+    }
+
+    public void testPut_KeepsMostRecent() {
+        InteractionsCache cache = new InteractionsCache(10, 2, TimeValue.timeValueMinutes(1));
+        cache.put("cid", null, cache.generation("cid"), 0, 10, interactions(3));
+        assert (cache.get("cid", null, 0, 2).get(1).getId().equals("iid1"));
+        assert (cache.get("cid", null, 0, 3) == null);
+    }
+
+    public void testAdd() {
+        InteractionsCache cache = new InteractionsCache(10, 3, TimeValue.timeValueMinutes(1));
+        cache.add(Interaction.builder().id("iid0").conversationId("cid").build());
+        assert (cache.get("cid", null, 0, 1) == null);
+
+        cache.put("cid", null, cache.generation("cid"), 0, 10, interactions(2));
+        cache.add(Interaction.builder().id("iid2").conversationId("cid").build());
+        List<Interaction> result = cache.get("cid", null, 0, 10);
+        assert (result.size() == 3);
+        assert (result.get(0).getId().equals("iid2"));
+
+        cache.add(Interaction.builder().id("iid3").conversationId("cid").build());
+        assert (cache.get("cid", null, 0, 3).get(2).getId().equals("iid1"));
+        assert (cache.get("cid", null, 0, 4) == null);
+    }
+
+    public void testPut_AfterAdd_Ignored() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", null, cache.generation("cid"), 0, 10, interactions(2));
+        long generation = cache.generation("cid");
+        // A search started, then a new interaction is added before its results come back
+        cache.add(Interaction.builder().id("iid2").conversationId("cid").build());
+        cache.put("cid", null, generation, 0, 10, interactions(2));
+        List<Interaction> result = cache.get("cid", null, 0, 10);
+        assert (result.size() == 3);
+        assert (result.get(0).getId().equals("iid2"));
+    }
+
+    public void testPut_AfterAddToUncachedConversation_Ignored() {
+        InteractionsCache cache = new InteractionsCache();
+        long generation = cache.generation("cid");
+        cache.add(Interaction.builder().id("iid2").conversationId("cid").build());
+        cache.put("cid", null, generation, 0, 10, interactions(2));
+        assert (cache.get("cid", null, 0, 10) == null);
+
+        cache.put("cid", null, cache.generation("cid"), 0, 10, interactions(3));
+        assert (cache.get("cid", null, 0, 10).size() == 3);
+    }
+
+    public void testPut_AfterInvalidate_Ignored() {
+        InteractionsCache cache = new InteractionsCache();
+        long generation = cache.generation("cid");
+        cache.invalidate("cid");
+        cache.put("cid", null, generation, 0, 10, interactions(1));
+        assert (cache.get("cid", null, 0, 10) == null);
+    }
+
+    public void testPut_OtherConversationChanged() {
+        InteractionsCache cache = new InteractionsCache();
+        long generation = cache.generation("cid");
+        cache.add(Interaction.builder().id("iid0").conversationId("other").build());
+        cache.put("cid", null, generation, 0, 10, interactions(1));
+        assert (cache.get("cid", null, 0, 10).size() == 1);
+    }
+
+    public void testInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.put("cid", null, cache.generation("cid"), 0, 10, interactions(1));
+        cache.invalidate("cid");
+        assert (cache.get("cid", null, 0, 10) == null);
+    }
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -38,10 +39,11 @@ import org.mockito.Mock;
 import org.opensearch.OpenSearchWrapperException;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
-import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.AdminClient;
 import org.opensearch.client.Client;
 import org.opensearch.client.IndicesAdminClient;
@@ -137,14 +139,6 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         }).when(threadPool).getThreadContext();
     }
 
-    private void setupRefreshSuccess() {
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onResponse(mock(RefreshResponse.class));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
-    }
-
     public void testInit_DoesNotCreateIndex_ThenReturnFalse() {
         setupDoesNotMakeIndex();
         @SuppressWarnings("unchecked")
@@ -263,6 +257,26 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failed to create interaction"));
     }
 
+    public void testCreate_WaitsForRefresh() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        IndexResponse response = mock(IndexResponse.class);
+        doReturn(RestStatus.CREATED).when(response).status();
+        doReturn("iid").when(response).getId();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
+            return null;
+        }).when(client).index(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createInteractionListener = mock(ActionListener.class);
+        interactionsIndex.createInteraction("cid", "inp", "pt", "rsp", "ogn", "meta", createInteractionListener);
+        ArgumentCaptor<IndexRequest> requestCaptor = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(1)).index(requestCaptor.capture(), any());
+        assert (requestCaptor.getValue().getRefreshPolicy() == WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        verify(createInteractionListener, times(1)).onResponse("iid");
+    }
+
     public void testCreate_InternalFailure_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
@@ -346,7 +360,6 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
     public void testGet_SearchFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        setupRefreshSuccess();
         doAnswer(invocation -> {
             ActionListener<SearchResponse> al = invocation.getArgument(1);
             al.onFailure(new Exception("Failure in Search"));
@@ -360,26 +373,24 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failure in Search"));
     }
 
-    public void testGet_RefreshFails_ThenFail() {
+    public void testGet_DoesNotRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed to Refresh"));
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure in Search"));
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed to Refresh"));
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
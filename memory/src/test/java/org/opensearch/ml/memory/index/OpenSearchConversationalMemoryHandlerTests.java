@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -241,4 +242,80 @@ public class OpenSearchConversationalMemoryHandlerTests extends OpenSearchTestCa
         ActionFuture<Boolean> result = cmHandler.deleteConversation("cid");
         assert (result.actionGet(200));
     }
+
+    public void testGetInteractions_SecondCallServedFromCache() {
+        Interaction interaction = Interaction.builder().id("iid").conversationId("cid").input("inp").build();
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> al = invocation.getArgument(3);
+            al.onResponse(List.of(interaction));
+            return null;
+        }).when(interactionsIndex).getInteractions(anyString(), anyInt(), anyInt(), any());
+        assert (cmHandler.getInteractions("cid", 0, 10).actionGet(200).size() == 1);
+        List<Interaction> result = cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        assert (result.size() == 1);
+        assert (result.get(0).getId().equals("iid"));
+        verify(interactionsIndex, times(1)).getInteractions(anyString(), anyInt(), anyInt(), any());
+    }
+
+    public void testGetInteractions_OtherUser_NotServedFromCache() {
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> al = invocation.getArgument(3);
+            al.onResponse(List.of());
+            return null;
+        }).when(interactionsIndex).getInteractions(anyString(), anyInt(), anyInt(), any());
+        doReturn("user1").when(conversationMetaIndex).getCurrentUser();
+        cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        doReturn("user2").when(conversationMetaIndex).getCurrentUser();
+        cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        verify(interactionsIndex, times(2)).getInteractions(anyString(), anyInt(), anyInt(), any());
+    }
+
+    public void testCreateInteraction_AddedToCache() {
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> al = invocation.getArgument(3);
+            al.onResponse(List.of());
+            return null;
+        }).when(interactionsIndex).getInteractions(anyString(), anyInt(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<String> al = invocation.getArgument(7);
+            al.onResponse("iid");
+            return null;
+        })
+            .when(interactionsIndex)
+            .createInteraction(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), any(), any());
+        cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        cmHandler.createInteraction("cid", "inp", "pt", "rsp", "ogn", "meta").actionGet(200);
+        List<Interaction> result = cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        assert (result.size() == 1);
+        assert (result.get(0).getId().equals("iid"));
+        assert (result.get(0).getInput().equals("inp"));
+        verify(interactionsIndex, times(1)).getInteractions(anyString(), anyInt(), anyInt(), any());
+    }
+
+    public void testDelete_InvalidatesCache() {
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> al = invocation.getArgument(3);
+            al.onResponse(List.of());
+            return null;
+        }).when(interactionsIndex).getInteractions(anyString(), anyInt(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
+            return null;
+        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
+            return null;
+        }).when(conversationMetaIndex).deleteConversation(anyString(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
+            return null;
+        }).when(interactionsIndex).deleteConversation(anyString(), any());
+        cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        assert (cmHandler.deleteConversation("cid").actionGet(200));
+        cmHandler.getInteractions("cid", 0, 10).actionGet(200);
+        verify(interactionsIndex, times(2)).getInteractions(anyString(), anyInt(), anyInt(), any());
+    }
 }
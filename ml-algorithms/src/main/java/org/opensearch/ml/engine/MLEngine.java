@@ -20,8 +20,10 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * This is the interface to all ml algorithms.
@@ -42,11 +44,19 @@ public class MLEngine {
 
     private Encryptor encryptor;
 
+    // Runs the parallel work of algorithms that have an executor property, they run it on the calling thread if null
+    private final Executor algorithmExecutor;
+
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
+        this(opensearchDataFolder, encryptor, null);
+    }
+
+    public MLEngine(Path opensearchDataFolder, Encryptor encryptor, Executor algorithmExecutor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
         this.mlConfigPath = mlCachePath.resolve("config");
         this.encryptor = encryptor;
+        this.algorithmExecutor = algorithmExecutor;
     }
 
     public String getPrebuiltModelMetaListPath() {
@@ -106,6 +116,10 @@ public class MLEngine {
         return getModelCacheRootPath().resolve(modelId);
     }
 
+    public Path getModelArtifactPath(String modelId) {
+        return getModelCachePath(modelId).resolve("artifact.zip");
+    }
+
     public Path getModelCacheRootPath() {
         return mlModelsCachePath.resolve("models");
     }
@@ -113,15 +127,25 @@ public class MLEngine {
     public MLModel train(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        Trainable trainable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        Trainable trainable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (trainable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
         return trainable.train(mlInput);
     }
 
+    public long estimateTrainingMemory(Input input) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Trainable trainable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        if (trainable == null) {
+            throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
+        }
+        return trainable.estimateTrainingMemory(mlInput);
+    }
+
     public Predictable deploy(MLModel mlModel, Map<String, Object> params) {
-        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class);
+        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class, algorithmProperties());
         predictable.initModel(mlModel, params, encryptor);
         return predictable;
     }
@@ -135,7 +159,7 @@ public class MLEngine {
     public MLOutput predict(Input input, MLModel model) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (predictable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
@@ -145,7 +169,7 @@ public class MLEngine {
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        TrainAndPredictable trainAndPredictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        TrainAndPredictable trainAndPredictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (trainAndPredictable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
@@ -169,6 +193,10 @@ public class MLEngine {
         }
     }
 
+    private Map<String, Object> algorithmProperties() {
+        return algorithmExecutor == null ? null : Collections.singletonMap("executor", algorithmExecutor);
+    }
+
     private void validateMLInput(Input input) {
         validateInput(input);
         if (!(input instanceof MLInput)) {
@@ -20,4 +20,14 @@ public interface Trainable {
      */
     MLModel train(MLInput mlInput);
 
+    /**
+     * Estimate heap bytes needed to train with given input. Memory is reserved with this estimation before
+     * training starts.
+     * @param mlInput training data
+     * @return estimated bytes, 0 if unknown
+     */
+    default long estimateTrainingMemory(MLInput mlInput) {
+        return 0;
+    }
+
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+
+/**
+ * This is the interface of deployed models which can be updated incrementally with new data, like RCF.
+ */
+public interface Updatable extends Predictable {
+
+    /**
+     * Feed new data into deployed model and predict with it.
+     * @param mlInput new data
+     * @return predicted results
+     */
+    MLOutput update(MLInput mlInput);
+
+    /**
+     * Serialize current state of deployed model, so it can be checkpointed into model index.
+     * @return Base64 encoded model content
+     */
+    String getModelContent();
+}
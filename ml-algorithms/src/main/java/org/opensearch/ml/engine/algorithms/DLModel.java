@@ -323,8 +323,13 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        ModelTensors tensorOutput;
+        if (output.getData() instanceof ModelTensorsSupplier) {
+            // Translated in this JVM, no need to serialize the tensors.
+            tensorOutput = ((ModelTensorsSupplier) output.getData()).getModelTensors();
+        } else {
+            tensorOutput = ModelTensors.fromBytes(output.getData().getAsBytes());
+        }
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import ai.djl.ndarray.BytesSupplier;
+import lombok.Getter;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Hands model tensors from a translator to the model as they are. The tensors are only serialized
+ * if someone reads the output as bytes.
+ */
+public class ModelTensorsSupplier implements BytesSupplier {
+    @Getter
+    private final ModelTensors modelTensors;
+
+    public ModelTensorsSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(modelTensors.toBytes());
+    }
+}
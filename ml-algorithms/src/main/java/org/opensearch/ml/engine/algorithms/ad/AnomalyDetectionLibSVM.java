@@ -22,6 +22,7 @@ import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.MemoryEstimator;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -51,6 +52,10 @@ public class AnomalyDetectionLibSVM implements Trainable, Predictable {
     private static double DEFAULT_GAMMA = 1.0;
     private static double DEFAULT_NU = 0.1;
     private static KernelType DEFAULT_KERNEL_TYPE = KernelType.RBF;
+    // svm_node object with an int index and a double value
+    private static final long LIBSVM_NODE_BYTES = 32;
+    // libsvm default kernel cache size, 100MB
+    private static final long LIBSVM_CACHE_BYTES = 100L * 1024 * 1024;
 
     private AnomalyDetectionLibSVMParams parameters;
     private LibSVMModel libSVMAnomalyModel = null;
@@ -122,6 +127,17 @@ public class AnomalyDetectionLibSVM implements Trainable, Predictable {
         return predict(mlInput);
     }
 
+    @Override
+    public long estimateTrainingMemory(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        long rows = dataFrame.size();
+        long features = dataFrame.columnMetas().length;
+        // LibSVM copies every value into a svm_node object, and caches kernel rows as floats up to its cache size.
+        long nodes = rows * (MemoryEstimator.referenceArray(features) + features * LIBSVM_NODE_BYTES);
+        long kernelCache = Math.min(rows * rows * 4, LIBSVM_CACHE_BYTES);
+        return MemoryEstimator.tribuoDataset(rows, features) + nodes + kernelCache;
+    }
+
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
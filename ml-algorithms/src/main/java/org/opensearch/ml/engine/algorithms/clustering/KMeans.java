@@ -5,9 +5,9 @@
 
 package org.opensearch.ml.engine.algorithms.clustering;
 
+import lombok.Setter;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.DataFrame;
-import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
@@ -19,21 +19,19 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.MemoryEstimator;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
-import org.tribuo.Prediction;
 import org.tribuo.clustering.ClusterID;
 import org.tribuo.clustering.ClusteringFactory;
 import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.clustering.kmeans.KMeansTrainer;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 @Function(FunctionName.KMEANS)
 public class KMeans implements TrainAndPredictable {
@@ -52,7 +50,11 @@ public class KMeans implements TrainAndPredictable {
     private long seed = System.currentTimeMillis();
     private KMeansTrainer.Distance distance;
 
-    private KMeansModel kMeansModel;
+    private KMeansCentroids kMeansCentroids;
+    // Runs the parallel chunks of prediction and mini-batch training.
+    @Setter
+    private Executor executor;
+
     public KMeans() {}
 
     public KMeans(MLAlgoParams parameters) {
@@ -71,6 +73,10 @@ public class KMeans implements TrainAndPredictable {
             throw new IllegalArgumentException("Iterations should be positive.");
         }
 
+        if (parameters.getMiniBatchSize() != null && parameters.getMiniBatchSize() <= 0) {
+            throw new IllegalArgumentException("Mini batch size should be positive.");
+        }
+
     }
 
     private void createDistance() {
@@ -90,29 +96,32 @@ public class KMeans implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        this.kMeansCentroids = loadCentroids(model);
     }
 
     @Override
     public void close() {
-        this.kMeansModel = null;
+        this.kMeansCentroids = null;
     }
 
     @Override
     public boolean isModelReady() {
-        return kMeansModel != null;
+        return kMeansCentroids != null;
+    }
+
+    // Models trained by KMeansTrainer are stored as Tribuo models, mini-batch models are stored as centroids.
+    private KMeansCentroids loadCentroids(MLModel model) {
+        Object content = ModelSerDeSer.deserialize(model);
+        if (content instanceof KMeansModel) {
+            return KMeansCentroids.fromModel((KMeansModel) content);
+        }
+        return (KMeansCentroids) content;
     }
 
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        MutableDataset<ClusterID> predictionDataset = TribuoUtil.generateDataset(dataFrame, new ClusteringFactory(),
-                "KMeans prediction data from opensearch", TribuoOutputType.CLUSTERID);
-        List<Prediction<ClusterID>> predictions = kMeansModel.predict(predictionDataset);
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e.getOutput().getID())));
-
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+        return MLPredictionOutput.builder().predictionResult(kMeansCentroids.predict(dataFrame, executor)).build();
     }
 
     @Override
@@ -120,13 +129,39 @@ public class KMeans implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        this.kMeansCentroids = loadCentroids(model);
         return predict(mlInput);
     }
 
+    @Override
+    public long estimateTrainingMemory(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        long features = dataFrame.columnMetas().length;
+        long centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
+        if (parameters.getMiniBatchSize() != null) {
+            // Mini-batch training only copies the sampled rows and the centroids.
+            long batch = Math.min(parameters.getMiniBatchSize(), dataFrame.size());
+            return (batch + centroids) * MemoryEstimator.doubleArray(features) + batch * 8;
+        }
+        // KMeansTrainer keeps the vectors, one assignment per row, and the old and new centroids.
+        return MemoryEstimator.tribuoDataset(dataFrame.size(), features)
+                + MemoryEstimator.tribuoVectors(dataFrame.size(), features)
+                + MemoryEstimator.intArray(dataFrame.size())
+                + 2 * centroids * MemoryEstimator.doubleArray(features);
+    }
+
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        if (parameters.getMiniBatchSize() != null) {
+            return MLModel.builder()
+                    .name(FunctionName.KMEANS.name())
+                    .algorithm(FunctionName.KMEANS)
+                    .version(VERSION)
+                    .content(ModelSerDeSer.serializeToBase64(trainMiniBatch(dataFrame)))
+                    .modelState(MLModelState.TRAINED)
+                    .build();
+        }
         MutableDataset<ClusterID> trainDataset = TribuoUtil.generateDataset(dataFrame, new ClusteringFactory(),
                 "KMeans training data from opensearch", TribuoOutputType.CLUSTERID);
         Integer centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
@@ -147,6 +182,9 @@ public class KMeans implements TrainAndPredictable {
     @Override
     public MLOutput trainAndPredict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        if (parameters.getMiniBatchSize() != null) {
+            return MLPredictionOutput.builder().predictionResult(trainMiniBatch(dataFrame).predict(dataFrame, executor)).build();
+        }
         MutableDataset<ClusterID> trainDataset = TribuoUtil.generateDataset(dataFrame, new ClusteringFactory(),
                 "KMeans training and predicting data from opensearch", TribuoOutputType.CLUSTERID);
         Integer centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
@@ -154,10 +192,14 @@ public class KMeans implements TrainAndPredictable {
         KMeansTrainer trainer = new KMeansTrainer(centroids, iterations, distance, numThreads, seed);
         KMeansModel kMeansModel = trainer.train(trainDataset); // won't store model in index
 
-        List<Prediction<ClusterID>> predictions = kMeansModel.predict(trainDataset);
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e.getOutput().getID())));
+        DataFrame predictions = KMeansCentroids.fromModel(kMeansModel).predict(dataFrame, executor);
+        return MLPredictionOutput.builder().predictionResult(predictions).build();
+    }
 
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+    private KMeansCentroids trainMiniBatch(DataFrame dataFrame) {
+        Integer centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
+        Integer iterations = Optional.ofNullable(parameters.getIterations()).orElse(DEFAULT_ITERATIONS);
+        KMeansParams.DistanceType distanceType = Optional.ofNullable(parameters.getDistanceType()).orElse(DEFAULT_DISTANCE_TYPE);
+        return KMeansCentroids.trainMiniBatch(dataFrame, centroids, iterations, parameters.getMiniBatchSize(), distanceType, seed, executor);
     }
 }
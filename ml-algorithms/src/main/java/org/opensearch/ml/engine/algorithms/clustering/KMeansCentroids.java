@@ -0,0 +1,287 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import com.oracle.labs.mlrg.olcut.provenance.PrimitiveProvenance;
+import com.oracle.labs.mlrg.olcut.provenance.Provenance;
+import lombok.Getter;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.Row;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.utils.ParallelUtils;
+import org.tribuo.Feature;
+import org.tribuo.clustering.kmeans.KMeansModel;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+/**
+ * KMeans centroids kept in primitive arrays. Points are assigned to their nearest centroid in parallel
+ * chunks on the given executor without building a Tribuo dataset, and the same representation backs
+ * mini-batch training.
+ */
+public class KMeansCentroids implements Serializable {
+    // Mini-batch models are stored with Java serialization, keep this stable when changing fields.
+    private static final long serialVersionUID = 1L;
+    public static final String CLUSTER_ID_FIELD = "ClusterID";
+    // Rows assigned by one task, big enough to amortize the task overhead on small inputs.
+    static final int CHUNK_SIZE = 1024;
+    private static final String DISTANCE_TYPE_CONFIG = "distanceType";
+
+    @Getter
+    private final String[] featureNames;
+    @Getter
+    private final double[][] centroids;
+    @Getter
+    private final KMeansParams.DistanceType distanceType;
+    // Cached L2 norms of centroids, only used by cosine distance.
+    private final double[] norms;
+
+    public KMeansCentroids(String[] featureNames, double[][] centroids, KMeansParams.DistanceType distanceType) {
+        this.featureNames = featureNames;
+        this.centroids = centroids;
+        this.distanceType = distanceType == null ? KMeansParams.DistanceType.EUCLIDEAN : distanceType;
+        this.norms = new double[centroids.length];
+        for (int i = 0; i < centroids.length; i++) {
+            norms[i] = Math.sqrt(dot(centroids[i], centroids[i]));
+        }
+    }
+
+    /**
+     * Extract centroids and distance type from a trained Tribuo KMeans model.
+     * @param model Tribuo KMeans model
+     * @return centroids in primitive arrays
+     */
+    public static KMeansCentroids fromModel(KMeansModel model) {
+        List<List<Feature>> centroidFeatures = model.getCentroids();
+        Map<String, Integer> featureIndex = new HashMap<>();
+        for (List<Feature> features : centroidFeatures) {
+            for (Feature feature : features) {
+                featureIndex.putIfAbsent(feature.getName(), featureIndex.size());
+            }
+        }
+        String[] featureNames = new String[featureIndex.size()];
+        featureIndex.forEach((name, index) -> featureNames[index] = name);
+
+        double[][] centroids = new double[centroidFeatures.size()][featureNames.length];
+        for (int i = 0; i < centroids.length; i++) {
+            for (Feature feature : centroidFeatures.get(i)) {
+                centroids[i][featureIndex.get(feature.getName())] = feature.getValue();
+            }
+        }
+        return new KMeansCentroids(featureNames, centroids, getDistanceType(model));
+    }
+
+    private static KMeansParams.DistanceType getDistanceType(KMeansModel model) {
+        Provenance provenance = model.getProvenance().getTrainerProvenance().getConfiguredParameters().get(DISTANCE_TYPE_CONFIG);
+        if (provenance instanceof PrimitiveProvenance) {
+            return KMeansParams.DistanceType.from(String.valueOf(((PrimitiveProvenance<?>) provenance).getValue()));
+        }
+        return KMeansParams.DistanceType.EUCLIDEAN;
+    }
+
+    /**
+     * Train centroids with mini-batch KMeans: every iteration samples a batch of rows, assigns them to the
+     * nearest centroid and moves that centroid towards the point with a per-centroid learning rate.
+     * @param dataFrame training data, all columns are used as features
+     * @param k number of centroids
+     * @param iterations number of mini-batches
+     * @param batchSize rows sampled per mini-batch
+     * @param distanceType distance function
+     * @param seed random seed
+     * @param executor runs the chunks of a mini-batch in parallel, chunks run on the calling thread if null
+     * @return trained centroids
+     */
+    public static KMeansCentroids trainMiniBatch(DataFrame dataFrame, int k, int iterations, int batchSize,
+                                                 KMeansParams.DistanceType distanceType, long seed, Executor executor) {
+        int size = dataFrame.size();
+        if (size < k) {
+            throw new IllegalArgumentException("Training data size should not be less than K.");
+        }
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        String[] featureNames = new String[columnMetas.length];
+        int[] columnToFeature = new int[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            featureNames[i] = columnMetas[i].getName();
+            columnToFeature[i] = i;
+        }
+
+        Random random = new Random(seed);
+        double[][] centroids = new double[k][];
+        int[] initial = random.ints(0, size).distinct().limit(k).toArray();
+        for (int i = 0; i < k; i++) {
+            centroids[i] = new double[featureNames.length];
+            readRow(dataFrame.getRow(initial[i]), columnToFeature, centroids[i]);
+        }
+
+        KMeansCentroids model = new KMeansCentroids(featureNames, centroids, distanceType);
+        long[] counts = new long[k];
+        int[] batch = new int[Math.min(batchSize, size)];
+        int[] assignment = new int[batch.length];
+        double[][] points = new double[batch.length][featureNames.length];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = random.nextInt(size);
+            }
+            // Assign the whole batch against fixed centroids first, then apply the gradient steps.
+            forEachChunk(batch.length, i -> {
+                readRow(dataFrame.getRow(batch[i]), columnToFeature, points[i]);
+                assignment[i] = model.nearest(points[i]);
+            }, executor);
+            for (int i = 0; i < batch.length; i++) {
+                int c = assignment[i];
+                if (c < 0) {
+                    continue;
+                }
+                double eta = 1.0 / ++counts[c];
+                double[] centroid = centroids[c];
+                double[] point = points[i];
+                for (int j = 0; j < centroid.length; j++) {
+                    centroid[j] += eta * (point[j] - centroid[j]);
+                }
+            }
+            model.updateNorms();
+        }
+        return model;
+    }
+
+    /**
+     * Assign every row of the data frame to its nearest centroid. Columns which are not features of the model
+     * are ignored, and missing features are treated as zero.
+     * @param dataFrame input data
+     * @param executor runs the chunks in parallel, chunks run on the calling thread if null
+     * @return data frame with one ClusterID column
+     */
+    public DataFrame predict(DataFrame dataFrame, Executor executor) {
+        int[] clusterIds = assign(dataFrame, executor);
+        DataFrame result = DataFrameBuilder.emptyDataFrame(new ColumnMeta[] {new ColumnMeta(CLUSTER_ID_FIELD, ColumnType.INTEGER)});
+        for (int clusterId : clusterIds) {
+            result.appendRow(new Object[] {clusterId});
+        }
+        return result;
+    }
+
+    public int[] assign(DataFrame dataFrame, Executor executor) {
+        int[] columnToFeature = mapColumns(dataFrame.columnMetas());
+        int size = dataFrame.size();
+        int[] clusterIds = new int[size];
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ParallelUtils.forEach(chunks, chunk -> {
+            double[] point = new double[featureNames.length];
+            int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                readRow(dataFrame.getRow(i), columnToFeature, point);
+                clusterIds[i] = nearest(point);
+            }
+        }, ParallelUtils.DEFAULT_MAX_PARALLELISM, executor);
+        return clusterIds;
+    }
+
+    private static void forEachChunk(int size, IntConsumer action, Executor executor) {
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ParallelUtils.forEach(chunks, chunk -> {
+            int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                action.accept(i);
+            }
+        }, ParallelUtils.DEFAULT_MAX_PARALLELISM, executor);
+    }
+
+    /**
+     * Find the nearest centroid. Ties go to the smaller centroid index, which matches Tribuo's KMeansModel.
+     * @param point feature values in the order of featureNames
+     * @return centroid index
+     */
+    public int nearest(double[] point) {
+        int index = -1;
+        double minDistance = Double.POSITIVE_INFINITY;
+        double pointNorm = distanceType == KMeansParams.DistanceType.COSINE ? Math.sqrt(dot(point, point)) : 0;
+        for (int i = 0; i < centroids.length; i++) {
+            double distance;
+            switch (distanceType) {
+                case COSINE:
+                    // A zero vector has no direction, treat it as orthogonal to everything instead of dividing by zero.
+                    double normProduct = pointNorm * norms[i];
+                    distance = normProduct == 0 ? 1 : 1 - dot(point, centroids[i]) / normProduct;
+                    break;
+                case L1:
+                    distance = l1Distance(point, centroids[i]);
+                    break;
+                default:
+                    distance = squaredEuclideanDistance(point, centroids[i]);
+                    break;
+            }
+            if (distance < minDistance) {
+                minDistance = distance;
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private void updateNorms() {
+        for (int i = 0; i < centroids.length; i++) {
+            norms[i] = Math.sqrt(dot(centroids[i], centroids[i]));
+        }
+    }
+
+    private int[] mapColumns(ColumnMeta[] columnMetas) {
+        Map<String, Integer> featureIndex = new HashMap<>();
+        for (int i = 0; i < featureNames.length; i++) {
+            featureIndex.put(featureNames[i], i);
+        }
+        int[] columnToFeature = new int[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columnToFeature[i] = featureIndex.getOrDefault(columnMetas[i].getName(), -1);
+        }
+        return columnToFeature;
+    }
+
+    private static void readRow(Row row, int[] columnToFeature, double[] point) {
+        for (int i = 0; i < point.length; i++) {
+            point[i] = 0;
+        }
+        for (int i = 0; i < columnToFeature.length; i++) {
+            if (columnToFeature[i] >= 0) {
+                point[columnToFeature[i]] = row.getValue(i).doubleValue();
+            }
+        }
+    }
+
+    // Plain indexed loops over primitive arrays so the JIT can vectorize them.
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static double squaredEuclideanDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            double diff = a[i] - b[i];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static double l1Distance(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += Math.abs(a[i] - b[i]);
+        }
+        return sum;
+    }
+}
@@ -5,13 +5,16 @@
 
 package org.opensearch.ml.engine.algorithms.clustering;
 
+import lombok.Setter;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.clustering.RCFSummarizeParams;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.model.MLModelState;
@@ -20,20 +23,19 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
-import org.opensearch.ml.engine.utils.MathUtil;
+import org.opensearch.ml.engine.utils.MemoryEstimator;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
-import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.opensearch.ml.engine.utils.ParallelUtils;
 import com.amazon.randomcutforest.returntypes.SampleSummary;
 import com.amazon.randomcutforest.summarization.Summarizer;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.ToDoubleBiFunction;
+import java.util.stream.IntStream;
 
 @Function(FunctionName.RCF_SUMMARIZE)
 public class RCFSummarize implements TrainAndPredictable {
@@ -42,12 +44,19 @@ public class RCFSummarize implements TrainAndPredictable {
     private static int DEFAULT_MAX_K = 10;
     private static boolean DEFAULT_PHASE1_REASSIGN = true;
     private static boolean DEFAULT_PARALLEL = false;
+    // Rows assigned by one task, big enough to amortize the task overhead on small inputs.
+    private static final int CHUNK_SIZE = 1024;
     private final Random rnd = new Random();
 
     // Parameters
     private RCFSummarizeParams parameters;
     private BiFunction<float[], float[], Double> distance;
+    // Same distance as above without boxing, used to assign points to summary points.
+    private ToDoubleBiFunction<float[], float[]> pointDistance = Summarizer::L2distance;
     private SampleSummary summary;
+    // Runs the parallel chunks of reading and assigning points, chunks run on the calling thread if null.
+    @Setter
+    private Executor executor;
 
     public RCFSummarize() {}
 
@@ -63,6 +72,7 @@ public class RCFSummarize implements TrainAndPredictable {
         Integer maxK = parameters.getMaxK();
         Integer initialK = parameters.getInitialK();
         RCFSummarizeParams.DistanceType distType = parameters.getDistanceType();
+        Integer maxSampleSize = parameters.getMaxSampleSize();
 
         if (maxK != null && maxK <= 0) {
             throw new IllegalArgumentException("max K should be positive");
@@ -72,6 +82,10 @@ public class RCFSummarize implements TrainAndPredictable {
             throw new IllegalArgumentException("initial K should be positive");
         }
 
+        if (maxSampleSize != null && maxSampleSize <= 0) {
+            throw new IllegalArgumentException("max sample size should be positive");
+        }
+
         if (maxK == null) {
             maxK = DEFAULT_MAX_K;
         }
@@ -92,7 +106,7 @@ public class RCFSummarize implements TrainAndPredictable {
             parallel = false;
         }
 
-        parameters = RCFSummarizeParams.builder().maxK(maxK).initialK(initialK).phase1Reassign(phase1Reassign).parallel(parallel).distanceType(distType).build();
+        parameters = RCFSummarizeParams.builder().maxK(maxK).initialK(initialK).phase1Reassign(phase1Reassign).parallel(parallel).distanceType(distType).maxSampleSize(maxSampleSize).build();
     }
 
     private void createDistance() {
@@ -100,30 +114,38 @@ public class RCFSummarize implements TrainAndPredictable {
         switch (distanceType) {
             case L1:
                 distance = Summarizer::L1distance;
+                pointDistance = Summarizer::L1distance;
                 break;
             case L2:
                 distance = Summarizer::L2distance;
+                pointDistance = Summarizer::L2distance;
                 break;
             case LInfinity:
                 distance = Summarizer::LInfinitydistance;
+                pointDistance = Summarizer::LInfinitydistance;
                 break;
             default:
                 distance = Summarizer::L2distance;
+                pointDistance = Summarizer::L2distance;
                 break;
         }
     }
 
+    @Override
+    public long estimateTrainingMemory(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        long points = dataFrame.size();
+        if (parameters.getMaxSampleSize() != null) {
+            points = Math.min(points, parameters.getMaxSampleSize());
+        }
+        // The summarizer keeps its own weighted copy of the sampled points besides the float[][] passed in.
+        return 2 * points * (MemoryEstimator.floatArray(dataFrame.columnMetas().length) + MemoryEstimator.REFERENCE_BYTES);
+    }
+
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        Tuple<String[], float[][]> featureNamesValues = TribuoUtil.transformDataFrameFloat(dataFrame);
-        SampleSummary summary = Summarizer.summarize(featureNamesValues.v2(),
-                parameters.getMaxK(),
-                parameters.getInitialK(),
-                parameters.getPhase1Reassign(),
-                distance,
-                rnd.nextLong(),
-                parameters.getParallel());
+        SampleSummary summary = summarize(dataFrame);
 
         MLModel model = MLModel.builder()
                 .name(FunctionName.RCF_SUMMARIZE.name())
@@ -152,16 +174,8 @@ public class RCFSummarize implements TrainAndPredictable {
 
     @Override
     public MLOutput predict(MLInput mlInput) {
-        Iterable<float[]> centroidsLst = Arrays.asList(summary.summaryPoints);
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        Tuple<String[], float[][]> featureNamesValues = TribuoUtil.transformDataFrameFloat(dataFrame);
-        List<Integer> predictions = new ArrayList<>();
-        Arrays.stream(featureNamesValues.v2()).forEach(e->predictions.add(MathUtil.findNearest(e, centroidsLst, distance)));
-
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e)));
-
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+        return MLPredictionOutput.builder().predictionResult(assign(dataFrame, summary.summaryPoints)).build();
     }
 
     @Override
@@ -177,23 +191,93 @@ public class RCFSummarize implements TrainAndPredictable {
     @Override
     public MLOutput trainAndPredict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        Tuple<String[], float[][]> featureNamesValues = TribuoUtil.transformDataFrameFloat(dataFrame);
-        SampleSummary summary = Summarizer.summarize(featureNamesValues.v2(),
+        SampleSummary summary = summarize(dataFrame);
+        return MLPredictionOutput.builder().predictionResult(assign(dataFrame, summary.summaryPoints)).build();
+    }
+
+    private SampleSummary summarize(DataFrame dataFrame) {
+        return Summarizer.summarize(samplePoints(dataFrame),
                 parameters.getMaxK(),
                 parameters.getInitialK(),
                 parameters.getPhase1Reassign(),
                 distance,
                 rnd.nextLong(),
                 parameters.getParallel());
+    }
 
-        Iterable<float[]> centroidsLst = Arrays.asList(summary.summaryPoints);
-        List<Integer> predictions = new ArrayList<>();
-        Arrays.stream(featureNamesValues.v2()).forEach(e->predictions.add(MathUtil.findNearest(e, centroidsLst, distance)));
+    /**
+     * Read the points to summarize. If the data frame has more rows than max sample size, only a uniform
+     * reservoir sample of rows is copied, so the summarizer's memory is bounded by the sample size.
+     */
+    private float[][] samplePoints(DataFrame dataFrame) {
+        int size = dataFrame.size();
+        Integer maxSampleSize = parameters.getMaxSampleSize();
+        int[] indices;
+        if (maxSampleSize == null || size <= maxSampleSize) {
+            indices = IntStream.range(0, size).toArray();
+        } else {
+            indices = IntStream.range(0, maxSampleSize).toArray();
+            for (int i = maxSampleSize; i < size; i++) {
+                int j = rnd.nextInt(i + 1);
+                if (j < maxSampleSize) {
+                    indices[j] = i;
+                }
+            }
+        }
+        int dimensions = dataFrame.columnMetas().length;
+        float[][] points = new float[indices.length][dimensions];
+        int chunks = (indices.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ParallelUtils.forEach(chunks, chunk -> {
+            int end = Math.min(indices.length, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                readRow(dataFrame.getRow(indices[i]), points[i]);
+            }
+        }, ParallelUtils.DEFAULT_MAX_PARALLELISM, executor);
+        return points;
+    }
 
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e)));
+    /**
+     * Assign every row to its nearest summary point. Rows are processed in parallel chunks on the executor, each
+     * chunk reusing one float buffer instead of converting the whole data frame up front.
+     */
+    private DataFrame assign(DataFrame dataFrame, float[][] summaryPoints) {
+        int size = dataFrame.size();
+        int dimensions = dataFrame.columnMetas().length;
+        int[] clusterIds = new int[size];
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ParallelUtils.forEach(chunks, chunk -> {
+            float[] point = new float[dimensions];
+            int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                readRow(dataFrame.getRow(i), point);
+                clusterIds[i] = findNearest(point, summaryPoints);
+            }
+        }, ParallelUtils.DEFAULT_MAX_PARALLELISM, executor);
+
+        DataFrame result = DataFrameBuilder.emptyDataFrame(new ColumnMeta[] {new ColumnMeta("ClusterID", ColumnType.INTEGER)});
+        for (int clusterId : clusterIds) {
+            result.appendRow(new Object[] {clusterId});
+        }
+        return result;
+    }
+
+    private int findNearest(float[] point, float[][] summaryPoints) {
+        int index = -1;
+        double minValue = Double.MAX_VALUE;
+        for (int i = 0; i < summaryPoints.length; i++) {
+            double d = pointDistance.applyAsDouble(point, summaryPoints[i]);
+            if (d < minValue) {
+                minValue = d;
+                index = i;
+            }
+        }
+        return index;
+    }
 
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+    private static void readRow(Row row, float[] point) {
+        for (int i = 0; i < point.length; i++) {
+            point[i] = (float) row.getValue(i).doubleValue();
+        }
     }
 }
 
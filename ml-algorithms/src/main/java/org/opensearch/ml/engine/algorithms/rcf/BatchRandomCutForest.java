@@ -24,8 +24,10 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
+import org.opensearch.ml.engine.Updatable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.MemoryEstimator;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,7 +42,7 @@ import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
  */
 @Log4j2
 @Function(FunctionName.BATCH_RCF)
-public class BatchRandomCutForest implements TrainAndPredictable {
+public class BatchRandomCutForest implements TrainAndPredictable, Updatable {
     public static final String VERSION = "1.0.0";
     private static final int DEFAULT_NUMBER_OF_TREES = 30;
     private static final int DEFAULT_OUTPUT_AFTER = 32;
@@ -88,12 +90,25 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput) {
+    public synchronized MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
         List<Map<String, Object>> predictResult = process(dataFrame, forest, 0);
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
     }
 
+    @Override
+    public synchronized MLOutput update(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        // update forest with all data points
+        List<Map<String, Object>> predictResult = process(dataFrame, forest, null);
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+    }
+
+    @Override
+    public synchronized String getModelContent() {
+        return encodeBase64(RCFModelSerDeSer.serializeRCF(rcfMapper.toState(forest)));
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
         if (model == null) {
@@ -104,6 +119,12 @@ public class BatchRandomCutForest implements TrainAndPredictable {
         return predict(mlInput);
     }
 
+    @Override
+    public long estimateTrainingMemory(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        return MemoryEstimator.randomCutForest(numberOfTrees, sampleSize, dataFrame.columnMetas().length);
+    }
+
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
@@ -157,7 +178,6 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     private RandomCutForest createRandomCutForest(DataFrame dataFrame) {
-        //TODO: add memory estimation of RCF. Will be better if support memory estimation in RCF
         RandomCutForest forest = RandomCutForest
                 .builder()
                 .dimensions(dataFrame.columnMetas().length)
@@ -11,6 +11,7 @@ import com.amazon.randomcutforest.parkservices.AnomalyDescriptor;
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
 import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
 import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -29,18 +30,26 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
+import org.opensearch.ml.engine.Updatable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.MemoryEstimator;
+import org.opensearch.ml.engine.utils.ParallelUtils;
 
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 
 import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
 
@@ -48,11 +57,19 @@ import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
  * MLCommons doesn't support update trained model. So the trained RCF model in MLCommons
  * will be fixed in some time rather than updated by prediction data. We call it FIT(fixed
  * in time) RCF.
+ *
+ * If entity field is set, rows are partitioned by entity value and every entity is scored
+ * by its own forest, entities are scored in parallel on the ML executor. The trained model
+ * contains one forest state per entity along with the forest parameters, so entities first
+ * seen after training get forests with the trained settings. At most MAX_ENTITY_FORESTS
+ * forests are kept, the least recently scored entity is evicted to make room for a new one.
  */
 @Log4j2
 @Function(FunctionName.FIT_RCF)
-public class FixedInTimeRandomCutForest implements TrainAndPredictable {
+public class FixedInTimeRandomCutForest implements TrainAndPredictable, Updatable {
     public static final String VERSION = "1.0.0";
+    // Model version of FIT RCF model trained with entity field, content is serialized MultiEntityForestState
+    public static final String MULTI_ENTITY_VERSION = "1.1.0";
     private static final int DEFAULT_NUMBER_OF_TREES = 30;
     private static final int DEFAULT_SHINGLE_SIZE = 8;
     private static final int DEFAULT_OUTPUT_AFTER = 32;
@@ -62,21 +79,27 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
     private static final String DEFAULT_TIME_FIELD = "timestamp";
     private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     private static final String DEFAULT_TIME_ZONE = "UTC";
+    public static final int MAX_ENTITY_FORESTS = 1000;
 
-    private Integer numberOfTrees;
-    private Integer shingleSize;
-    private Integer sampleSize;
-    private Integer outputAfter;
-    private Double timeDecay;
-    private Double anomalyRate;
+    // Forest settings are initialized with defaults, loading a multi-entity model overrides them with the trained ones
+    private Integer numberOfTrees = DEFAULT_NUMBER_OF_TREES;
+    private Integer shingleSize = DEFAULT_SHINGLE_SIZE;
+    private Integer sampleSize = DEFAULT_SAMPLES_SIZE;
+    private Integer outputAfter = DEFAULT_OUTPUT_AFTER;
+    private Double timeDecay = DEFAULT_TIME_DECAY;
+    private Double anomalyRate = DEFAULT_ANOMALY_RATE;
     private String timeField;
     private String dateFormat;
     private String timeZone;
+    private String entityField;
 
     private DateFormat simpleDateFormat;
     private static final ThresholdedRandomCutForestMapper trcfMapper = new ThresholdedRandomCutForestMapper();
 
     private ThresholdedRandomCutForest forest;
+    private Map<String, ThresholdedRandomCutForest> entityForests;
+    @Setter
+    private Executor executor;
 
     public FixedInTimeRandomCutForest(){}
 
@@ -89,6 +112,7 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
         this.timeDecay = Optional.ofNullable(rcfParams.getTimeDecay()).orElse(DEFAULT_TIME_DECAY);
         this.anomalyRate = Optional.ofNullable(rcfParams.getAnomalyRate()).orElse(DEFAULT_ANOMALY_RATE);
         this.timeField = Optional.ofNullable(rcfParams.getTimeField()).orElse(DEFAULT_TIME_FIELD);
+        this.entityField = rcfParams.getEntityField();
 
         this.dateFormat = Optional.ofNullable(rcfParams.getDateFormat()).orElse(DEFAULT_DATE_FORMAT);
         this.timeZone = Optional.ofNullable(rcfParams.getTimeZone()).orElse(DEFAULT_TIME_ZONE);
@@ -101,24 +125,29 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
-        ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF(model);
-        this.forest = trcfMapper.toModel(state);
+        loadModel(model);
     }
 
     @Override
     public void close() {
         this.forest = null;
+        this.entityForests = null;
     }
 
     @Override
     public boolean isModelReady() {
-        return forest != null;
+        return forest != null || entityForests != null;
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput) {
+    public synchronized MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, mlInput.getParameters());
+        List<Map<String, Object>> predictResult;
+        if (entityForests != null) {
+            predictResult = processEntities(dataFrame, entityForests, mlInput.getParameters());
+        } else {
+            predictResult = process(dataFrame, forest, mlInput.getParameters());
+        }
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
     }
 
@@ -127,95 +156,257 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for FIT RCF prediction.");
         }
-        ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF(model);
-        forest = trcfMapper.toModel(state);
+        loadModel(model);
+        return predict(mlInput);
+    }
+
+    /**
+     * Processing data with deployed forest updates the forest, so online update is the same as predict.
+     */
+    @Override
+    public MLOutput update(MLInput mlInput) {
         return predict(mlInput);
     }
 
+    @Override
+    public synchronized String getModelContent() {
+        if (entityForests != null) {
+            Map<String, ThresholdedRandomCutForestState> states = new HashMap<>();
+            entityForests.forEach((entity, entityForest) -> states.put(entity, trcfMapper.toState(entityForest)));
+            return encodeBase64(RCFModelSerDeSer.serializeMultiEntityTRCF(multiEntityState(states)));
+        }
+        return encodeBase64(RCFModelSerDeSer.serializeTRCF(trcfMapper.toState(forest)));
+    }
+
+    @Override
+    public long estimateTrainingMemory(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        if (entityField == null) {
+            int featureSize = dataFrame.columnMetas().length - 1;
+            return MemoryEstimator.randomCutForest(numberOfTrees, sampleSize, (long) shingleSize * featureSize);
+        }
+        // One forest per distinct entity value.
+        int entityIndex = getEntityColumnIndex(dataFrame.columnMetas(), entityField);
+        Set<Object> entities = new HashSet<>();
+        for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
+            entities.add(dataFrame.getRow(rowNum).getValue(entityIndex).getValue());
+        }
+        int featureSize = dataFrame.columnMetas().length - 2;
+        return entities.size() * MemoryEstimator.randomCutForest(numberOfTrees, sampleSize, (long) shingleSize * featureSize);
+    }
+
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        ThresholdedRandomCutForest forest = createThresholdedRandomCutForest(dataFrame);
+        MLModel.MLModelBuilder modelBuilder = MLModel.builder()
+                .name(FunctionName.FIT_RCF.name())
+                .algorithm(FunctionName.FIT_RCF)
+                .modelState(MLModelState.TRAINED);
+        if (entityField != null) {
+            Map<String, ThresholdedRandomCutForest> forests = newEntityForests();
+            processEntities(dataFrame, forests, mlInput.getParameters());
+            Map<String, ThresholdedRandomCutForestState> states = new HashMap<>();
+            forests.forEach((entity, entityForest) -> states.put(entity, trcfMapper.toState(entityForest)));
+            MultiEntityForestState state = multiEntityState(states);
+            return modelBuilder
+                    .version(MULTI_ENTITY_VERSION)
+                    .content(encodeBase64(RCFModelSerDeSer.serializeMultiEntityTRCF(state)))
+                    .build();
+        }
+        ThresholdedRandomCutForest forest = createThresholdedRandomCutForest(dataFrame.columnMetas().length - 1);
         process(dataFrame, forest, mlInput.getParameters());
 
         ThresholdedRandomCutForestState state = trcfMapper.toState(forest);
-        MLModel model = MLModel.builder()
-                .name(FunctionName.FIT_RCF.name())
-                .algorithm(FunctionName.FIT_RCF)
+        return modelBuilder
                 .version(VERSION)
                 .content(encodeBase64(RCFModelSerDeSer.serializeTRCF(state)))
-                .modelState(MLModelState.TRAINED)
                 .build();
-        return model;
     }
 
     @Override
     public MLOutput trainAndPredict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        ThresholdedRandomCutForest forest = createThresholdedRandomCutForest(dataFrame);
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, null);
+        List<Map<String, Object>> predictResult;
+        if (entityField != null) {
+            predictResult = processEntities(dataFrame, newEntityForests(), null);
+        } else {
+            ThresholdedRandomCutForest forest = createThresholdedRandomCutForest(dataFrame.columnMetas().length - 1);
+            predictResult = process(dataFrame, forest, null);
+        }
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
     }
 
+    private void loadModel(MLModel model) {
+        if (MULTI_ENTITY_VERSION.equals(model.getVersion())) {
+            MultiEntityForestState state = RCFModelSerDeSer.deserializeMultiEntityTRCF(model);
+            Map<String, ThresholdedRandomCutForest> forests = newEntityForests();
+            if (state.getForestStates() != null) {
+                state.getForestStates().forEach((entity, forestState) -> forests.put(entity, trcfMapper.toModel(forestState)));
+            }
+            this.entityField = state.getEntityField();
+            // Models trained before forest parameters were persisted keep the current ones
+            this.numberOfTrees = Optional.ofNullable(state.getNumberOfTrees()).orElse(numberOfTrees);
+            this.shingleSize = Optional.ofNullable(state.getShingleSize()).orElse(shingleSize);
+            this.sampleSize = Optional.ofNullable(state.getSampleSize()).orElse(sampleSize);
+            this.outputAfter = Optional.ofNullable(state.getOutputAfter()).orElse(outputAfter);
+            this.timeDecay = Optional.ofNullable(state.getTimeDecay()).orElse(timeDecay);
+            this.anomalyRate = Optional.ofNullable(state.getAnomalyRate()).orElse(anomalyRate);
+            this.entityForests = forests;
+            this.forest = null;
+        } else {
+            ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF(model);
+            this.forest = trcfMapper.toModel(state);
+            this.entityForests = null;
+        }
+    }
+
     private List<Map<String, Object>> process(DataFrame dataFrame, ThresholdedRandomCutForest forest, MLAlgoParams parameters) {
-        String timeField = this.timeField;
-        DateFormat dateFormat = this.simpleDateFormat;
-        if (parameters != null) {
-            FitRCFParams rcfParams = (FitRCFParams) parameters;
-            timeField = Optional.ofNullable(rcfParams.getTimeField()).orElse(DEFAULT_TIME_FIELD);
-            String timeZone = Optional.ofNullable(rcfParams.getTimeZone()).orElse(DEFAULT_TIME_ZONE);
-            dateFormat = new SimpleDateFormat(Optional.ofNullable(rcfParams.getDateFormat()).orElse(DEFAULT_DATE_FORMAT));
-            dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
+        String timeField = getTimeField(parameters);
+        DateFormat dateFormat = getDateFormat(parameters);
+        List<Map<String, Object>> predictResult = new ArrayList<>();
+        for (int rowNum = 0; rowNum< dataFrame.size(); rowNum++) {
+            predictResult.add(processRow(dataFrame, rowNum, -1, forest, timeField, dateFormat));
         }
+        return predictResult;
+    }
 
+    private static Map<String, ThresholdedRandomCutForest> newEntityForests() {
+        // Access ordered, so the least recently scored entity is evicted first
+        return new LinkedHashMap<String, ThresholdedRandomCutForest>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ThresholdedRandomCutForest> eldest) {
+                return size() > MAX_ENTITY_FORESTS;
+            }
+        };
+    }
 
-        List<Double> pointList = new ArrayList<>();
+    private MultiEntityForestState multiEntityState(Map<String, ThresholdedRandomCutForestState> states) {
+        return new MultiEntityForestState(entityField, states, numberOfTrees, shingleSize, sampleSize, outputAfter, timeDecay, anomalyRate);
+    }
+
+    /**
+     * Partition rows by entity value and process every entity with its own forest.
+     * Forests missing from the given map are created and put into it, so callers can persist them.
+     * The map is only changed on the calling thread, entities are then scored in parallel.
+     * @param dataFrame input data frame which contains the entity column
+     * @param forests forests of known entities, keyed by entity value
+     * @param parameters prediction parameters
+     * @return prediction results in the same order as input rows
+     */
+    private List<Map<String, Object>> processEntities(DataFrame dataFrame, Map<String, ThresholdedRandomCutForest> forests, MLAlgoParams parameters) {
+        String timeField = getTimeField(parameters);
+        DateFormat dateFormat = getDateFormat(parameters);
+        String entityField = this.entityField;
+        if (parameters != null && ((FitRCFParams) parameters).getEntityField() != null) {
+            entityField = ((FitRCFParams) parameters).getEntityField();
+        }
+        int entityIndex = getEntityColumnIndex(dataFrame.columnMetas(), entityField);
+
+        Map<String, List<Integer>> entityRows = new LinkedHashMap<>();
+        for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
+            String entity = String.valueOf(dataFrame.getRow(rowNum).getValue(entityIndex).getValue());
+            entityRows.computeIfAbsent(entity, k -> new ArrayList<>()).add(rowNum);
+        }
+
+        int featureSize = dataFrame.columnMetas().length - 2;
+        List<String> entities = new ArrayList<>(entityRows.keySet());
+        if (entities.size() > MAX_ENTITY_FORESTS) {
+            throw new MLValidationException("Too many entities: " + entities.size() + ", at most " + MAX_ENTITY_FORESTS + " entities are supported");
+        }
+        List<ThresholdedRandomCutForest> entityForestList = new ArrayList<>(entities.size());
+        for (String entity : entities) {
+            entityForestList.add(forests.computeIfAbsent(entity, k -> createThresholdedRandomCutForest(featureSize)));
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object>[] results = new Map[dataFrame.size()];
+        String resultEntityField = entityField;
+        // Every entity has its own forest, so entities can be scored at the same time. Rows of one entity are scored in order.
+        ParallelUtils.forEach(entities.size(), i -> {
+            String entity = entities.get(i);
+            // SimpleDateFormat is not thread safe
+            DateFormat entityDateFormat = (DateFormat) dateFormat.clone();
+            for (int rowNum : entityRows.get(entity)) {
+                Map<String, Object> result = processRow(dataFrame, rowNum, entityIndex, entityForestList.get(i), timeField, entityDateFormat);
+                result.put(resultEntityField, entity);
+                results[rowNum] = result;
+            }
+        }, ParallelUtils.DEFAULT_MAX_PARALLELISM, executor);
+        return Arrays.asList(results);
+    }
+
+    private Map<String, Object> processRow(DataFrame dataFrame, int rowNum, int skipIndex, ThresholdedRandomCutForest forest, String timeField, DateFormat dateFormat) {
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
-        for (int rowNum = 0; rowNum< dataFrame.size(); rowNum++) {
-            Row row = dataFrame.getRow(rowNum);
-            long timestamp = -1;
-            for (int i = 0; i < columnMetas.length; i++) {
-                ColumnMeta columnMeta = columnMetas[i];
-                ColumnValue value = row.getValue(i);
-
-
-                // TODO: sort dataframe by time field with asc order. Currently consider the date already sorted by time.
-                if (timeField != null && timeField.equals(columnMeta.getName())) {
-                    ColumnType columnType = columnMeta.getColumnType();
-                    if (columnType == ColumnType.LONG ) {
-                        timestamp = value.longValue();
-                    } else if (columnType == ColumnType.STRING) {
-                        try {
-                            timestamp = dateFormat.parse(value.stringValue()).getTime();
-                        } catch (ParseException e) {
-                            log.error("Failed to parse timestamp " + value.stringValue(), e);
-                            throw new MLValidationException("Failed to parse timestamp " + value.stringValue());
-                        }
-                    } else  {
-                        throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
+        Row row = dataFrame.getRow(rowNum);
+        List<Double> pointList = new ArrayList<>();
+        long timestamp = -1;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (i == skipIndex) {
+                continue;
+            }
+            ColumnMeta columnMeta = columnMetas[i];
+            ColumnValue value = row.getValue(i);
+
+
+            // TODO: sort dataframe by time field with asc order. Currently consider the date already sorted by time.
+            if (timeField != null && timeField.equals(columnMeta.getName())) {
+                ColumnType columnType = columnMeta.getColumnType();
+                if (columnType == ColumnType.LONG ) {
+                    timestamp = value.longValue();
+                } else if (columnType == ColumnType.STRING) {
+                    try {
+                        timestamp = dateFormat.parse(value.stringValue()).getTime();
+                    } catch (ParseException e) {
+                        log.error("Failed to parse timestamp " + value.stringValue(), e);
+                        throw new MLValidationException("Failed to parse timestamp " + value.stringValue());
                     }
-                } else {
-                    pointList.add(value.doubleValue());
+                } else  {
+                    throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
                 }
+            } else {
+                pointList.add(value.doubleValue());
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
-            Map<String, Object> result = new HashMap<>();
+        }
+        double[] point = pointList.stream().mapToDouble(d -> d).toArray();
+        Map<String, Object> result = new HashMap<>();
+
+        AnomalyDescriptor process = forest.process(point, timestamp);
+        result.put(timeField, timestamp);
+        result.put("score", process.getRCFScore());
+        result.put("anomaly_grade", process.getAnomalyGrade());
+        return result;
+    }
 
-            AnomalyDescriptor process = forest.process(point, timestamp);
-            result.put(timeField, timestamp);
-            result.put("score", process.getRCFScore());
-            result.put("anomaly_grade", process.getAnomalyGrade());
-            predictResult.add(result);
+    private String getTimeField(MLAlgoParams parameters) {
+        if (parameters == null) {
+            return this.timeField;
         }
-        return predictResult;
+        return Optional.ofNullable(((FitRCFParams) parameters).getTimeField()).orElse(DEFAULT_TIME_FIELD);
+    }
+
+    private DateFormat getDateFormat(MLAlgoParams parameters) {
+        if (parameters == null && this.simpleDateFormat != null) {
+            return this.simpleDateFormat;
+        }
+        FitRCFParams rcfParams = parameters == null ? FitRCFParams.builder().build() : (FitRCFParams) parameters;
+        String timeZone = Optional.ofNullable(rcfParams.getTimeZone()).orElse(DEFAULT_TIME_ZONE);
+        DateFormat dateFormat = new SimpleDateFormat(Optional.ofNullable(rcfParams.getDateFormat()).orElse(DEFAULT_DATE_FORMAT));
+        dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
+        return dateFormat;
+    }
+
+    private int getEntityColumnIndex(ColumnMeta[] columnMetas, String entityField) {
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getName().equals(entityField)) {
+                return i;
+            }
+        }
+        throw new MLValidationException("Entity field " + entityField + " not found in input data frame");
     }
 
-    private ThresholdedRandomCutForest createThresholdedRandomCutForest(DataFrame dataFrame) {
-        //TODO: add memory estimation of RCF. Will be better if support memory estimation in RCF
+    private ThresholdedRandomCutForest createThresholdedRandomCutForest(int featureSize) {
         ThresholdedRandomCutForest forest = ThresholdedRandomCutForest.builder()
-                .dimensions(shingleSize * (dataFrame.columnMetas().length - 1))
+                .dimensions(shingleSize * featureSize)
                 .sampleSize(sampleSize)
                 .numberOfTrees(numberOfTrees)
                 .timeDecay(timeDecay)
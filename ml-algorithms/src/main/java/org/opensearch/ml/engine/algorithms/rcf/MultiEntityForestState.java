@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.rcf;
+
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Trained state of a multi-entity FIT RCF model: one thresholded forest per entity value, and the parameters
+ * forests of new entities are created with. New fields must be appended, protostuff matches fields by order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiEntityForestState {
+    private String entityField;
+    private Map<String, ThresholdedRandomCutForestState> forestStates;
+    private Integer numberOfTrees;
+    private Integer shingleSize;
+    private Integer sampleSize;
+    private Integer outputAfter;
+    private Double timeDecay;
+    private Double anomalyRate;
+}
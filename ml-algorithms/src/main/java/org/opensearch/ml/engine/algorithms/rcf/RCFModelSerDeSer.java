@@ -28,6 +28,9 @@ public class RCFModelSerDeSer {
     private static final Schema<ThresholdedRandomCutForestState> trcfSchema =
             AccessController.doPrivileged((PrivilegedAction<Schema<ThresholdedRandomCutForestState>>) () ->
                     RuntimeSchema.getSchema(ThresholdedRandomCutForestState.class));
+    private static final Schema<MultiEntityForestState> multiEntityTrcfSchema =
+            AccessController.doPrivileged((PrivilegedAction<Schema<MultiEntityForestState>>) () ->
+                    RuntimeSchema.getSchema(MultiEntityForestState.class));
 
     public static byte[] serializeRCF(RandomCutForestState model) {
         return serialize(model, rcfSchema);
@@ -37,6 +40,10 @@ public class RCFModelSerDeSer {
         return serialize(model, trcfSchema);
     }
 
+    public static byte[] serializeMultiEntityTRCF(MultiEntityForestState model) {
+        return serialize(model, multiEntityTrcfSchema);
+    }
+
     public static RandomCutForestState deserializeRCF(MLModel model) {
         return deserializeRCF(decodeBase64(model.getContent()));
     }
@@ -53,6 +60,14 @@ public class RCFModelSerDeSer {
         return deserialize(bytes, trcfSchema);
     }
 
+    public static MultiEntityForestState deserializeMultiEntityTRCF(MLModel model) {
+        return deserializeMultiEntityTRCF(decodeBase64(model.getContent()));
+    }
+
+    public static MultiEntityForestState deserializeMultiEntityTRCF(byte[] bytes) {
+        return deserialize(bytes, multiEntityTrcfSchema);
+    }
+
     private static <T> byte[] serialize(T model, Schema<T> schema) {
         LinkedBuffer buffer = LinkedBuffer.allocate(SERIALIZATION_BUFFER_BYTES);
         byte[] bytes = AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> ProtostuffIOUtil.toByteArray(model, schema, buffer));
@@ -21,6 +21,7 @@ import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.MemoryEstimator;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -239,6 +240,16 @@ public class LinearRegression implements Trainable, Predictable {
         return predict(mlInput);
     }
 
+    @Override
+    public long estimateTrainingMemory(MLInput mlInput) {
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        int features = dataFrame.columnMetas().length - 1;
+        // LinearSGDTrainer keeps weights plus optimiser state of the same shape.
+        return MemoryEstimator.tribuoDataset(dataFrame.size(), features)
+                + MemoryEstimator.tribuoVectors(dataFrame.size(), features)
+                + 2 * MemoryEstimator.doubleArray(features + 1);
+    }
+
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
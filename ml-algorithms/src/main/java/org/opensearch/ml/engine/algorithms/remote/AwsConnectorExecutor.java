@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
@@ -17,44 +18,91 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.script.ScriptService;
-import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.utils.IoUtils;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.security.PrivilegedExceptionAction;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static org.opensearch.ml.common.connector.ConnectorProtocols.AWS_SIGV4;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteResilienceHandler.RETRY_AFTER_HEADER;
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
 @Log4j2
 @ConnectorExecutor(AWS_SIGV4)
 public class AwsConnectorExecutor implements RemoteConnectorExecutor{
+    static final int MAX_CONNECTIONS = 200;
+    static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+    static final Duration SOCKET_TIMEOUT = Duration.ofSeconds(60);
+    static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(60);
 
     @Getter
     private AwsConnector connector;
+    @Getter(AccessLevel.PACKAGE)
     private final SdkHttpClient httpClient;
-    @Setter @Getter
+    @Getter
     private ScriptService scriptService;
+    @Getter
+    private ConnectorScripts connectorScripts;
+    @Getter
+    @Setter
+    private Executor predictExecutor;
+    @Getter
+    @Setter
+    private RemoteRateLimiter rateLimiter;
+    @Getter
+    @Setter
+    private RemoteResilienceHandler resilienceHandler;
+    private volatile CachedSignerParams cachedSignerParams;
 
     public AwsConnectorExecutor(Connector connector, SdkHttpClient httpClient) {
         this.connector = (AwsConnector) connector;
         this.httpClient = httpClient;
+        this.connectorScripts = new ConnectorScripts(null);
     }
 
     public AwsConnectorExecutor(Connector connector) {
-        this(connector, new DefaultSdkHttpClientBuilder().build());
+        this(connector, SharedHttpClient.INSTANCE);
+    }
+
+    /**
+     * Pooled client shared by the AWS connectors of this node, so connections to the same endpoint are kept alive
+     * and reused across models instead of every executor opening its own pool.
+     */
+    private static class SharedHttpClient {
+        private static final SdkHttpClient INSTANCE = AccessController.doPrivileged((PrivilegedAction<SdkHttpClient>) () ->
+                ApacheHttpClient.builder()
+                        .maxConnections(MAX_CONNECTIONS)
+                        .connectionTimeout(CONNECTION_TIMEOUT)
+                        .socketTimeout(SOCKET_TIMEOUT)
+                        .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+                        .useIdleConnectionReaper(true)
+                        .tcpKeepAlive(true)
+                        .build()
+        );
+    }
+
+    @Override
+    public void setScriptService(ScriptService scriptService) {
+        this.scriptService = scriptService;
+        // Compile the connector scripts once instead of on every predict.
+        this.connectorScripts = new ConnectorScripts(scriptService, connector);
     }
 
      @Override
@@ -88,20 +136,24 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor{
                 body = response.responseBody().get();
             }
 
-            StringBuilder responseBuilder = new StringBuilder();
-            if (body != null) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        responseBuilder.append(line);
-                    }
-                }
-            } else {
+            if (body == null) {
                 throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
             }
-            String modelResponse = responseBuilder.toString();
+            String modelResponse;
+            try (AbortableInputStream responseStream = body) {
+                modelResponse = new String(IoUtils.toByteArray(responseStream), StandardCharsets.UTF_8);
+            }
+            int statusCode = response.httpResponse().statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                OpenSearchStatusException exception = new OpenSearchStatusException(
+                        "Error from remote service: " + modelResponse,
+                        RestStatus.fromCode(statusCode) == null ? RestStatus.INTERNAL_SERVER_ERROR : RestStatus.fromCode(statusCode)
+                );
+                response.httpResponse().firstMatchingHeader(RETRY_AFTER_HEADER).ifPresent(retryAfter -> exception.addHeader(RETRY_AFTER_HEADER, retryAfter));
+                throw exception;
+            }
 
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
+            ModelTensors tensors = processOutput(modelResponse, connector, connectorScripts, parameters);
             tensorOutputs.add(tensors);
         } catch (RuntimeException exception) {
             log.error("Failed to execute predict in aws connector: " + exception.getMessage(), exception);
@@ -113,12 +165,35 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor{
     }
 
     private SdkHttpFullRequest signRequest(SdkHttpFullRequest request) {
-        String accessKey = connector.getAccessKey();
-        String secretKey = connector.getSecretKey();
-        String sessionToken = connector.getSessionToken();
-        String signingName = connector.getServiceName();
-        String region = connector.getRegion();
+        return ConnectorUtils.signRequest(request, getSignerParams());
+    }
 
-        return ConnectorUtils.signRequest(request, accessKey, secretKey, sessionToken, signingName, region);
+    /**
+     * Get the signer params of the connector, they are only created again when the credentials, service or region change.
+     */
+    Aws4SignerParams getSignerParams() {
+        List<String> key = Arrays.asList(
+                connector.getAccessKey(),
+                connector.getSecretKey(),
+                connector.getSessionToken(),
+                connector.getServiceName(),
+                connector.getRegion()
+        );
+        CachedSignerParams cached = cachedSignerParams;
+        if (cached == null || !cached.key.equals(key)) {
+            cached = new CachedSignerParams(key, ConnectorUtils.createSignerParams(key.get(0), key.get(1), key.get(2), key.get(3), key.get(4)));
+            cachedSignerParams = cached;
+        }
+        return cached.params;
+    }
+
+    private static class CachedSignerParams {
+        private final List<String> key;
+        private final Aws4SignerParams params;
+
+        CachedSignerParams(List<String> key, Aws4SignerParams params) {
+            this.key = key;
+            this.params = params;
+        }
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import lombok.AllArgsConstructor;
+import org.apache.commons.text.StringSubstitutor;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.engine.utils.ScriptUtils;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.TemplateScript;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Painless pre and post process functions of a connector, compiled once when the model is deployed.
+ *
+ * The parameters a function refers to are substituted with the connector parameters before compiling. As long as a
+ * request doesn't override any of them, predict reuses the compiled script, so it neither substitutes nor compiles.
+ * Functions which refer to parameters only known per request are still substituted and compiled on every call.
+ */
+public class ConnectorScripts {
+    private static final String PARAMETERS_PREFIX = "${parameters.";
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\$\\{parameters\\.([^}]+)}");
+
+    private final ScriptService scriptService;
+    // Compiled scripts by the function source before substitution.
+    private final Map<String, CompiledScript> compiledScripts = new HashMap<>();
+
+    public ConnectorScripts(ScriptService scriptService) {
+        this.scriptService = scriptService;
+    }
+
+    public ConnectorScripts(ScriptService scriptService, Connector connector) {
+        this(scriptService);
+        Optional<ConnectorAction> predictAction = connector.findPredictAction();
+        if (predictAction.isEmpty()) {
+            return;
+        }
+        String preProcessFunction = predictAction.get().getPreProcessFunction();
+        if (preProcessFunction != null && !MLPreProcessFunction.contains(preProcessFunction)) {
+            compile(preProcessFunction, connector.getParameters());
+        }
+        String postProcessFunction = predictAction.get().getPostProcessFunction();
+        if (postProcessFunction != null && !MLPostProcessFunction.contains(postProcessFunction)) {
+            compile(postProcessFunction, connector.getParameters());
+        }
+    }
+
+    private void compile(String function, Map<String, String> parameters) {
+        Map<String, String> usedParameters = new HashMap<>();
+        Matcher matcher = PARAMETER_PATTERN.matcher(function);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            if (parameters == null || !parameters.containsKey(name)) {
+                // Only known per request.
+                return;
+            }
+            usedParameters.put(name, parameters.get(name));
+        }
+        TemplateScript.Factory factory = ScriptUtils.compileScript(scriptService, substitute(function, parameters));
+        compiledScripts.put(function, new CompiledScript(usedParameters, factory));
+    }
+
+    /**
+     * Get the compiled script of a pre or post process function.
+     * @param function painless function source, which may refer to parameters
+     * @param parameters parameters of the request
+     * @return the compiled script
+     */
+    public TemplateScript.Factory getScript(String function, Map<String, String> parameters) {
+        CompiledScript compiledScript = compiledScripts.get(function);
+        if (compiledScript != null && compiledScript.matches(parameters)) {
+            return compiledScript.factory;
+        }
+        return ScriptUtils.compileScript(scriptService, substitute(function, parameters));
+    }
+
+    private static String substitute(String function, Map<String, String> parameters) {
+        if (!function.contains(PARAMETERS_PREFIX)) {
+            return function;
+        }
+        StringSubstitutor substitutor = new StringSubstitutor(parameters, PARAMETERS_PREFIX, "}");
+        return substitutor.replace(function);
+    }
+
+    @AllArgsConstructor
+    private static class CompiledScript {
+        private final Map<String, String> usedParameters;
+        private final TemplateScript.Factory factory;
+
+        private boolean matches(Map<String, String> parameters) {
+            for (Map.Entry<String, String> entry : usedParameters.entrySet()) {
+                String value = parameters == null ? null : parameters.get(entry.getKey());
+                if (!Objects.equals(entry.getValue(), value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
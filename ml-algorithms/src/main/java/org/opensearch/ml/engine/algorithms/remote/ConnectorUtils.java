@@ -8,7 +8,6 @@ package org.opensearch.ml.engine.algorithms.remote;
 import com.jayway.jsonpath.JsonPath;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
@@ -53,12 +52,16 @@ public class ConnectorUtils {
     }
 
     public static RemoteInferenceInputDataSet processInput(MLInput mlInput, Connector connector, Map<String, String> parameters, ScriptService scriptService) {
+        return processInput(mlInput, connector, parameters, new ConnectorScripts(scriptService));
+    }
+
+    public static RemoteInferenceInputDataSet processInput(MLInput mlInput, Connector connector, Map<String, String> parameters, ConnectorScripts connectorScripts) {
         if (mlInput == null) {
             throw new IllegalArgumentException("Input is null");
         }
         RemoteInferenceInputDataSet inputData;
         if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
-            inputData = processTextDocsInput((TextDocsInputDataSet) mlInput.getInputDataset(), connector, parameters, scriptService);
+            inputData = processTextDocsInput((TextDocsInputDataSet) mlInput.getInputDataset(), connector, parameters, connectorScripts);
         } else if (mlInput.getInputDataset() instanceof RemoteInferenceInputDataSet) {
             inputData = (RemoteInferenceInputDataSet)mlInput.getInputDataset();
         } else {
@@ -80,7 +83,7 @@ public class ConnectorUtils {
         }
         return inputData;
     }
-    private static RemoteInferenceInputDataSet processTextDocsInput(TextDocsInputDataSet inputDataSet, Connector connector, Map<String, String> parameters, ScriptService scriptService) {
+    private static RemoteInferenceInputDataSet processTextDocsInput(TextDocsInputDataSet inputDataSet, Connector connector, Map<String, String> parameters, ConnectorScripts connectorScripts) {
         Optional<ConnectorAction> predictAction = connector.findPredictAction();
         if (predictAction.isEmpty()) {
             throw new IllegalArgumentException("no predict action found");
@@ -102,11 +105,7 @@ public class ConnectorUtils {
                     docs.add(null);
                 }
             }
-            if (preProcessFunction.contains("${parameters")) {
-                StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-                preProcessFunction = substitutor.replace(preProcessFunction);
-            }
-            Optional<String> processedInput = executePreprocessFunction(scriptService, preProcessFunction, docs);
+            Optional<String> processedInput = executePreprocessFunction(connectorScripts.getScript(preProcessFunction, parameters), docs);
             if (processedInput.isEmpty()) {
                 throw new IllegalArgumentException("Wrong input");
             }
@@ -137,6 +136,10 @@ public class ConnectorUtils {
     }
 
     public static ModelTensors processOutput(String modelResponse, Connector connector, ScriptService scriptService, Map<String, String> parameters) throws IOException {
+        return processOutput(modelResponse, connector, new ConnectorScripts(scriptService), parameters);
+    }
+
+    public static ModelTensors processOutput(String modelResponse, Connector connector, ConnectorScripts connectorScripts, Map<String, String> parameters) throws IOException {
         if (modelResponse == null) {
             throw new IllegalArgumentException("model response is null");
         }
@@ -147,22 +150,27 @@ public class ConnectorUtils {
         }
         ConnectorAction connectorAction = predictAction.get();
         String postProcessFunction = connectorAction.getPostProcessFunction();
-        if (postProcessFunction != null && postProcessFunction.contains("${parameters")) {
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            postProcessFunction = substitutor.replace(postProcessFunction);
-        }
 
         String responseFilter = parameters.get(RESPONSE_FILTER_FIELD);
         if (MLPostProcessFunction.contains(postProcessFunction)) {
+            if (StringUtils.isBlank(responseFilter)) {
+                // Responses in the shape the function expects are read straight into float arrays.
+                List<float[]> embeddings = EmbeddingResponseParser.parse(postProcessFunction, modelResponse);
+                if (embeddings != null) {
+                    return ModelTensors.builder().mlModelTensors(MLPostProcessFunction.buildModelTensors(embeddings)).build();
+                }
+                responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
+            }
             // in this case, we can use jsonpath to build a List<List<Float>> result from model response.
-            if (StringUtils.isBlank(responseFilter)) responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
             List<List<Float>> vectors = JsonPath.read(modelResponse, responseFilter);
             List<ModelTensor> processedResponse = executeBuildInPostProcessFunction(vectors, MLPostProcessFunction.get(postProcessFunction));
             return ModelTensors.builder().mlModelTensors(processedResponse).build();
         }
 
         // execute user defined painless script.
-        Optional<String> processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        Optional<String> processedResponse = postProcessFunction == null
+                ? Optional.empty()
+                : executePostProcessFunction(connectorScripts.getScript(postProcessFunction, parameters), modelResponse);
         String response = processedResponse.orElse(modelResponse);
         boolean scriptReturnModelTensor = postProcessFunction != null && processedResponse.isPresent();
         if (responseFilter == null) {
@@ -175,14 +183,24 @@ public class ConnectorUtils {
     }
 
     public static SdkHttpFullRequest signRequest(SdkHttpFullRequest request, String accessKey, String secretKey, String sessionToken, String signingName, String region) {
+        return signRequest(request, createSignerParams(accessKey, secretKey, sessionToken, signingName, region));
+    }
+
+    public static SdkHttpFullRequest signRequest(SdkHttpFullRequest request, Aws4SignerParams params) {
+        return signer.sign(request, params);
+    }
+
+    /**
+     * Create the params to sign requests with. The params don't hold a signing time, so they can be reused
+     * for as long as the credentials are valid.
+     */
+    public static Aws4SignerParams createSignerParams(String accessKey, String secretKey, String sessionToken, String signingName, String region) {
         AwsCredentials credentials = sessionToken == null ? AwsBasicCredentials.create(accessKey, secretKey) : AwsSessionCredentials.create(accessKey, secretKey, sessionToken);
 
-        Aws4SignerParams params = Aws4SignerParams.builder()
+        return Aws4SignerParams.builder()
                 .awsCredentials(credentials)
                 .signingName(signingName)
                 .signingRegion(Region.of(region))
                 .build();
-
-        return signer.sign(request, params);
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Reads embeddings of the responses the built-in post process functions know straight into float arrays,
+ * in a single pass over the response and without boxing every number.
+ */
+@Log4j2
+public class EmbeddingResponseParser {
+    private static final String OPENAI_DATA_FIELD = "data";
+    private static final String OPENAI_EMBEDDING_FIELD = "embedding";
+    private static final String COHERE_EMBEDDINGS_FIELD = "embeddings";
+    private static final int INITIAL_EMBEDDING_SIZE = 256;
+
+    /**
+     * Read the embeddings from a model response.
+     * @param postProcessFunction built-in post process function of the model
+     * @param response model response
+     * @return the embeddings, or null if the response doesn't have the shape the function expects
+     */
+    public static List<float[]> parse(String postProcessFunction, String response) {
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, response)) {
+            parser.nextToken();
+            switch (postProcessFunction) {
+                case MLPostProcessFunction.OPENAI_EMBEDDING:
+                    return parseOpenAIEmbeddings(parser);
+                case MLPostProcessFunction.COHERE_EMBEDDING:
+                    return parseCohereEmbeddings(parser);
+                case MLPostProcessFunction.DEFAULT_EMBEDDING:
+                    return parseEmbeddings(parser);
+                default:
+                    return null;
+            }
+        } catch (Exception e) {
+            log.debug("Unexpected embedding response for post process function " + postProcessFunction, e);
+            return null;
+        }
+    }
+
+    // $.data[*].embedding
+    private static List<float[]> parseOpenAIEmbeddings(XContentParser parser) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        List<float[]> embeddings = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (!OPENAI_DATA_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+                while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                    String dataFieldName = parser.currentName();
+                    parser.nextToken();
+                    if (OPENAI_EMBEDDING_FIELD.equals(dataFieldName)) {
+                        embeddings.add(parseEmbedding(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return embeddings;
+    }
+
+    // $.embeddings
+    private static List<float[]> parseCohereEmbeddings(XContentParser parser) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        List<float[]> embeddings = null;
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (COHERE_EMBEDDINGS_FIELD.equals(fieldName)) {
+                embeddings = parseEmbeddings(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return embeddings;
+    }
+
+    // $[*]
+    private static List<float[]> parseEmbeddings(XContentParser parser) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+        List<float[]> embeddings = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            embeddings.add(parseEmbedding(parser));
+        }
+        return embeddings;
+    }
+
+    private static float[] parseEmbedding(XContentParser parser) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+        float[] embedding = new float[INITIAL_EMBEDDING_SIZE];
+        int size = 0;
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            ensureExpectedToken(XContentParser.Token.VALUE_NUMBER, parser.currentToken(), parser);
+            if (size == embedding.length) {
+                embedding = Arrays.copyOf(embedding, size * 2);
+            }
+            embedding[size++] = parser.floatValue();
+        }
+        return size == embedding.length ? embedding : Arrays.copyOf(embedding, size);
+    }
+}
@@ -8,14 +8,18 @@ package org.opensearch.ml.engine.algorithms.remote;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.exception.MLException;
@@ -30,28 +34,52 @@ import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteResilienceHandler.RETRY_AFTER_HEADER;
 
 @Log4j2
 @ConnectorExecutor(HTTP)
 public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
+    private static final String EVENT_STREAM_MIME_TYPE = "text/event-stream";
 
     @Getter
     private HttpConnector connector;
-    @Setter @Getter
+    @Getter
     private ScriptService scriptService;
+    @Getter
+    private ConnectorScripts connectorScripts;
+    @Getter
+    @Setter
+    private Executor predictExecutor;
+    @Getter
+    @Setter
+    private RemoteRateLimiter rateLimiter;
+    @Getter
+    @Setter
+    private RemoteResilienceHandler resilienceHandler;
 
     public HttpJsonConnectorExecutor(Connector connector) {
         this.connector = (HttpConnector)connector;
+        this.connectorScripts = new ConnectorScripts(null);
+    }
+
+    @Override
+    public void setScriptService(ScriptService scriptService) {
+        this.scriptService = scriptService;
+        // Compile the connector scripts once instead of on every predict.
+        this.connectorScripts = new ConnectorScripts(scriptService, connector);
     }
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
         try {
             AtomicReference<String> responseRef = new AtomicReference<>("");
+            AtomicReference<Integer> statusCodeRef = new AtomicReference<>();
+            AtomicReference<String> retryAfterRef = new AtomicReference<>();
 
             HttpUriRequest request;
             switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
@@ -94,15 +122,37 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
                 try (CloseableHttpClient httpClient = getHttpClient();
                      CloseableHttpResponse response = httpClient.execute(request)) {
                     HttpEntity responseEntity = response.getEntity();
+                    if (isEventStream(responseEntity)) {
+                        // Streaming isn't supported: predict responses are only sent back once complete, so the caller
+                        // wouldn't see the chunks earlier, and buffering the whole stream just holds it in memory.
+                        throw new IllegalArgumentException("Streaming response from remote service is not supported, disable streaming in the request body");
+                    }
                     String responseBody = EntityUtils.toString(responseEntity);
                     EntityUtils.consume(responseEntity);
                     responseRef.set(responseBody);
+                    statusCodeRef.set(response.getStatusLine().getStatusCode());
+                    Header retryAfter = response.getFirstHeader(RETRY_AFTER_HEADER);
+                    if (retryAfter != null) {
+                        retryAfterRef.set(retryAfter.getValue());
+                    }
                 }
                 return null;
             });
             String modelResponse = responseRef.get();
+            Integer statusCode = statusCodeRef.get();
+            if (statusCode < 200 || statusCode >= 300) {
+                // Errors like rate limiting are returned to the caller with their status, instead of parsed as model output.
+                OpenSearchStatusException exception = new OpenSearchStatusException(
+                        "Error from remote service: " + modelResponse,
+                        RestStatus.fromCode(statusCode) == null ? RestStatus.INTERNAL_SERVER_ERROR : RestStatus.fromCode(statusCode)
+                );
+                if (retryAfterRef.get() != null) {
+                    exception.addHeader(RETRY_AFTER_HEADER, retryAfterRef.get());
+                }
+                throw exception;
+            }
 
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
+            ModelTensors tensors = processOutput(modelResponse, connector, connectorScripts, parameters);
             tensorOutputs.add(tensors);
         } catch (RuntimeException e) {
             log.error("Fail to execute http connector", e);
@@ -116,4 +166,11 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
     public CloseableHttpClient getHttpClient() {
         return MLHttpClientFactory.getCloseableHttpClient();
     }
+
+    private static boolean isEventStream(HttpEntity entity) {
+        if (entity == null || entity.getContentType() == null) {
+            return false;
+        }
+        return EVENT_STREAM_MIME_TYPE.equalsIgnoreCase(ContentType.parse(entity.getContentType().getValue()).getMimeType());
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a remote endpoint, shared by all the models on this node which call the endpoint.
+ *
+ * The breaker opens after failure threshold consecutive failures, and fast-fails requests while it's open. Once
+ * open millis pass, one trial request is let through: the breaker closes if it succeeds and opens again if it fails.
+ */
+@Log4j2
+public class RemoteCircuitBreaker {
+    private static final Map<String, RemoteCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private final String endpoint;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean open;
+    private boolean trialInFlight;
+
+    @VisibleForTesting
+    RemoteCircuitBreaker(String endpoint, int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.endpoint = endpoint;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get the circuit breaker of the endpoint's host, the first caller's settings are used for the breaker.
+     * @param endpoint url of the remote endpoint
+     * @param failureThreshold consecutive failures to open the breaker
+     * @param openMillis how long the breaker stays open before a trial request
+     * @return circuit breaker of the endpoint
+     */
+    public static RemoteCircuitBreaker get(String endpoint, int failureThreshold, long openMillis) {
+        return breakers.computeIfAbsent(breakerKey(endpoint), key -> new RemoteCircuitBreaker(key, failureThreshold, openMillis, System::nanoTime));
+    }
+
+    static String breakerKey(String endpoint) {
+        try {
+            URI uri = URI.create(endpoint);
+            if (uri.getScheme() != null && uri.getAuthority() != null) {
+                return uri.getScheme() + "://" + uri.getAuthority();
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Can't parse remote endpoint, use it as circuit breaker key");
+        }
+        return endpoint;
+    }
+
+    static long countOpen() {
+        return breakers.values().stream().filter(RemoteCircuitBreaker::isOpen).count();
+    }
+
+    /**
+     * Check if a request can be sent to the endpoint.
+     * @throws OpenSearchStatusException with SERVICE_UNAVAILABLE if the breaker is open
+     */
+    public synchronized void beforeRequest() {
+        if (!open) {
+            return;
+        }
+        if (!trialInFlight && nanoClock.getAsLong() - openedAtNanos >= openNanos) {
+            trialInFlight = true;
+            return;
+        }
+        throw new OpenSearchStatusException(
+                "Circuit breaker is open for remote endpoint " + endpoint + " after " + failureThreshold + " consecutive failures",
+                RestStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    /**
+     * Give back the trial request let through by {@link #beforeRequest()} if it's not sent after all, so the next
+     * request can be the trial.
+     */
+    public synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        open = false;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (trialInFlight || (!open && consecutiveFailures >= failureThreshold)) {
+            if (!open) {
+                log.warn("Open circuit breaker of remote endpoint {} after {} consecutive failures", endpoint, consecutiveFailures);
+                RemoteConnectorStats.incrementCircuitBreakerOpenCount();
+            }
+            open = true;
+            trialInFlight = false;
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return open;
+    }
+}
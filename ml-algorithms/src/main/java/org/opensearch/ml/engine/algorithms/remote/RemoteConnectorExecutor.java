@@ -10,6 +10,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -22,6 +23,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processInput;
 
@@ -32,19 +35,63 @@ public interface RemoteConnectorExecutor {
 
         if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
             TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
-            List<String> textDocs = new ArrayList<>(textDocsInputDataSet.getDocs());
-            preparePayloadAndInvokeRemoteModel(MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build()).build(), tensorOutputs);
+            Optional<ConnectorAction> predictAction = getConnector().findPredictAction();
+            if (predictAction.isPresent() && predictAction.get().isBatchLimited()) {
+                // Split docs under the provider's batch limits, every sub-batch adds its own tensors in order.
+                ConnectorAction action = predictAction.get();
+                List<List<String>> batches = TextDocsBatcher.split(textDocsInputDataSet.getDocs(), action.getMaxBatchSize(), action.getMaxPayloadBytes());
+                List<List<ModelTensors>> batchOutputs = TextDocsBatcher.invokeAll(batches, docs -> {
+                    List<ModelTensors> batchTensorOutputs = new ArrayList<>();
+                    preparePayloadAndInvokeRemoteModel(textDocsInput(docs), batchTensorOutputs);
+                    return batchTensorOutputs;
+                }, action.getMaxConcurrentRequestsOrDefault(), getPredictExecutor());
+                batchOutputs.forEach(tensorOutputs::addAll);
+            } else {
+                preparePayloadAndInvokeRemoteModel(textDocsInput(new ArrayList<>(textDocsInputDataSet.getDocs())), tensorOutputs);
+            }
         } else {
             preparePayloadAndInvokeRemoteModel(mlInput, tensorOutputs);
         }
         return new ModelTensorOutput(tensorOutputs);
     }
+
+    private static MLInput textDocsInput(List<String> docs) {
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(TextDocsInputDataSet.builder().docs(docs).build()).build();
+    }
+
     default void setScriptService(ScriptService scriptService){}
     ScriptService getScriptService();
+    default ConnectorScripts getConnectorScripts() {
+        return new ConnectorScripts(getScriptService());
+    }
     Connector getConnector();
     default void setClient(Client client){}
     default void setXContentRegistry(NamedXContentRegistry xContentRegistry){}
     default void setClusterService(ClusterService clusterService){}
+    default void setPredictExecutor(Executor executor){}
+    /**
+     * Executor for sending the sub-batches of a predict request concurrently.
+     * @return the executor, or null to send sub-batches one by one
+     */
+    default Executor getPredictExecutor() {
+        return null;
+    }
+    default void setRateLimiter(RemoteRateLimiter rateLimiter){}
+    /**
+     * Rate limiter of the remote model on this node.
+     * @return the rate limiter, or null if the connector has no rate limit
+     */
+    default RemoteRateLimiter getRateLimiter() {
+        return null;
+    }
+    default void setResilienceHandler(RemoteResilienceHandler resilienceHandler){}
+    /**
+     * Handler for retries, hedging and circuit breaking of requests to the remote model.
+     * @return the handler, or null if the connector has no resilience settings
+     */
+    default RemoteResilienceHandler getResilienceHandler() {
+        return null;
+    }
 
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
         Connector connector = getConnector();
@@ -58,13 +105,33 @@ public interface RemoteConnectorExecutor {
             parameters.putAll(((RemoteInferenceInputDataSet) inputDataset).getParameters());
         }
 
-        RemoteInferenceInputDataSet inputData = processInput(mlInput, connector, parameters, getScriptService());
+        RemoteInferenceInputDataSet inputData = processInput(mlInput, connector, parameters, getConnectorScripts());
         if (inputData.getParameters() != null) {
             parameters.putAll(inputData.getParameters());
         }
         String payload = connector.createPredictPayload(parameters);
         connector.validatePayload(payload);
-        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+        RemoteRateLimiter rateLimiter = getRateLimiter();
+        RemoteResilienceHandler resilienceHandler = getResilienceHandler();
+        if (resilienceHandler == null) {
+            if (rateLimiter != null) {
+                rateLimiter.acquire(payload);
+            }
+            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+            return;
+        }
+        // Every attempt is rate limited, as every attempt uses the quota of the remote service. A hedged attempt is
+        // only worth sending right away, so it doesn't wait for quota.
+        List<ModelTensors> attemptTensorOutputs = resilienceHandler.invoke(connector.getPredictEndpoint(parameters), () -> {
+            if (rateLimiter != null) {
+                rateLimiter.acquire(payload);
+            }
+        }, () -> rateLimiter == null || rateLimiter.tryAcquire(payload), () -> {
+            List<ModelTensors> outputs = new ArrayList<>();
+            invokeRemoteModel(mlInput, parameters, payload, outputs);
+            return outputs;
+        });
+        tensorOutputs.addAll(attemptTensorOutputs);
     }
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
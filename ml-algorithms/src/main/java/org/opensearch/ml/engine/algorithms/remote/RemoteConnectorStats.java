@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node level counters of how remote models handle failures of their remote services, read by the ML stats.
+ */
+public class RemoteConnectorStats {
+    private static final AtomicLong retryCount = new AtomicLong(0);
+    private static final AtomicLong hedgeCount = new AtomicLong(0);
+    private static final AtomicLong circuitBreakerOpenCount = new AtomicLong(0);
+
+    static void incrementRetryCount() {
+        retryCount.incrementAndGet();
+    }
+
+    static void incrementHedgeCount() {
+        hedgeCount.incrementAndGet();
+    }
+
+    static void incrementCircuitBreakerOpenCount() {
+        circuitBreakerOpenCount.incrementAndGet();
+    }
+
+    /**
+     * @return how many times a failed request to a remote service was retried
+     */
+    public static long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return how many hedged requests were sent to remote services
+     */
+    public static long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return how many times a circuit breaker of a remote endpoint was opened
+     */
+    public static long getCircuitBreakerOpenCount() {
+        return circuitBreakerOpenCount.get();
+    }
+
+    /**
+     * @return how many circuit breakers of remote endpoints are open now
+     */
+    public static long getOpenCircuitBreakerCount() {
+        return RemoteCircuitBreaker.countOpen();
+    }
+}
@@ -13,6 +13,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
@@ -23,6 +24,7 @@ import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.script.ScriptService;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Log4j2
 @Function(FunctionName.REMOTE)
@@ -81,7 +83,21 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor = MLEngineClassLoader.initInstance(connector.getProtocol(), connector, Connector.class);
             this.connectorExecutor.setScriptService((ScriptService) params.get(SCRIPT_SERVICE));
             this.connectorExecutor.setClusterService((ClusterService) params.get(CLUSTER_SERVICE));
-            this.connectorExecutor.setClient((Client) params.get(CLIENT));
+            Client client = (Client) params.get(CLIENT);
+            this.connectorExecutor.setClient(client);
+            if (client != null && client.threadPool() != null) {
+                // Sub-batches and hedged requests are mostly waiting on the remote model, so they go to the generic thread pool.
+                this.connectorExecutor.setPredictExecutor(client.threadPool().generic());
+            }
+            Optional<ConnectorAction> predictAction = connector.findPredictAction();
+            if (predictAction.isPresent() && predictAction.get().getRateLimit() != null) {
+                int workerNodes = model.getPlanningWorkerNodeCount() == null ? 1 : model.getPlanningWorkerNodeCount();
+                this.connectorExecutor.setRateLimiter(new RemoteRateLimiter(predictAction.get().getRateLimit(), workerNodes));
+            }
+            if (predictAction.isPresent() && predictAction.get().getResilience() != null) {
+                this.connectorExecutor
+                        .setResilienceHandler(new RemoteResilienceHandler(predictAction.get().getResilience(), connectorExecutor.getPredictExecutor()));
+            }
             this.connectorExecutor.setXContentRegistry((NamedXContentRegistry) params.get(XCONTENT_REGISTRY));
         } catch (RuntimeException e) {
             log.error("Failed to init remote model", e);
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.connector.ConnectorRateLimit;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.utils.TokenEstimator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for the requests per second and tokens per minute budgets of a remote model, shared by all the
+ * threads predicting with the model on this node.
+ *
+ * A request reserves its share of both buckets and waits until the reservation is due, so waiting requests are
+ * served in arrival order. A request whose reservation is due later than max wait millis is rejected with
+ * TOO_MANY_REQUESTS and reserves nothing, instead of being sent to the remote service to be rejected there.
+ *
+ * Tokens of a request are estimated from its payload with {@link TokenEstimator}, which errs on the high side so
+ * the remote service's own token limit isn't hit.
+ */
+public class RemoteRateLimiter {
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param rateLimit rate limit of the connector
+     * @param workerNodes number of worker nodes of the model, a cluster scope budget is divided across them
+     */
+    public RemoteRateLimiter(ConnectorRateLimit rateLimit, int workerNodes) {
+        this(rateLimit, workerNodes, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    RemoteRateLimiter(ConnectorRateLimit rateLimit, int workerNodes, LongSupplier nanoClock) {
+        double share = rateLimit.isClusterScope() ? 1.0 / Math.max(1, workerNodes) : 1.0;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.requestBucket = rateLimit.getRequestsPerSecond() == null
+                ? null
+                : new Bucket(rateLimit.getRequestsPerSecond() * share, TimeUnit.SECONDS, now);
+        this.tokenBucket = rateLimit.getTokensPerMinute() == null
+                ? null
+                : new Bucket(rateLimit.getTokensPerMinute() * share, TimeUnit.MINUTES, now);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(rateLimit.getMaxWaitMillisOrDefault());
+    }
+
+    /**
+     * Wait until the payload can be sent under the budgets.
+     * @param payload request payload
+     */
+    public void acquire(String payload) {
+        long waitNanos = reserve(TokenEstimator.estimateTokens(payload));
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for remote model rate limit", e);
+        }
+    }
+
+    /**
+     * Take the budgets for the payload only if they are available right away, never waits.
+     * @param payload request payload
+     * @return true if the payload can be sent now, false if it would have to wait and nothing is taken
+     */
+    public boolean tryAcquire(String payload) {
+        return tryReserve(TokenEstimator.estimateTokens(payload));
+    }
+
+    /**
+     * Reserve one request and the tokens from the buckets.
+     * @param tokens estimated tokens of the request
+     * @return how long to wait before sending the request in nanoseconds
+     */
+    @VisibleForTesting
+    synchronized long reserve(long tokens) {
+        long waitNanos = waitNanos(tokens);
+        if (waitNanos > maxWaitNanos) {
+            throw new OpenSearchStatusException(
+                    "Remote model rate limit exceeded, request can't be sent in " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms",
+                    RestStatus.TOO_MANY_REQUESTS
+            );
+        }
+        take(tokens);
+        return waitNanos;
+    }
+
+    @VisibleForTesting
+    synchronized boolean tryReserve(long tokens) {
+        if (waitNanos(tokens) > 0) {
+            return false;
+        }
+        take(tokens);
+        return true;
+    }
+
+    private long waitNanos(long tokens) {
+        long now = nanoClock.getAsLong();
+        long waitNanos = 0;
+        if (requestBucket != null) {
+            waitNanos = Math.max(waitNanos, requestBucket.waitNanos(1, now));
+        }
+        if (tokenBucket != null) {
+            waitNanos = Math.max(waitNanos, tokenBucket.waitNanos(tokens, now));
+        }
+        return waitNanos;
+    }
+
+    private void take(long tokens) {
+        if (requestBucket != null) {
+            requestBucket.take(1);
+        }
+        if (tokenBucket != null) {
+            tokenBucket.take(tokens);
+        }
+    }
+
+    /**
+     * Bucket which holds at most one period of permits. Permits go negative when reserved ahead of time.
+     */
+    static class Bucket {
+        private final double capacity;
+        private final double permitsPerNano;
+        private double permits;
+        private long lastRefillNanos;
+
+        Bucket(double permitsPerPeriod, TimeUnit period, long now) {
+            this.capacity = Math.max(1, permitsPerPeriod);
+            this.permitsPerNano = permitsPerPeriod / period.toNanos(1);
+            this.permits = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        long waitNanos(long requested, long now) {
+            permits = Math.min(capacity, permits + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+            double missing = Math.min(requested, capacity) - permits;
+            return missing <= 0 ? 0 : (long) Math.ceil(missing / permitsPerNano);
+        }
+
+        void take(long requested) {
+            permits -= requested;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.http.NoHttpResponseException;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.ml.common.connector.ConnectorResilience;
+import org.opensearch.ml.common.exception.MLException;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sends requests of a remote model with the resilience settings of its connector.
+ *
+ * Requests failing with 429, 5xx or a connection error are retried with full jitter exponential backoff, or after
+ * the Retry-After of the response if it's longer. A request is given up if Retry-After is longer than max retry
+ * backoff. With a hedge percentile, a second identical request is sent when the first one takes longer than that
+ * percentile of recent latencies, and the first successful response is used. A hedged request is an attempt of
+ * its own, but it never waits: it's skipped if the first request completes meanwhile or the check before hedges
+ * fails. Requests to an endpoint whose circuit breaker is open fail fast.
+ */
+@Log4j2
+public class RemoteResilienceHandler {
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+    // Hedging starts once this many latencies are recorded
+    static final int MIN_LATENCY_SAMPLES = 20;
+    private static final int LATENCY_WINDOW = 100;
+
+    private final ConnectorResilience resilience;
+    private final Executor executor;
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount = 0;
+
+    /**
+     * @param resilience resilience settings of the connector
+     * @param executor sends hedged requests, hedging is disabled if null
+     */
+    public RemoteResilienceHandler(ConnectorResilience resilience, Executor executor) {
+        this.resilience = resilience;
+        this.executor = executor;
+    }
+
+    /**
+     * Send a request with retries, hedging and the circuit breaker of the endpoint.
+     * @param endpoint url of the remote endpoint
+     * @param beforeAttempt runs before every attempt except hedged ones, its failures are not retried
+     * @param beforeHedge runs before a hedged attempt without blocking, the hedged attempt is skipped if it returns false
+     * @param attempt sends the request once
+     * @param <T> response type
+     * @return response of the first successful attempt
+     */
+    public <T> T invoke(String endpoint, Runnable beforeAttempt, BooleanSupplier beforeHedge, Supplier<T> attempt) {
+        RemoteCircuitBreaker circuitBreaker = resilience.getCircuitBreakerFailureThreshold() == null
+                ? null
+                : RemoteCircuitBreaker.get(endpoint, resilience.getCircuitBreakerFailureThreshold(), resilience.getCircuitBreakerOpenMillisOrDefault());
+        int maxRetries = resilience.getMaxRetriesOrDefault();
+        for (int retry = 0;; retry++) {
+            if (circuitBreaker != null) {
+                circuitBreaker.beforeRequest();
+            }
+            try {
+                beforeAttempt.run();
+            } catch (RuntimeException e) {
+                // The request isn't sent, so it can't be the trial request of a half open breaker
+                if (circuitBreaker != null) {
+                    circuitBreaker.releaseTrial();
+                }
+                throw e;
+            }
+            try {
+                T response = invokeHedged(beforeHedge, attempt);
+                if (circuitBreaker != null) {
+                    circuitBreaker.onSuccess();
+                }
+                return response;
+            } catch (RuntimeException e) {
+                if (circuitBreaker != null) {
+                    // The endpoint is up if it rejected the request on its own
+                    if (isServiceDown(e)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                }
+                if (retry >= maxRetries || !isRetryable(e)) {
+                    throw e;
+                }
+                long backoffMillis = backoffMillis(retry, e);
+                if (backoffMillis < 0) {
+                    throw e;
+                }
+                log.debug("Retry request to remote endpoint in {}ms after failure: {}", backoffMillis, e.getMessage());
+                RemoteConnectorStats.incrementRetryCount();
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    private <T> T invokeHedged(BooleanSupplier beforeHedge, Supplier<T> attempt) {
+        long hedgeAfterNanos = resilience.getHedgePercentile() == null || executor == null
+                ? -1
+                : latencyPercentile(resilience.getHedgePercentile());
+        if (hedgeAfterNanos < 0) {
+            return timed(attempt);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable hedgedAttempt = () -> {
+            try {
+                result.complete(timed(attempt));
+            } catch (Throwable e) {
+                failure.set(e);
+                if (pendingAttempts.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            }
+        };
+        try {
+            executor.execute(hedgedAttempt);
+        } catch (RejectedExecutionException e) {
+            return timed(attempt);
+        }
+        try {
+            try {
+                return result.get(hedgeAfterNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Send the hedged request unless the first one has completed or failed meanwhile
+                if (!result.isDone()
+                        && beforeHedge(beforeHedge)
+                        && pendingAttempts.getAndUpdate(pending -> pending == 0 ? 0 : pending + 1) > 0) {
+                    RemoteConnectorStats.incrementHedgeCount();
+                    try {
+                        executor.execute(hedgedAttempt);
+                    } catch (RejectedExecutionException rejected) {
+                        // The first attempt may have failed while this one was counted
+                        if (pendingAttempts.decrementAndGet() == 0) {
+                            result.completeExceptionally(failure.get());
+                        }
+                    }
+                }
+                return result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MLException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for remote model response", e);
+        }
+    }
+
+    private static boolean beforeHedge(BooleanSupplier beforeHedge) {
+        try {
+            if (beforeHedge.getAsBoolean()) {
+                return true;
+            }
+            log.debug("Skip hedged request to remote endpoint");
+        } catch (RuntimeException e) {
+            log.debug("Skip hedged request to remote endpoint: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private <T> T timed(Supplier<T> attempt) {
+        long start = System.nanoTime();
+        T response = attempt.get();
+        recordLatency(System.nanoTime() - start);
+        return response;
+    }
+
+    @VisibleForTesting
+    synchronized void recordLatency(long latencyNanos) {
+        latencies[latencyCount % LATENCY_WINDOW] = latencyNanos;
+        latencyCount++;
+    }
+
+    /**
+     * Get a percentile of the recent latencies.
+     * @param percentile percentile between 0 and 100
+     * @return the latency in nanoseconds, or -1 if there are not enough latencies recorded
+     */
+    @VisibleForTesting
+    synchronized long latencyPercentile(double percentile) {
+        if (latencyCount < MIN_LATENCY_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_WINDOW));
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Get the backoff before the next retry.
+     * @param retry number of retries done
+     * @param e failure of the last attempt
+     * @return backoff in milliseconds, or -1 if the remote service asks to wait longer than max retry backoff
+     */
+    @VisibleForTesting
+    long backoffMillis(int retry, Exception e) {
+        long maxBackoffMillis = resilience.getMaxRetryBackoffMillisOrDefault();
+        long exponentialBackoff = Math.min(maxBackoffMillis, resilience.getRetryBackoffMillisOrDefault() << Math.min(retry, 30));
+        long backoffMillis = ThreadLocalRandom.current().nextLong(exponentialBackoff + 1);
+        Long retryAfterMillis = retryAfterMillis(e);
+        if (retryAfterMillis != null) {
+            if (retryAfterMillis > maxBackoffMillis) {
+                return -1;
+            }
+            backoffMillis = Math.max(backoffMillis, retryAfterMillis);
+        }
+        return backoffMillis;
+    }
+
+    static Long retryAfterMillis(Exception e) {
+        if (!(e instanceof OpenSearchStatusException)) {
+            return null;
+        }
+        List<String> retryAfter = ((OpenSearchStatusException) e).getHeader(RETRY_AFTER_HEADER);
+        if (retryAfter == null || retryAfter.isEmpty()) {
+            return null;
+        }
+        String value = retryAfter.get(0).trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+            } catch (DateTimeParseException notDate) {
+                return null;
+            }
+        }
+    }
+
+    static boolean isRetryable(Exception e) {
+        if (e instanceof OpenSearchStatusException) {
+            int status = ((OpenSearchStatusException) e).status().getStatus();
+            return status == 429 || status >= 500;
+        }
+        return isConnectionError(e);
+    }
+
+    static boolean isServiceDown(Exception e) {
+        if (e instanceof OpenSearchStatusException) {
+            return ((OpenSearchStatusException) e).status().getStatus() >= 500;
+        }
+        return isConnectionError(e);
+    }
+
+    private static boolean isConnectionError(Throwable e) {
+        return ExceptionUtils.indexOfType(e, SocketException.class) >= 0
+                || ExceptionUtils.indexOfType(e, SocketTimeoutException.class) >= 0
+                || ExceptionUtils.indexOfType(e, NoHttpResponseException.class) >= 0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting to retry remote model request", e);
+        }
+    }
+}
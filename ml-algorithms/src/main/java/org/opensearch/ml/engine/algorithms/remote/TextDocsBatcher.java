@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.opensearch.ml.engine.utils.ParallelUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Splits text docs into sub-batches under the batch limits of a connector action, and invokes the sub-batches
+ * with bounded parallelism.
+ */
+public class TextDocsBatcher {
+
+    /**
+     * Split docs into sub-batches in order. A doc larger than max payload bytes is sent alone.
+     * @param docs text docs
+     * @param maxBatchSize max number of docs in a sub-batch, null for no limit
+     * @param maxPayloadBytes max UTF-8 bytes of docs in a sub-batch, null for no limit
+     * @return sub-batches, at least one
+     */
+    public static List<List<String>> split(List<String> docs, Integer maxBatchSize, Integer maxPayloadBytes) {
+        if (maxBatchSize == null && maxPayloadBytes == null) {
+            return Collections.singletonList(docs);
+        }
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        long batchBytes = 0;
+        for (String doc : docs) {
+            long docBytes = doc == null ? 0 : doc.getBytes(StandardCharsets.UTF_8).length;
+            boolean batchFull = !batch.isEmpty()
+                    && ((maxBatchSize != null && batch.size() >= maxBatchSize)
+                    || (maxPayloadBytes != null && batchBytes + docBytes > maxPayloadBytes));
+            if (batchFull) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batch.add(doc);
+            batchBytes += docBytes;
+        }
+        if (!batch.isEmpty() || batches.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Invoke all sub-batches and return their results in the order of sub-batches. The calling thread takes part
+     * in invoking the sub-batches, so they are all invoked even if the executor is busy, and at most
+     * maxConcurrentRequests sub-batches are in flight. Stops invoking new sub-batches after the first failure and
+     * throws it once the in flight sub-batches finish.
+     * @param batches sub-batches
+     * @param invoker invokes one sub-batch
+     * @param maxConcurrentRequests max number of sub-batches invoked at the same time
+     * @param executor runs the other workers, sub-batches are invoked one by one by the calling thread if null
+     * @param <T> result type of one sub-batch
+     * @return results of sub-batches in order
+     */
+    public static <T> List<T> invokeAll(List<List<String>> batches, Function<List<String>, T> invoker, int maxConcurrentRequests, Executor executor) {
+        int size = batches.size();
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(size);
+        ParallelUtils.forEach(size, i -> results.set(i, invoker.apply(batches.get(i))), maxConcurrentRequests, executor);
+        List<T> orderedResults = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orderedResults.add(results.get(i));
+        }
+        return orderedResults;
+    }
+}
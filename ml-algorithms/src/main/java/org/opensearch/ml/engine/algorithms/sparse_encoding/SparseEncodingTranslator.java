@@ -11,6 +11,7 @@ import ai.djl.ndarray.NDList;
 import ai.djl.translate.TranslatorContext;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import java.util.ArrayList;
@@ -42,7 +43,7 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
     private Map<String, Float>  convertOutput(NDArray array)
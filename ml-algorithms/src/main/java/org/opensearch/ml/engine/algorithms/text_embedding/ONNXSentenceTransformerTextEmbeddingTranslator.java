@@ -19,6 +19,7 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -114,12 +115,12 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
+        float[] data = embeddings.toFloatArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor.builder()
                 .name(SENTENCE_EMBEDDING)
-                .data(data)
+                .floatData(data)
                 .shape(shape)
                 .dataType(MLResultDataType.FLOAT32)
                 .build();
@@ -127,7 +128,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
@@ -19,6 +19,7 @@ import ai.djl.translate.TranslatorContext;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import java.io.IOException;
@@ -39,14 +40,22 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
-            ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor.builder()
+            // NDArray returns a direct buffer, copy it to the heap so the bytes can be returned in the response
+            ByteBuffer directBuffer = ndArray.toByteBuffer();
+            byte[] bytes = new byte[directBuffer.remaining()];
+            directBuffer.get(bytes);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(directBuffer.order());
+            ModelTensor.ModelTensorBuilder builder = ModelTensor.builder();
+            if (dataType == DataType.FLOAT32) {
+                builder.floatData(ndArray.toFloatArray());
+            } else {
+                builder.data(ndArray.toArray());
+            }
+            ModelTensor tensor = builder
                     .name(name)
-                    .data(data)
                     .shape(shape)
                     .dataType(mlResultDataType)
                     .byteBuffer(buffer)
@@ -55,7 +64,7 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 }
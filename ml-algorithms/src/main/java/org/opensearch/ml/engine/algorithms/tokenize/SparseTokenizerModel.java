@@ -28,6 +28,7 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.annotation.Function;
 
 import java.io.IOException;
@@ -92,7 +93,7 @@ public class SparseTokenizerModel extends DLModel {
                     .build();
             outputs.add(tensor);
             ModelTensors modelTensorOutput = new ModelTensors(outputs);
-            output.add(modelTensorOutput.toBytes());
+            output.add(new ModelTensorsSupplier(modelTensorOutput));
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Rough heap size estimations of the structures built while training. They are used to reserve memory
+ * before training starts, so they err on the high side rather than being exact.
+ */
+@UtilityClass
+public class MemoryEstimator {
+    public static final long OBJECT_HEADER_BYTES = 16;
+    public static final long ARRAY_HEADER_BYTES = 16;
+    public static final long REFERENCE_BYTES = 8;
+    // A RCF tree keeps an internal node and a leaf for every sampled point, each with bounding box and child references.
+    private static final long RCF_NODE_BYTES = 96;
+
+    public static long doubleArray(long length) {
+        return ARRAY_HEADER_BYTES + 8 * length;
+    }
+
+    public static long floatArray(long length) {
+        return ARRAY_HEADER_BYTES + 4 * length;
+    }
+
+    public static long intArray(long length) {
+        return ARRAY_HEADER_BYTES + 4 * length;
+    }
+
+    public static long referenceArray(long length) {
+        return ARRAY_HEADER_BYTES + REFERENCE_BYTES * length;
+    }
+
+    /**
+     * Estimate memory of TribuoUtil.generateDataset: the transient double[][] copy of the data frame, plus one
+     * ArrayExample with its own feature name and value arrays and one output object for every row.
+     * @param rows number of rows
+     * @param features number of features
+     * @return estimated bytes
+     */
+    public static long tribuoDataset(long rows, long features) {
+        long perRow = doubleArray(features) // transformDataFrame copy
+                + OBJECT_HEADER_BYTES + 6 * REFERENCE_BYTES // ArrayExample
+                + referenceArray(features) + doubleArray(features) // ArrayExample feature names and values
+                + OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES // output
+                + REFERENCE_BYTES; // dataset list slot
+        return rows * perRow;
+    }
+
+    /**
+     * Estimate memory of the SGDVector array Tribuo trainers convert a dataset into before training.
+     * @param rows number of rows
+     * @param features number of features
+     * @return estimated bytes
+     */
+    public static long tribuoVectors(long rows, long features) {
+        long perRow = OBJECT_HEADER_BYTES + intArray(features) + doubleArray(features) + REFERENCE_BYTES;
+        return rows * perRow;
+    }
+
+    /**
+     * Estimate memory of a random cut forest including its point store.
+     * @param trees number of trees
+     * @param sampleSize samples per tree
+     * @param dimensions point dimensions, including shingling
+     * @return estimated bytes
+     */
+    public static long randomCutForest(long trees, long sampleSize, long dimensions) {
+        long points = trees * sampleSize;
+        return points * (2 * RCF_NODE_BYTES + 4 * dimensions);
+    }
+}
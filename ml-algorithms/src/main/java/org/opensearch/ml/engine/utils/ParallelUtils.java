@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.ml.common.exception.MLException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs indexed tasks with bounded parallelism on a plugin executor, instead of the shared ForkJoin common pool.
+ */
+@Log4j2
+public class ParallelUtils {
+
+    public static final int DEFAULT_MAX_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Run task 0 to size - 1 and wait for all of them. The calling thread takes part in running the tasks, so they
+     * all run even if the executor is busy or rejects workers, and at most maxParallelism tasks run at the same time.
+     * Stops starting new tasks after the first failure and throws it once the running tasks finish.
+     * @param size number of tasks
+     * @param task runs the task of the given index
+     * @param maxParallelism max number of tasks running at the same time
+     * @param executor runs the other workers, tasks run one by one on the calling thread if null
+     */
+    public static void forEach(int size, IntConsumer task, int maxParallelism, Executor executor) {
+        AtomicInteger nextTask = new AtomicInteger(0);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        CountDownLatch finishedTasks = new CountDownLatch(size);
+        Runnable worker = () -> {
+            int i;
+            while ((i = nextTask.getAndIncrement()) < size) {
+                try {
+                    if (failure.get() == null) {
+                        task.accept(i);
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, new MLException(e));
+                } finally {
+                    finishedTasks.countDown();
+                }
+            }
+        };
+
+        int workers = executor == null ? 1 : Math.min(maxParallelism, size);
+        for (int i = 1; i < workers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                log.debug("Executor rejected worker, run the rest of tasks in fewer workers");
+                break;
+            }
+        }
+        worker.run();
+        try {
+            finishedTasks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for parallel tasks", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+}
@@ -22,7 +22,11 @@ import java.util.function.Function;
 public class ScriptUtils {
 
     public static Optional<String> executePreprocessFunction(ScriptService scriptService, String preProcessFunction, List<String> inputSentences) {
-        return Optional.ofNullable(executeScript(scriptService, preProcessFunction, ImmutableMap.of("text_docs", inputSentences)));
+        return executePreprocessFunction(compileScript(scriptService, preProcessFunction), inputSentences);
+    }
+
+    public static Optional<String> executePreprocessFunction(TemplateScript.Factory preProcessScript, List<String> inputSentences) {
+        return Optional.ofNullable(executeScript(preProcessScript, ImmutableMap.of("text_docs", inputSentences)));
     }
 
     public static List<ModelTensor> executeBuildInPostProcessFunction(List<List<Float>> vectors, Function<List<List<Float>>, List<ModelTensor>> function) {
@@ -30,15 +34,28 @@ public class ScriptUtils {
     }
 
     public static Optional<String> executePostProcessFunction(ScriptService scriptService, String postProcessFunction, String resultJson) {
-        Map<String, Object> result = StringUtils.fromJson(resultJson, "result");
         if (postProcessFunction != null) {
-            return Optional.ofNullable(executeScript(scriptService, postProcessFunction, result));
+            return executePostProcessFunction(compileScript(scriptService, postProcessFunction), resultJson);
         }
         return Optional.empty();
     }
+
+    public static Optional<String> executePostProcessFunction(TemplateScript.Factory postProcessScript, String resultJson) {
+        Map<String, Object> result = StringUtils.fromJson(resultJson, "result");
+        return Optional.ofNullable(executeScript(postProcessScript, result));
+    }
+
     public static String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
-        Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
-        TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
+        return executeScript(compileScript(scriptService, painlessScript), params);
+    }
+
+    public static String executeScript(TemplateScript.Factory scriptFactory, Map<String, Object> params) {
+        TemplateScript templateScript = scriptFactory.newInstance(params);
         return templateScript.execute();
     }
+
+    public static TemplateScript.Factory compileScript(ScriptService scriptService, String painlessScript) {
+        Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
+        return scriptService.compile(script, TemplateScript.CONTEXT);
+    }
 }
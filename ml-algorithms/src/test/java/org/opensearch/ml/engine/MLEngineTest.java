@@ -17,12 +17,14 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DefaultDataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.input.Input;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.common.input.parameter.rcf.FitRCFParams;
 import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParams;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.input.execute.samplecalculator.LocalSampleCalculatorInput;
@@ -34,11 +36,13 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.algorithms.regression.LinearRegression;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.utils.ParallelUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.opensearch.ml.engine.helper.LinearRegressionHelper.constructLinearRegressionPredictionDataFrame;
@@ -121,6 +125,30 @@ public class MLEngineTest {
         Assert.assertNotNull(model.getContent());
     }
 
+    @Test
+    public void estimateTrainingMemory_KMeans() {
+        KMeansParams parameters = KMeansParams.builder().centroids(2).build();
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(100)).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).parameters(parameters).inputDataset(inputDataset).build();
+        long estimation = mlEngine.estimateTrainingMemory(mlInput);
+        Assert.assertTrue(estimation > 0);
+
+        Input largerInput = MLInput.builder().algorithm(FunctionName.KMEANS).parameters(parameters)
+                .inputDataset(DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(1000)).build()).build();
+        Assert.assertTrue(mlEngine.estimateTrainingMemory(largerInput) > estimation);
+
+        Input miniBatchInput = MLInput.builder().algorithm(FunctionName.KMEANS)
+                .parameters(parameters.toBuilder().miniBatchSize(10).build()).inputDataset(inputDataset).build();
+        Assert.assertTrue(mlEngine.estimateTrainingMemory(miniBatchInput) < estimation);
+    }
+
+    @Test
+    public void estimateTrainingMemory_BatchRCF() {
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(100)).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.BATCH_RCF).inputDataset(inputDataset).build();
+        Assert.assertTrue(mlEngine.estimateTrainingMemory(mlInput) > 0);
+    }
+
     @Test
     public void trainLinearRegression() {
         MLModel model = trainLinearRegressionModel();
@@ -248,6 +276,27 @@ public class MLEngineTest {
         assertEquals(dataSize, output.getPredictionResult().size());
     }
 
+    @Test
+    public void trainAndPredict_AlgorithmExecutor() {
+        AtomicInteger executions = new AtomicInteger();
+        MLEngine engine = new MLEngine(Path.of("/tmp/test" + UUID.randomUUID()), null, command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta("host", ColumnType.STRING), new ColumnMeta("timestamp", ColumnType.LONG), new ColumnMeta("value", ColumnType.INTEGER)};
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas);
+        for (int i = 0; i < 10; i++) {
+            dataFrame.appendRow(new Object[]{"host1", 1643677200000L + i * 60000, i});
+            dataFrame.appendRow(new Object[]{"host2", 1643677200000L + i * 60000, i});
+        }
+        MLAlgoParams parameters = FitRCFParams.builder().numberOfTrees(10).sampleSize(100).timeField("timestamp").entityField("host").build();
+        Input input = new MLInput(FunctionName.FIT_RCF, parameters, new DataFrameInputDataset(dataFrame));
+        MLPredictionOutput output = (MLPredictionOutput) engine.trainAndPredict(input);
+        assertEquals(dataFrame.size(), output.getPredictionResult().size());
+        // the calling thread scores one entity, the engine's executor runs the other worker
+        assertEquals(Math.min(ParallelUtils.DEFAULT_MAX_PARALLELISM, 2) - 1, executions.get());
+    }
+
     @Test
     public void trainAndPredictWithInvalidInput() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.MutableDataset;
+import org.tribuo.Prediction;
+import org.tribuo.clustering.ClusterID;
+import org.tribuo.clustering.ClusteringFactory;
+import org.tribuo.clustering.kmeans.KMeansModel;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
+
+public class KMeansCentroidsTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void assign_SameAsTribuo() {
+        assertSameAsTribuo(KMeansTrainer.Distance.EUCLIDEAN, KMeansParams.DistanceType.EUCLIDEAN);
+        assertSameAsTribuo(KMeansTrainer.Distance.COSINE, KMeansParams.DistanceType.COSINE);
+        assertSameAsTribuo(KMeansTrainer.Distance.L1, KMeansParams.DistanceType.L1);
+    }
+
+    @Test
+    public void assign_MultipleChunks() {
+        KMeansCentroids centroids = new KMeansCentroids(new String[] {"f1", "f2"}, new double[][] {{0, 0}, {10, 10}}, null);
+        DataFrame dataFrame = constructTestDataFrame(KMeansCentroids.CHUNK_SIZE * 3 + 7);
+        int[] clusterIds = centroids.assign(dataFrame, null);
+        Assert.assertEquals(dataFrame.size(), clusterIds.length);
+        for (int i = 0; i < clusterIds.length; i++) {
+            double[] point = {dataFrame.getRow(i).getValue(0).doubleValue(), dataFrame.getRow(i).getValue(1).doubleValue()};
+            Assert.assertEquals(centroids.nearest(point), clusterIds[i]);
+        }
+    }
+
+    @Test
+    public void assign_Executor() {
+        KMeansCentroids centroids = new KMeansCentroids(new String[] {"f1", "f2"}, new double[][] {{0, 0}, {10, 10}}, null);
+        DataFrame dataFrame = constructTestDataFrame(KMeansCentroids.CHUNK_SIZE * 3 + 7);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Assert.assertArrayEquals(centroids.assign(dataFrame, null), centroids.assign(dataFrame, executor));
+            KMeansCentroids trained = KMeansCentroids.trainMiniBatch(dataFrame, 2, 5, KMeansCentroids.CHUNK_SIZE * 2, KMeansParams.DistanceType.EUCLIDEAN, 1L, executor);
+            Assert.assertEquals(2, trained.getCentroids().length);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void nearest_CosineZeroNorm() {
+        KMeansCentroids centroids = new KMeansCentroids(new String[] {"f1", "f2"}, new double[][] {{0, 0}, {1, 1}}, KMeansParams.DistanceType.COSINE);
+        // a zero point is as far from every centroid, ties go to the first one
+        Assert.assertEquals(0, centroids.nearest(new double[] {0, 0}));
+        // a zero centroid never beats a centroid in the same direction
+        Assert.assertEquals(1, centroids.nearest(new double[] {2, 3}));
+    }
+
+    @Test
+    public void trainMiniBatch() {
+        DataFrame dataFrame = constructTestDataFrame(500);
+        KMeansCentroids centroids = KMeansCentroids.trainMiniBatch(dataFrame, 2, 20, 50, KMeansParams.DistanceType.EUCLIDEAN, 1L, null);
+        Assert.assertArrayEquals(new String[] {"f1", "f2"}, centroids.getFeatureNames());
+        Assert.assertEquals(2, centroids.getCentroids().length);
+        // Test data is drawn from two gaussians centered at (0, 0) and (10, 10).
+        double[] first = centroids.getCentroids()[centroids.nearest(new double[] {0, 0})];
+        double[] second = centroids.getCentroids()[centroids.nearest(new double[] {10, 10})];
+        Assert.assertEquals(0, first[0], 1.5);
+        Assert.assertEquals(10, second[0], 1.5);
+    }
+
+    @Test
+    public void trainMiniBatch_NotEnoughData() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Training data size should not be less than K.");
+        KMeansCentroids.trainMiniBatch(constructTestDataFrame(1), 2, 1, 10, null, 1L, null);
+    }
+
+    private void assertSameAsTribuo(KMeansTrainer.Distance distance, KMeansParams.DistanceType distanceType) {
+        DataFrame dataFrame = constructTestDataFrame(200);
+        MutableDataset<ClusterID> dataset = TribuoUtil.generateDataset(dataFrame, new ClusteringFactory(),
+                "KMeans test data", TribuoOutputType.CLUSTERID);
+        KMeansModel model = new KMeansTrainer(2, 10, distance, 1, 1L).train(dataset);
+        KMeansCentroids centroids = KMeansCentroids.fromModel(model);
+        Assert.assertEquals(distanceType, centroids.getDistanceType());
+
+        List<Prediction<ClusterID>> expected = model.predict(dataset);
+        int[] clusterIds = centroids.assign(dataFrame, null);
+        for (int i = 0; i < clusterIds.length; i++) {
+            Assert.assertEquals(expected.get(i).getOutput().getID(), clusterIds[i]);
+        }
+    }
+}
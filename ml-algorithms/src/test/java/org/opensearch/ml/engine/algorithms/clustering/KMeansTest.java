@@ -98,6 +98,45 @@ public class KMeansTest {
         Assert.assertEquals(trainSize, predictions.size());
     }
 
+    @Test
+    public void trainAndPredict_MiniBatch() {
+        KMeansParams miniBatchParameters = parameters.toBuilder().miniBatchSize(20).build();
+        KMeans kMeans = new KMeans(miniBatchParameters);
+        MLModel model = kMeans.train(trainDataFrameInput);
+        Assert.assertEquals(FunctionName.KMEANS.name(), model.getName());
+        Assert.assertNotNull(model.getContent());
+
+        MLPredictionOutput output = (MLPredictionOutput) kMeans.predict(predictionDataFrameInput, model);
+        DataFrame predictions = output.getPredictionResult();
+        Assert.assertEquals(predictionSize, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+
+        output = (MLPredictionOutput) kMeans.trainAndPredict(trainDataFrameInput);
+        predictions = output.getPredictionResult();
+        Assert.assertEquals(trainSize, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+    }
+
+    @Test
+    public void initModel_Predict() {
+        MLModel model = kMeans.train(trainDataFrameInput);
+        KMeans deployed = new KMeans();
+        Assert.assertFalse(deployed.isModelReady());
+        deployed.initModel(model, null, null);
+        Assert.assertTrue(deployed.isModelReady());
+        MLPredictionOutput output = (MLPredictionOutput) deployed.predict(predictionDataFrameInput);
+        Assert.assertEquals(predictionSize, output.getPredictionResult().size());
+        deployed.close();
+        Assert.assertFalse(deployed.isModelReady());
+    }
+
+    @Test
+    public void constructorWithNegtiveMiniBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Mini batch size should be positive");
+        new KMeans(KMeansParams.builder().miniBatchSize(-1).build());
+    }
+
     @Test
     public void constructorWithNegtiveCentroids() {
         exceptionRule.expect(IllegalArgumentException.class);
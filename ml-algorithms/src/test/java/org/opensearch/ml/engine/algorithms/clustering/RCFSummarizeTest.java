@@ -20,6 +20,9 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
 
 
@@ -109,6 +112,54 @@ public class RCFSummarizeTest {
         new RCFSummarize(RCFSummarizeParams.builder().initialK(-1).build());
     }
 
+    @Test
+    public void constructorWithNegtiveMaxSampleSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max sample size should be positive");
+        new RCFSummarize(RCFSummarizeParams.builder().maxSampleSize(-1).build());
+    }
+
+    @Test
+    public void trainAndPredictWithSampling() {
+        int size = 3000;
+        DataFrame dataFrame = constructTestDataFrame(size);
+        MLInput input = MLInput.builder().algorithm(FunctionName.RCF_SUMMARIZE).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        RCFSummarize rcfSummarize = new RCFSummarize(parameters.toBuilder().maxSampleSize(200).build());
+        MLPredictionOutput output = (MLPredictionOutput) rcfSummarize.trainAndPredict(input);
+        DataFrame predictions = output.getPredictionResult();
+        Assert.assertEquals(size, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+    }
+
+    @Test
+    public void trainAndPredictWithExecutor() {
+        int size = 3000;
+        DataFrame dataFrame = constructTestDataFrame(size);
+        MLInput input = MLInput.builder().algorithm(FunctionName.RCF_SUMMARIZE).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        RCFSummarize rcfSummarize = new RCFSummarize(parameters);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            rcfSummarize.setExecutor(executor);
+            MLPredictionOutput output = (MLPredictionOutput) rcfSummarize.trainAndPredict(input);
+            DataFrame predictions = output.getPredictionResult();
+            Assert.assertEquals(size, predictions.size());
+            predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void initModelAndPredict() {
+        MLModel model = new RCFSummarize(parameters.toBuilder().maxSampleSize(50).build()).train(trainDataFrameInput);
+        RCFSummarize deployed = new RCFSummarize();
+        Assert.assertFalse(deployed.isModelReady());
+        deployed.initModel(model, null, null);
+        Assert.assertTrue(deployed.isModelReady());
+        MLPredictionOutput output = (MLPredictionOutput) deployed.predict(predictionDataFrameInput);
+        Assert.assertEquals(predictionSize, output.getPredictionResult().size());
+    }
+
     @Test
     public void predictWithNullModel() {
         exceptionRule.expect(IllegalArgumentException.class);
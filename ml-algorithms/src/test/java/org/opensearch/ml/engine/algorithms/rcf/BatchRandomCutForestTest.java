@@ -78,6 +78,18 @@ public class BatchRandomCutForestTest {
         verifyPredictionResult(output);
     }
 
+    @Test
+    public void update() {
+        MLModel model = forest.train(trainDataFrameInput);
+        BatchRandomCutForest deployedForest = new BatchRandomCutForest();
+        deployedForest.initModel(model, null, null);
+        MLPredictionOutput output = (MLPredictionOutput) deployedForest.update(predictionDataFrameInput);
+        Assert.assertEquals(dataSize, output.getPredictionResult().size());
+        String content = deployedForest.getModelContent();
+        Assert.assertNotEquals(model.getContent(), content);
+        Assert.assertNotNull(RCFModelSerDeSer.deserializeRCF(model.toBuilder().content(content).build()));
+    }
+
     @Test
     public void train() {
         MLModel model = forest.train(trainDataFrameInput);
@@ -23,6 +23,10 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.input.parameter.rcf.FitRCFParams;
 
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class FixedInTimeRandomCutForestTest {
@@ -74,6 +78,19 @@ public class FixedInTimeRandomCutForestTest {
         Assert.assertTrue("Fewer anomaly detected: " + anomalyCount, anomalyCount > 1);// total anomalies 5
     }
 
+    @Test
+    public void update() {
+        MLModel model = forest.train(trainDataFrameInput);
+        FixedInTimeRandomCutForest deployedForest = new FixedInTimeRandomCutForest();
+        deployedForest.initModel(model, null, null);
+        MLInput updateInput = MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(predictionDataFrameInputDataSet).parameters(parameters).build();
+        MLPredictionOutput output = (MLPredictionOutput) deployedForest.update(updateInput);
+        Assert.assertEquals(dataSize, output.getPredictionResult().size());
+        String content = deployedForest.getModelContent();
+        Assert.assertNotEquals(model.getContent(), content);
+        Assert.assertNotNull(RCFModelSerDeSer.deserializeTRCF(model.toBuilder().content(content).build()));
+    }
+
     @Test
     public void train() {
         MLModel model = forest.train(trainDataFrameInput);
@@ -113,6 +130,126 @@ public class FixedInTimeRandomCutForestTest {
         Assert.assertEquals(((MLPredictionOutput) mlOutput).getPredictionResult().size(), 500);
     }
 
+    @Test
+    public void trainAndPredict_MultiEntity() {
+        FitRCFParams params = multiEntityParameters();
+        FixedInTimeRandomCutForest multiEntityForest = new FixedInTimeRandomCutForest(params);
+        DataFrame dataFrame = constructMultiEntityDataFrame(3, false);
+        MLModel model = multiEntityForest.train(MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).build());
+        Assert.assertEquals(FixedInTimeRandomCutForest.MULTI_ENTITY_VERSION, model.getVersion());
+        Assert.assertEquals(3, RCFModelSerDeSer.deserializeMultiEntityTRCF(model).getForestStates().size());
+
+        FixedInTimeRandomCutForest deployedForest = new FixedInTimeRandomCutForest();
+        deployedForest.initModel(model, null, null);
+        Assert.assertTrue(deployedForest.isModelReady());
+        DataFrame predictDataFrame = constructMultiEntityDataFrame(3, true);
+        MLInput predictInput = MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(predictDataFrame)).parameters(params).build();
+        DataFrame predictions = ((MLPredictionOutput) deployedForest.predict(predictInput)).getPredictionResult();
+        Assert.assertEquals(predictDataFrame.size(), predictions.size());
+        for (int i = 0; i < predictions.size(); i++) {
+            // results keep the order of input rows
+            Assert.assertEquals(predictDataFrame.getRow(i).getValue(0).stringValue(), predictions.getRow(i).getValue(predictions.getColumnIndex("host")).stringValue());
+        }
+
+        MLOutput mlOutput = multiEntityForest.trainAndPredict(MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).build());
+        Assert.assertEquals(dataFrame.size(), ((MLPredictionOutput) mlOutput).getPredictionResult().size());
+    }
+
+    @Test
+    public void predict_MultiEntity_NewEntityUsesTrainedParams() {
+        FitRCFParams params = multiEntityParameters();
+        MLModel model = new FixedInTimeRandomCutForest(params).train(MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(constructMultiEntityDataFrame(2, false))).build());
+        MultiEntityForestState trainedState = RCFModelSerDeSer.deserializeMultiEntityTRCF(model);
+        Assert.assertEquals(Integer.valueOf(10), trainedState.getNumberOfTrees());
+        Assert.assertEquals(Integer.valueOf(8), trainedState.getShingleSize());
+        Assert.assertEquals(Integer.valueOf(100), trainedState.getSampleSize());
+
+        // Deployed models are created without parameters
+        FixedInTimeRandomCutForest deployedForest = new FixedInTimeRandomCutForest();
+        deployedForest.initModel(model, null, null);
+        MLInput predictInput = MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(constructMultiEntityDataFrame(3, true))).parameters(params).build();
+        deployedForest.predict(predictInput);
+
+        MultiEntityForestState updatedState = RCFModelSerDeSer.deserializeMultiEntityTRCF(model.toBuilder().content(deployedForest.getModelContent()).build());
+        ThresholdedRandomCutForestState newEntityState = updatedState.getForestStates().get("host2");
+        Assert.assertNotNull(newEntityState);
+        Assert.assertEquals(10, newEntityState.getForestState().getNumberOfTrees());
+        Assert.assertEquals(8, newEntityState.getForestState().getShingleSize());
+        Assert.assertEquals(100, newEntityState.getForestState().getSampleSize());
+    }
+
+    @Test
+    public void trainAndPredict_MultiEntity_Executor() {
+        FitRCFParams params = multiEntityParameters();
+        FixedInTimeRandomCutForest multiEntityForest = new FixedInTimeRandomCutForest(params);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            multiEntityForest.setExecutor(executor);
+            DataFrame dataFrame = constructMultiEntityDataFrame(4, false);
+            MLModel model = multiEntityForest.train(MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).build());
+            Assert.assertEquals(4, RCFModelSerDeSer.deserializeMultiEntityTRCF(model).getForestStates().size());
+
+            FixedInTimeRandomCutForest deployedForest = new FixedInTimeRandomCutForest();
+            deployedForest.setExecutor(executor);
+            deployedForest.initModel(model, null, null);
+            DataFrame predictDataFrame = constructMultiEntityDataFrame(4, true);
+            MLInput predictInput = MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(predictDataFrame)).parameters(params).build();
+            DataFrame predictions = ((MLPredictionOutput) deployedForest.predict(predictInput)).getPredictionResult();
+            Assert.assertEquals(predictDataFrame.size(), predictions.size());
+            for (int i = 0; i < predictions.size(); i++) {
+                Assert.assertEquals(predictDataFrame.getRow(i).getValue(0).stringValue(), predictions.getRow(i).getValue(predictions.getColumnIndex("host")).stringValue());
+                Assert.assertEquals(predictDataFrame.getRow(i).getValue(1).longValue(), predictions.getRow(i).getValue(predictions.getColumnIndex("timestamp")).longValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void train_MultiEntity_TooManyEntities() {
+        exceptionRule.expect(MLValidationException.class);
+        exceptionRule.expectMessage("Too many entities: 1001, at most 1000 entities are supported");
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta("host", ColumnType.STRING), new ColumnMeta("timestamp", ColumnType.LONG), new ColumnMeta("value", ColumnType.INTEGER)};
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas);
+        for (int entity = 0; entity <= FixedInTimeRandomCutForest.MAX_ENTITY_FORESTS; entity++) {
+            dataFrame.appendRow(new Object[]{"host" + entity, 1643677200000l, 1});
+        }
+        FixedInTimeRandomCutForest multiEntityForest = new FixedInTimeRandomCutForest(multiEntityParameters());
+        multiEntityForest.train(MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).build());
+    }
+
+    @Test
+    public void train_MultiEntity_MissingEntityField() {
+        exceptionRule.expect(MLValidationException.class);
+        exceptionRule.expectMessage("Entity field host not found in input data frame");
+        FixedInTimeRandomCutForest multiEntityForest = new FixedInTimeRandomCutForest(multiEntityParameters());
+        multiEntityForest.train(trainDataFrameInput);
+    }
+
+    private FitRCFParams multiEntityParameters() {
+        return FitRCFParams.builder()
+                .numberOfTrees(10)
+                .shingleSize(8)
+                .sampleSize(100)
+                .timeField("timestamp")
+                .entityField("host")
+                .build();
+    }
+
+    private DataFrame constructMultiEntityDataFrame(int entityCount, boolean predict) {
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta("host", ColumnType.STRING), new ColumnMeta("timestamp", ColumnType.LONG), new ColumnMeta("value", ColumnType.INTEGER)};
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas);
+        long startTime = 1643677200000l;
+        for (int i = 0; i < dataSize; i++) {
+            long time = startTime + i * 1000 * 60;//1 minute interval
+            for (int entity = 0; entity < entityCount; entity++) {
+                int value = predict && i % 100 == 0 ? ThreadLocalRandom.current().nextInt(100, 1000) : ThreadLocalRandom.current().nextInt(1, 10);
+                dataFrame.appendRow(new Object[]{"host" + entity, time, value});
+            }
+        }
+        return dataFrame;
+    }
+
     private DataFrame constructRCFDataFrame(boolean predict) {
         ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta("timestamp", ColumnType.LONG), new ColumnMeta("value", ColumnType.INTEGER)};
         DataFrame dataFrame = new DefaultDataFrame(columnMetas);
@@ -28,14 +28,17 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.script.ScriptService;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +74,7 @@ public class AwsConnectorExecutorTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         encryptor = new EncryptorImpl("m+dWmfmnNRiNlOdej/QelEkvMTyH//frS2TBeS2BP4w=");
+        when(response.httpResponse()).thenReturn(SdkHttpResponse.builder().statusCode(200).build());
     }
 
     @Test
@@ -170,4 +174,61 @@ public class AwsConnectorExecutorTest {
         Assert.assertEquals(1, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().size());
         Assert.assertEquals("value", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("key"));
     }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_MultiLineResponse() throws IOException {
+        String jsonString = "{\n  \"key\": \"välue\",\n  \"other\": 1\n}\n";
+        InputStream inputStream = new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8));
+        when(response.responseBody()).thenReturn(Optional.of(AbortableInputStream.create(inputStream)));
+        when(httpRequest.call()).thenReturn(response);
+        when(httpClient.prepareRequest(any())).thenReturn(httpRequest);
+
+        AwsConnectorExecutor executor = new AwsConnectorExecutor(createConnector(), httpClient);
+
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        ModelTensorOutput modelTensorOutput = executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+        Map<String, ?> dataAsMap = modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap();
+        Assert.assertEquals(2, dataAsMap.size());
+        Assert.assertEquals("välue", dataAsMap.get("key"));
+    }
+
+    @Test
+    public void getSignerParams_CachedUntilCredentialChange() {
+        Connector connector = createConnector();
+        AwsConnectorExecutor executor = new AwsConnectorExecutor(connector, httpClient);
+
+        Aws4SignerParams params = executor.getSignerParams();
+        Assert.assertSame(params, executor.getSignerParams());
+        Assert.assertEquals("test_key", params.awsCredentials().accessKeyId());
+        Assert.assertEquals("sagemaker", params.signingName());
+        Assert.assertEquals("us-west-2", params.signingRegion().id());
+
+        connector.decrypt((c) -> "rotated_" + encryptor.decrypt(c));
+        Aws4SignerParams rotatedParams = executor.getSignerParams();
+        Assert.assertNotSame(params, rotatedParams);
+        Assert.assertEquals("rotated_test_key", rotatedParams.awsCredentials().accessKeyId());
+        Assert.assertSame(rotatedParams, executor.getSignerParams());
+    }
+
+    @Test
+    public void constructor_SharedHttpClient() {
+        Connector connector = createConnector();
+        SdkHttpClient sharedHttpClient = new AwsConnectorExecutor(connector).getHttpClient();
+        Assert.assertNotNull(sharedHttpClient);
+        Assert.assertSame(sharedHttpClient, new AwsConnectorExecutor(connector).getHttpClient());
+    }
+
+    private Connector createConnector() {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .build();
+        Map<String, String> credential = ImmutableMap.of(ACCESS_KEY_FIELD, encryptor.encrypt("test_key"), SECRET_KEY_FIELD, encryptor.encrypt("test_secret_key"));
+        Map<String, String> parameters = ImmutableMap.of(REGION_FIELD, "us-west-2", SERVICE_NAME_FIELD, "sagemaker");
+        Connector connector = AwsConnector.awsConnectorBuilder().name("test connector").version("1").protocol("http").parameters(parameters).credential(credential).actions(Arrays.asList(predictAction)).build();
+        connector.decrypt((c) -> encryptor.decrypt(c));
+        return connector;
+    }
 }
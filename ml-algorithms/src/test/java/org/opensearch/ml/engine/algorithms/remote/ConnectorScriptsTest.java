@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.ingest.TestTemplateService;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.TemplateScript;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectorScriptsTest {
+
+    private static final String POST_PROCESS_FUNCTION = "return params.result + '${parameters.suffix}';";
+
+    @Mock
+    ScriptService scriptService;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("test result"));
+    }
+
+    private Connector createConnector(String preProcessFunction, String postProcessFunction, Map<String, String> parameters) {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .preProcessFunction(preProcessFunction)
+                .postProcessFunction(postProcessFunction)
+                .build();
+        return HttpConnector.builder().name("test connector").version("1").protocol("http").parameters(parameters).actions(Arrays.asList(predictAction)).build();
+    }
+
+    @Test
+    public void getScript_CompiledAtDeploy() {
+        Connector connector = createConnector(null, POST_PROCESS_FUNCTION, ImmutableMap.of("suffix", "!"));
+        ConnectorScripts connectorScripts = new ConnectorScripts(scriptService, connector);
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService).compile(captor.capture(), any());
+        Assert.assertEquals("return params.result + '!';", captor.getValue().getIdOrCode());
+
+        TemplateScript.Factory factory = connectorScripts.getScript(POST_PROCESS_FUNCTION, ImmutableMap.of("suffix", "!", "input", "hello"));
+        Assert.assertSame(factory, connectorScripts.getScript(POST_PROCESS_FUNCTION, ImmutableMap.of("suffix", "!")));
+        verify(scriptService, times(1)).compile(any(), any());
+    }
+
+    @Test
+    public void getScript_ParameterOverridden() {
+        Connector connector = createConnector(null, POST_PROCESS_FUNCTION, ImmutableMap.of("suffix", "!"));
+        ConnectorScripts connectorScripts = new ConnectorScripts(scriptService, connector);
+        connectorScripts.getScript(POST_PROCESS_FUNCTION, ImmutableMap.of("suffix", "?"));
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService, times(2)).compile(captor.capture(), any());
+        Assert.assertEquals("return params.result + '?';", captor.getValue().getIdOrCode());
+    }
+
+    @Test
+    public void getScript_RequestParameter() {
+        Connector connector = createConnector(null, POST_PROCESS_FUNCTION, null);
+        ConnectorScripts connectorScripts = new ConnectorScripts(scriptService, connector);
+        verify(scriptService, never()).compile(any(), any());
+        connectorScripts.getScript(POST_PROCESS_FUNCTION, ImmutableMap.of("suffix", "?"));
+        verify(scriptService, times(1)).compile(any(), any());
+    }
+
+    @Test
+    public void getScript_BuildInFunction() {
+        Connector connector = createConnector(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT, null, null);
+        new ConnectorScripts(scriptService, connector);
+        verify(scriptService, never()).compile(any(), any());
+    }
+}
@@ -185,9 +185,43 @@ public class ConnectorUtilsTest {
         Assert.assertEquals("sentence_embedding", tensors.getMlModelTensors().get(0).getName());
         Assert.assertNull(tensors.getMlModelTensors().get(0).getDataAsMap());
         Assert.assertEquals(3, tensors.getMlModelTensors().get(0).getData().length);
-        Assert.assertEquals(-0.014555434, tensors.getMlModelTensors().get(0).getData()[0]);
-        Assert.assertEquals(-0.0002135904, tensors.getMlModelTensors().get(0).getData()[1]);
-        Assert.assertEquals(0.0035105038, tensors.getMlModelTensors().get(0).getData()[2]);
+        Assert.assertEquals(-0.014555434f, tensors.getMlModelTensors().get(0).getData()[0].floatValue(), 1e-9f);
+        Assert.assertEquals(-0.0002135904f, tensors.getMlModelTensors().get(0).getData()[1].floatValue(), 1e-9f);
+        Assert.assertEquals(0.0035105038f, tensors.getMlModelTensors().get(0).getData()[2].floatValue(), 1e-9f);
+    }
+
+    @Test
+    public void processOutput_PostprocessFunction_CohereEmbedding() throws IOException {
+        processOutput_BuildInPostprocessFunction(MLPostProcessFunction.COHERE_EMBEDDING, "{\"id\":\"1\",\"texts\":[\"a\",\"b\"],\"embeddings\":[[1.5,-2],[0.25,3]]}");
+    }
+
+    @Test
+    public void processOutput_PostprocessFunction_DefaultEmbedding() throws IOException {
+        processOutput_BuildInPostprocessFunction(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[1.5,-2],[0.25,3]]");
+    }
+
+    @Test
+    public void processOutput_PostprocessFunction_UnexpectedResponse() throws IOException {
+        // Falls back to JsonPath, which reads embeddings of any object
+        processOutput_BuildInPostprocessFunction(MLPostProcessFunction.DEFAULT_EMBEDDING, "{\"a\":[1.5,-2],\"b\":[0.25,3]}");
+    }
+
+    private void processOutput_BuildInPostprocessFunction(String postProcessFunction, String modelResponse) throws IOException {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .postProcessFunction(postProcessFunction)
+                .build();
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        ModelTensors tensors = ConnectorUtils.processOutput(modelResponse, connector, scriptService, ImmutableMap.of());
+        Assert.assertEquals(2, tensors.getMlModelTensors().size());
+        Assert.assertArrayEquals(new long[] {2}, tensors.getMlModelTensors().get(0).getShape());
+        Assert.assertEquals(1.5f, tensors.getMlModelTensors().get(0).getData()[0].floatValue(), 0.0f);
+        Assert.assertEquals(-2f, tensors.getMlModelTensors().get(0).getData()[1].floatValue(), 0.0f);
+        Assert.assertEquals(0.25f, tensors.getMlModelTensors().get(1).getData()[0].floatValue(), 0.0f);
+        Assert.assertEquals(3f, tensors.getMlModelTensors().get(1).getData()[1].floatValue(), 0.0f);
     }
 
     private void processInput_TextDocsInputDataSet_PreprocessFunction(String requestBody, List<String> inputs, String expectedProcessedInput, String preProcessName, String resultKey) {
@@ -7,9 +7,12 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpVersion;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicStatusLine;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -17,10 +20,13 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ingest.TestTemplateService;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.ConnectorRateLimit;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
@@ -33,12 +39,15 @@ import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
 import org.opensearch.script.ScriptService;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HttpJsonConnectorExecutorTest {
@@ -57,6 +66,7 @@ public class HttpJsonConnectorExecutorTest {
     @Before
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"));
     }
 
     @Test
@@ -96,6 +106,29 @@ public class HttpJsonConnectorExecutorTest {
         Assert.assertEquals("test result", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("response"));
     }
 
+    @Test
+    public void executePredict_EventStreamResponse() throws IOException {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\", \"stream\": true}")
+                .build();
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        when(httpClient.execute(any())).thenReturn(response);
+        String events = "data: {\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"test\"}}]}\n\n"
+                + "data: {\"choices\":[{\"index\":0,\"delta\":{\"content\":\" result\"}}]}\n\n"
+                + "data: [DONE]\n\n";
+        HttpEntity entity = new StringEntity(events, ContentType.create("text/event-stream", StandardCharsets.UTF_8));
+        when(response.getEntity()).thenReturn(entity);
+        when(executor.getHttpClient()).thenReturn(httpClient);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Streaming response from remote service is not supported");
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+    }
+
     @Test
     public void executePredict_TextDocsInput_NoPreprocessFunction() throws IOException {
         ConnectorAction predictAction = ConnectorAction.builder()
@@ -153,7 +186,102 @@ public class HttpJsonConnectorExecutorTest {
         ModelTensorOutput modelTensorOutput = executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
         Assert.assertEquals(1, modelTensorOutput.getMlModelOutputs().size());
         Assert.assertEquals("sentence_embedding", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getName());
-        Assert.assertArrayEquals(new Number[] {-0.014555434, -0.002135904, 0.0035105038}, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getData());
-        Assert.assertArrayEquals(new Number[] {-0.014555434, -0.002135904, 0.0035105038}, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(1).getData());
+        Assert.assertArrayEquals(new float[] {-0.014555434f, -0.002135904f, 0.0035105038f}, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getFloatData(), 1e-9f);
+        Assert.assertArrayEquals(new float[] {-0.014555434f, -0.002135904f, 0.0035105038f}, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(1).getFloatData(), 1e-9f);
+    }
+
+    @Test
+    public void executePredict_TextDocsInput_SplitByMaxBatchSize() throws IOException {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": ${parameters.input}}")
+                .maxBatchSize(2)
+                .build();
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity())
+                .thenReturn(new StringEntity("{\"response\": \"result1\"}"))
+                .thenReturn(new StringEntity("{\"response\": \"result2\"}"));
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        when(executor.getHttpClient()).thenReturn(httpClient);
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2", "test doc3")).build();
+        ModelTensorOutput modelTensorOutput = executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+        verify(httpClient, times(2)).execute(any());
+        Assert.assertEquals(2, modelTensorOutput.getMlModelOutputs().size());
+        Assert.assertEquals("result1", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("response"));
+        Assert.assertEquals("result2", modelTensorOutput.getMlModelOutputs().get(1).getMlModelTensors().get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void executePredict_TooManyRequests() throws IOException {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        exceptionRule.expectMessage("Error from remote service: {\"error\": \"rate limit exceeded\"}");
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .build();
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, 429, "Too Many Requests"));
+        when(response.getEntity()).thenReturn(new StringEntity("{\"error\": \"rate limit exceeded\"}"));
+        when(executor.getHttpClient()).thenReturn(httpClient);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+    }
+
+    @Test
+    public void executePredict_UnknownStatusCode() throws IOException {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .build();
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        when(httpClient.execute(any())).thenReturn(response);
+        // 599 has no RestStatus
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, 599, "Network Connect Timeout"));
+        when(response.getEntity()).thenReturn(new StringEntity("{\"error\": \"timeout\"}"));
+        when(executor.getHttpClient()).thenReturn(httpClient);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        try {
+            executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+            Assert.fail("Expected OpenSearchStatusException");
+        } catch (OpenSearchStatusException e) {
+            Assert.assertEquals(RestStatus.INTERNAL_SERVER_ERROR, e.status());
+        }
+    }
+
+    @Test
+    public void executePredict_RateLimited() throws IOException {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        exceptionRule.expectMessage("Remote model rate limit exceeded");
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://test.com/mock")
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .build();
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        executor.setRateLimiter(new RemoteRateLimiter(ConnectorRateLimit.builder().requestsPerSecond(0.001).maxWaitMillis(0L).build(), 1));
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        when(executor.getHttpClient()).thenReturn(httpClient);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        executor.executePredict(mlInput);
+        // the budget of one request is used up, the next request is rejected instead of sent
+        try {
+            executor.executePredict(mlInput);
+        } finally {
+            verify(httpClient, times(1)).execute(any());
+        }
     }
 }
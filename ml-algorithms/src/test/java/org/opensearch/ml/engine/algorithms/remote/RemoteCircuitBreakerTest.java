@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RemoteCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    public void openAfterConsecutiveFailures() {
+        RemoteCircuitBreaker circuitBreaker = new RemoteCircuitBreaker("http://test.com", 2, 1000, clock::get);
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        Assert.assertFalse(circuitBreaker.isOpen());
+        circuitBreaker.onFailure();
+        Assert.assertTrue(circuitBreaker.isOpen());
+        assertFastFail(circuitBreaker);
+    }
+
+    @Test
+    public void trialRequestAfterOpenMillis() {
+        RemoteCircuitBreaker circuitBreaker = new RemoteCircuitBreaker("http://test.com", 1, 1000, clock::get);
+        circuitBreaker.onFailure();
+        clock.set(TimeUnit.MILLISECONDS.toNanos(1000));
+        // one trial request is let through, others still fail fast
+        circuitBreaker.beforeRequest();
+        assertFastFail(circuitBreaker);
+        // the trial request fails, the breaker opens for another second
+        circuitBreaker.onFailure();
+        assertFastFail(circuitBreaker);
+        clock.set(TimeUnit.MILLISECONDS.toNanos(2000));
+        circuitBreaker.beforeRequest();
+        circuitBreaker.onSuccess();
+        Assert.assertFalse(circuitBreaker.isOpen());
+        circuitBreaker.beforeRequest();
+    }
+
+    @Test
+    public void breakerKey() {
+        Assert.assertEquals("https://api.openai.com", RemoteCircuitBreaker.breakerKey("https://api.openai.com/v1/embeddings"));
+        Assert.assertEquals("not a url", RemoteCircuitBreaker.breakerKey("not a url"));
+    }
+
+    private void assertFastFail(RemoteCircuitBreaker circuitBreaker) {
+        try {
+            circuitBreaker.beforeRequest();
+            Assert.fail("request should fail fast");
+        } catch (OpenSearchStatusException e) {
+            Assert.assertEquals(RestStatus.SERVICE_UNAVAILABLE, e.status());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.ml.common.connector.ConnectorRateLimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RemoteRateLimiterTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    public void reserve_RequestsPerSecond() {
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.builder().requestsPerSecond(2.0).build();
+        RemoteRateLimiter rateLimiter = new RemoteRateLimiter(rateLimit, 1, clock::get);
+        Assert.assertEquals(0, rateLimiter.reserve(0));
+        Assert.assertEquals(0, rateLimiter.reserve(0));
+        // the bucket is empty, the third request waits half a second, the fourth one second
+        assertNanos(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.reserve(0));
+        assertNanos(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve(0));
+        clock.set(TimeUnit.SECONDS.toNanos(3));
+        Assert.assertEquals(0, rateLimiter.reserve(0));
+    }
+
+    @Test
+    public void reserve_TokensPerMinute() {
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.builder().tokensPerMinute(600L).build();
+        RemoteRateLimiter rateLimiter = new RemoteRateLimiter(rateLimit, 1, clock::get);
+        Assert.assertEquals(0, rateLimiter.reserve(500));
+        // 10 tokens per second, 100 tokens left, 100 more tokens missing
+        assertNanos(TimeUnit.SECONDS.toNanos(10), rateLimiter.reserve(200));
+    }
+
+    @Test
+    public void reserve_ClusterScope() {
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.builder()
+                .requestsPerSecond(4.0)
+                .scope(ConnectorRateLimit.Scope.CLUSTER)
+                .build();
+        // every one of 4 nodes gets one request per second
+        RemoteRateLimiter rateLimiter = new RemoteRateLimiter(rateLimit, 4, clock::get);
+        Assert.assertEquals(0, rateLimiter.reserve(0));
+        assertNanos(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve(0));
+    }
+
+    @Test
+    public void reserve_ExceedMaxWait() {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        exceptionRule.expectMessage("Remote model rate limit exceeded, request can't be sent in 1500ms");
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.builder().requestsPerSecond(1.0).maxWaitMillis(1500L).build();
+        RemoteRateLimiter rateLimiter = new RemoteRateLimiter(rateLimit, 1, clock::get);
+        Assert.assertEquals(0, rateLimiter.reserve(0));
+        assertNanos(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve(0));
+        rateLimiter.reserve(0);
+    }
+
+    @Test
+    public void tryReserve_NeverWaits() {
+        ConnectorRateLimit rateLimit = ConnectorRateLimit.builder().requestsPerSecond(1.0).tokensPerMinute(600L).build();
+        RemoteRateLimiter rateLimiter = new RemoteRateLimiter(rateLimit, 1, clock::get);
+        Assert.assertTrue(rateLimiter.tryReserve(10));
+        // no request permit is free, nothing is taken from the token bucket either
+        Assert.assertFalse(rateLimiter.tryReserve(10));
+        clock.set(TimeUnit.SECONDS.toNanos(1));
+        Assert.assertTrue(rateLimiter.tryReserve(10));
+        Assert.assertFalse(rateLimiter.tryReserve(10));
+    }
+
+    private void assertNanos(long expected, long actual) {
+        Assert.assertEquals(expected, actual, 1000);
+    }
+}
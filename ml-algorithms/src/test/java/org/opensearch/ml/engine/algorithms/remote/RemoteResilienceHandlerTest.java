@@ -0,0 +1,323 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.ConnectorResilience;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+public class RemoteResilienceHandlerTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final AtomicInteger requests = new AtomicInteger(0);
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void executePredict_RetryServiceUnavailable() {
+        // the stub fails the first two requests, and asks to retry after 0 seconds
+        stub("/retry", (request) -> request <= 2 ? 503 : 200, "0");
+        HttpJsonConnectorExecutor connectorExecutor = connectorExecutor("/retry", ConnectorResilience.builder().maxRetries(2).retryBackoffMillis(1L).build());
+        long retries = RemoteConnectorStats.getRetryCount();
+
+        ModelTensorOutput output = connectorExecutor.executePredict(mlInput());
+
+        Assert.assertEquals(3, requests.get());
+        Assert.assertEquals(retries + 2, RemoteConnectorStats.getRetryCount());
+        Assert.assertEquals("ok", output.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void executePredict_NoRetryForBadRequest() {
+        stub("/bad_request", (request) -> 400, null);
+        HttpJsonConnectorExecutor connectorExecutor = connectorExecutor("/bad_request", ConnectorResilience.builder().maxRetries(2).build());
+        try {
+            connectorExecutor.executePredict(mlInput());
+            Assert.fail("request should fail");
+        } catch (OpenSearchStatusException e) {
+            Assert.assertEquals(RestStatus.BAD_REQUEST, e.status());
+        }
+        Assert.assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void executePredict_RetryAfterLongerThanMaxBackoff() {
+        stub("/retry_after", (request) -> 429, "60");
+        HttpJsonConnectorExecutor connectorExecutor = connectorExecutor(
+                "/retry_after",
+                ConnectorResilience.builder().maxRetries(2).maxRetryBackoffMillis(1000L).build()
+        );
+        try {
+            connectorExecutor.executePredict(mlInput());
+            Assert.fail("request should fail");
+        } catch (OpenSearchStatusException e) {
+            Assert.assertEquals(RestStatus.TOO_MANY_REQUESTS, e.status());
+            Assert.assertEquals(Arrays.asList("60"), e.getHeader(RemoteResilienceHandler.RETRY_AFTER_HEADER));
+        }
+        Assert.assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void executePredict_CircuitBreakerOpen() {
+        stub("/down", (request) -> 500, null);
+        HttpJsonConnectorExecutor connectorExecutor = connectorExecutor(
+                "/down",
+                ConnectorResilience.builder().circuitBreakerFailureThreshold(2).circuitBreakerOpenMillis(60_000L).build()
+        );
+        for (int i = 0; i < 2; i++) {
+            try {
+                connectorExecutor.executePredict(mlInput());
+                Assert.fail("request should fail");
+            } catch (OpenSearchStatusException e) {
+                Assert.assertEquals(RestStatus.INTERNAL_SERVER_ERROR, e.status());
+            }
+        }
+        exceptionRule.expect(OpenSearchStatusException.class);
+        exceptionRule.expectMessage("Circuit breaker is open for remote endpoint");
+        try {
+            connectorExecutor.executePredict(mlInput());
+        } finally {
+            Assert.assertEquals(2, requests.get());
+        }
+    }
+
+    @Test
+    public void invoke_RateLimitedWhileCircuitBreakerHalfOpen() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(
+                ConnectorResilience.builder().circuitBreakerFailureThreshold(1).circuitBreakerOpenMillis(1L).build(),
+                null
+        );
+        String endpoint = "http://half-open.test.com/mock";
+        try {
+            handler.invoke(endpoint, () -> {}, () -> true, () -> {
+                throw new MLException("Fail to execute http connector", new SocketException("Connection reset"));
+            });
+            Assert.fail("request should fail");
+        } catch (MLException e) {
+            Assert.assertTrue(RemoteCircuitBreaker.get(endpoint, 1, 1L).isOpen());
+        }
+        sleep(10);
+
+        // the rate limiter rejects the trial request before it's sent
+        try {
+            handler.invoke(endpoint, () -> {
+                throw new OpenSearchStatusException("Remote model rate limit exceeded", RestStatus.TOO_MANY_REQUESTS);
+            }, () -> true, () -> "ok");
+            Assert.fail("request should fail");
+        } catch (OpenSearchStatusException e) {
+            Assert.assertEquals(RestStatus.TOO_MANY_REQUESTS, e.status());
+        }
+
+        // the next request is let through as the trial request and closes the breaker
+        Assert.assertEquals("ok", handler.invoke(endpoint, () -> {}, () -> true, () -> "ok"));
+        Assert.assertFalse(RemoteCircuitBreaker.get(endpoint, 1, 1L).isOpen());
+    }
+
+    @Test
+    public void invoke_HedgeSlowRequest() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(ConnectorResilience.builder().hedgePercentile(90.0).build(), executor);
+        for (int i = 0; i < RemoteResilienceHandler.MIN_LATENCY_SAMPLES; i++) {
+            handler.recordLatency(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        AtomicInteger attempts = new AtomicInteger(0);
+        long hedges = RemoteConnectorStats.getHedgeCount();
+        String response = handler.invoke("http://test.com/mock", () -> {}, () -> true, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                // the first attempt hangs, the hedged one answers
+                sleep(5000);
+                return "slow";
+            }
+            return "fast";
+        });
+        Assert.assertEquals("fast", response);
+        Assert.assertEquals(hedges + 1, RemoteConnectorStats.getHedgeCount());
+    }
+
+    @Test
+    public void invoke_HedgeRunsBeforeHedge() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(ConnectorResilience.builder().hedgePercentile(90.0).build(), executor);
+        for (int i = 0; i < RemoteResilienceHandler.MIN_LATENCY_SAMPLES; i++) {
+            handler.recordLatency(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        AtomicInteger permits = new AtomicInteger(0);
+        AtomicInteger hedgePermits = new AtomicInteger(0);
+        AtomicInteger attempts = new AtomicInteger(0);
+        String response = handler.invoke("http://test.com/mock", permits::incrementAndGet, () -> hedgePermits.incrementAndGet() > 0, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(5000);
+                return "slow";
+            }
+            return "fast";
+        });
+        Assert.assertEquals("fast", response);
+        // the hedged request takes a permit of its own, without waiting for it
+        Assert.assertEquals(1, permits.get());
+        Assert.assertEquals(1, hedgePermits.get());
+    }
+
+    @Test
+    public void invoke_SkipHedgeWhenRateLimited() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(ConnectorResilience.builder().hedgePercentile(90.0).build(), executor);
+        for (int i = 0; i < RemoteResilienceHandler.MIN_LATENCY_SAMPLES; i++) {
+            handler.recordLatency(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        AtomicInteger hedgePermits = new AtomicInteger(0);
+        AtomicInteger attempts = new AtomicInteger(0);
+        long hedges = RemoteConnectorStats.getHedgeCount();
+        // no permit is free for the hedged request
+        String response = handler.invoke("http://test.com/mock", () -> {}, () -> hedgePermits.incrementAndGet() < 0, () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "slow";
+        });
+        Assert.assertEquals("slow", response);
+        Assert.assertEquals(1, attempts.get());
+        Assert.assertEquals(1, hedgePermits.get());
+        Assert.assertEquals(hedges, RemoteConnectorStats.getHedgeCount());
+    }
+
+    @Test
+    public void invoke_RetryConnectionError() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(ConnectorResilience.builder().maxRetries(1).retryBackoffMillis(1L).build(), null);
+        AtomicInteger attempts = new AtomicInteger(0);
+        String response = handler.invoke("http://test.com/mock", () -> {}, () -> true, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new MLException("Fail to execute http connector", new SocketException("Connection reset"));
+            }
+            return "ok";
+        });
+        Assert.assertEquals("ok", response);
+        Assert.assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void latencyPercentile() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(ConnectorResilience.builder().hedgePercentile(95.0).build(), executor);
+        Assert.assertEquals(-1, handler.latencyPercentile(95));
+        for (int i = 1; i <= 100; i++) {
+            handler.recordLatency(i);
+        }
+        Assert.assertEquals(95, handler.latencyPercentile(95));
+        Assert.assertEquals(50, handler.latencyPercentile(50));
+    }
+
+    @Test
+    public void backoffMillis() {
+        RemoteResilienceHandler handler = new RemoteResilienceHandler(
+                ConnectorResilience.builder().retryBackoffMillis(100L).maxRetryBackoffMillis(1000L).build(),
+                null
+        );
+        for (int retry = 0; retry < 10; retry++) {
+            long backoff = handler.backoffMillis(retry, new MLException("failure"));
+            Assert.assertTrue(backoff >= 0 && backoff <= Math.min(1000, 100L << retry));
+        }
+        OpenSearchStatusException tooManyRequests = new OpenSearchStatusException("too many requests", RestStatus.TOO_MANY_REQUESTS);
+        tooManyRequests.addHeader(RemoteResilienceHandler.RETRY_AFTER_HEADER, "1");
+        Assert.assertEquals(1000, handler.backoffMillis(0, tooManyRequests));
+    }
+
+    @Test
+    public void isRetryable() {
+        Assert.assertTrue(RemoteResilienceHandler.isRetryable(new OpenSearchStatusException("error", RestStatus.TOO_MANY_REQUESTS)));
+        Assert.assertTrue(RemoteResilienceHandler.isRetryable(new OpenSearchStatusException("error", RestStatus.BAD_GATEWAY)));
+        Assert.assertFalse(RemoteResilienceHandler.isRetryable(new OpenSearchStatusException("error", RestStatus.BAD_REQUEST)));
+        Assert.assertFalse(RemoteResilienceHandler.isRetryable(new IllegalArgumentException("error")));
+        Assert.assertFalse(RemoteResilienceHandler.isServiceDown(new OpenSearchStatusException("error", RestStatus.TOO_MANY_REQUESTS)));
+    }
+
+    private interface StatusByRequest {
+        int status(int request);
+    }
+
+    private void stub(String path, StatusByRequest statusByRequest, String retryAfter) {
+        server.createContext(path, exchange -> {
+            int status = statusByRequest.status(requests.incrementAndGet());
+            byte[] body = (status == 200 ? "{\"response\": \"ok\"}" : "{\"error\": \"failed\"}").getBytes(StandardCharsets.UTF_8);
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().add(RemoteResilienceHandler.RETRY_AFTER_HEADER, retryAfter);
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+    }
+
+    private HttpJsonConnectorExecutor connectorExecutor(String path, ConnectorResilience resilience) {
+        ConnectorAction predictAction = ConnectorAction.builder()
+                .actionType(ConnectorAction.ActionType.PREDICT)
+                .method("POST")
+                .url("http://localhost:" + server.getAddress().getPort() + path)
+                .requestBody("{\"input\": \"${parameters.input}\"}")
+                .build();
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+        HttpJsonConnectorExecutor connectorExecutor = spy(new HttpJsonConnectorExecutor(connector));
+        // the default client refuses loopback addresses
+        when(connectorExecutor.getHttpClient()).thenAnswer(invocation -> HttpClients.createDefault());
+        connectorExecutor.setResilienceHandler(new RemoteResilienceHandler(resilience, null));
+        return connectorExecutor;
+    }
+
+    private MLInput mlInput() {
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        return MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TextDocsBatcherTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void split_NoLimit() {
+        List<String> docs = Arrays.asList("doc1", "doc2", "doc3");
+        Assert.assertEquals(Collections.singletonList(docs), TextDocsBatcher.split(docs, null, null));
+    }
+
+    @Test
+    public void split_MaxBatchSize() {
+        List<List<String>> batches = TextDocsBatcher.split(Arrays.asList("doc1", "doc2", "doc3"), 2, null);
+        Assert.assertEquals(Arrays.asList(Arrays.asList("doc1", "doc2"), Arrays.asList("doc3")), batches);
+    }
+
+    @Test
+    public void split_MaxPayloadBytes() {
+        // a doc larger than the limit is sent alone
+        List<List<String>> batches = TextDocsBatcher.split(Arrays.asList("doc1", "doc2", "long doc3", "doc4"), null, 8);
+        Assert.assertEquals(Arrays.asList(Arrays.asList("doc1", "doc2"), Arrays.asList("long doc3"), Arrays.asList("doc4")), batches);
+    }
+
+    @Test
+    public void split_EmptyDocs() {
+        List<List<String>> batches = TextDocsBatcher.split(Collections.emptyList(), 2, null);
+        Assert.assertEquals(Collections.singletonList(Collections.emptyList()), batches);
+    }
+
+    @Test
+    public void invokeAll_KeepOrder() {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            batches.add(Collections.singletonList("doc" + i));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<String> results = TextDocsBatcher.invokeAll(batches, docs -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return docs.get(0);
+        }, 2, executor);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals("doc" + i, results.get(i));
+        }
+        Assert.assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void invokeAll_NullExecutor() {
+        List<List<String>> batches = Arrays.asList(Arrays.asList("doc1"), Arrays.asList("doc2"));
+        String thread = Thread.currentThread().getName();
+        List<String> results = TextDocsBatcher.invokeAll(batches, docs -> {
+            Assert.assertEquals(thread, Thread.currentThread().getName());
+            return docs.get(0);
+        }, 2, null);
+        Assert.assertEquals(Arrays.asList("doc1", "doc2"), results);
+    }
+
+    @Test
+    public void invokeAll_Failure() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("failed to predict doc2");
+        List<List<String>> batches = Arrays.asList(Arrays.asList("doc1"), Arrays.asList("doc2"), Arrays.asList("doc3"));
+        TextDocsBatcher.invokeAll(batches, docs -> {
+            if ("doc2".equals(docs.get(0))) {
+                throw new IllegalArgumentException("failed to predict doc2");
+            }
+            return docs.get(0);
+        }, 3, executor);
+    }
+}
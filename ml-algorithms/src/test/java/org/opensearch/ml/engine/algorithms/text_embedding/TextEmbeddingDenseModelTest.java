@@ -12,6 +12,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opensearch.ResourceNotFoundException;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -31,6 +35,7 @@ import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -40,6 +45,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.HUGGINGFACE_TRANSFORMERS;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
@@ -163,6 +169,25 @@ public class TextEmbeddingDenseModelTest {
         textEmbeddingDenseModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_ReturnBytes() throws IOException {
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        ModelResultFilter resultFilter = ModelResultFilter.builder().returnBytes(true).targetResponse(Arrays.asList(SENTENCE_EMBEDDING)).build();
+        TextDocsInputDataSet textDocsInputDataSet = inputDataSet.toBuilder().resultFilter(resultFilter).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(2, mlModelOutputs.size());
+        for (ModelTensors tensors : mlModelOutputs) {
+            ModelTensor tensor = tensors.getMlModelTensors().get(0);
+            assertEquals(dimension * Float.BYTES, tensor.getByteBuffer().array().length);
+        }
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        output.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertTrue(BytesReference.bytes(builder).utf8ToString().contains("\"byte_buffer\""));
+        textEmbeddingDenseModel.close();
+    }
+
     @Test
     public void initModel_predict_TorchScript_Huggingface() throws URISyntaxException {
         String modelFile = "all-MiniLM-L6-v2_torchscript_huggingface.zip";
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ParallelUtilsTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void forEach_BoundedParallelism() {
+        AtomicIntegerArray runs = new AtomicIntegerArray(20);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ParallelUtils.forEach(20, i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            runs.incrementAndGet(i);
+        }, 2, executor);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(1, runs.get(i));
+        }
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void forEach_ExecutorRejects() {
+        String thread = Thread.currentThread().getName();
+        AtomicInteger runs = new AtomicInteger();
+        ParallelUtils.forEach(3, i -> {
+            Assert.assertEquals(thread, Thread.currentThread().getName());
+            runs.incrementAndGet();
+        }, 3, command -> {
+            throw new RejectedExecutionException("rejected");
+        });
+        Assert.assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void forEach_Failure() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("failed task 1");
+        ParallelUtils.forEach(3, i -> {
+            if (i == 1) {
+                throw new IllegalArgumentException("failed task 1");
+            }
+        }, 3, executor);
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.bulk_inference;
+
+import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint.CHECKPOINT_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.mapper.RoutingFieldMapper;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.utils.MLExceptionUtils;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs a bulk inference task. The source index is read with a point in time in slices, every slice is scanned
+ * page by page sorted by doc id, and every page is predicted as one batch with the deployed model and bulk written
+ * to the target index. At most max in flight batches slices are scanned at the same time. Every slice is restricted
+ * to one shard, as there are at least as many slices as shards, so the doc id is a unique sort value in the slice
+ * and the checkpoint of the slice is the doc id of its last written doc.
+ */
+@Log4j2
+public class BulkInferenceJob {
+    // The point in time is kept alive for this time after the last page read, a stopped task can be resumed in this time
+    public static final TimeValue PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(30);
+    static final String SENTENCE_EMBEDDING = "sentence_embedding";
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final MLTaskManager mlTaskManager;
+    private final String taskId;
+    private final FunctionName functionName;
+    private final User user;
+    // Restores the thread context of the user who started the task, the source and target index are accessed as the user
+    private final Supplier<ThreadContext.StoredContext> contextSupplier;
+    private final MLBulkInferenceInput input;
+    private final List<MLBulkInferenceCheckpoint.Slice> slices;
+    private volatile String pitId;
+    private volatile long totalDocs;
+    private final AtomicLong processedDocs;
+    private final AtomicLong failedDocs;
+    private final AtomicInteger nextSlice = new AtomicInteger(0);
+    private final AtomicInteger runningSliceWorkers = new AtomicInteger(0);
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+    private long nextBatchTimeInNanos = 0;
+
+    public BulkInferenceJob(
+        Client client,
+        ThreadPool threadPool,
+        MLTaskManager mlTaskManager,
+        String taskId,
+        FunctionName functionName,
+        User user,
+        Supplier<ThreadContext.StoredContext> contextSupplier,
+        MLBulkInferenceCheckpoint checkpoint
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.mlTaskManager = mlTaskManager;
+        this.taskId = taskId;
+        this.functionName = functionName;
+        this.user = user;
+        this.contextSupplier = contextSupplier;
+        this.input = checkpoint.getInput();
+        this.slices = new ArrayList<>(checkpoint.getSlices());
+        this.pitId = checkpoint.getPitId();
+        this.totalDocs = checkpoint.getTotalDocs();
+        this.processedDocs = new AtomicLong(checkpoint.getProcessedDocs());
+        this.failedDocs = new AtomicLong(checkpoint.getFailedDocs());
+    }
+
+    /**
+     * Start the task. Creates the point in time of source index and counts the docs for a new task, a resumed task
+     * continues with the point in time and slices of its checkpoint.
+     */
+    public void start() {
+        if (pitId != null) {
+            run();
+            return;
+        }
+        CreatePitRequest createPitRequest = new CreatePitRequest(PIT_KEEP_ALIVE, false, input.getSourceIndex());
+        try (ThreadContext.StoredContext context = contextSupplier.get()) {
+            client.createPit(createPitRequest, ActionListener.wrap(pitResponse -> {
+                pitId = pitResponse.getId();
+                countDocs();
+            }, this::onFailure));
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    private void countDocs() {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(QueryBuilders.existsQuery(input.getSourceField()))
+            .size(0)
+            .trackTotalHits(true)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(PIT_KEEP_ALIVE));
+        try (ThreadContext.StoredContext context = contextSupplier.get()) {
+            client.search(new SearchRequest().source(searchSourceBuilder), ActionListener.wrap(r -> {
+                totalDocs = r.getHits().getTotalHits().value;
+                Map<String, Object> updatedFields = new HashMap<>();
+                updatedFields.put(STATE_FIELD, MLTaskState.RUNNING);
+                updatedFields.put(PROGRESS_FIELD, 0f);
+                updatedFields.put(CHECKPOINT_FIELD, checkpointAsMap());
+                mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, false);
+                run();
+            }, this::onFailure));
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    private void run() {
+        int sliceWorkers = Math.min(input.getMaxInFlightBatches(), slices.size());
+        log.info("Start bulk inference task {} with {} slices, {} docs to predict", taskId, slices.size(), totalDocs);
+        runningSliceWorkers.set(sliceWorkers);
+        for (int i = 0; i < sliceWorkers; i++) {
+            scanNextSlice();
+        }
+    }
+
+    private void scanNextSlice() {
+        if (failed.get()) {
+            return;
+        }
+        int slice = nextSlice.getAndIncrement();
+        while (slice < slices.size() && getSlice(slice).isDone()) {
+            slice = nextSlice.getAndIncrement();
+        }
+        if (slice < slices.size()) {
+            searchSlice(slice);
+        } else if (runningSliceWorkers.decrementAndGet() == 0) {
+            onComplete();
+        }
+    }
+
+    private void searchSlice(int slice) {
+        if (failed.get()) {
+            return;
+        }
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(QueryBuilders.existsQuery(input.getSourceField()))
+            .size(input.getBatchSize())
+            .sort(FieldSortBuilder.DOC_FIELD_NAME)
+            .slice(new SliceBuilder(slice, slices.size()))
+            .trackTotalHits(false)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(PIT_KEEP_ALIVE));
+        if (input.isWriteToSourceIndex()) {
+            searchSourceBuilder.fetchSource(new String[] { input.getSourceField() }, null);
+        }
+        Integer searchAfter = getSlice(slice).getSearchAfter();
+        if (searchAfter != null) {
+            searchSourceBuilder.searchAfter(new Object[] { searchAfter });
+        }
+        try (ThreadContext.StoredContext context = contextSupplier.get()) {
+            client
+                .search(
+                    new SearchRequest().source(searchSourceBuilder),
+                    ActionListener.wrap(r -> onSearchResponse(slice, r), this::onFailure)
+                );
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    private void onSearchResponse(int slice, SearchResponse response) throws IOException {
+        SearchHit[] hits = response.getHits().getHits();
+        if (hits.length == 0) {
+            updateSlice(slice, null, true);
+            updateCheckpoint();
+            scanNextSlice();
+            return;
+        }
+        // Only text values are predicted, a null, array or object value is counted as a failed doc instead of being sent
+        // to the model as its string form
+        List<SearchHit> textHits = new ArrayList<>(hits.length);
+        List<String> docs = new ArrayList<>(hits.length);
+        for (SearchHit hit : hits) {
+            Object value = XContentMapValues.extractValue(input.getSourceField(), hit.getSourceAsMap());
+            if (value instanceof String) {
+                textHits.add(hit);
+                docs.add((String) value);
+            }
+        }
+        int skippedDocs = hits.length - textHits.size();
+        if (skippedDocs > 0) {
+            log
+                .warn(
+                    "Skipped {} docs of bulk inference task {}, their {} is not a text value",
+                    skippedDocs,
+                    taskId,
+                    input.getSourceField()
+                );
+            processedDocs.addAndGet(skippedDocs);
+            failedDocs.addAndGet(skippedDocs);
+        }
+        if (textHits.isEmpty()) {
+            onPageDone(slice, hits);
+            return;
+        }
+        long delayInNanos = throttle(textHits.size());
+        if (delayInNanos > 0) {
+            threadPool
+                .schedule(() -> predict(slice, hits, textHits, docs), TimeValue.timeValueNanos(delayInNanos), GENERAL_THREAD_POOL);
+        } else {
+            predict(slice, hits, textHits, docs);
+        }
+    }
+
+    private void predict(int slice, SearchHit[] hits, List<SearchHit> textHits, List<String> docs) {
+        if (failed.get()) {
+            return;
+        }
+        ModelResultFilter resultFilter = null;
+        if (functionName == FunctionName.TEXT_EMBEDDING) {
+            resultFilter = ModelResultFilter.builder().returnNumber(true).targetResponse(Arrays.asList(SENTENCE_EMBEDDING)).build();
+        }
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(functionName)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).resultFilter(resultFilter).build())
+            .build();
+        MLPredictionTaskRequest predictionRequest = new MLPredictionTaskRequest(input.getModelId(), mlInput, true, user);
+        try (ThreadContext.StoredContext context = contextSupplier.get()) {
+            client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, ActionListener.wrap(r -> {
+                List<Object> values = toTargetValues(r.getOutput());
+                if (values.size() != textHits.size()) {
+                    throw new MLException("Model returned " + values.size() + " results for " + textHits.size() + " docs");
+                }
+                write(slice, hits, textHits, values);
+            }, this::onFailure));
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    private void write(int slice, SearchHit[] hits, List<SearchHit> textHits, List<Object> values) {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < textHits.size(); i++) {
+            SearchHit hit = textHits.get(i);
+            DocumentField routing = hit.field(RoutingFieldMapper.NAME);
+            if (input.isWriteToSourceIndex()) {
+                UpdateRequest updateRequest = new UpdateRequest(hit.getIndex(), hit.getId())
+                    .doc(Collections.singletonMap(input.getTargetField(), values.get(i)));
+                if (routing != null) {
+                    updateRequest.routing(routing.getValue());
+                }
+                bulkRequest.add(updateRequest);
+            } else {
+                Map<String, Object> source = hit.getSourceAsMap();
+                source.put(input.getTargetField(), values.get(i));
+                IndexRequest indexRequest = new IndexRequest(input.getTargetIndex()).id(hit.getId()).source(source);
+                if (routing != null) {
+                    indexRequest.routing(routing.getValue());
+                }
+                bulkRequest.add(indexRequest);
+            }
+        }
+        try (ThreadContext.StoredContext context = contextSupplier.get()) {
+            client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                int failures = 0;
+                for (BulkItemResponse item : bulkResponse.getItems()) {
+                    if (item.isFailed()) {
+                        failures++;
+                    }
+                }
+                if (failures > 0) {
+                    log.warn("Failed to write {} docs of bulk inference task {}: {}", failures, taskId, bulkResponse.buildFailureMessage());
+                }
+                processedDocs.addAndGet(textHits.size());
+                failedDocs.addAndGet(failures);
+                onPageDone(slice, hits);
+            }, this::onFailure));
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    /**
+     * Checkpoint the slice after the last doc of the page, then read the next page of the slice or the next slice.
+     */
+    private void onPageDone(int slice, SearchHit[] hits) throws IOException {
+        boolean done = hits.length < input.getBatchSize();
+        updateSlice(slice, ((Number) hits[hits.length - 1].getSortValues()[0]).intValue(), done);
+        updateCheckpoint();
+        if (done) {
+            scanNextSlice();
+        } else {
+            searchSlice(slice);
+        }
+    }
+
+    /**
+     * Reserve time for predicting the docs under max docs per second.
+     * @param docs number of docs to predict
+     * @return how long to wait before predicting the docs in nanoseconds
+     */
+    @VisibleForTesting
+    synchronized long throttle(int docs) {
+        if (input.getMaxDocsPerSecond() == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long batchTime = Math.max(now, nextBatchTimeInNanos);
+        nextBatchTimeInNanos = batchTime + (long) (docs * TimeUnit.SECONDS.toNanos(1) / input.getMaxDocsPerSecond());
+        return batchTime - now;
+    }
+
+    /**
+     * Convert model output to the values written to target field, one value per doc. Text embedding models output
+     * one tensor per doc, sparse encoding models output a map per doc.
+     * @param output model output
+     * @return values of target field
+     */
+    @VisibleForTesting
+    static List<Object> toTargetValues(MLOutput output) {
+        if (!(output instanceof ModelTensorOutput)) {
+            throw new MLException("Bulk inference only supports models which output tensors");
+        }
+        List<Object> values = new ArrayList<>();
+        for (ModelTensors modelTensors : ((ModelTensorOutput) output).getMlModelOutputs()) {
+            for (ModelTensor modelTensor : modelTensors.getMlModelTensors()) {
+                if (modelTensor.getData() != null) {
+                    values.add(Arrays.asList(modelTensor.getData()));
+                } else if (modelTensor.getDataAsMap() != null) {
+                    Object response = modelTensor.getDataAsMap().get(ML_MAP_RESPONSE_KEY);
+                    if (response instanceof List) {
+                        values.addAll((List<?>) response);
+                    } else {
+                        values.add(modelTensor.getDataAsMap());
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
+    private synchronized MLBulkInferenceCheckpoint.Slice getSlice(int slice) {
+        return slices.get(slice);
+    }
+
+    private synchronized void updateSlice(int slice, Integer searchAfter, boolean done) {
+        Integer lastSearchAfter = searchAfter == null ? slices.get(slice).getSearchAfter() : searchAfter;
+        slices.set(slice, new MLBulkInferenceCheckpoint.Slice(lastSearchAfter, done));
+    }
+
+    private synchronized MLBulkInferenceCheckpoint checkpoint() {
+        return MLBulkInferenceCheckpoint
+            .builder()
+            .input(input)
+            .pitId(pitId)
+            .totalDocs(totalDocs)
+            .processedDocs(processedDocs.get())
+            .failedDocs(failedDocs.get())
+            .slices(new ArrayList<>(slices))
+            .build();
+    }
+
+    private Map<String, Object> checkpointAsMap() throws IOException {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            checkpoint().toXContent(builder, ToXContent.EMPTY_PARAMS);
+            return XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.JSON).v2();
+        }
+    }
+
+    private float progress() {
+        return totalDocs == 0 ? 1f : Math.min(1f, (float) processedDocs.get() / totalDocs);
+    }
+
+    /**
+     * Save the checkpoint to the task doc. Skips saving if the last checkpoint is still being saved, the next
+     * checkpoint will cover it.
+     */
+    private void updateCheckpoint() throws IOException {
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(PROGRESS_FIELD, progress());
+        updatedFields.put(CHECKPOINT_FIELD, checkpointAsMap());
+        mlTaskManager
+            .updateMLTask(
+                taskId,
+                updatedFields,
+                ActionListener
+                    .wrap(r -> log.debug("Saved checkpoint of bulk inference task {}", taskId), e -> log.debug("Skipped checkpoint", e)),
+                0,
+                false
+            );
+    }
+
+    private void onComplete() {
+        MLTaskState state = failedDocs.get() > 0 ? MLTaskState.COMPLETED_WITH_ERROR : MLTaskState.COMPLETED;
+        log.info("Bulk inference task {} {}, processed {} docs, {} failed", taskId, state, processedDocs.get(), failedDocs.get());
+        try {
+            Map<String, Object> updatedFields = new HashMap<>();
+            updatedFields.put(STATE_FIELD, state);
+            updatedFields.put(PROGRESS_FIELD, 1f);
+            updatedFields.put(CHECKPOINT_FIELD, checkpointAsMap());
+            mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, true);
+        } catch (Exception e) {
+            log.error("Failed to update bulk inference task " + taskId, e);
+        }
+        try (ThreadContext.StoredContext context = contextSupplier.get()) {
+            client
+                .deletePits(
+                    new DeletePitRequest(pitId),
+                    ActionListener.wrap(r -> log.debug("Deleted point in time of task {}", taskId), e -> {
+                        log.warn("Failed to delete point in time of bulk inference task " + taskId, e);
+                    })
+                );
+        }
+    }
+
+    /**
+     * Fail the task and keep its point in time, so the task can be resumed from the checkpoint.
+     */
+    private void onFailure(Exception e) {
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+        log.error("Failed to run bulk inference task " + taskId, e);
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(STATE_FIELD, MLTaskState.FAILED);
+        updatedFields.put(ERROR_FIELD, MLExceptionUtils.getRootCauseMessage(e));
+        try {
+            updatedFields.put(CHECKPOINT_FIELD, checkpointAsMap());
+        } catch (Exception ex) {
+            log.error("Failed to build checkpoint of bulk inference task " + taskId, ex);
+        }
+        mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, true);
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.bulk_inference;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.MLTask.WORKER_NODE_FIELD;
+import static org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint.CHECKPOINT_FIELD;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceAction;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceRequest;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.utils.RestActionUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Starts a bulk inference task on the local node, or resumes a stopped one from its checkpoint, and returns the
+ * task id right away. The task runs in the background, see {@link BulkInferenceJob}.
+ */
+@Log4j2
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class TransportBulkInferenceAction extends HandledTransportAction<ActionRequest, MLBulkInferenceResponse> {
+    static final Set<FunctionName> SUPPORTED_FUNCTIONS = ImmutableSet
+        .of(FunctionName.TEXT_EMBEDDING, FunctionName.SPARSE_ENCODING, FunctionName.SPARSE_TOKENIZE, FunctionName.REMOTE);
+
+    Client client;
+    ClusterService clusterService;
+    ThreadPool threadPool;
+    NamedXContentRegistry xContentRegistry;
+    MLTaskManager mlTaskManager;
+    MLModelManager mlModelManager;
+    ModelAccessControlHelper modelAccessControlHelper;
+    MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    @Inject
+    public TransportBulkInferenceAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        NamedXContentRegistry xContentRegistry,
+        MLTaskManager mlTaskManager,
+        MLModelManager mlModelManager,
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting
+    ) {
+        super(MLBulkInferenceAction.NAME, transportService, actionFilters, MLBulkInferenceRequest::new);
+        this.client = client;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.xContentRegistry = xContentRegistry;
+        this.mlTaskManager = mlTaskManager;
+        this.mlModelManager = mlModelManager;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLBulkInferenceResponse> listener) {
+        MLBulkInferenceInput input = MLBulkInferenceRequest.fromActionRequest(request).getBulkInferenceInput();
+        String modelId = input.getModelId();
+        User user = RestActionUtils.getUserContext(client);
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        Supplier<ThreadContext.StoredContext> contextSupplier = threadContext.newRestorableContext(false);
+
+        try (ThreadContext.StoredContext context = threadContext.stashContext()) {
+            ActionListener<MLBulkInferenceResponse> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
+            mlModelManager.getModelInfo(modelId, ActionListener.wrap(mlModel -> {
+                FunctionName functionName = mlModel.getAlgorithm();
+                if (!SUPPORTED_FUNCTIONS.contains(functionName)) {
+                    throw new IllegalArgumentException("Bulk inference doesn't support " + functionName + " model");
+                }
+                if (functionName == FunctionName.REMOTE && !mlFeatureEnabledSetting.isRemoteInferenceEnabled()) {
+                    throw new IllegalStateException(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+                }
+                String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName);
+                if (workerNodes == null || workerNodes.length == 0) {
+                    throw new IllegalArgumentException("Model not deployed: " + modelId);
+                }
+                modelAccessControlHelper.validateModelGroupAccess(user, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
+                    if (!access) {
+                        wrappedListener
+                            .onFailure(new MLValidationException("User Doesn't have privilege to perform this operation on this model"));
+                    } else if (input.isResume()) {
+                        resumeTask(input, mlModel, user, contextSupplier, wrappedListener);
+                    } else {
+                        startTask(input, mlModel, user, contextSupplier, wrappedListener);
+                    }
+                }, wrappedListener::onFailure));
+            }, e -> {
+                log.error("Failed to start bulk inference with model " + modelId, e);
+                wrappedListener.onFailure(e);
+            }));
+        } catch (Exception e) {
+            log.error("Failed to start bulk inference with model " + modelId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void startTask(
+        MLBulkInferenceInput input,
+        MLModel mlModel,
+        User user,
+        Supplier<ThreadContext.StoredContext> contextSupplier,
+        ActionListener<MLBulkInferenceResponse> listener
+    ) {
+        // Slices must not span shards, the doc id used as sort value is only unique in a shard
+        IndexMetadata indexMetadata = clusterService.state().metadata().index(input.getSourceIndex());
+        if (indexMetadata == null) {
+            listener.onFailure(new IllegalArgumentException("Source index not found: " + input.getSourceIndex()));
+            return;
+        }
+        int sliceCount = Math.max(indexMetadata.getNumberOfShards(), input.getMaxInFlightBatches());
+        List<MLBulkInferenceCheckpoint.Slice> slices = new ArrayList<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            slices.add(new MLBulkInferenceCheckpoint.Slice(null, false));
+        }
+        MLBulkInferenceCheckpoint checkpoint = MLBulkInferenceCheckpoint.builder().input(input).slices(slices).build();
+
+        MLTask mlTask = MLTask
+            .builder()
+            .async(true)
+            .modelId(mlModel.getModelId())
+            .taskType(MLTaskType.BULK_INFERENCE)
+            .functionName(mlModel.getAlgorithm())
+            .inputType(MLInputDataType.TEXT_DOCS)
+            .outputIndex(input.getTargetIndex())
+            .createTime(Instant.now())
+            .lastUpdateTime(Instant.now())
+            .state(MLTaskState.CREATED)
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .build();
+        mlTaskManager.createMLTask(mlTask, ActionListener.wrap(response -> {
+            String taskId = response.getId();
+            mlTask.setTaskId(taskId);
+            mlTaskManager.add(mlTask);
+            listener.onResponse(new MLBulkInferenceResponse(taskId, MLTaskState.CREATED.name()));
+            createJob(taskId, mlModel.getAlgorithm(), user, contextSupplier, checkpoint).start();
+        }, e -> {
+            log.error("Failed to create bulk inference task for model " + mlModel.getModelId(), e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void resumeTask(
+        MLBulkInferenceInput input,
+        MLModel mlModel,
+        User user,
+        Supplier<ThreadContext.StoredContext> contextSupplier,
+        ActionListener<MLBulkInferenceResponse> listener
+    ) {
+        String taskId = input.getTaskId();
+        client.get(new GetRequest(ML_TASK_INDEX, taskId), ActionListener.wrap(getResponse -> {
+            if (getResponse == null || !getResponse.isExists()) {
+                throw new MLResourceNotFoundException("Fail to find task " + taskId);
+            }
+            MLTask mlTask = parseTask(getResponse);
+            MLBulkInferenceCheckpoint checkpoint = parseCheckpoint(getResponse);
+            if (mlTask.getTaskType() != MLTaskType.BULK_INFERENCE || checkpoint == null) {
+                throw new IllegalArgumentException("Task " + taskId + " is not a bulk inference task");
+            }
+            if (!mlModel.getModelId().equals(mlTask.getModelId())) {
+                throw new IllegalArgumentException("Task " + taskId + " runs model " + mlTask.getModelId());
+            }
+            if (mlTask.getState() == MLTaskState.COMPLETED || mlTask.getState() == MLTaskState.COMPLETED_WITH_ERROR) {
+                throw new IllegalArgumentException("Task " + taskId + " already completed");
+            }
+            if (isRunning(taskId, mlTask)) {
+                throw new IllegalArgumentException("Task " + taskId + " is still running");
+            }
+
+            String localNodeId = clusterService.localNode().getId();
+            mlTask.setTaskId(taskId);
+            mlTask.setState(MLTaskState.RUNNING);
+            mlTask.setWorkerNodes(ImmutableList.of(localNodeId));
+            mlTask.setError(null);
+            mlTaskManager.add(mlTask);
+            Map<String, Object> updatedFields = new HashMap<>();
+            updatedFields.put(STATE_FIELD, MLTaskState.RUNNING);
+            updatedFields.put(WORKER_NODE_FIELD, ImmutableList.of(localNodeId));
+            updatedFields.put(ERROR_FIELD, null);
+            mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, false);
+            listener.onResponse(new MLBulkInferenceResponse(taskId, MLTaskState.RUNNING.name()));
+            log.info("Resume bulk inference task {}, {} docs processed", taskId, checkpoint.getProcessedDocs());
+            createJob(taskId, mlModel.getAlgorithm(), user, contextSupplier, checkpoint).start();
+        }, e -> {
+            log.error("Failed to resume bulk inference task " + taskId, e);
+            listener.onFailure(e);
+        }));
+    }
+
+    /**
+     * A task is running if it is in the task cache of this node, or it is not done and the node running it is
+     * still in the cluster.
+     */
+    private boolean isRunning(String taskId, MLTask mlTask) {
+        if (mlTaskManager.contains(taskId)) {
+            return true;
+        }
+        if (mlTask.getState() == MLTaskState.FAILED || mlTask.getState() == MLTaskState.CANCELLED) {
+            return false;
+        }
+        String localNodeId = clusterService.localNode().getId();
+        List<String> workerNodes = mlTask.getWorkerNodes();
+        if (workerNodes == null || workerNodes.isEmpty()) {
+            return false;
+        }
+        String workerNode = workerNodes.get(0);
+        return !localNodeId.equals(workerNode) && clusterService.state().nodes().nodeExists(workerNode);
+    }
+
+    private MLTask parseTask(GetResponse getResponse) throws Exception {
+        try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, getResponse.getSourceAsBytesRef())) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            return MLTask.parse(parser);
+        }
+    }
+
+    private MLBulkInferenceCheckpoint parseCheckpoint(GetResponse getResponse) throws Exception {
+        try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, getResponse.getSourceAsBytesRef())) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (CHECKPOINT_FIELD.equals(fieldName)) {
+                    return MLBulkInferenceCheckpoint.parse(parser);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    @VisibleForTesting
+    BulkInferenceJob createJob(
+        String taskId,
+        FunctionName functionName,
+        User user,
+        Supplier<ThreadContext.StoredContext> contextSupplier,
+        MLBulkInferenceCheckpoint checkpoint
+    ) {
+        return new BulkInferenceJob(client, threadPool, mlTaskManager, taskId, functionName, user, contextSupplier, checkpoint);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.deploy;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelInput;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelNodesRequest;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelNodesResponse;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelOnNodeAction;
+import org.opensearch.ml.common.transport.forward.MLForwardAction;
+import org.opensearch.ml.common.transport.forward.MLForwardInput;
+import org.opensearch.ml.common.transport.forward.MLForwardRequest;
+import org.opensearch.ml.common.transport.forward.MLForwardRequestType;
+import org.opensearch.ml.utils.MLExceptionUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sends a deploy model task to its worker nodes, at most max concurrent deploy nodes at a time, so a large cluster
+ * doesn't fetch the same model chunks from model index all at once. The rest of the nodes are staged on the
+ * coordinating node, and one of them starts whenever a node reports its deployment done. If peer transfer is
+ * enabled, a staged node fetches model chunks from a node which already deployed the model. Staged nodes are
+ * dropped when the task times out, and nodes which leave the cluster are reported as failed so the task can finish.
+ */
+@Log4j2
+public class MLDeployCoordinator {
+    private final Client client;
+    private final Map<String, StagedDeploy> stagedDeploys = new ConcurrentHashMap<>();
+
+    private volatile Integer maxConcurrentDeployNodes;
+    private volatile boolean peerTransferEnabled;
+
+    public MLDeployCoordinator(ClusterService clusterService, Client client, Settings settings) {
+        this.client = client;
+
+        maxConcurrentDeployNodes = ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES, it -> maxConcurrentDeployNodes = it);
+        peerTransferEnabled = ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED, it -> peerTransferEnabled = it);
+    }
+
+    /**
+     * Deploy model on the nodes, staging the nodes beyond max concurrent deploy nodes.
+     *
+     * @param deployModelInput deploy model input
+     * @param nodes            worker nodes
+     * @param listener         action listener of the first nodes
+     */
+    public void deploy(
+        MLDeployModelInput deployModelInput,
+        List<DiscoveryNode> nodes,
+        ActionListener<MLDeployModelNodesResponse> listener
+    ) {
+        int maxNodes = maxConcurrentDeployNodes;
+        if (nodes.size() <= maxNodes) {
+            MLDeployModelNodesRequest request = new MLDeployModelNodesRequest(nodes.toArray(new DiscoveryNode[0]), deployModelInput);
+            client.execute(MLDeployModelOnNodeAction.INSTANCE, request, listener);
+            return;
+        }
+        String taskId = deployModelInput.getTaskId();
+        List<DiscoveryNode> firstNodes = nodes.subList(0, maxNodes);
+        stagedDeploys.put(taskId, new StagedDeploy(deployModelInput, firstNodes, nodes.subList(maxNodes, nodes.size())));
+        log.info("Deploy model {} on {} nodes, {} nodes are staged", deployModelInput.getModelId(), maxNodes, nodes.size() - maxNodes);
+        MLDeployModelNodesRequest request = new MLDeployModelNodesRequest(firstNodes.toArray(new DiscoveryNode[0]), deployModelInput);
+        client.execute(MLDeployModelOnNodeAction.INSTANCE, request, ActionListener.wrap(r -> {
+            // A node which failed to run the deploy request never reports done, report it here to free its slot
+            for (FailedNodeException failure : r.failures()) {
+                reportNodeFailure(deployModelInput, failure.nodeId(), failure);
+            }
+            listener.onResponse(r);
+        }, e -> {
+            stagedDeploys.remove(taskId);
+            listener.onFailure(e);
+        }));
+    }
+
+    /**
+     * Start the next staged node of the task, called when a worker node reports its deployment done.
+     *
+     * @param taskId   deploy model task id
+     * @param nodeId   worker node id
+     * @param deployed true if the model is deployed on the node
+     */
+    public void onNodeDone(String taskId, String nodeId, boolean deployed) {
+        StagedDeploy stagedDeploy = stagedDeploys.get(taskId);
+        if (stagedDeploy == null) {
+            return;
+        }
+        Runnable next;
+        synchronized (stagedDeploy) {
+            // Only a node which was deploying frees a slot, e.g. not a staged node reported failed after leaving
+            if (!stagedDeploy.inFlightNodeIds.remove(nodeId)) {
+                return;
+            }
+            if (deployed) {
+                stagedDeploy.deployedNodeIds.add(nodeId);
+            }
+            next = pollNext(taskId, stagedDeploy);
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    /**
+     * Report the nodes of staged deployments which left the cluster as failed, and start staged nodes in place of
+     * the deploying ones. Called when nodes leave the cluster.
+     *
+     * @param removedNodeIds ids of the nodes which left
+     */
+    public void onNodesRemoved(Set<String> removedNodeIds) {
+        for (Map.Entry<String, StagedDeploy> entry : stagedDeploys.entrySet()) {
+            StagedDeploy stagedDeploy = entry.getValue();
+            List<String> leftNodeIds = new ArrayList<>();
+            List<Runnable> nextDispatches = new ArrayList<>();
+            synchronized (stagedDeploy) {
+                stagedDeploy.deployedNodeIds.removeAll(removedNodeIds);
+                for (DiscoveryNode node : stagedDeploy.pendingNodes) {
+                    if (removedNodeIds.contains(node.getId())) {
+                        leftNodeIds.add(node.getId());
+                    }
+                }
+                stagedDeploy.pendingNodes.removeIf(node -> removedNodeIds.contains(node.getId()));
+                for (String nodeId : removedNodeIds) {
+                    if (stagedDeploy.inFlightNodeIds.remove(nodeId)) {
+                        leftNodeIds.add(nodeId);
+                        Runnable next = pollNext(entry.getKey(), stagedDeploy);
+                        if (next != null) {
+                            nextDispatches.add(next);
+                        }
+                    }
+                }
+                if (stagedDeploy.pendingNodes.isEmpty()) {
+                    stagedDeploys.remove(entry.getKey());
+                }
+            }
+            nextDispatches.forEach(Runnable::run);
+            for (String nodeId : leftNodeIds) {
+                reportNodeFailure(stagedDeploy.deployModelInput, nodeId, new MLException("Node left the cluster"));
+            }
+        }
+    }
+
+    /**
+     * Drop the staged nodes of a task, called when the task times out.
+     *
+     * @param taskId deploy model task id
+     */
+    public void removeTask(String taskId) {
+        StagedDeploy stagedDeploy = stagedDeploys.remove(taskId);
+        if (stagedDeploy != null) {
+            log.info("Drop {} staged nodes of deploy model task {}", stagedDeploy.pendingNodes.size(), taskId);
+        }
+    }
+
+    @VisibleForTesting
+    boolean hasStagedNodes(String taskId) {
+        return stagedDeploys.containsKey(taskId);
+    }
+
+    /**
+     * Take the next staged node of a task as deploying, the caller must hold the lock of the staged deploy.
+     *
+     * @return dispatches the node, to run after releasing the lock. Null if no node is staged
+     */
+    private Runnable pollNext(String taskId, StagedDeploy stagedDeploy) {
+        DiscoveryNode nextNode = stagedDeploy.pendingNodes.poll();
+        if (stagedDeploy.pendingNodes.isEmpty()) {
+            stagedDeploys.remove(taskId);
+        }
+        if (nextNode == null) {
+            return null;
+        }
+        String sourceNodeId = null;
+        // Spread the staged nodes across the nodes which already deployed the model
+        if (peerTransferEnabled && !stagedDeploy.deployedNodeIds.isEmpty()) {
+            List<String> deployedNodeIds = stagedDeploy.deployedNodeIds;
+            sourceNodeId = deployedNodeIds.get(stagedDeploy.dispatchedNodes++ % deployedNodeIds.size());
+        }
+        stagedDeploy.inFlightNodeIds.add(nextNode.getId());
+        String source = sourceNodeId;
+        return () -> dispatch(stagedDeploy.deployModelInput, nextNode, source);
+    }
+
+    private void dispatch(MLDeployModelInput deployModelInput, DiscoveryNode node, String sourceNodeId) {
+        log.debug("Deploy model {} on staged node {}, source node {}", deployModelInput.getModelId(), node.getId(), sourceNodeId);
+        MLDeployModelInput nodeInput = deployModelInput.toBuilder().sourceNodeId(sourceNodeId).build();
+        MLDeployModelNodesRequest request = new MLDeployModelNodesRequest(new DiscoveryNode[] { node }, nodeInput);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.execute(MLDeployModelOnNodeAction.INSTANCE, request, ActionListener.wrap(r -> {
+                if (r.hasFailures()) {
+                    reportNodeFailure(deployModelInput, node.getId(), r.failures().get(0));
+                }
+            }, e -> reportNodeFailure(deployModelInput, node.getId(), e)));
+        }
+    }
+
+    /**
+     * Report a node of a staged deployment which failed to run the deploy request, or left, as done with error, so the
+     * task can move on.
+     */
+    private void reportNodeFailure(MLDeployModelInput deployModelInput, String nodeId, Exception e) {
+        log.error("Failed to deploy model " + deployModelInput.getModelId() + " on node " + nodeId, e);
+        MLForwardInput forwardInput = MLForwardInput
+            .builder()
+            .requestType(MLForwardRequestType.DEPLOY_MODEL_DONE)
+            .taskId(deployModelInput.getTaskId())
+            .modelId(deployModelInput.getModelId())
+            .workerNodeId(nodeId)
+            .error(MLExceptionUtils.getRootCauseMessage(e))
+            .build();
+        client
+            .execute(
+                MLForwardAction.INSTANCE,
+                new MLForwardRequest(forwardInput),
+                ActionListener
+                    .wrap(
+                        r -> log.debug("Reported deploy failure of node {}", nodeId),
+                        ex -> log.error("Failed to report deploy failure of node " + nodeId, ex)
+                    )
+            );
+    }
+
+    private static class StagedDeploy {
+        private final MLDeployModelInput deployModelInput;
+        private final Queue<DiscoveryNode> pendingNodes;
+        private final Set<String> inFlightNodeIds = new HashSet<>();
+        private final List<String> deployedNodeIds = new ArrayList<>();
+        private int dispatchedNodes = 0;
+
+        StagedDeploy(MLDeployModelInput deployModelInput, List<DiscoveryNode> inFlightNodes, List<DiscoveryNode> pendingNodes) {
+            this.deployModelInput = deployModelInput;
+            this.pendingNodes = new ArrayDeque<>(pendingNodes);
+            inFlightNodes.forEach(node -> inFlightNodeIds.add(node.getId()));
+        }
+    }
+}
@@ -81,6 +81,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
     MLTaskDispatcher mlTaskDispatcher;
     MLModelManager mlModelManager;
     MLStats mlStats;
+    MLDeployCoordinator mlDeployCoordinator;
 
     private volatile boolean allowCustomDeploymentPlan;
     private ModelAccessControlHelper modelAccessControlHelper;
@@ -102,7 +103,8 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
         MLStats mlStats,
         Settings settings,
         ModelAccessControlHelper modelAccessControlHelper,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLDeployCoordinator mlDeployCoordinator
     ) {
         super(MLDeployModelAction.NAME, transportService, actionFilters, MLDeployModelRequest::new);
         this.transportService = transportService;
@@ -118,6 +120,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
         this.mlStats = mlStats;
         this.modelAccessControlHelper = modelAccessControlHelper;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mlDeployCoordinator = mlDeployCoordinator;
         allowCustomDeploymentPlan = ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN.get(settings);
         clusterService
             .getClusterSettings()
@@ -362,10 +365,6 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
             deployToAllNodes,
             mlTask
         );
-        MLDeployModelNodesRequest deployModelRequest = new MLDeployModelNodesRequest(
-            eligibleNodes.toArray(new DiscoveryNode[0]),
-            deployModelInput
-        );
         ActionListener<MLDeployModelNodesResponse> actionListener = ActionListener.wrap(r -> {
             if (mlTaskManager.contains(taskId)) {
                 mlTaskManager.updateMLTask(taskId, ImmutableMap.of(STATE_FIELD, MLTaskState.RUNNING), TASK_SEMAPHORE_TIMEOUT, false);
@@ -399,7 +398,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
                     ),
                 ActionListener
                     .wrap(
-                        r -> client.execute(MLDeployModelOnNodeAction.INSTANCE, deployModelRequest, actionListener),
+                        r -> mlDeployCoordinator.deploy(deployModelInput, eligibleNodes, actionListener),
                         actionListener::onFailure
                     )
             );
@@ -151,6 +151,7 @@ public class TransportDeployModelOnNodeAction extends
             coordinatingNodeId,
             deployToAllNodes,
             mlTask,
+            deployModelInput.getSourceNodeId(),
             ActionListener.wrap(r -> {
                 MLForwardInput mlForwardInput = MLForwardInput
                     .builder()
@@ -212,16 +213,25 @@ public class TransportDeployModelOnNodeAction extends
         String coordinatingNodeId,
         boolean deployToAllNodes,
         MLTask mlTask,
+        String sourceNodeId,
         ActionListener<String> listener
     ) {
         try {
             log.debug("start deploying model {}", modelId);
             mlModelManager
-                .deployModel(modelId, modelContentHash, functionName, deployToAllNodes, mlTask, ActionListener.runBefore(listener, () -> {
-                    if (!coordinatingNodeId.equals(localNodeId)) {
-                        mlTaskManager.remove(mlTask.getTaskId());
-                    }
-                }));
+                .deployModel(
+                    modelId,
+                    modelContentHash,
+                    functionName,
+                    deployToAllNodes,
+                    mlTask,
+                    sourceNodeId,
+                    ActionListener.runBefore(listener, () -> {
+                        if (!coordinatingNodeId.equals(localNodeId)) {
+                            mlTaskManager.remove(mlTask.getTaskId());
+                        }
+                    })
+                );
         } catch (Exception e) {
             logException("Failed to deploy model " + modelId, e, log);
             listener.onFailure(e);
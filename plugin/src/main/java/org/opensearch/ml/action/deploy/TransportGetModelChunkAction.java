@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.deploy;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.transport.deploy.MLGetModelChunkAction;
+import org.opensearch.ml.common.transport.deploy.MLGetModelChunkRequest;
+import org.opensearch.ml.common.transport.deploy.MLGetModelChunkResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Serves a model chunk from a node which deployed the model, so another node deploying the same model doesn't need
+ * to read it from model index. The request is forwarded to the node in the request if it's not the local node.
+ */
+@Log4j2
+public class TransportGetModelChunkAction extends HandledTransportAction<ActionRequest, MLGetModelChunkResponse> {
+    TransportService transportService;
+    ClusterService clusterService;
+    ThreadPool threadPool;
+    MLModelManager mlModelManager;
+
+    @Inject
+    public TransportGetModelChunkAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLModelManager mlModelManager
+    ) {
+        super(MLGetModelChunkAction.NAME, transportService, actionFilters, MLGetModelChunkRequest::new);
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.mlModelManager = mlModelManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLGetModelChunkResponse> listener) {
+        MLGetModelChunkRequest getModelChunkRequest = MLGetModelChunkRequest.fromActionRequest(request);
+        String nodeId = getModelChunkRequest.getNodeId();
+        if (nodeId.equals(clusterService.localNode().getId())) {
+            threadPool.executor(DEPLOY_THREAD_POOL).execute(() -> {
+                try {
+                    byte[] content = mlModelManager
+                        .readModelChunk(getModelChunkRequest.getModelId(), getModelChunkRequest.getChunkNumber());
+                    listener.onResponse(new MLGetModelChunkResponse(content));
+                } catch (Exception e) {
+                    log.debug("Failed to read model chunk", e);
+                    listener.onFailure(e);
+                }
+            });
+            return;
+        }
+        DiscoveryNode node = clusterService.state().nodes().get(nodeId);
+        if (node == null) {
+            listener.onFailure(new MLResourceNotFoundException("Node not found: " + nodeId));
+            return;
+        }
+        transportService
+            .sendRequest(
+                node,
+                MLGetModelChunkAction.NAME,
+                getModelChunkRequest,
+                new ActionListenerResponseHandler<>(listener, MLGetModelChunkResponse::new)
+            );
+    }
+}
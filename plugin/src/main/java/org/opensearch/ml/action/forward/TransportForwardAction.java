@@ -26,6 +26,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.action.deploy.MLDeployCoordinator;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
@@ -71,6 +72,8 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
 
     private final MLModelAutoReDeployer mlModelAutoReDeployer;
 
+    private final MLDeployCoordinator mlDeployCoordinator;
+
     @Inject
     public TransportForwardAction(
         TransportService transportService,
@@ -81,7 +84,8 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
         DiscoveryNodeHelper nodeHelper,
         Settings settings,
         ClusterService clusterService,
-        MLModelAutoReDeployer mlModelAutoReDeployer
+        MLModelAutoReDeployer mlModelAutoReDeployer,
+        MLDeployCoordinator mlDeployCoordinator
     ) {
         super(MLForwardAction.NAME, transportService, actionFilters, MLForwardRequest::new);
         this.mlTaskManager = mlTaskManager;
@@ -91,6 +95,7 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
         this.settings = settings;
         this.clusterService = clusterService;
         this.mlModelAutoReDeployer = mlModelAutoReDeployer;
+        this.mlDeployCoordinator = mlDeployCoordinator;
 
         modelAutoRedeploySuccessRatio = ML_COMMONS_MODEL_AUTO_REDEPLOY_SUCCESS_RATIO.get(settings);
         enableAutoReDeployModel = ML_COMMONS_MODEL_AUTO_REDEPLOY_ENABLE.get(settings);
@@ -128,6 +133,7 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
                         mlModelManager.addModelWorkerNode(modelId, workerNodeId);
                         syncModelWorkerNodes(modelId, functionName);
                     }
+                    mlDeployCoordinator.onNodeDone(taskId, workerNodeId, error == null);
 
                     if (workNodes == null || workNodes.size() == 0) {
                         int currentWorkerNodeCount = mlTaskCache.getWorkerNodeSize();
@@ -88,6 +88,7 @@ public class DeleteModelGroupTransportAction extends HandledTransportAction<Acti
                                 @Override
                                 public void onResponse(DeleteResponse deleteResponse) {
                                     log.debug("Completed Delete Model Group Request, task id:{} deleted", modelGroupId);
+                                    modelAccessControlHelper.invalidateModelGroup(modelGroupId);
                                     wrappedListener.onResponse(deleteResponse);
                                 }
 
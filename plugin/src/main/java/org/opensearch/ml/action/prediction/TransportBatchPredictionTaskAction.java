@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.utils.RestActionUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Splits the text docs of a batch predict request into batches and sends every batch as a predict request, so the
+ * batches are dispatched to the worker nodes of the model and predicted in parallel. Predicted tensors are returned
+ * in the order of the docs.
+ */
+@Log4j2
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class TransportBatchPredictionTaskAction extends HandledTransportAction<ActionRequest, MLTaskResponse> {
+    // How many batches are predicted at the same time for each worker node of the model
+    static final int CONCURRENT_BATCHES_PER_WORKER_NODE = 2;
+
+    Client client;
+
+    MLModelManager mlModelManager;
+
+    @Inject
+    public TransportBatchPredictionTaskAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        MLModelManager mlModelManager
+    ) {
+        super(MLBatchPredictionTaskAction.NAME, transportService, actionFilters, MLBatchPredictionTaskRequest::new);
+        this.client = client;
+        this.mlModelManager = mlModelManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLTaskResponse> listener) {
+        MLBatchPredictionTaskRequest batchPredictionRequest = MLBatchPredictionTaskRequest.fromActionRequest(request);
+        User user = batchPredictionRequest.getUser();
+        if (user == null) {
+            user = RestActionUtils.getUserContext(client);
+        }
+        String modelId = batchPredictionRequest.getModelId();
+        MLInput mlInput = batchPredictionRequest.getMlInput();
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId, mlInput.getAlgorithm());
+        int maxConcurrentBatches = Math.max(1, workerNodes == null ? 0 : workerNodes.length) * CONCURRENT_BATCHES_PER_WORKER_NODE;
+        new BatchPrediction(batchPredictionRequest, user, listener).start(maxConcurrentBatches);
+    }
+
+    private class BatchPrediction {
+        private final String modelId;
+        private final MLInput mlInput;
+        private final TextDocsInputDataSet inputDataSet;
+        private final int batchSize;
+        private final User user;
+        private final ActionListener<MLTaskResponse> listener;
+        private final AtomicReferenceArray<List<ModelTensors>> results;
+        private final AtomicInteger nextBatch = new AtomicInteger(0);
+        private final AtomicInteger completedBatches = new AtomicInteger(0);
+        private final AtomicBoolean failed = new AtomicBoolean(false);
+        private final long startTime = System.nanoTime();
+
+        private BatchPrediction(MLBatchPredictionTaskRequest request, User user, ActionListener<MLTaskResponse> listener) {
+            this.modelId = request.getModelId();
+            this.mlInput = request.getMlInput();
+            this.inputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+            this.batchSize = request.getBatchSize();
+            this.user = user;
+            this.listener = listener;
+            int docs = inputDataSet.getDocs().size();
+            this.results = new AtomicReferenceArray<>((docs + batchSize - 1) / batchSize);
+        }
+
+        private void start(int maxConcurrentBatches) {
+            log.debug("batch predict {} docs in {} batches with model {}", inputDataSet.getDocs().size(), results.length(), modelId);
+            for (int i = 0; i < Math.min(maxConcurrentBatches, results.length()); i++) {
+                predictNextBatch();
+            }
+        }
+
+        private void predictNextBatch() {
+            int batch = nextBatch.getAndIncrement();
+            if (batch >= results.length() || failed.get()) {
+                return;
+            }
+            List<String> docs = inputDataSet.getDocs();
+            List<String> batchDocs = new ArrayList<>(docs.subList(batch * batchSize, Math.min((batch + 1) * batchSize, docs.size())));
+            MLInput batchInput = MLInput
+                .builder()
+                .algorithm(mlInput.getAlgorithm())
+                .parameters(mlInput.getParameters())
+                .inputDataset(inputDataSet.toBuilder().docs(batchDocs).build())
+                .build();
+            MLPredictionTaskRequest predictionRequest = new MLPredictionTaskRequest(modelId, batchInput, true, user);
+            client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, ActionListener.wrap(response -> {
+                MLOutput output = response.getOutput();
+                if (!(output instanceof ModelTensorOutput)) {
+                    onFailure(new IllegalArgumentException("Batch predict only supports models which output tensors"));
+                    return;
+                }
+                results.set(batch, ((ModelTensorOutput) output).getMlModelOutputs());
+                if (completedBatches.incrementAndGet() == results.length()) {
+                    onComplete();
+                } else {
+                    predictNextBatch();
+                }
+            }, this::onFailure));
+        }
+
+        private void onComplete() {
+            List<ModelTensors> modelTensors = new ArrayList<>(inputDataSet.getDocs().size());
+            for (int i = 0; i < results.length(); i++) {
+                modelTensors.addAll(results.get(i));
+            }
+            double durationInMs = (System.nanoTime() - startTime) / 1e6;
+            log.debug("completed batch predict of {} docs with model {} in {} ms", inputDataSet.getDocs().size(), modelId, durationInMs);
+            listener.onResponse(MLTaskResponse.builder().output(new ModelTensorOutput(modelTensors)).build());
+        }
+
+        private void onFailure(Exception e) {
+            if (failed.compareAndSet(false, true)) {
+                log.error("Failed to batch predict with model " + modelId, e);
+                listener.onFailure(e);
+            }
+        }
+    }
+}
@@ -87,7 +87,7 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
 
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<MLTaskResponse> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
-            mlModelManager.getModel(modelId, ActionListener.wrap(mlModel -> {
+            mlModelManager.getModelInfo(modelId, ActionListener.wrap(mlModel -> {
                 FunctionName functionName = mlModel.getAlgorithm();
                 mlPredictionTaskRequest.getMlInput().setAlgorithm(functionName);
                 modelAccessControlHelper
@@ -26,6 +26,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.action.deploy.MLDeployCoordinator;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
@@ -66,6 +67,7 @@ public class TransportSyncUpOnNodeAction extends
     private volatile Integer mlTaskTimeout;
 
     private final MLModelCacheHelper mlModelCacheHelper;
+    private final MLDeployCoordinator mlDeployCoordinator;
 
     @Inject
     public TransportSyncUpOnNodeAction(
@@ -80,7 +82,8 @@ public class TransportSyncUpOnNodeAction extends
         Client client,
         NamedXContentRegistry xContentRegistry,
         MLEngine mlEngine,
-        MLModelCacheHelper mlModelCacheHelper
+        MLModelCacheHelper mlModelCacheHelper,
+        MLDeployCoordinator mlDeployCoordinator
     ) {
         super(
             MLSyncUpAction.NAME,
@@ -103,6 +106,7 @@ public class TransportSyncUpOnNodeAction extends
         this.xContentRegistry = xContentRegistry;
         this.mlEngine = mlEngine;
         this.mlModelCacheHelper = mlModelCacheHelper;
+        this.mlDeployCoordinator = mlDeployCoordinator;
 
         this.mlTaskTimeout = ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS, it -> { mlTaskTimeout = it; });
@@ -217,6 +221,8 @@ public class TransportSyncUpOnNodeAction extends
                         10_000,
                         true
                     );
+                // Nodes still staged by a timed out deploy task would never start
+                mlDeployCoordinator.removeTask(taskId);
             }
         }
     }
@@ -27,6 +27,8 @@ public class MLCircuitBreakerService {
     private final OsService osService;
     private final Settings settings;
     private final ClusterService clusterService;
+    // Kept apart from other breakers: reserved training memory should not reject prediction requests.
+    private TrainingMemoryCircuitBreaker trainingMemoryBreaker;
 
     /**
      * Constructor.
@@ -65,6 +67,10 @@ public class MLCircuitBreakerService {
         return breakers.get(name);
     }
 
+    public TrainingMemoryCircuitBreaker getTrainingMemoryBreaker() {
+        return trainingMemoryBreaker;
+    }
+
     /**
      * Initialize circuit breaker service.
      *
@@ -81,6 +87,8 @@ public class MLCircuitBreakerService {
         // Register native memory circuit breaker, disabling due to unstability.
         // registerBreaker(BreakerName.NATIVE_MEMORY, new NativeMemoryCircuitBreaker(this.osService, this.settings, this.clusterService));
         log.info("Registered ML native memory breaker.");
+        trainingMemoryBreaker = new TrainingMemoryCircuitBreaker(this.settings, this.clusterService);
+        log.info("Registered ML training memory breaker.");
 
         return this;
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.breaker;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TRAINING_MEMORY_LIMIT_PERCENT;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.monitor.jvm.JvmInfo;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A circuit breaker for memory reserved by training tasks.
+ *
+ * Training tasks reserve their estimated heap usage before training starts and release it when training is done.
+ * A reservation which would push the total over the limit is rejected instead of letting training run into GC storms.
+ */
+@Log4j2
+public class TrainingMemoryCircuitBreaker extends ThresholdCircuitBreaker<Integer> {
+    private static final String ML_TRAINING_MEMORY_CB = "Training Memory Circuit Breaker";
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final long maxHeapBytes;
+    private volatile Integer limitPercent;
+
+    public TrainingMemoryCircuitBreaker(int limitPercent, long maxHeapBytes) {
+        super(limitPercent);
+        this.limitPercent = limitPercent;
+        this.maxHeapBytes = maxHeapBytes;
+    }
+
+    public TrainingMemoryCircuitBreaker(Settings settings, ClusterService clusterService) {
+        this(ML_COMMONS_TRAINING_MEMORY_LIMIT_PERCENT.get(settings), JvmInfo.jvmInfo().getMem().getHeapMax().getBytes());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TRAINING_MEMORY_LIMIT_PERCENT, it -> limitPercent = it);
+    }
+
+    @Override
+    public String getName() {
+        return ML_TRAINING_MEMORY_CB;
+    }
+
+    @Override
+    public Integer getThreshold() {
+        return limitPercent;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return reservedBytes.get() >= getLimitBytes();
+    }
+
+    public long getLimitBytes() {
+        return maxHeapBytes / 100 * limitPercent;
+    }
+
+    public long getReservedBytes() {
+        return reservedBytes.get();
+    }
+
+    /**
+     * Reserve memory for a training task.
+     * @param bytes estimated bytes needed by the training task
+     * @throws MLLimitExceededException if the reservation exceeds the limit
+     */
+    public void reserve(long bytes) {
+        long limit = getLimitBytes();
+        long current;
+        do {
+            current = reservedBytes.get();
+            if (current + bytes > limit) {
+                throw new MLLimitExceededException(
+                    String
+                        .format(
+                            Locale.ROOT,
+                            "Training needs about %d bytes of memory, but only %d of %d bytes reserved for training are available",
+                            bytes,
+                            Math.max(0, limit - current),
+                            limit
+                        )
+                );
+            }
+        } while (!reservedBytes.compareAndSet(current, current + bytes));
+        log.debug("Reserved {} bytes for training, total reserved {} bytes", bytes, current + bytes);
+    }
+
+    public void release(long bytes) {
+        reservedBytes.addAndGet(-bytes);
+    }
+}
@@ -18,6 +18,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.action.deploy.MLDeployCoordinator;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
@@ -34,13 +35,15 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
     private final MLModelCacheHelper modelCacheHelper;
 
     private final MLModelAutoReDeployer mlModelAutoReDeployer;
+    private final MLDeployCoordinator mlDeployCoordinator;
 
     public MLCommonsClusterEventListener(
         ClusterService clusterService,
         MLModelManager mlModelManager,
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
-        MLModelAutoReDeployer mlModelAutoReDeployer
+        MLModelAutoReDeployer mlModelAutoReDeployer,
+        MLDeployCoordinator mlDeployCoordinator
     ) {
         this.clusterService = clusterService;
         this.clusterService.addListener(this);
@@ -48,6 +51,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         this.mlTaskManager = mlTaskManager;
         this.modelCacheHelper = modelCacheHelper;
         this.mlModelAutoReDeployer = mlModelAutoReDeployer;
+        this.mlDeployCoordinator = mlDeployCoordinator;
     }
 
     @Override
@@ -65,6 +69,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         if (delta.removed()) {
             Set<String> removedNodeIds = delta.removedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toSet());
             mlModelManager.removeWorkerNodes(removedNodeIds, false);
+            mlDeployCoordinator.onNodesRemoved(removedNodeIds);
         } else if (delta.added()) {
             List<String> addedNodesIds = delta.addedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toList());
             mlModelManager.addModelWorkerNodes(addedNodesIds);
@@ -55,6 +55,9 @@ import lombok.extern.log4j.Log4j2;
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // Push the whole model routing table and refresh model state at least once every this many runs, otherwise only
+    // changes of the routing table are pushed.
+    public static final int FULL_SYNC_UP_INTERVAL_IN_RUNS = 6;
     private Client client;
     private ClusterService clusterService;
     private DiscoveryNodeHelper nodeHelper;
@@ -63,6 +66,12 @@ public class MLSyncUpCron implements Runnable {
     private volatile Boolean mlConfigInited;
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
+    // Routing table, deploying models and nodes seen by last run. A new cron is created when this node becomes
+    // cluster manager, so the first run always does a full sync up.
+    private volatile Map<String, Set<String>> lastModelRoutingTable;
+    private volatile Map<String, Set<String>> lastDeployingModels;
+    private volatile Set<String> lastNodeIds;
+    private int runsSinceFullSyncUp;
 
     public MLSyncUpCron(
         Client client,
@@ -137,32 +146,98 @@ public class MLSyncUpCron implements Runnable {
                 .builder()
                 .syncRunningDeployModelTasks(true)
                 .runningDeployModelTasks(runningDeployModelTasks);
-            if (modelWorkerNodes.size() == 0) {
-                log.debug("No deployed model found. Will clear model routing on all nodes");
-                inputBuilder.clearRoutingTable(true);
+            boolean fullSyncUp = isFullSyncUp(allNodes);
+            boolean routingTableChanged = false;
+            if (fullSyncUp) {
+                if (modelWorkerNodes.size() == 0) {
+                    log.debug("No deployed model found. Will clear model routing on all nodes");
+                    inputBuilder.clearRoutingTable(true);
+                } else {
+                    inputBuilder.modelRoutingTable(modelWorkerNodes);
+                }
             } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
+                Map<String, String[]> addedWorkerNodes = new HashMap<>();
+                Map<String, String[]> removedWorkerNodes = new HashMap<>();
+                diffModelRoutingTable(lastModelRoutingTable, modelWorkerNodes, addedWorkerNodes, removedWorkerNodes);
+                routingTableChanged = addedWorkerNodes.size() > 0 || removedWorkerNodes.size() > 0;
+                if (routingTableChanged) {
+                    log
+                        .debug(
+                            "Will sync model routing changes, added: {}, removed: {}",
+                            addedWorkerNodes.keySet(),
+                            removedWorkerNodes.keySet()
+                        );
+                }
+                inputBuilder.addedWorkerNodes(addedWorkerNodes).removedWorkerNodes(removedWorkerNodes);
             }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
-            MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
-            // sync up running model/tasks on nodes
-            client
-                .execute(
-                    MLSyncUpAction.INSTANCE,
-                    syncUpRequest,
-                    ActionListener.wrap(re -> { log.debug("sync model routing job finished"); }, ex -> {
-                        log.error("Failed to sync model routing", ex);
-                    })
-                );
-
-            // refresh model status
-            mlIndicesHandler
-                .initModelIndexIfAbsent(ActionListener.wrap(res -> { refreshModelState(modelWorkerNodes, deployingModels); }, e -> {
-                    log.error("Failed to init model index", e);
+            lastModelRoutingTable = modelWorkerNodes;
+            if (fullSyncUp || routingTableChanged || runningDeployModelTasks.size() > 0) {
+                MLSyncUpInput syncUpInput = inputBuilder.build();
+                MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
+                // sync up running model/tasks on nodes
+                client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(re -> {
+                    if (re.hasFailures()) {
+                        // some nodes may have missed the changes, push the whole routing table next time
+                        lastModelRoutingTable = null;
+                    }
+                    log.debug("sync model routing job finished");
+                }, ex -> {
+                    lastModelRoutingTable = null;
+                    log.error("Failed to sync model routing", ex);
                 }));
+            }
+
+            // refresh model status if model deployment changed, or deploying models may change model status
+            boolean refreshModelState = fullSyncUp
+                || routingTableChanged
+                || deployingModels.size() > 0
+                || (lastDeployingModels != null && lastDeployingModels.size() > 0);
+            lastDeployingModels = deployingModels;
+            if (refreshModelState) {
+                mlIndicesHandler
+                    .initModelIndexIfAbsent(ActionListener.wrap(res -> { refreshModelState(modelWorkerNodes, deployingModels); }, e -> {
+                        log.error("Failed to init model index", e);
+                    }));
+            }
         }, e -> { log.error("Failed to sync model routing", e); }));
     }
 
+    private boolean isFullSyncUp(DiscoveryNode[] allNodes) {
+        Set<String> nodeIds = Arrays.stream(allNodes).map(DiscoveryNode::getId).collect(Collectors.toSet());
+        // new nodes don't have the routing table yet
+        boolean nodesChanged = !nodeIds.equals(lastNodeIds);
+        lastNodeIds = nodeIds;
+        runsSinceFullSyncUp++;
+        if (lastModelRoutingTable == null || nodesChanged || runsSinceFullSyncUp >= FULL_SYNC_UP_INTERVAL_IN_RUNS) {
+            runsSinceFullSyncUp = 0;
+            return true;
+        }
+        return false;
+    }
+
+    @VisibleForTesting
+    static void diffModelRoutingTable(
+        Map<String, Set<String>> oldRoutingTable,
+        Map<String, Set<String>> newRoutingTable,
+        Map<String, String[]> addedWorkerNodes,
+        Map<String, String[]> removedWorkerNodes
+    ) {
+        for (Map.Entry<String, Set<String>> entry : newRoutingTable.entrySet()) {
+            Set<String> added = new HashSet<>(entry.getValue());
+            added.removeAll(oldRoutingTable.getOrDefault(entry.getKey(), Set.of()));
+            if (added.size() > 0) {
+                addedWorkerNodes.put(entry.getKey(), added.toArray(new String[0]));
+            }
+        }
+        for (Map.Entry<String, Set<String>> entry : oldRoutingTable.entrySet()) {
+            Set<String> removed = new HashSet<>(entry.getValue());
+            removed.removeAll(newRoutingTable.getOrDefault(entry.getKey(), Set.of()));
+            if (removed.size() > 0) {
+                removedWorkerNodes.put(entry.getKey(), removed.toArray(new String[0]));
+            }
+        }
+    }
+
     @VisibleForTesting
     void initMLConfig() {
         if (mlConfigInited) {
@@ -10,16 +10,21 @@ package org.opensearch.ml.helper;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_GROUP_CACHE_TTL_IN_SECONDS;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
@@ -53,13 +58,30 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ModelAccessControlHelper {
 
+    private static final long MAX_CACHED_MODEL_GROUPS = 10_000;
+
     private volatile Boolean modelAccessControlEnabled;
+    // Model groups read for access control, so predict doesn't read the model group index every time. Model group updates
+    // and deletions on this node invalidate their model group, other nodes see them once the cached model group expires.
+    private final Cache<String, MLModelGroup> modelGroupCache;
+    // Bumped on every invalidation, so a model group read before an update isn't cached after the update invalidated it.
+    private final AtomicLong modelGroupCacheGeneration = new AtomicLong(0);
 
     public ModelAccessControlHelper(ClusterService clusterService, Settings settings) {
         modelAccessControlEnabled = ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.get(settings);
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED, it -> modelAccessControlEnabled = it);
+        int modelGroupCacheTtl = ML_COMMONS_MODEL_GROUP_CACHE_TTL_IN_SECONDS.get(settings);
+        if (modelGroupCacheTtl > 0) {
+            modelGroupCache = CacheBuilder
+                .<String, MLModelGroup>builder()
+                .setMaximumWeight(MAX_CACHED_MODEL_GROUPS)
+                .setExpireAfterWrite(TimeValue.timeValueSeconds(modelGroupCacheTtl))
+                .build();
+        } else {
+            modelGroupCache = null;
+        }
     }
 
     private static final List<Class<?>> SUPPORTED_QUERY_TYPES = ImmutableList
@@ -80,8 +102,18 @@ public class ModelAccessControlHelper {
             return;
         }
 
-        List<String> userBackendRoles = user.getBackendRoles();
+        MLModelGroup cachedModelGroup = modelGroupCache == null ? null : modelGroupCache.get(modelGroupId);
+        if (cachedModelGroup != null) {
+            try {
+                listener.onResponse(checkModelGroupAccess(user, cachedModelGroup));
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+            return;
+        }
+
         GetRequest getModelGroupRequest = new GetRequest(ML_MODEL_GROUP_INDEX).id(modelGroupId);
+        long generation = modelGroupCacheGeneration.get();
 
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
@@ -93,31 +125,9 @@ public class ModelAccessControlHelper {
                     ) {
                         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                         MLModelGroup mlModelGroup = MLModelGroup.parse(parser);
-                        AccessMode modelAccessMode = AccessMode.from(mlModelGroup.getAccess());
-                        if (mlModelGroup.getOwner() == null) {
-                            // previous security plugin not enabled, model defaults to public.
-                            wrappedListener.onResponse(true);
-                        } else if (AccessMode.RESTRICTED == modelAccessMode) {
-                            if (mlModelGroup.getBackendRoles() == null || mlModelGroup.getBackendRoles().size() == 0) {
-                                throw new IllegalStateException("Backend roles shouldn't be null");
-                            } else {
-                                wrappedListener
-                                    .onResponse(
-                                        Optional
-                                            .ofNullable(userBackendRoles)
-                                            .orElse(ImmutableList.of())
-                                            .stream()
-                                            .anyMatch(mlModelGroup.getBackendRoles()::contains)
-                                    );
-                            }
-                        } else if (AccessMode.PUBLIC == modelAccessMode) {
-                            wrappedListener.onResponse(true);
-                        } else if (AccessMode.PRIVATE == modelAccessMode) {
-                            if (isOwner(mlModelGroup.getOwner(), user))
-                                wrappedListener.onResponse(true);
-                            else
-                                wrappedListener.onResponse(false);
-                        }
+                        boolean access = checkModelGroupAccess(user, mlModelGroup);
+                        cacheModelGroup(modelGroupId, mlModelGroup, generation);
+                        wrappedListener.onResponse(access);
                     } catch (Exception e) {
                         log.error("Failed to parse ml model group");
                         wrappedListener.onFailure(e);
@@ -139,6 +149,51 @@ public class ModelAccessControlHelper {
         }
     }
 
+    private boolean checkModelGroupAccess(User user, MLModelGroup mlModelGroup) {
+        AccessMode modelAccessMode = AccessMode.from(mlModelGroup.getAccess());
+        if (mlModelGroup.getOwner() == null) {
+            // previous security plugin not enabled, model defaults to public.
+            return true;
+        } else if (AccessMode.RESTRICTED == modelAccessMode) {
+            if (mlModelGroup.getBackendRoles() == null || mlModelGroup.getBackendRoles().size() == 0) {
+                throw new IllegalStateException("Backend roles shouldn't be null");
+            }
+            return Optional
+                .ofNullable(user.getBackendRoles())
+                .orElse(ImmutableList.of())
+                .stream()
+                .anyMatch(mlModelGroup.getBackendRoles()::contains);
+        } else if (AccessMode.PUBLIC == modelAccessMode) {
+            return true;
+        } else if (AccessMode.PRIVATE == modelAccessMode) {
+            return isOwner(mlModelGroup.getOwner(), user);
+        }
+        throw new IllegalStateException("Access shouldn't be null");
+    }
+
+    private void cacheModelGroup(String modelGroupId, MLModelGroup mlModelGroup, long generation) {
+        if (modelGroupCache == null) {
+            return;
+        }
+        modelGroupCache.put(modelGroupId, mlModelGroup);
+        // Check after putting: an invalidation in between either removes this entry or is seen here.
+        if (modelGroupCacheGeneration.get() != generation) {
+            modelGroupCache.invalidate(modelGroupId);
+        }
+    }
+
+    /**
+     * Remove model group from model group cache after it's updated or deleted. Only the cache of this node is
+     * invalidated, other nodes can use their cached model group until it expires.
+     * @param modelGroupId model group id
+     */
+    public void invalidateModelGroup(String modelGroupId) {
+        if (modelGroupCache != null && modelGroupId != null) {
+            modelGroupCacheGeneration.incrementAndGet();
+            modelGroupCache.invalidate(modelGroupId);
+        }
+    }
+
     public boolean skipModelAccessControl(User user) {
         // Case 1: user == null when 1. Security is disabled. 2. When user is super-admin
         // Case 2: If Security is enabled and filter is disabled, proceed with search as
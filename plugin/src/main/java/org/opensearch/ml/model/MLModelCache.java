@@ -11,9 +11,12 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.DoubleStream;
 
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
@@ -36,6 +39,8 @@ public class MLModelCache {
     private final Set<String> workerNodes;
     private final Queue<Double> modelInferenceDurationQueue;
     private final Queue<Double> predictRequestDurationQueue;
+    // Whether deployed model state changed by online update since last checkpoint
+    private final AtomicBoolean updatedSinceCheckpoint;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
 
@@ -43,11 +48,18 @@ public class MLModelCache {
     @Setter
     private Boolean deployToAllNodes;
 
+    // Model metadata for the predict path, so predict doesn't need to read the model index.
+    private volatile MLModel modelInfo;
+    // Increased whenever model info is invalidated, so model info read from the index before that won't be cached.
+    private final AtomicLong modelInfoVersion;
+
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
         modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
         predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        updatedSinceCheckpoint = new AtomicBoolean(false);
+        modelInfoVersion = new AtomicLong(0);
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -83,6 +95,7 @@ public class MLModelCache {
         if (isFromUndeploy)
             deployToAllNodes = false;
         workerNodes.remove(nodeId);
+        invalidateModelInfo();
     }
 
     public void removeWorkerNodes(Set<String> removedNodes, boolean isFromUndeploy) {
@@ -91,7 +104,9 @@ public class MLModelCache {
         }
         if (isFromUndeploy)
             deployToAllNodes = false;
-        workerNodes.removeAll(removedNodes);
+        if (workerNodes.removeAll(removedNodes)) {
+            invalidateModelInfo();
+        }
     }
 
     /**
@@ -113,6 +128,10 @@ public class MLModelCache {
     }
 
     public void syncWorkerNode(Set<String> workerNodes) {
+        if (!this.workerNodes.equals(workerNodes)) {
+            // Model deployed or undeployed somewhere, model state may have changed.
+            invalidateModelInfo();
+        }
         this.workerNodes.clear();
         this.workerNodes.addAll(workerNodes);
     }
@@ -123,10 +142,48 @@ public class MLModelCache {
 
     public void clearWorkerNodes() {
         workerNodes.clear();
+        invalidateModelInfo();
+    }
+
+    public MLModel getModelInfo() {
+        return modelInfo;
+    }
+
+    public long getModelInfoVersion() {
+        return modelInfoVersion.get();
+    }
+
+    /**
+     * Cache model info unless it was invalidated after the model info had been read.
+     * @param modelInfo model info
+     * @param version model info version before the model info was read
+     */
+    public synchronized void setModelInfo(MLModel modelInfo, long version) {
+        if (modelInfoVersion.get() == version) {
+            this.modelInfo = modelInfo;
+        }
+    }
+
+    public synchronized void invalidateModelInfo() {
+        modelInfo = null;
+        modelInfoVersion.incrementAndGet();
+    }
+
+    public void markUpdated() {
+        updatedSinceCheckpoint.set(true);
+    }
+
+    /**
+     * Check if model updated since last checkpoint and reset the flag.
+     * @return true if model updated since last checkpoint
+     */
+    public boolean clearUpdated() {
+        return updatedSinceCheckpoint.getAndSet(false);
     }
 
     public void clear() {
         modelState = null;
+        updatedSinceCheckpoint.set(false);
         functionName = null;
         workerNodes.clear();
         modelInferenceDurationQueue.clear();
@@ -136,6 +193,7 @@ public class MLModelCache {
         }
         memSizeEstimationCPU = 0L;
         memSizeEstimationGPU = 0L;
+        invalidateModelInfo();
         if (executor != null) {
             executor.close();
         }
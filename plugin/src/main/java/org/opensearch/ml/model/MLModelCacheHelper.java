@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
@@ -214,6 +215,31 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Mark model state changed by online update, so it will be checkpointed.
+     * @param modelId model id
+     */
+    public void markModelUpdated(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.markUpdated();
+        }
+    }
+
+    /**
+     * Get deployed models updated since last checkpoint and reset their updated flag.
+     * @return array of model id
+     */
+    public String[] getAndClearUpdatedModels() {
+        return modelCaches
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue().getModelState() == MLModelState.DEPLOYED && entry.getValue().clearUpdated())
+            .map(entry -> entry.getKey())
+            .collect(Collectors.toList())
+            .toArray(new String[0]);
+    }
+
     /**
      * Set target worker nodes of model.
      * @param modelId model id
@@ -348,6 +374,63 @@ public class MLModelCacheHelper {
         }
     }
 
+    /**
+     * Get cached model info.
+     * @param modelId model id
+     * @return model info; return null if model info not cached
+     */
+    public MLModel getModelInfo(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache == null ? null : modelCache.getModelInfo();
+    }
+
+    /**
+     * Get model info version, which should be read before reading model info from model index.
+     * @param modelId model id
+     * @return model info version; return -1 if model not exists in cache
+     */
+    public long getModelInfoVersion(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache == null ? -1 : modelCache.getModelInfoVersion();
+    }
+
+    /**
+     * Cache model info of model deployed on this node or in model routing table. Model content and connector are not cached.
+     * @param modelId model id
+     * @param mlModel model read from model index
+     * @param version model info version read before reading the model
+     */
+    public void setModelInfo(String modelId, MLModel mlModel, long version) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || modelCache.getModelInfoVersion() != version) {
+            return;
+        }
+        MLModel modelInfo = MLModel
+            .builder()
+            .modelId(modelId)
+            .name(mlModel.getName())
+            .modelGroupId(mlModel.getModelGroupId())
+            .algorithm(mlModel.getAlgorithm())
+            .version(mlModel.getVersion())
+            .user(mlModel.getUser())
+            .modelFormat(mlModel.getModelFormat())
+            .modelState(mlModel.getModelState())
+            .connectorId(mlModel.getConnectorId())
+            .build();
+        modelCache.setModelInfo(modelInfo, version);
+    }
+
+    /**
+     * Invalidate cached model info.
+     * @param modelId model id
+     */
+    public void invalidateModelInfo(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.invalidateModelInfo();
+        }
+    }
+
     /**
      * Get model profile.
      * @param modelId model id
@@ -33,10 +33,13 @@ import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDe
 import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLINE_UPDATE_CHECKPOINT_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
@@ -44,9 +47,12 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
@@ -54,11 +60,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 
 import org.apache.logging.log4j.util.Strings;
@@ -76,9 +85,13 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -99,10 +112,15 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
+import org.opensearch.ml.common.transport.deploy.MLDeployProgress;
+import org.opensearch.ml.common.transport.deploy.MLGetModelChunkAction;
+import org.opensearch.ml.common.transport.deploy.MLGetModelChunkRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
@@ -110,6 +128,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.Updatable;
 import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.indices.MLIndicesHandler;
 import org.opensearch.ml.profile.MLModelProfile;
@@ -121,6 +140,7 @@ import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.collect.ImmutableMap;
@@ -137,6 +157,7 @@ public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
     public static final long MODEL_FILE_SIZE_LIMIT = 4l * 1024 * 1024 * 1024;// 4GB
+    public static final long DEPLOY_PROGRESS_INTERVAL_IN_NANOS = TimeUnit.SECONDS.toNanos(5);
 
     private final Client client;
     private final ClusterService clusterService;
@@ -156,6 +177,11 @@ public class MLModelManager {
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
     private volatile Integer maxDeployTasksPerNode;
+    private volatile Integer checkpointInterval;
+    private volatile boolean deployPeerTransferEnabled;
+    private Scheduler.Cancellable checkpointCron;
+    // Chunk sizes of the models whose artifact is kept on this node to serve their chunks to other nodes
+    private final Map<String, long[]> servedModelChunkSizes = new ConcurrentHashMap<>();
 
     public static final ImmutableSet MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -209,6 +235,31 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE, it -> maxDeployTasksPerNode = it);
+
+        checkpointInterval = ML_COMMONS_ONLINE_UPDATE_CHECKPOINT_INTERVAL_IN_SECONDS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_ONLINE_UPDATE_CHECKPOINT_INTERVAL_IN_SECONDS, it -> {
+            checkpointInterval = it;
+            startCheckpointCron();
+        });
+        startCheckpointCron();
+
+        deployPeerTransferEnabled = ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED, it -> deployPeerTransferEnabled = it);
+    }
+
+    private synchronized void startCheckpointCron() {
+        if (checkpointCron != null) {
+            checkpointCron.cancel();
+            checkpointCron = null;
+        }
+        if (checkpointInterval > 0) {
+            checkpointCron = threadPool
+                .scheduleWithFixedDelay(this::checkpointUpdatedModels, TimeValue.timeValueSeconds(checkpointInterval), GENERAL_THREAD_POOL);
+        } else {
+            log.debug("Stop ML online update checkpoint job as its interval is: {}", checkpointInterval);
+        }
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -861,6 +912,28 @@ public class MLModelManager {
         boolean deployToAllNodes,
         MLTask mlTask,
         ActionListener<String> listener
+    ) {
+        deployModel(modelId, modelContentHash, functionName, deployToAllNodes, mlTask, null, listener);
+    }
+
+    /**
+     * Deploy model on current node, fetching model chunks from a peer node which already deployed the model.
+     *
+     * @param modelId          model id
+     * @param modelContentHash model content hash value
+     * @param functionName     function name
+     * @param mlTask           ML task
+     * @param sourceNodeId     node to fetch model chunks from, model chunks are read from model index if null
+     * @param listener         action listener
+     */
+    public void deployModel(
+        String modelId,
+        String modelContentHash,
+        FunctionName functionName,
+        boolean deployToAllNodes,
+        MLTask mlTask,
+        String sourceNodeId,
+        ActionListener<String> listener
     ) {
         mlStats.createCounterStatIfAbsent(functionName, ActionName.DEPLOY, ML_ACTION_REQUEST_COUNT).increment();
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
@@ -881,10 +954,12 @@ public class MLModelManager {
             return;
         }
         modelCacheHelper.initModelState(modelId, MLModelState.DEPLOYING, functionName, workerNodes, deployToAllNodes);
+        long modelInfoVersion = modelCacheHelper.getModelInfoVersion(modelId);
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<String> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
             checkAndAddRunningTask(mlTask, maxDeployTasksPerNode);
             this.getModel(modelId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(mlModel -> {
+                modelCacheHelper.setModelInfo(modelId, mlModel, modelInfoVersion);
                 if (FunctionName.REMOTE == mlModel.getAlgorithm()
                     || (!FunctionName.isDLModel(mlModel.getAlgorithm()) && mlModel.getAlgorithm() != FunctionName.METRICS_CORRELATION)) {
                     // deploy remote model or model trained by built-in algorithm like kmeans
@@ -933,7 +1008,7 @@ public class MLModelManager {
                 }
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
+                retrieveModelChunks(mlModel, mlTask.getTaskId(), sourceNodeId, ActionListener.wrap(modelZipFile -> {// read model chunks
                     String hash = calculateFileHash(modelZipFile);
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
@@ -1051,18 +1126,42 @@ public class MLModelManager {
         }, e -> { listener.onFailure(e); }));
     }
 
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    /**
+     * Get model metadata for predict. If the model is deployed on this node or in the model routing table, the model
+     * is read from model index only once and then served from model cache until the model is undeployed or its
+     * worker nodes change. Model content and connector are not included in cached model.
+     *
+     * @param modelId  model id
+     * @param listener action listener
+     */
+    public void getModelInfo(String modelId, ActionListener<MLModel> listener) {
+        MLModel modelInfo = modelCacheHelper.getModelInfo(modelId);
+        if (modelInfo != null) {
+            listener.onResponse(modelInfo);
+            return;
+        }
+        long modelInfoVersion = modelCacheHelper.getModelInfoVersion(modelId);
+        getModel(modelId, ActionListener.wrap(mlModel -> {
+            modelCacheHelper.setModelInfo(modelId, mlModel, modelInfoVersion);
+            listener.onResponse(mlModel);
+        }, listener::onFailure));
+    }
+
+    private void retrieveModelChunks(MLModel mlModelMeta, String taskId, String sourceNodeId, ActionListener<File> listener)
+        throws InterruptedException {
         String modelId = mlModelMeta.getModelId();
         String modelName = mlModelMeta.getName();
         Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
         Semaphore semaphore = new Semaphore(1);
         AtomicBoolean stopNow = new AtomicBoolean(false);
         String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
+        // indexed by chunk number, so chunks are merged in order
+        AtomicReferenceArray<File> chunkFiles = new AtomicReferenceArray<>(totalChunks);
+        AtomicLongArray chunkSizes = new AtomicLongArray(totalChunks);
         AtomicInteger retrievedChunks = new AtomicInteger(0);
+        ChunkFetchProgress progress = new ChunkFetchProgress(sourceNodeId, totalChunks);
+        // Reset to null once the source node fails, the remaining chunks are read from model index
+        AtomicReference<String> chunkSourceNodeId = new AtomicReference<>(sourceNodeId);
         for (int i = 0; i < totalChunks; i++) {
             semaphore.tryAcquire(10, TimeUnit.SECONDS);
             if (stopNow.get()) {
@@ -1070,14 +1169,23 @@ public class MLModelManager {
             }
             String modelChunkId = this.getModelChunkId(modelId, i);
             int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
+            ActionListener<byte[]> chunkListener = ActionListener.wrap(content -> {
                 Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
+                FileUtils.write(content, chunkPath.toString());
+                chunkFiles.set(currentChunk, new File(chunkPath.toUri()));
+                chunkSizes.set(currentChunk, content.length);
+                int retrieved = retrievedChunks.incrementAndGet();
+                reportDeployProgress(taskId, progress.add(content.length, retrieved == totalChunks));
+                if (retrieved == totalChunks) {
+                    ArrayDeque<File> orderedChunkFiles = new ArrayDeque<>(totalChunks);
+                    long[] sizes = new long[totalChunks];
+                    for (int chunk = 0; chunk < totalChunks; chunk++) {
+                        orderedChunkFiles.add(chunkFiles.get(chunk));
+                        sizes[chunk] = chunkSizes.get(chunk);
+                    }
                     File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
+                    FileUtils.mergeFiles(orderedChunkFiles, modelZipFile);
+                    keepModelArtifact(modelId, modelZipFile, sizes);
                     listener.onResponse(modelZipFile);
                 }
                 semaphore.release();
@@ -1088,7 +1196,154 @@ public class MLModelManager {
                 if (retrievedChunks.get() == totalChunks - 1) {
                     listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
                 }
-            })));
+            });
+            fetchModelChunk(modelId, currentChunk, chunkSourceNodeId, threadedActionListener(DEPLOY_THREAD_POOL, chunkListener));
+        }
+    }
+
+    /**
+     * Fetch one model chunk from the source node, or from model index if there is no source node or the source node
+     * fails to serve it.
+     */
+    private void fetchModelChunk(
+        String modelId,
+        int chunkNumber,
+        AtomicReference<String> chunkSourceNodeId,
+        ActionListener<byte[]> listener
+    ) {
+        String sourceNodeId = chunkSourceNodeId.get();
+        if (sourceNodeId == null) {
+            getModelChunkFromIndex(modelId, chunkNumber, listener);
+            return;
+        }
+        MLGetModelChunkRequest request = new MLGetModelChunkRequest(modelId, chunkNumber, sourceNodeId);
+        client
+            .execute(
+                MLGetModelChunkAction.INSTANCE,
+                request,
+                ActionListener.wrap(response -> listener.onResponse(response.getContent()), e -> {
+                    log
+                        .warn(
+                            "Failed to get chunk {} of model {} from node {}, read it from model index",
+                            chunkNumber,
+                            modelId,
+                            sourceNodeId,
+                            e
+                        );
+                    chunkSourceNodeId.set(null);
+                    getModelChunkFromIndex(modelId, chunkNumber, listener);
+                })
+            );
+    }
+
+    private void getModelChunkFromIndex(String modelId, int chunkNumber, ActionListener<byte[]> listener) {
+        this
+            .getModel(
+                getModelChunkId(modelId, chunkNumber),
+                ActionListener.wrap(model -> listener.onResponse(Base64.getDecoder().decode(model.getContent())), listener::onFailure)
+            );
+    }
+
+    private void reportDeployProgress(String taskId, MLDeployProgress progress) {
+        if (taskId == null || progress == null) {
+            return;
+        }
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            progress.toXContent(builder, EMPTY_PARAMS);
+            Map<String, Object> progressAsMap = XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.JSON).v2();
+            String localNodeId = clusterService.localNode().getId();
+            mlTaskManager
+                .updateMLTaskDirectly(
+                    taskId,
+                    ImmutableMap.of(MLDeployProgress.DEPLOY_PROGRESS_FIELD, ImmutableMap.of(localNodeId, progressAsMap)),
+                    ActionListener
+                        .wrap(
+                            r -> log.debug("Updated deploy progress of task {}", taskId),
+                            e -> log.debug("Failed to update deploy progress of task " + taskId, e)
+                        )
+                );
+        } catch (Exception e) {
+            log.debug("Failed to report deploy progress", e);
+        }
+    }
+
+    private void keepModelArtifact(String modelId, File modelZipFile, long[] chunkSizes) {
+        if (!deployPeerTransferEnabled) {
+            return;
+        }
+        try {
+            File artifactFile = mlEngine.getModelArtifactPath(modelId).toFile();
+            Files.createParentDirs(artifactFile);
+            Files.copy(modelZipFile, artifactFile);
+            servedModelChunkSizes.put(modelId, chunkSizes);
+        } catch (IOException e) {
+            log.warn("Failed to keep artifact of model {} to serve other nodes", modelId, e);
+        }
+    }
+
+    /**
+     * Read one chunk of a model deployed on this node, to serve another node deploying the model.
+     *
+     * @param modelId     model id
+     * @param chunkNumber chunk number
+     * @return chunk content
+     * @throws IOException if the model artifact can't be read
+     */
+    public byte[] readModelChunk(String modelId, int chunkNumber) throws IOException {
+        long[] chunkSizes = servedModelChunkSizes.get(modelId);
+        if (chunkSizes == null || chunkNumber >= chunkSizes.length) {
+            throw new MLResourceNotFoundException("Model chunk " + chunkNumber + " of model " + modelId + " is not kept on this node");
+        }
+        long offset = 0;
+        for (int i = 0; i < chunkNumber; i++) {
+            offset += chunkSizes[i];
+        }
+        byte[] content = new byte[(int) chunkSizes[chunkNumber]];
+        try (RandomAccessFile artifact = new RandomAccessFile(mlEngine.getModelArtifactPath(modelId).toFile(), "r")) {
+            artifact.seek(offset);
+            artifact.readFully(content);
+        }
+        return content;
+    }
+
+    /**
+     * Chunks fetched by this node for a deploy model task. Progress is reported at most every
+     * {@link #DEPLOY_PROGRESS_INTERVAL_IN_NANOS} and once all chunks are fetched.
+     */
+    private static class ChunkFetchProgress {
+        private final String sourceNodeId;
+        private final int totalChunks;
+        private final long startTime = System.nanoTime();
+        private long lastReportTime = startTime;
+        private int fetchedChunks;
+        private long fetchedBytes;
+
+        ChunkFetchProgress(String sourceNodeId, int totalChunks) {
+            this.sourceNodeId = sourceNodeId;
+            this.totalChunks = totalChunks;
+        }
+
+        /**
+         * Add a fetched chunk.
+         * @return progress to report, or null if it's not time to report yet
+         */
+        synchronized MLDeployProgress add(long chunkBytes, boolean done) {
+            fetchedChunks++;
+            fetchedBytes += chunkBytes;
+            long now = System.nanoTime();
+            if (!done && now - lastReportTime < DEPLOY_PROGRESS_INTERVAL_IN_NANOS) {
+                return null;
+            }
+            lastReportTime = now;
+            long elapsedNanos = Math.max(1, now - startTime);
+            return MLDeployProgress
+                .builder()
+                .sourceNodeId(sourceNodeId)
+                .fetchedChunks(fetchedChunks)
+                .totalChunks(totalChunks)
+                .fetchedBytes(fetchedBytes)
+                .bytesPerSecond((long) (fetchedBytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos))
+                .build();
         }
     }
 
@@ -1231,6 +1486,7 @@ public class MLModelManager {
     }
 
     private void removeModel(String modelId) {
+        servedModelChunkSizes.remove(modelId);
         modelCacheHelper.removeModel(modelId);
         modelHelper.deleteFileCache(modelId);
     }
@@ -1314,6 +1570,51 @@ public class MLModelManager {
         modelCacheHelper.clearWorkerNodes();
     }
 
+    /**
+     * Feed new data into local deployed model. The updated model state will be checkpointed into model index
+     * asynchronously by checkpoint job.
+     *
+     * @param modelId model id
+     * @param mlInput new data
+     * @return predicted results
+     */
+    public MLOutput updateDeployedModel(String modelId, MLInput mlInput) {
+        Predictable predictor = modelCacheHelper.getPredictor(modelId);
+        if (predictor == null) {
+            throw new IllegalArgumentException("Model not deployed on this node: " + modelId);
+        }
+        if (!(predictor instanceof Updatable)) {
+            throw new IllegalArgumentException("Online update is not supported by model: " + modelId);
+        }
+        MLOutput output = ((Updatable) predictor).update(mlInput);
+        modelCacheHelper.markModelUpdated(modelId);
+        return output;
+    }
+
+    /**
+     * Save state of local deployed models which changed by online update since last checkpoint into model index.
+     */
+    public void checkpointUpdatedModels() {
+        for (String modelId : modelCacheHelper.getAndClearUpdatedModels()) {
+            Predictable predictor = modelCacheHelper.getPredictor(modelId);
+            if (!(predictor instanceof Updatable)) {
+                continue;
+            }
+            try {
+                String modelContent = ((Updatable) predictor).getModelContent();
+                updateModel(modelId, ImmutableMap.of(MLModel.MODEL_CONTENT_FIELD, modelContent), ActionListener.wrap(r -> {
+                    log.debug("Checkpointed online updated model {}, status: {}", modelId, r.status());
+                }, e -> {
+                    log.error("Failed to checkpoint online updated model " + modelId, e);
+                    modelCacheHelper.markModelUpdated(modelId);
+                }));
+            } catch (Exception e) {
+                log.error("Failed to checkpoint online updated model " + modelId, e);
+                modelCacheHelper.markModelUpdated(modelId);
+            }
+        }
+    }
+
     public MLModelProfile getModelProfile(String modelId) {
         return modelCacheHelper.getModelProfile(modelId);
     }
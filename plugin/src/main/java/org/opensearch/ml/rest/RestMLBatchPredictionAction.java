@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class RestMLBatchPredictionAction extends BaseRestHandler {
+    private static final String ML_BATCH_PREDICTION_ACTION = "ml_batch_prediction_action";
+    public static final String PARAMETER_BATCH_SIZE = "batch_size";
+
+    private MLModelManager modelManager;
+
+    private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    /**
+     * Constructor
+     */
+    public RestMLBatchPredictionAction(MLModelManager modelManager, MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+        this.modelManager = modelManager;
+        this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+    }
+
+    @Override
+    public String getName() {
+        return ML_BATCH_PREDICTION_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_batch_predict", ML_BASE_URI, PARAMETER_MODEL_ID)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        // Read the batch size before returning, the model info may only be known after the request parameters are checked
+        int batchSize = request.paramAsInt(PARAMETER_BATCH_SIZE, MLBatchPredictionTaskRequest.DEFAULT_BATCH_SIZE);
+        Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
+
+        if (functionName.isPresent()) {
+            MLBatchPredictionTaskRequest batchPredictionRequest = getRequest(modelId, functionName.get().name(), batchSize, request);
+            return channel -> client
+                .execute(MLBatchPredictionTaskAction.INSTANCE, batchPredictionRequest, new RestToXContentListener<>(channel));
+        }
+
+        return channel -> {
+            ActionListener<MLModel> listener = ActionListener.wrap(mlModel -> {
+                String algoName = mlModel.getAlgorithm().name();
+                client
+                    .execute(
+                        MLBatchPredictionTaskAction.INSTANCE,
+                        getRequest(modelId, algoName, batchSize, request),
+                        new RestToXContentListener<>(channel)
+                    );
+            }, e -> {
+                log.error("Failed to get ML model", e);
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, RestStatus.NOT_FOUND, e));
+                } catch (IOException ex) {
+                    log.error("Failed to send error response", ex);
+                }
+            });
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                modelManager.getModelInfo(modelId, ActionListener.runBefore(listener, () -> context.restore()));
+            }
+        };
+    }
+
+    /**
+     * Creates a MLBatchPredictionTaskRequest from a RestRequest
+     *
+     * @param batchSize how many docs are predicted in one predict request
+     * @param request RestRequest
+     * @return MLBatchPredictionTaskRequest
+     */
+    @VisibleForTesting
+    MLBatchPredictionTaskRequest getRequest(String modelId, String algorithm, int batchSize, RestRequest request) throws IOException {
+        if (FunctionName.REMOTE.name().equals(algorithm) && !mlFeatureEnabledSetting.isRemoteInferenceEnabled()) {
+            throw new IllegalStateException(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+        }
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        // batch predict takes text docs, which remote models accept as well
+        String inputAlgorithm = FunctionName.REMOTE.name().equals(algorithm) ? FunctionName.TEXT_EMBEDDING.name() : algorithm;
+        MLInput mlInput = MLInput.parse(parser, inputAlgorithm);
+        mlInput.setAlgorithm(FunctionName.from(algorithm));
+        return MLBatchPredictionTaskRequest.builder().modelId(modelId).mlInput(mlInput).batchSize(batchSize).build();
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceAction;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+public class RestMLBulkInferenceAction extends BaseRestHandler {
+    private static final String ML_BULK_INFERENCE_ACTION = "ml_bulk_inference_action";
+
+    /**
+     * Constructor
+     */
+    public RestMLBulkInferenceAction() {}
+
+    @Override
+    public String getName() {
+        return ML_BULK_INFERENCE_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_bulk_inference", ML_BASE_URI, PARAMETER_MODEL_ID)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLBulkInferenceRequest bulkInferenceRequest = getRequest(request);
+        return channel -> client.execute(MLBulkInferenceAction.INSTANCE, bulkInferenceRequest, new RestToXContentListener<>(channel));
+    }
+
+    /**
+     * Creates a MLBulkInferenceRequest from a RestRequest
+     *
+     * @param request RestRequest
+     * @return MLBulkInferenceRequest
+     */
+    @VisibleForTesting
+    MLBulkInferenceRequest getRequest(RestRequest request) throws IOException {
+        String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        MLBulkInferenceInput input = MLBulkInferenceInput.parse(parser, modelId);
+        input.setModelId(modelId);
+        return new MLBulkInferenceRequest(input);
+    }
+}
@@ -42,6 +42,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class RestMLPredictionAction extends BaseRestHandler {
     private static final String ML_PREDICTION_ACTION = "ml_prediction_action";
+    private static final String ONLINE_UPDATE_PATH = "_online_update";
 
     private MLModelManager modelManager;
 
@@ -68,7 +69,11 @@ public class RestMLPredictionAction extends BaseRestHandler {
                     RestRequest.Method.POST,
                     String.format(Locale.ROOT, "%s/_predict/{%s}/{%s}", ML_BASE_URI, PARAMETER_ALGORITHM, PARAMETER_MODEL_ID)
                 ),
-                new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/models/{%s}/_predict", ML_BASE_URI, PARAMETER_MODEL_ID))
+                new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/models/{%s}/_predict", ML_BASE_URI, PARAMETER_MODEL_ID)),
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/%s", ML_BASE_URI, PARAMETER_MODEL_ID, ONLINE_UPDATE_PATH)
+                )
             );
     }
 
@@ -125,7 +130,9 @@ public class RestMLPredictionAction extends BaseRestHandler {
         XContentParser parser = request.contentParser();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
         MLInput mlInput = MLInput.parse(parser, algorithm);
-        return new MLPredictionTaskRequest(modelId, mlInput, null);
+        // online update feeds input data into deployed model, e.g. RCF, rather than only predicting
+        boolean onlineUpdate = request.path().endsWith(ONLINE_UPDATE_PATH);
+        return new MLPredictionTaskRequest(modelId, mlInput, true, null, onlineUpdate);
     }
 
 }
@@ -34,6 +34,12 @@ public final class MLCommonsSettings {
         );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Worker nodes fetching the chunks of one model at the same time, the other nodes start when one of them is done
+    public static final Setting<Integer> ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES = Setting
+        .intSetting("plugins.ml_commons.max_concurrent_deploy_nodes", 4, 1, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Worker nodes which deployed a model serve its chunks to the nodes deploying it after them
+    public static final Setting<Boolean> ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.deploy_peer_transfer_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
@@ -51,6 +57,17 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Interval to checkpoint state of deployed models updated by online update API, 0 means disable checkpointing
+    public static final Setting<Integer> ML_COMMONS_ONLINE_UPDATE_CHECKPOINT_INTERVAL_IN_SECONDS = Setting
+        .intSetting(
+            "plugins.ml_commons.online_update_checkpoint_interval_in_seconds",
+            60,
+            0,
+            86400,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS = Setting
         .intSetting("plugins.ml_commons.ml_task_timeout_in_seconds", 600, 1, 86400, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Long> ML_COMMONS_MONITORING_REQUEST_COUNT = Setting
@@ -77,6 +94,10 @@ public final class MLCommonsSettings {
     public static final Setting<Integer> ML_COMMONS_JVM_HEAP_MEM_THRESHOLD = Setting
         .intSetting("plugins.ml_commons.jvm_heap_memory_threshold", 85, 0, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Percentage of max heap which can be reserved by running training tasks on one node
+    public static final Setting<Integer> ML_COMMONS_TRAINING_MEMORY_LIMIT_PERCENT = Setting
+        .intSetting("plugins.ml_commons.training_memory_limit_percent", 50, 0, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     public static final Setting<String> ML_COMMONS_EXCLUDE_NODE_NAMES = Setting
         .simpleString("plugins.ml_commons.exclude_nodes._name", Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN = Setting
@@ -117,6 +138,12 @@ public final class MLCommonsSettings {
     public static final Setting<Boolean> ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.model_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // How long model groups read for model access control are cached on a node, 0 means disable caching.
+    // Updates and deletions of a model group only invalidate the cache of the node handling them, so other nodes can
+    // keep checking access against the old model group for up to this long.
+    public static final Setting<Integer> ML_COMMONS_MODEL_GROUP_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting("plugins.ml_commons.model_group_cache_ttl_in_seconds", 10, 0, 3600, Setting.Property.NodeScope);
+
     public static final Setting<Boolean> ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.connector_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
@@ -16,7 +16,13 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_REMOTE_RETRY_COUNT,
+    ML_REMOTE_HEDGE_COUNT,
+    ML_REMOTE_CIRCUIT_BREAKER_OPEN_COUNT,
+    ML_REMOTE_OPEN_CIRCUIT_BREAKER_COUNT,
+    ML_LLM_RESPONSE_CACHE_HIT_COUNT,
+    ML_LLM_RESPONSE_CACHE_MISS_COUNT;
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -135,7 +135,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             }, e -> { listener.onFailure(e); });
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId, algorithm, true);
             if (workerNodes == null || workerNodes.length == 0) {
-                if (algorithm == FunctionName.TEXT_EMBEDDING || algorithm == FunctionName.REMOTE) {
+                if (algorithm == FunctionName.TEXT_EMBEDDING || algorithm == FunctionName.REMOTE || request.isOnlineUpdate()) {
                     listener
                         .onFailure(
                             new IllegalArgumentException(
@@ -178,11 +178,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             .async(false)
             .build();
         MLInput mlInput = request.getMlInput();
+        boolean onlineUpdate = request.isOnlineUpdate();
         switch (inputDataType) {
             case SEARCH_QUERY:
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     MLInput newInput = mlInput.toBuilder().inputDataset(dataSet).build();
-                    predict(modelId, mlTask, newInput, listener);
+                    predict(modelId, mlTask, newInput, onlineUpdate, listener);
                 }, e -> {
                     log.error("Failed to generate DataFrame from search query", e);
                     handleAsyncMLTaskFailure(mlTask, e);
@@ -193,12 +194,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case DATA_FRAME:
             case TEXT_DOCS:
             default:
-                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> { predict(modelId, mlTask, mlInput, onlineUpdate, listener); });
                 break;
         }
     }
 
-    private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+    private void predict(String modelId, MLTask mlTask, MLInput mlInput, boolean onlineUpdate, ActionListener<MLTaskResponse> listener) {
         ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
         // track ML task count and add ML task into cache
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
@@ -215,13 +216,23 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         FunctionName algorithm = mlInput.getAlgorithm();
         // run predict
         if (modelId != null) {
+            if (onlineUpdate && mlModelManager.getPredictor(modelId) == null) {
+                // online update only works on deployed model, don't fall back to predicting with model from index
+                IllegalArgumentException e = new IllegalArgumentException("Model not deployed on this node: " + modelId);
+                handlePredictFailure(mlTask, internalListener, e, false, modelId);
+                return;
+            }
             try {
                 Predictable predictor = mlModelManager.getPredictor(modelId);
                 if (predictor != null) {
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
-                    MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
+                    MLOutput output = mlModelManager
+                        .trackPredictDuration(
+                            modelId,
+                            () -> onlineUpdate ? mlModelManager.updateDeployedModel(modelId, mlInput) : predictor.predict(mlInput)
+                        );
                     if (output instanceof MLPredictionOutput) {
                         ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
                     }
@@ -72,9 +72,18 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
     }
 
     protected void handleAsyncMLTaskComplete(MLTask mlTask) {
+        handleAsyncMLTaskComplete(mlTask, ImmutableMap.of());
+    }
+
+    /**
+     * Mark async ML task as completed and store extra fields into the task.
+     * @param mlTask ML task
+     * @param extraFields extra task fields to update
+     */
+    protected void handleAsyncMLTaskComplete(MLTask mlTask, Map<String, Object> extraFields) {
         // update task state to MLTaskState.COMPLETED
         if (mlTask.isAsync()) {
-            Map<String, Object> updatedFields = new HashMap<>();
+            Map<String, Object> updatedFields = new HashMap<>(extraFields);
             updatedFields.put(MLTask.STATE_FIELD, MLTaskState.COMPLETED);
             if (mlTask.getModelId() != null) {
                 updatedFields.put(MLTask.MODEL_ID_FIELD, mlTask.getModelId());
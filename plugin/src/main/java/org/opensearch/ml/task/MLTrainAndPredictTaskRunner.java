@@ -52,6 +52,7 @@ public class MLTrainAndPredictTaskRunner extends MLTaskRunner<MLTrainingTaskRequ
     private final MLInputDatasetHandler mlInputDatasetHandler;
     protected final DiscoveryNodeHelper nodeFilter;
     private final MLEngine mlEngine;
+    private final TrainingMemoryTracker trainingMemoryTracker;
 
     public MLTrainAndPredictTaskRunner(
         ThreadPool threadPool,
@@ -63,7 +64,8 @@ public class MLTrainAndPredictTaskRunner extends MLTaskRunner<MLTrainingTaskRequ
         MLTaskDispatcher mlTaskDispatcher,
         MLCircuitBreakerService mlCircuitBreakerService,
         DiscoveryNodeHelper nodeFilter,
-        MLEngine mlEngine
+        MLEngine mlEngine,
+        TrainingMemoryTracker trainingMemoryTracker
     ) {
         super(mlTaskManager, mlStats, nodeFilter, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
         this.threadPool = threadPool;
@@ -72,6 +74,7 @@ public class MLTrainAndPredictTaskRunner extends MLTaskRunner<MLTrainingTaskRequ
         this.mlInputDatasetHandler = mlInputDatasetHandler;
         this.nodeFilter = nodeFilter;
         this.mlEngine = mlEngine;
+        this.trainingMemoryTracker = trainingMemoryTracker;
     }
 
     @Override
@@ -139,7 +142,11 @@ public class MLTrainAndPredictTaskRunner extends MLTaskRunner<MLTrainingTaskRequ
         // run train and predict
         try {
             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
-            MLOutput output = mlEngine.trainAndPredict(mlInput);
+            long estimatedMemory = mlEngine.estimateTrainingMemory(mlInput);
+            MLOutput output;
+            try (TrainingMemoryTracker.Reservation reservation = trainingMemoryTracker.reserve(estimatedMemory)) {
+                output = mlEngine.trainAndPredict(mlInput);
+            }
             handleAsyncMLTaskComplete(mlTask);
             if (output instanceof MLPredictionOutput) {
                 ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
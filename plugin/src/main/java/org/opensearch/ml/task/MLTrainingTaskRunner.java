@@ -9,6 +9,8 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.TRAIN_THREAD_POOL;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.opensearch.action.ActionListenerResponseHandler;
@@ -62,6 +64,7 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
     private final MLInputDatasetHandler mlInputDatasetHandler;
     protected final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final TrainingMemoryTracker trainingMemoryTracker;
 
     public MLTrainingTaskRunner(
         ThreadPool threadPool,
@@ -74,7 +77,8 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         MLTaskDispatcher mlTaskDispatcher,
         MLCircuitBreakerService mlCircuitBreakerService,
         DiscoveryNodeHelper nodeHelper,
-        MLEngine mlEngine
+        MLEngine mlEngine,
+        TrainingMemoryTracker trainingMemoryTracker
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
         this.threadPool = threadPool;
@@ -84,6 +88,7 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         this.mlInputDatasetHandler = mlInputDatasetHandler;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.trainingMemoryTracker = trainingMemoryTracker;
     }
 
     @Override
@@ -118,13 +123,21 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
                 mlTask.setTaskId(taskId);
                 listener.onResponse(new MLTaskResponse(new MLTrainingOutput(null, taskId, mlTask.getState().name())));
                 ActionListener<MLTaskResponse> internalListener = ActionListener.wrap(res -> {
-                    String modelId = ((MLTrainingOutput) res.getOutput()).getModelId();
+                    MLTrainingOutput trainingOutput = (MLTrainingOutput) res.getOutput();
+                    String modelId = trainingOutput.getModelId();
                     mlStats
                         .createModelCounterStatIfAbsent(modelId, ActionName.TRAIN, MLActionLevelStat.ML_ACTION_REQUEST_COUNT)
                         .increment();
                     log.info("ML model trained successfully, task id: {}, model id: {}", taskId, modelId);
                     mlTask.setModelId(modelId);
-                    handleAsyncMLTaskComplete(mlTask);
+                    Map<String, Object> memoryFields = new HashMap<>();
+                    if (trainingOutput.getEstimatedMemoryBytes() != null) {
+                        memoryFields.put(MLTrainingOutput.ESTIMATED_MEMORY_BYTES_FIELD, trainingOutput.getEstimatedMemoryBytes());
+                    }
+                    if (trainingOutput.getPeakMemoryBytes() != null) {
+                        memoryFields.put(MLTrainingOutput.PEAK_MEMORY_BYTES_FIELD, trainingOutput.getPeakMemoryBytes());
+                    }
+                    handleAsyncMLTaskComplete(mlTask, memoryFields);
                 }, ex -> {
                     log.error("Failed to train ML model for task " + taskId);
                     handleAsyncMLTaskFailure(mlTask, ex);
@@ -189,7 +202,23 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         try {
             // run training
             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
-            MLModel mlModel = mlEngine.train(mlInput);
+            long estimatedMemory = mlEngine.estimateTrainingMemory(mlInput);
+            MLModel mlModel;
+            TrainingMemoryTracker.Reservation reservation = trainingMemoryTracker.reserve(estimatedMemory);
+            try {
+                mlModel = mlEngine.train(mlInput);
+            } finally {
+                reservation.close();
+            }
+            long peakMemory = reservation.getPeakBytes();
+            log
+                .info(
+                    "Trained {} for task {}, estimated memory: {} bytes, peak heap growth: {} bytes",
+                    mlInput.getAlgorithm(),
+                    mlTask.getTaskId(),
+                    estimatedMemory,
+                    peakMemory
+                );
             mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(indexCreated -> {
                 if (!indexCreated) {
                     listener.onFailure(new RuntimeException("No response to create ML task index"));
@@ -200,7 +229,14 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
                     ActionListener<IndexResponse> indexResponseListener = ActionListener.wrap(r -> {
                         log.info("Model saved into index, result:{}, model id: {}", r.getResult(), r.getId());
                         String returnedTaskId = mlTask.isAsync() ? mlTask.getTaskId() : null;
-                        MLTrainingOutput output = new MLTrainingOutput(r.getId(), returnedTaskId, MLTaskState.COMPLETED.name());
+                        MLTrainingOutput output = MLTrainingOutput
+                            .builder()
+                            .modelId(r.getId())
+                            .taskId(returnedTaskId)
+                            .status(MLTaskState.COMPLETED.name())
+                            .estimatedMemoryBytes(estimatedMemory)
+                            .peakMemoryBytes(peakMemory)
+                            .build();
                         listener.onResponse(MLTaskResponse.builder().output(output).build());
                     }, e -> { listener.onFailure(e); });
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.breaker.TrainingMemoryCircuitBreaker;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.Getter;
+
+/**
+ * Reserves the estimated memory of training tasks in the training memory circuit breaker, and samples heap usage
+ * while they train.
+ */
+public class TrainingMemoryTracker {
+    private static final TimeValue HEAP_SAMPLE_INTERVAL = TimeValue.timeValueMillis(100);
+    private final ThreadPool threadPool;
+    private final TrainingMemoryCircuitBreaker trainingMemoryBreaker;
+    private final LongSupplier heapUsedSupplier;
+
+    public TrainingMemoryTracker(ThreadPool threadPool, TrainingMemoryCircuitBreaker trainingMemoryBreaker) {
+        // Heap usage is a node wide number, so the peak growth also includes other activities on the node while training.
+        this(threadPool, trainingMemoryBreaker, () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    public TrainingMemoryTracker(ThreadPool threadPool, TrainingMemoryCircuitBreaker trainingMemoryBreaker, LongSupplier heapUsedSupplier) {
+        this.threadPool = threadPool;
+        this.trainingMemoryBreaker = trainingMemoryBreaker;
+        this.heapUsedSupplier = heapUsedSupplier;
+    }
+
+    /**
+     * Reserve memory for a training task and start sampling heap usage. The reservation must be closed when
+     * training is done, which releases the memory.
+     * @param estimatedBytes estimated bytes needed by the training task
+     * @return the reservation
+     * @throws org.opensearch.ml.common.exception.MLLimitExceededException if the reservation exceeds the limit
+     */
+    public Reservation reserve(long estimatedBytes) {
+        trainingMemoryBreaker.reserve(estimatedBytes);
+        try {
+            return new Reservation(estimatedBytes);
+        } catch (RuntimeException e) {
+            trainingMemoryBreaker.release(estimatedBytes);
+            throw e;
+        }
+    }
+
+    public class Reservation implements AutoCloseable {
+        @Getter
+        private final long estimatedBytes;
+        private final long baselineHeapUsed;
+        private final AtomicLong peakHeapUsed;
+        private final Scheduler.Cancellable heapSampler;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        // Observed peak heap growth over the baseline, set when the reservation is closed
+        @Getter
+        private long peakBytes;
+
+        private Reservation(long estimatedBytes) {
+            this.estimatedBytes = estimatedBytes;
+            this.baselineHeapUsed = heapUsedSupplier.getAsLong();
+            this.peakHeapUsed = new AtomicLong(baselineHeapUsed);
+            this.heapSampler = threadPool
+                .scheduleWithFixedDelay(
+                    () -> peakHeapUsed.accumulateAndGet(heapUsedSupplier.getAsLong(), Math::max),
+                    HEAP_SAMPLE_INTERVAL,
+                    GENERAL_THREAD_POOL
+                );
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                heapSampler.cancel();
+                trainingMemoryBreaker.release(estimatedBytes);
+                peakBytes = Math.max(0, Math.max(peakHeapUsed.get(), heapUsedSupplier.getAsLong()) - baselineHeapUsed);
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.bulk_inference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class BulkInferenceJobTests extends OpenSearchTestCase {
+    @Mock
+    Client client;
+
+    @Mock
+    ThreadPool threadPool;
+
+    @Mock
+    MLTaskManager mlTaskManager;
+
+    Supplier<ThreadContext.StoredContext> contextSupplier = () -> () -> {};
+    MLBulkInferenceInput input;
+    MLBulkInferenceCheckpoint checkpoint;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        input = MLBulkInferenceInput
+            .builder()
+            .modelId("test_model_id")
+            .sourceIndex("source_index")
+            .sourceField("text")
+            .targetIndex("target_index")
+            .targetField("embedding")
+            .batchSize(2)
+            .maxInFlightBatches(1)
+            .build();
+        checkpoint = MLBulkInferenceCheckpoint
+            .builder()
+            .input(input)
+            .slices(Collections.singletonList(new MLBulkInferenceCheckpoint.Slice(null, false)))
+            .build();
+
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> listener = invocation.getArgument(1);
+            CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+            when(createPitResponse.getId()).thenReturn("test_pit_id");
+            listener.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(), any());
+
+        // 3 docs, read in pages of 2 docs
+        mockSearch(new SearchHit[] { searchHit(0, "doc1"), searchHit(1, "doc2") }, new SearchHit[] { searchHit(2, "doc3") });
+
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(any(), any());
+    }
+
+    public void testStart_Completed() {
+        mockPredict();
+        createJob().start();
+
+        ArgumentCaptor<MLPredictionTaskRequest> predictionCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), predictionCaptor.capture(), any());
+        List<String> docs = predictionCaptor
+            .getAllValues()
+            .stream()
+            .flatMap(r -> ((TextDocsInputDataSet) r.getMlInput().getInputDataset()).getDocs().stream())
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList("doc1", "doc2", "doc3"), docs);
+
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(2)).bulk(bulkCaptor.capture(), any());
+        assertEquals(2, bulkCaptor.getAllValues().get(0).numberOfActions());
+        assertEquals("target_index", bulkCaptor.getAllValues().get(0).requests().get(0).index());
+
+        ArgumentCaptor<Map<String, Object>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("test_task_id"), fieldsCaptor.capture(), eq(TASK_SEMAPHORE_TIMEOUT), eq(true));
+        assertEquals(MLTaskState.COMPLETED, fieldsCaptor.getValue().get(STATE_FIELD));
+        verify(client).deletePits(any(), any());
+    }
+
+    public void testStart_SkipNonTextValues() {
+        mockPredict();
+        mockSearch(
+            new SearchHit[] { searchHit(0, "doc1"), searchHit(1, Arrays.asList("doc2", "doc3")) },
+            new SearchHit[] { searchHit(2, null) }
+        );
+        createJob().start();
+
+        // only the text value is predicted, the page without any text value is not predicted at all
+        ArgumentCaptor<MLPredictionTaskRequest> predictionCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), predictionCaptor.capture(), any());
+        assertEquals(
+            Collections.singletonList("doc1"),
+            ((TextDocsInputDataSet) predictionCaptor.getValue().getMlInput().getInputDataset()).getDocs()
+        );
+
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(bulkCaptor.capture(), any());
+        assertEquals(1, bulkCaptor.getValue().numberOfActions());
+
+        ArgumentCaptor<Map<String, Object>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("test_task_id"), fieldsCaptor.capture(), eq(TASK_SEMAPHORE_TIMEOUT), eq(true));
+        assertEquals(MLTaskState.COMPLETED_WITH_ERROR, fieldsCaptor.getValue().get(STATE_FIELD));
+        verify(client).deletePits(any(), any());
+    }
+
+    public void testStart_PredictFailed() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("Failed to predict"));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        createJob().start();
+
+        verify(client, never()).bulk(any(), any());
+        ArgumentCaptor<Map<String, Object>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("test_task_id"), fieldsCaptor.capture(), eq(TASK_SEMAPHORE_TIMEOUT), eq(true));
+        assertEquals(MLTaskState.FAILED, fieldsCaptor.getValue().get(STATE_FIELD));
+        assertEquals("Failed to predict", fieldsCaptor.getValue().get(ERROR_FIELD));
+        verify(client, never()).deletePits(any(), any());
+    }
+
+    public void testStart_ResumeFromCheckpoint() {
+        mockPredict();
+        MLBulkInferenceCheckpoint resumedCheckpoint = checkpoint
+            .toBuilder()
+            .pitId("test_pit_id")
+            .totalDocs(3)
+            .processedDocs(2)
+            .slices(Collections.singletonList(new MLBulkInferenceCheckpoint.Slice(1, false)))
+            .build();
+        createJob(resumedCheckpoint).start();
+
+        verify(client, never()).createPit(any(), any());
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        verify(mlTaskManager).updateMLTask(eq("test_task_id"), any(), eq(TASK_SEMAPHORE_TIMEOUT), eq(true));
+        verify(mlTaskManager, times(1)).updateMLTask(eq("test_task_id"), any(), any(), anyLong(), anyBoolean());
+    }
+
+    public void testToTargetValues() {
+        ModelTensor embedding = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .data(new Number[] { 1.0f, 2.0f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        ModelTensor sparse = ModelTensor
+            .builder()
+            .dataAsMap(Collections.singletonMap("response", Collections.singletonList(Collections.singletonMap("token", 1.0f))))
+            .build();
+        ModelTensorOutput output = new ModelTensorOutput(
+            Arrays.asList(new ModelTensors(Collections.singletonList(embedding)), new ModelTensors(Collections.singletonList(sparse)))
+        );
+        List<Object> values = BulkInferenceJob.toTargetValues(output);
+        assertEquals(2, values.size());
+        assertEquals(Arrays.asList(1.0f, 2.0f), values.get(0));
+        assertEquals(Collections.singletonMap("token", 1.0f), values.get(1));
+    }
+
+    public void testThrottle() {
+        BulkInferenceJob job = createJob(checkpoint.toBuilder().input(input.toBuilder().maxDocsPerSecond(10f).build()).build());
+        assertEquals(0, job.throttle(10));
+        // the second batch of 10 docs has to wait for about one second
+        long delayInNanos = job.throttle(10);
+        assertTrue(delayInNanos > 900_000_000L && delayInNanos <= 1_000_000_000L);
+        assertEquals(0, createJob().throttle(10));
+    }
+
+    private BulkInferenceJob createJob() {
+        return createJob(checkpoint);
+    }
+
+    private BulkInferenceJob createJob(MLBulkInferenceCheckpoint checkpoint) {
+        return new BulkInferenceJob(
+            client,
+            threadPool,
+            mlTaskManager,
+            "test_task_id",
+            FunctionName.TEXT_EMBEDDING,
+            null,
+            contextSupplier,
+            checkpoint
+        );
+    }
+
+    private void mockPredict() {
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            int docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs().size();
+            List<ModelTensors> outputs = Collections
+                .nCopies(
+                    docs,
+                    new ModelTensors(
+                        Collections
+                            .singletonList(
+                                ModelTensor
+                                    .builder()
+                                    .name("sentence_embedding")
+                                    .data(new Number[] { 1.0f })
+                                    .dataType(MLResultDataType.FLOAT32)
+                                    .build()
+                            )
+                    )
+                );
+            listener.onResponse(MLTaskResponse.builder().output(new ModelTensorOutput(outputs)).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+    }
+
+    private void mockSearch(SearchHit[] firstPage, SearchHit[] secondPage) {
+        doAnswer(invocation -> {
+            SearchRequest searchRequest = invocation.getArgument(0);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            SearchHit[] hits;
+            if (searchRequest.source().size() == 0) {
+                hits = new SearchHit[0];
+            } else if (searchRequest.source().searchAfter() == null) {
+                hits = firstPage;
+            } else {
+                hits = secondPage;
+            }
+            SearchResponse searchResponse = mock(SearchResponse.class);
+            when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(3, TotalHits.Relation.EQUAL_TO), 1.0f));
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+    }
+
+    private SearchHit searchHit(int docId, Object text) {
+        SearchHit hit = mock(SearchHit.class);
+        Map<String, Object> source = new HashMap<>();
+        source.put("text", text);
+        when(hit.getId()).thenReturn("doc_" + docId);
+        when(hit.getSourceAsMap()).thenReturn(source);
+        when(hit.getSortValues()).thenReturn(new Object[] { docId });
+        return hit;
+    }
+}
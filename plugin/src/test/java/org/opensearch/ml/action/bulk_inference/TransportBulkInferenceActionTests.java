@@ -0,0 +1,389 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.bulk_inference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint.CHECKPOINT_FIELD;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceCheckpoint;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceRequest;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportBulkInferenceActionTests extends OpenSearchTestCase {
+    @Mock
+    TransportService transportService;
+
+    @Mock
+    ActionFilters actionFilters;
+
+    @Mock
+    Client client;
+
+    @Mock
+    ClusterService clusterService;
+
+    @Mock
+    ThreadPool threadPool;
+
+    @Mock
+    MLTaskManager mlTaskManager;
+
+    @Mock
+    MLModelManager mlModelManager;
+
+    @Mock
+    ModelAccessControlHelper modelAccessControlHelper;
+
+    @Mock
+    MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    @Mock
+    BulkInferenceJob bulkInferenceJob;
+
+    @Mock
+    ActionListener<MLBulkInferenceResponse> actionListener;
+
+    TransportBulkInferenceAction transportBulkInferenceAction;
+    MLBulkInferenceInput input;
+    DiscoveryNode localNode;
+    DiscoveryNode otherNode;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        transportBulkInferenceAction = spy(
+            new TransportBulkInferenceAction(
+                transportService,
+                actionFilters,
+                client,
+                clusterService,
+                threadPool,
+                NamedXContentRegistry.EMPTY,
+                mlTaskManager,
+                mlModelManager,
+                modelAccessControlHelper,
+                mlFeatureEnabledSetting
+            )
+        );
+        doReturn(bulkInferenceJob).when(transportBulkInferenceAction).createJob(any(), any(), any(), any(), any());
+        input = MLBulkInferenceInput
+            .builder()
+            .modelId("test_model_id")
+            .sourceIndex("source_index")
+            .sourceField("text")
+            .targetField("embedding")
+            .build();
+
+        ThreadContext threadContext = new ThreadContext(Settings.builder().build());
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+
+        localNode = node("node1", 9300);
+        otherNode = node("node2", 9301);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.state()).thenReturn(clusterState(localNode, otherNode));
+
+        mockModel(FunctionName.TEXT_EMBEDDING);
+        when(mlModelManager.getWorkerNodes("test_model_id", FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1" });
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(true);
+        mockModelGroupAccess(true);
+
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            IndexResponse indexResponse = mock(IndexResponse.class);
+            when(indexResponse.getId()).thenReturn("test_task_id");
+            listener.onResponse(indexResponse);
+            return null;
+        }).when(mlTaskManager).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_StartTask() {
+        transportBulkInferenceAction.doExecute(null, new MLBulkInferenceRequest(input), actionListener);
+
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(taskCaptor.capture(), any());
+        assertEquals(MLTaskType.BULK_INFERENCE, taskCaptor.getValue().getTaskType());
+        assertEquals("source_index", taskCaptor.getValue().getOutputIndex());
+        assertEquals(Collections.singletonList("node1"), taskCaptor.getValue().getWorkerNodes());
+        verify(mlTaskManager).add(taskCaptor.getValue());
+
+        ArgumentCaptor<MLBulkInferenceResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkInferenceResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals("test_task_id", responseCaptor.getValue().getTaskId());
+        assertEquals(MLTaskState.CREATED.name(), responseCaptor.getValue().getStatus());
+
+        // one slice per shard, as the source index has more shards than max in flight batches
+        ArgumentCaptor<MLBulkInferenceCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(MLBulkInferenceCheckpoint.class);
+        verify(transportBulkInferenceAction)
+            .createJob(eq("test_task_id"), eq(FunctionName.TEXT_EMBEDDING), any(), any(), checkpointCaptor.capture());
+        assertEquals(3, checkpointCaptor.getValue().getSlices().size());
+        verify(bulkInferenceJob).start();
+    }
+
+    public void testDoExecute_UnsupportedModel() {
+        mockModel(FunctionName.KMEANS);
+        transportBulkInferenceAction.doExecute(null, new MLBulkInferenceRequest(input), actionListener);
+
+        verifyFailure("Bulk inference doesn't support KMEANS model");
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_ModelNotDeployed() {
+        when(mlModelManager.getWorkerNodes("test_model_id", FunctionName.TEXT_EMBEDDING)).thenReturn(new String[0]);
+        transportBulkInferenceAction.doExecute(null, new MLBulkInferenceRequest(input), actionListener);
+
+        verifyFailure("Model not deployed: test_model_id");
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_NoModelGroupAccess() {
+        mockModelGroupAccess(false);
+        transportBulkInferenceAction.doExecute(null, new MLBulkInferenceRequest(input), actionListener);
+
+        verifyFailure("User Doesn't have privilege to perform this operation on this model");
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_SourceIndexNotFound() {
+        MLBulkInferenceInput missingIndexInput = input.toBuilder().sourceIndex("missing_index").build();
+        transportBulkInferenceAction.doExecute(null, new MLBulkInferenceRequest(missingIndexInput), actionListener);
+
+        verifyFailure("Source index not found: missing_index");
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_ResumeTask() throws IOException {
+        MLBulkInferenceCheckpoint checkpoint = checkpoint();
+        mockTaskDoc(MLTaskState.FAILED, "node2", checkpoint);
+        transportBulkInferenceAction.doExecute(null, resumeRequest(), actionListener);
+
+        ArgumentCaptor<Map<String, Object>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("test_task_id"), fieldsCaptor.capture(), eq(TASK_SEMAPHORE_TIMEOUT), eq(false));
+        assertEquals(MLTaskState.RUNNING, fieldsCaptor.getValue().get(STATE_FIELD));
+
+        ArgumentCaptor<MLBulkInferenceResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkInferenceResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals("test_task_id", responseCaptor.getValue().getTaskId());
+        assertEquals(MLTaskState.RUNNING.name(), responseCaptor.getValue().getStatus());
+
+        ArgumentCaptor<MLBulkInferenceCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(MLBulkInferenceCheckpoint.class);
+        verify(transportBulkInferenceAction)
+            .createJob(eq("test_task_id"), eq(FunctionName.TEXT_EMBEDDING), any(), any(), checkpointCaptor.capture());
+        assertEquals(checkpoint, checkpointCaptor.getValue());
+        verify(bulkInferenceJob).start();
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_ResumeCompletedTask() throws IOException {
+        mockTaskDoc(MLTaskState.COMPLETED, "node2", checkpoint());
+        transportBulkInferenceAction.doExecute(null, resumeRequest(), actionListener);
+
+        verifyFailure("Task test_task_id already completed");
+        verify(bulkInferenceJob, never()).start();
+    }
+
+    public void testDoExecute_ResumeTaskRunningOnLocalNode() throws IOException {
+        mockTaskDoc(MLTaskState.RUNNING, "node1", checkpoint());
+        when(mlTaskManager.contains("test_task_id")).thenReturn(true);
+        transportBulkInferenceAction.doExecute(null, resumeRequest(), actionListener);
+
+        verifyFailure("Task test_task_id is still running");
+        verify(bulkInferenceJob, never()).start();
+    }
+
+    public void testDoExecute_ResumeTaskRunningOnOtherNode() throws IOException {
+        mockTaskDoc(MLTaskState.RUNNING, "node2", checkpoint());
+        transportBulkInferenceAction.doExecute(null, resumeRequest(), actionListener);
+
+        verifyFailure("Task test_task_id is still running");
+        verify(bulkInferenceJob, never()).start();
+    }
+
+    public void testDoExecute_ResumeTaskOfLeftNode() throws IOException {
+        // the node running the task left the cluster, so the task can't be running though its state is not updated
+        mockTaskDoc(MLTaskState.RUNNING, "node3", checkpoint());
+        transportBulkInferenceAction.doExecute(null, resumeRequest(), actionListener);
+
+        verify(actionListener).onResponse(any());
+        verify(bulkInferenceJob).start();
+    }
+
+    public void testDoExecute_ResumeTaskOfOtherModel() throws IOException {
+        mockTaskDoc(MLTaskState.FAILED, "node2", checkpoint());
+        when(mlModelManager.getWorkerNodes("other_model_id", FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1" });
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(MLModel.builder().modelId("other_model_id").algorithm(FunctionName.TEXT_EMBEDDING).build());
+            return null;
+        }).when(mlModelManager).getModelInfo(eq("other_model_id"), any());
+        MLBulkInferenceInput resumeInput = MLBulkInferenceInput.builder().modelId("other_model_id").taskId("test_task_id").build();
+        transportBulkInferenceAction.doExecute(null, new MLBulkInferenceRequest(resumeInput), actionListener);
+
+        verifyFailure("Task test_task_id runs model test_model_id");
+        verify(bulkInferenceJob, never()).start();
+    }
+
+    private MLBulkInferenceRequest resumeRequest() {
+        return new MLBulkInferenceRequest(MLBulkInferenceInput.builder().modelId("test_model_id").taskId("test_task_id").build());
+    }
+
+    private MLBulkInferenceCheckpoint checkpoint() {
+        return MLBulkInferenceCheckpoint
+            .builder()
+            .input(input)
+            .pitId("test_pit_id")
+            .totalDocs(10)
+            .processedDocs(4)
+            .slices(List.of(new MLBulkInferenceCheckpoint.Slice(3, false), new MLBulkInferenceCheckpoint.Slice(null, true)))
+            .build();
+    }
+
+    private void mockTaskDoc(MLTaskState state, String workerNode, MLBulkInferenceCheckpoint checkpoint) throws IOException {
+        MLTask mlTask = MLTask
+            .builder()
+            .taskId("test_task_id")
+            .modelId("test_model_id")
+            .taskType(MLTaskType.BULK_INFERENCE)
+            .functionName(FunctionName.TEXT_EMBEDDING)
+            .state(state)
+            .workerNodes(List.of(workerNode))
+            .createTime(Instant.now())
+            .lastUpdateTime(Instant.now())
+            .async(true)
+            .build();
+        Map<String, Object> source = toMap(mlTask);
+        source.put(CHECKPOINT_FIELD, toMap(checkpoint));
+        XContentBuilder content = XContentFactory.jsonBuilder().map(source);
+        BytesReference bytesReference = BytesReference.bytes(content);
+        GetResult getResult = new GetResult(ML_TASK_INDEX, "test_task_id", 111l, 111l, 111l, true, bytesReference, null, null);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(), any());
+    }
+
+    private Map<String, Object> toMap(ToXContent object) throws IOException {
+        XContentBuilder builder = object.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        return XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.JSON).v2();
+    }
+
+    private void mockModel(FunctionName functionName) {
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(MLModel.builder().modelId("test_model_id").algorithm(functionName).build());
+            return null;
+        }).when(mlModelManager).getModelInfo(eq("test_model_id"), any());
+    }
+
+    private void mockModelGroupAccess(boolean access) {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(access);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), any(), any(), any());
+    }
+
+    private void verifyFailure(String message) {
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(message, argumentCaptor.getValue().getMessage());
+        verify(actionListener, never()).onResponse(any());
+    }
+
+    private DiscoveryNode node(String nodeId, int port) {
+        return new DiscoveryNode(
+            nodeId,
+            new TransportAddress(InetAddress.getLoopbackAddress(), port),
+            Collections.emptyMap(),
+            Collections.singleton(DiscoveryNodeRole.DATA_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    private ClusterState clusterState(DiscoveryNode... nodes) {
+        IndexMetadata indexMetadata = IndexMetadata
+            .builder("source_index")
+            .settings(
+                Settings
+                    .builder()
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 3)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            )
+            .build();
+        DiscoveryNodes.Builder nodesBuilder = DiscoveryNodes.builder();
+        for (DiscoveryNode node : nodes) {
+            nodesBuilder.add(node);
+        }
+        nodesBuilder.localNodeId(nodes[0].getId());
+        return ClusterState
+            .builder(new ClusterName("test"))
+            .metadata(Metadata.builder().put(indexMetadata, false).build())
+            .nodes(nodesBuilder)
+            .build();
+    }
+}
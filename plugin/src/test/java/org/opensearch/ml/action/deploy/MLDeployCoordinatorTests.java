@@ -0,0 +1,264 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.deploy;
+
+import static java.util.Collections.emptyMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES;
+import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelInput;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelNodesRequest;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelNodesResponse;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelOnNodeAction;
+import org.opensearch.ml.common.transport.forward.MLForwardAction;
+import org.opensearch.ml.common.transport.forward.MLForwardInput;
+import org.opensearch.ml.common.transport.forward.MLForwardRequest;
+import org.opensearch.ml.common.transport.forward.MLForwardRequestType;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.collect.ImmutableSet;
+
+public class MLDeployCoordinatorTests extends OpenSearchTestCase {
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ActionListener<MLDeployModelNodesResponse> listener;
+
+    private final String taskId = "test_task_id";
+    private final String modelId = "test_model_id";
+    private MLDeployModelInput deployModelInput;
+    private List<DiscoveryNode> nodes;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        deployModelInput = MLDeployModelInput.builder().modelId(modelId).taskId(taskId).nodeCount(3).coordinatingNodeId("node0").build();
+        nodes = Arrays.asList(node("node1"), node("node2"), node("node3"));
+    }
+
+    public void testDeploy_WithinLimit() {
+        MLDeployCoordinator coordinator = coordinator(4, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        ArgumentCaptor<MLDeployModelNodesRequest> request = ArgumentCaptor.forClass(MLDeployModelNodesRequest.class);
+        verify(client).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), eq(listener));
+        assertEquals(3, request.getValue().concreteNodes().length);
+        assertFalse(coordinator.hasStagedNodes(taskId));
+    }
+
+    public void testDeploy_StageNodesBeyondLimit() {
+        MLDeployCoordinator coordinator = coordinator(2, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        ArgumentCaptor<MLDeployModelNodesRequest> request = ArgumentCaptor.forClass(MLDeployModelNodesRequest.class);
+        verify(client).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), isA(ActionListener.class));
+        assertEquals(2, request.getValue().concreteNodes().length);
+        assertTrue(coordinator.hasStagedNodes(taskId));
+
+        coordinator.onNodeDone(taskId, "node1", true);
+        verify(client, times(2)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), isA(ActionListener.class));
+        MLDeployModelNodesRequest stagedRequest = request.getValue();
+        assertEquals("node3", stagedRequest.concreteNodes()[0].getId());
+        assertNull(stagedRequest.getMlDeployModelInput().getSourceNodeId());
+        assertFalse(coordinator.hasStagedNodes(taskId));
+    }
+
+    public void testOnNodeDone_PeerTransfer() {
+        MLDeployCoordinator coordinator = coordinator(1, true);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        coordinator.onNodeDone(taskId, "node1", true);
+        coordinator.onNodeDone(taskId, "node2", true);
+        ArgumentCaptor<MLDeployModelNodesRequest> request = ArgumentCaptor.forClass(MLDeployModelNodesRequest.class);
+        verify(client, times(3)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), isA(ActionListener.class));
+        List<MLDeployModelNodesRequest> requests = request.getAllValues();
+        assertEquals("node2", requests.get(1).concreteNodes()[0].getId());
+        assertEquals("node1", requests.get(1).getMlDeployModelInput().getSourceNodeId());
+        assertEquals("node3", requests.get(2).concreteNodes()[0].getId());
+        assertEquals("node2", requests.get(2).getMlDeployModelInput().getSourceNodeId());
+    }
+
+    public void testOnNodeDone_FailedNodeIsNotSource() {
+        MLDeployCoordinator coordinator = coordinator(1, true);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        coordinator.onNodeDone(taskId, "node1", false);
+        ArgumentCaptor<MLDeployModelNodesRequest> request = ArgumentCaptor.forClass(MLDeployModelNodesRequest.class);
+        verify(client, times(2)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), isA(ActionListener.class));
+        assertNull(request.getValue().getMlDeployModelInput().getSourceNodeId());
+    }
+
+    public void testOnNodeDone_StagedNodeFailure() {
+        MLDeployCoordinator coordinator = coordinator(2, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("test error"));
+            return null;
+        }).when(client).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+
+        coordinator.onNodeDone(taskId, "node1", true);
+        ArgumentCaptor<MLForwardRequest> forwardRequest = ArgumentCaptor.forClass(MLForwardRequest.class);
+        verify(client).execute(eq(MLForwardAction.INSTANCE), forwardRequest.capture(), isA(ActionListener.class));
+        MLForwardInput forwardInput = forwardRequest.getValue().getForwardInput();
+        assertEquals(MLForwardRequestType.DEPLOY_MODEL_DONE, forwardInput.getRequestType());
+        assertEquals("node3", forwardInput.getWorkerNodeId());
+        assertEquals("test error", forwardInput.getError());
+    }
+
+    public void testDeploy_FirstNodesFailure() {
+        MLDeployCoordinator coordinator = coordinator(2, false);
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("test error"));
+            return null;
+        }).when(client).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+
+        coordinator.deploy(deployModelInput, nodes, listener);
+        verify(listener).onFailure(isA(RuntimeException.class));
+        assertFalse(coordinator.hasStagedNodes(taskId));
+    }
+
+    public void testDeploy_FirstNodesPartialFailure() {
+        MLDeployCoordinator coordinator = coordinator(2, false);
+        MLDeployModelNodesResponse response = new MLDeployModelNodesResponse(
+            new ClusterName("test_cluster"),
+            List.of(),
+            List.of(new FailedNodeException("node2", "test error", new RuntimeException("test error")))
+        );
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(response);
+            return null;
+        }).when(client).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+
+        coordinator.deploy(deployModelInput, nodes, listener);
+        verify(listener).onResponse(response);
+        ArgumentCaptor<MLForwardRequest> forwardRequest = ArgumentCaptor.forClass(MLForwardRequest.class);
+        verify(client).execute(eq(MLForwardAction.INSTANCE), forwardRequest.capture(), isA(ActionListener.class));
+        MLForwardInput forwardInput = forwardRequest.getValue().getForwardInput();
+        assertEquals(MLForwardRequestType.DEPLOY_MODEL_DONE, forwardInput.getRequestType());
+        assertEquals("node2", forwardInput.getWorkerNodeId());
+        assertEquals("test error", forwardInput.getError());
+
+        // The report of the failed node frees its slot for the staged node
+        coordinator.onNodeDone(taskId, "node2", false);
+        ArgumentCaptor<MLDeployModelNodesRequest> request = ArgumentCaptor.forClass(MLDeployModelNodesRequest.class);
+        verify(client, times(2)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), isA(ActionListener.class));
+        assertEquals("node3", request.getValue().concreteNodes()[0].getId());
+        assertFalse(coordinator.hasStagedNodes(taskId));
+    }
+
+    public void testOnNodeDone_UnknownTask() {
+        MLDeployCoordinator coordinator = coordinator(2, false);
+        coordinator.onNodeDone("unknown_task_id", "node1", true);
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    public void testOnNodeDone_NotInFlightNode() {
+        MLDeployCoordinator coordinator = coordinator(1, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        // node3 is staged, its report doesn't free a slot
+        coordinator.onNodeDone(taskId, "node3", false);
+        verify(client, times(1)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+        assertTrue(coordinator.hasStagedNodes(taskId));
+    }
+
+    public void testOnNodesRemoved_InFlightNodeLeft() {
+        MLDeployCoordinator coordinator = coordinator(1, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        coordinator.onNodesRemoved(Set.of("node1"));
+        ArgumentCaptor<MLDeployModelNodesRequest> request = ArgumentCaptor.forClass(MLDeployModelNodesRequest.class);
+        verify(client, times(2)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), request.capture(), isA(ActionListener.class));
+        assertEquals("node2", request.getValue().concreteNodes()[0].getId());
+        ArgumentCaptor<MLForwardRequest> forwardRequest = ArgumentCaptor.forClass(MLForwardRequest.class);
+        verify(client).execute(eq(MLForwardAction.INSTANCE), forwardRequest.capture(), isA(ActionListener.class));
+        assertEquals("node1", forwardRequest.getValue().getForwardInput().getWorkerNodeId());
+        assertEquals("Node left the cluster", forwardRequest.getValue().getForwardInput().getError());
+        assertTrue(coordinator.hasStagedNodes(taskId));
+
+        // The report of the node which left doesn't start another node
+        coordinator.onNodeDone(taskId, "node1", false);
+        verify(client, times(2)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+    }
+
+    public void testOnNodesRemoved_StagedNodesLeft() {
+        MLDeployCoordinator coordinator = coordinator(1, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+
+        coordinator.onNodesRemoved(Set.of("node2", "node3"));
+        verify(client, times(1)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+        verify(client, times(2)).execute(eq(MLForwardAction.INSTANCE), any(), isA(ActionListener.class));
+        assertFalse(coordinator.hasStagedNodes(taskId));
+    }
+
+    public void testRemoveTask() {
+        MLDeployCoordinator coordinator = coordinator(1, false);
+        coordinator.deploy(deployModelInput, nodes, listener);
+        assertTrue(coordinator.hasStagedNodes(taskId));
+
+        coordinator.removeTask(taskId);
+        assertFalse(coordinator.hasStagedNodes(taskId));
+        coordinator.onNodeDone(taskId, "node1", true);
+        verify(client, times(1)).execute(eq(MLDeployModelOnNodeAction.INSTANCE), any(), isA(ActionListener.class));
+    }
+
+    private MLDeployCoordinator coordinator(int maxConcurrentDeployNodes, boolean peerTransferEnabled) {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES.getKey(), maxConcurrentDeployNodes)
+            .put(ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED.getKey(), peerTransferEnabled)
+            .build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MAX_CONCURRENT_DEPLOY_NODES,
+            ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        return new MLDeployCoordinator(clusterService, client, settings);
+    }
+
+    private DiscoveryNode node(String nodeId) {
+        return new DiscoveryNode(nodeId, buildNewFakeTransportAddress(), emptyMap(), ImmutableSet.of(ML_ROLE), Version.CURRENT);
+    }
+}
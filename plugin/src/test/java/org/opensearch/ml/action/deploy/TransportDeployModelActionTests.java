@@ -135,6 +135,9 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
     @Mock
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Mock
+    private MLDeployCoordinator mlDeployCoordinator;
+
     private final List<DiscoveryNode> eligibleNodes = mock(List.class);
 
     @Rule
@@ -191,7 +194,8 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
             mlStats,
             settings,
             modelAccessControlHelper,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mlDeployCoordinator
         );
     }
 
@@ -303,7 +307,8 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
             mlStats,
             settings,
             modelAccessControlHelper,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mlDeployCoordinator
         );
 
         transportDeployModelAction.doExecute(mock(Task.class), mlDeployModelRequest, mock(ActionListener.class));
@@ -329,7 +334,8 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
                 mlStats,
                 settings,
                 modelAccessControlHelper,
-                mlFeatureEnabledSetting
+                mlFeatureEnabledSetting,
+                mlDeployCoordinator
             )
         );
         MLDeployModelRequest MLDeployModelRequest1 = mock(MLDeployModelRequest.class);
@@ -387,6 +393,11 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
             listener.onResponse(MLDeployModelNodesResponse);
             return null;
         }).when(client).execute(any(ActionType.class), any(ActionRequest.class), isA(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(MLDeployModelNodesResponse);
+            return null;
+        }).when(mlDeployCoordinator).deploy(any(), any(), isA(ActionListener.class));
 
         UpdateResponse updateResponse = mock(UpdateResponse.class);
         doAnswer(invocation -> {
@@ -48,6 +48,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.action.deploy.MLDeployCoordinator;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
@@ -103,6 +104,8 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
     private ClusterService clusterService;
     @Mock
     MLModelAutoReDeployer mlModelAutoReDeployer;
+    @Mock
+    MLDeployCoordinator mlDeployCoordinator;
 
     DiscoveryNode node1;
     DiscoveryNode node2;
@@ -133,7 +136,8 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
                 nodeHelper,
                 settings,
                 clusterService,
-                mlModelAutoReDeployer
+                mlModelAutoReDeployer,
+                mlDeployCoordinator
             )
         );
 
@@ -171,6 +175,7 @@ public class TransportForwardActionTests extends OpenSearchTestCase {
         assertNull(response.getValue().getMlOutput());
         verify(mlTaskManager).addNodeError(eq(taskId), eq(nodeId1), eq(error));
         verify(mlTaskManager, never()).updateMLTask(anyString(), any(), anyLong(), anyBoolean());
+        verify(mlDeployCoordinator).onNodeDone(eq(taskId), eq(nodeId1), eq(false));
     }
 
     public void testDoExecute_DeployModelDone_NoError() {
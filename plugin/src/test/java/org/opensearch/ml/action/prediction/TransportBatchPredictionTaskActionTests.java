@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportBatchPredictionTaskActionTests extends OpenSearchTestCase {
+    @Mock
+    ThreadPool threadPool;
+
+    @Mock
+    Client client;
+
+    @Mock
+    TransportService transportService;
+
+    @Mock
+    ActionFilters actionFilters;
+
+    @Mock
+    MLModelManager mlModelManager;
+
+    @Mock
+    ActionListener<MLTaskResponse> actionListener;
+
+    TransportBatchPredictionTaskAction transportBatchPredictionTaskAction;
+    MLBatchPredictionTaskRequest batchPredictionRequest;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        transportBatchPredictionTaskAction = new TransportBatchPredictionTaskAction(
+            transportService,
+            actionFilters,
+            client,
+            mlModelManager
+        );
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc1", "doc2", "doc3", "doc4", "doc5")).build())
+            .build();
+        batchPredictionRequest = MLBatchPredictionTaskRequest.builder().modelId("test_model_id").mlInput(mlInput).batchSize(2).build();
+
+        when(mlModelManager.getWorkerNodes("test_model_id", FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1" });
+        ThreadContext threadContext = new ThreadContext(Settings.builder().build());
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+    }
+
+    public void testDoExecute_Success() {
+        // echo every doc back as a tensor named after the doc
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            List<ModelTensors> outputs = docs
+                .stream()
+                .map(doc -> ModelTensors.builder().mlModelTensors(Arrays.asList(ModelTensor.builder().name(doc).build())).build())
+                .collect(Collectors.toList());
+            listener.onResponse(MLTaskResponse.builder().output(new ModelTensorOutput(outputs)).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        transportBatchPredictionTaskAction.doExecute(null, batchPredictionRequest, actionListener);
+
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(actionListener).onResponse(argumentCaptor.capture());
+        List<String> names = ((ModelTensorOutput) argumentCaptor.getValue().getOutput())
+            .getMlModelOutputs()
+            .stream()
+            .map(tensors -> tensors.getMlModelTensors().get(0).getName())
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList("doc1", "doc2", "doc3", "doc4", "doc5"), names);
+    }
+
+    public void testDoExecute_BatchFailure() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("Failed to predict"));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        transportBatchPredictionTaskAction.doExecute(null, batchPredictionRequest, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("Failed to predict", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testDoExecute_NotModelTensorOutput() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onResponse(MLTaskResponse.builder().output(MLPredictionOutput.builder().status("COMPLETED").build()).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        transportBatchPredictionTaskAction.doExecute(null, batchPredictionRequest, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("Batch predict only supports models which output tensors", argumentCaptor.getValue().getMessage());
+    }
+}
@@ -53,6 +53,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.action.deploy.MLDeployCoordinator;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskType;
@@ -118,6 +119,9 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
     @Mock
     private MLModelCacheHelper mlModelCacheHelper;
 
+    @Mock
+    private MLDeployCoordinator mlDeployCoordinator;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -135,7 +139,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             client,
             xContentRegistry,
             mlEngine,
-            mlModelCacheHelper
+            mlModelCacheHelper,
+            mlDeployCoordinator
         );
         runningDeployModelTasks = new HashMap<>();
         runningDeployModelTasks.put("model1", ImmutableSet.of("node1"));
@@ -275,6 +280,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlTaskManager.getMLTaskCache(taskId)).thenReturn(taskCache);
         action.cleanUpLocalCache(runningDeployModelTasks);
         verify(mlTaskManager, never()).updateMLTask(anyString(), any(), anyLong(), anyBoolean());
+        verify(mlDeployCoordinator, never()).removeTask(anyString());
     }
 
     public void testCleanUpLocalCache_ExpiredMLTask_Register() {
@@ -323,6 +329,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlTaskManager.getMLTaskCache(taskId)).thenReturn(taskCache);
         action.cleanUpLocalCache(runningDeployModelTasks);
         verify(mlTaskManager, times(1)).updateMLTask(anyString(), any(), anyLong(), anyBoolean());
+        verify(mlDeployCoordinator).removeTask(taskId);
         ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
         verify(mlModelManager, never()).updateModel(eq(modelId), argumentCaptor.capture());
     }
@@ -8,6 +8,7 @@ package org.opensearch.ml.breaker;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TRAINING_MEMORY_LIMIT_PERCENT;
 
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -103,11 +104,14 @@ public class MLCircuitBreakerServiceTests {
             .build();
         ClusterSettings clusterSettings = new ClusterSettings(
             settings,
-            new HashSet<>(Arrays.asList(ML_COMMONS_NATIVE_MEM_THRESHOLD, ML_COMMONS_JVM_HEAP_MEM_THRESHOLD))
+            new HashSet<>(
+                Arrays.asList(ML_COMMONS_NATIVE_MEM_THRESHOLD, ML_COMMONS_JVM_HEAP_MEM_THRESHOLD, ML_COMMONS_TRAINING_MEMORY_LIMIT_PERCENT)
+            )
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService);
         Assert.assertNotNull(mlCircuitBreakerService.init(Path.of("/")));
+        Assert.assertNotNull(mlCircuitBreakerService.getTrainingMemoryBreaker());
     }
 
     @Test
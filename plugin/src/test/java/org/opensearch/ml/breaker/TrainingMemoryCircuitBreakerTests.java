@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.breaker;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+public class TrainingMemoryCircuitBreakerTests {
+
+    @Test
+    public void testReserveAndRelease() {
+        TrainingMemoryCircuitBreaker breaker = new TrainingMemoryCircuitBreaker(50, 1000);
+        Assert.assertEquals(500, breaker.getLimitBytes());
+        Assert.assertEquals(Integer.valueOf(50), breaker.getThreshold());
+
+        breaker.reserve(300);
+        Assert.assertEquals(300, breaker.getReservedBytes());
+        Assert.assertFalse(breaker.isOpen());
+
+        breaker.reserve(200);
+        Assert.assertTrue(breaker.isOpen());
+
+        breaker.release(500);
+        Assert.assertEquals(0, breaker.getReservedBytes());
+        Assert.assertFalse(breaker.isOpen());
+    }
+
+    @Test
+    public void testReserve_ExceedLimit() {
+        TrainingMemoryCircuitBreaker breaker = new TrainingMemoryCircuitBreaker(50, 1000);
+        breaker.reserve(400);
+        MLLimitExceededException e = Assert.assertThrows(MLLimitExceededException.class, () -> breaker.reserve(200));
+        Assert.assertEquals(
+            "Training needs about 200 bytes of memory, but only 100 of 500 bytes reserved for training are available",
+            e.getMessage()
+        );
+        Assert.assertEquals(400, breaker.getReservedBytes());
+    }
+
+    @Test
+    public void testGetName() {
+        Assert.assertEquals("Training Memory Circuit Breaker", new TrainingMemoryCircuitBreaker(50, 1000).getName());
+    }
+}
@@ -66,7 +66,9 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -228,6 +230,66 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    public void testRun_NoRoutingTableChange() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1 };
+        when(nodeHelper.getAllNodes()).thenReturn(allNodes);
+        mockSyncUp_GatherDeployedModels(new String[] { "modelId1" });
+
+        syncUpCron.run();
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+        verify(mlIndicesHandler, times(1)).initModelIndexIfAbsent(any());
+
+        // nothing changed, only gather deployed models
+        syncUpCron.run();
+        verify(client, times(3)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+        verify(mlIndicesHandler, times(1)).initModelIndexIfAbsent(any());
+    }
+
+    public void testRun_SyncRoutingTableChanges() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1 };
+        when(nodeHelper.getAllNodes()).thenReturn(allNodes);
+        mockSyncUp_GatherDeployedModels(new String[] { "modelId1" });
+        syncUpCron.run();
+
+        mockSyncUp_GatherDeployedModels(new String[] { "modelId2" });
+        syncUpCron.run();
+        ArgumentCaptor<MLSyncUpNodesRequest> captor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client, times(4)).execute(eq(MLSyncUpAction.INSTANCE), captor.capture(), any());
+        MLSyncUpInput syncUpInput = captor.getValue().getSyncUpInput();
+        assertNull(syncUpInput.getModelRoutingTable());
+        assertArrayEquals(new String[] { mlNode1Id }, syncUpInput.getAddedWorkerNodes().get("modelId2"));
+        assertArrayEquals(new String[] { mlNode1Id }, syncUpInput.getRemovedWorkerNodes().get("modelId1"));
+        verify(mlIndicesHandler, times(2)).initModelIndexIfAbsent(any());
+    }
+
+    public void testRun_FullSyncUpWhenNodesChanged() {
+        when(nodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[] { mlNode1 });
+        mockSyncUp_GatherDeployedModels(new String[] { "modelId1" });
+        syncUpCron.run();
+
+        when(nodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[] { mlNode1, mlNode2 });
+        syncUpCron.run();
+        ArgumentCaptor<MLSyncUpNodesRequest> captor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client, times(4)).execute(eq(MLSyncUpAction.INSTANCE), captor.capture(), any());
+        MLSyncUpInput syncUpInput = captor.getValue().getSyncUpInput();
+        assertEquals(ImmutableSet.of(mlNode1Id), syncUpInput.getModelRoutingTable().get("modelId1"));
+    }
+
+    public void testDiffModelRoutingTable() {
+        Map<String, Set<String>> oldRoutingTable = ImmutableMap
+            .of("modelId1", ImmutableSet.of(mlNode1Id, mlNode2Id), "modelId2", ImmutableSet.of(mlNode1Id));
+        Map<String, Set<String>> newRoutingTable = ImmutableMap
+            .of("modelId1", ImmutableSet.of(mlNode1Id), "modelId3", ImmutableSet.of(mlNode2Id));
+        Map<String, String[]> addedWorkerNodes = new HashMap<>();
+        Map<String, String[]> removedWorkerNodes = new HashMap<>();
+        MLSyncUpCron.diffModelRoutingTable(oldRoutingTable, newRoutingTable, addedWorkerNodes, removedWorkerNodes);
+        assertEquals(1, addedWorkerNodes.size());
+        assertArrayEquals(new String[] { mlNode2Id }, addedWorkerNodes.get("modelId3"));
+        assertEquals(2, removedWorkerNodes.size());
+        assertArrayEquals(new String[] { mlNode2Id }, removedWorkerNodes.get("modelId1"));
+        assertArrayEquals(new String[] { mlNode1Id }, removedWorkerNodes.get("modelId2"));
+    }
+
     public void testRefreshModelState_NoSemaphore() throws InterruptedException {
         syncUpCron.updateModelStateSemaphore.acquire();
         syncUpCron.refreshModelState(null, null);
@@ -422,6 +484,17 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         }).when(client).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    private void mockSyncUp_GatherDeployedModels(String[] deployedModelIds) {
+        doAnswer(invocation -> {
+            ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
+            List<MLSyncUpNodeResponse> nodeResponses = new ArrayList<>();
+            nodeResponses.add(new MLSyncUpNodeResponse(mlNode1, "ok", deployedModelIds, null, null));
+            MLSyncUpNodesResponse response = new MLSyncUpNodesResponse(ClusterName.DEFAULT, nodeResponses, Arrays.asList());
+            listener.onResponse(response);
+            return null;
+        }).when(client).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+    }
+
     private void mockSyncUp_GatherRunningTasks_Failure() {
         doAnswer(invocation -> {
             ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
@@ -7,14 +7,17 @@ package org.opensearch.ml.helper;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_GROUP_CACHE_TTL_IN_SECONDS;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -139,6 +142,58 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         assertTrue(argumentCaptor.getValue());
     }
 
+    public void test_CachedModelGroup() throws IOException {
+        String owner = "owner|IT,HR|myTenant";
+        List<String> backendRoles = Arrays.asList("IT", "HR");
+        setupModelGroup(owner, AccessMode.RESTRICTED.getValue(), backendRoles);
+        User user = User.parse("owner|IT,HR|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        User otherUser = User.parse("otherUser|Finance|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(otherUser, "testGroupID", client, actionListener);
+        verify(client, times(1)).get(any(), any());
+        ArgumentCaptor<Boolean> argumentCaptor = ArgumentCaptor.forClass(Boolean.class);
+        verify(actionListener, times(2)).onResponse(argumentCaptor.capture());
+        assertEquals(Arrays.asList(true, false), argumentCaptor.getAllValues());
+
+        modelAccessControlHelper.invalidateModelGroup("testGroupID");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(client, times(2)).get(any(), any());
+    }
+
+    public void test_ModelGroupInvalidatedWhileReading() throws IOException {
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PUBLIC.getValue(), null);
+        AtomicBoolean updated = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            // The model group gets updated on this node while it's being read
+            if (updated.compareAndSet(false, true)) {
+                modelAccessControlHelper.invalidateModelGroup("testGroupID");
+            }
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+        User user = User.parse("owner|IT,HR|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        // The model group read before the update isn't cached, the one read after it is
+        verify(client, times(2)).get(any(), any());
+    }
+
+    public void test_ModelGroupCacheDisabled() throws IOException {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.getKey(), true)
+            .put(ML_COMMONS_MODEL_GROUP_CACHE_TTL_IN_SECONDS.getKey(), 0)
+            .build();
+        modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PUBLIC.getValue(), null);
+        User user = User.parse("owner|IT,HR|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(client, times(2)).get(any(), any());
+    }
+
     public void test_PrivateModelGroupWithSameOwner() throws IOException {
         String owner = "owner|IT,HR|myTenant";
         List<String> backendRoles = Arrays.asList("IT", "HR");
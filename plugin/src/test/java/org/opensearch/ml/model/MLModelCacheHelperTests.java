@@ -26,6 +26,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
@@ -272,6 +273,52 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getWorkerNodes(modelId));
     }
 
+    public void testModelInfo() {
+        MLModel mlModel = MLModel
+            .builder()
+            .name("test_model")
+            .modelGroupId("test_model_group")
+            .algorithm(FunctionName.REMOTE)
+            .content("test_content")
+            .build();
+        assertEquals(-1, cacheHelper.getModelInfoVersion(modelId));
+        cacheHelper.setModelInfo(modelId, mlModel, -1);
+        assertNull(cacheHelper.getModelInfo(modelId));
+
+        cacheHelper.addWorkerNode(modelId, nodeId);
+        long version = cacheHelper.getModelInfoVersion(modelId);
+        cacheHelper.setModelInfo(modelId, mlModel, version);
+        MLModel modelInfo = cacheHelper.getModelInfo(modelId);
+        assertEquals(modelId, modelInfo.getModelId());
+        assertEquals("test_model_group", modelInfo.getModelGroupId());
+        assertEquals(FunctionName.REMOTE, modelInfo.getAlgorithm());
+        assertNull(modelInfo.getContent());
+
+        // same worker nodes, model info still valid
+        cacheHelper.syncWorkerNodes(Map.of(modelId, ImmutableSet.of(nodeId)));
+        assertNotNull(cacheHelper.getModelInfo(modelId));
+
+        cacheHelper.syncWorkerNodes(Map.of(modelId, ImmutableSet.of(nodeId, "new_node_id")));
+        assertNull(cacheHelper.getModelInfo(modelId));
+
+        // model info read before invalidation is not cached
+        cacheHelper.setModelInfo(modelId, mlModel, version);
+        assertNull(cacheHelper.getModelInfo(modelId));
+    }
+
+    public void testInvalidateModelInfo() {
+        cacheHelper.addWorkerNode(modelId, nodeId);
+        MLModel mlModel = MLModel.builder().name("test_model").algorithm(FunctionName.REMOTE).build();
+        cacheHelper.setModelInfo(modelId, mlModel, cacheHelper.getModelInfoVersion(modelId));
+        assertNotNull(cacheHelper.getModelInfo(modelId));
+        cacheHelper.invalidateModelInfo(modelId);
+        assertNull(cacheHelper.getModelInfo(modelId));
+
+        cacheHelper.setModelInfo(modelId, mlModel, cacheHelper.getModelInfoVersion(modelId));
+        cacheHelper.removeModel(modelId);
+        assertNull(cacheHelper.getModelInfo(modelId));
+    }
+
     public void testGetModelProfile_WrongModelId() {
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
         assertNull(modelProfile);
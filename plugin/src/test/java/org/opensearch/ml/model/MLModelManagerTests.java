@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -26,10 +27,12 @@ import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLINE_UPDATE_CHECKPOINT_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_client_ThreadContext;
@@ -71,6 +74,7 @@ import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -88,6 +92,8 @@ import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
@@ -97,6 +103,8 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.Updatable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.indices.MLIndicesHandler;
@@ -183,9 +191,14 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MONITORING_REQUEST_COUNT,
-            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE
+            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+            ML_COMMONS_ONLINE_UPDATE_CHECKPOINT_INTERVAL_IN_SECONDS,
+            ML_COMMONS_DEPLOY_PEER_TRANSFER_ENABLED
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("localNodeId");
+        doReturn(localNode).when(clusterService).localNode();
         xContentRegistry = NamedXContentRegistry.EMPTY;
 
         modelName = "model_name1";
@@ -708,6 +721,12 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.getWorkerNodes(modelId, FunctionName.REMOTE, true);
     }
 
+    public void testReadModelChunk_NotKept() throws IOException {
+        expectedEx.expect(MLResourceNotFoundException.class);
+        expectedEx.expectMessage("Model chunk 0 of model " + modelId + " is not kept on this node");
+        modelManager.readModelChunk(modelId, 0);
+    }
+
     public void test_addModelWorkerNodes_success() {
         List<String> nodeIds = ImmutableList.of("node1", "node2");
         String[] modelIds = new String[] { "model1" };
@@ -717,6 +736,48 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(modelCacheHelper, times(3)).addWorkerNode(anyString(), anyString());
     }
 
+    public void testUpdateDeployedModel() {
+        Updatable updatable = mock(Updatable.class);
+        MLInput mlInput = mock(MLInput.class);
+        when(modelCacheHelper.getPredictor(modelId)).thenReturn(updatable);
+        modelManager.updateDeployedModel(modelId, mlInput);
+        verify(updatable).update(mlInput);
+        verify(modelCacheHelper).markModelUpdated(modelId);
+    }
+
+    public void testUpdateDeployedModel_NotUpdatable() {
+        expectedEx.expect(IllegalArgumentException.class);
+        expectedEx.expectMessage("Online update is not supported by model: " + modelId);
+        when(modelCacheHelper.getPredictor(modelId)).thenReturn(mock(Predictable.class));
+        modelManager.updateDeployedModel(modelId, mock(MLInput.class));
+    }
+
+    public void testUpdateDeployedModel_NotDeployed() {
+        expectedEx.expect(IllegalArgumentException.class);
+        expectedEx.expectMessage("Model not deployed on this node: " + modelId);
+        when(modelCacheHelper.getPredictor(modelId)).thenReturn(null);
+        modelManager.updateDeployedModel(modelId, mock(MLInput.class));
+    }
+
+    public void testCheckpointUpdatedModels() {
+        Updatable updatable = mock(Updatable.class);
+        when(updatable.getModelContent()).thenReturn("content");
+        when(modelCacheHelper.getAndClearUpdatedModels()).thenReturn(new String[] { modelId });
+        when(modelCacheHelper.getPredictor(modelId)).thenReturn(updatable);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("failed to update"));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), isA(ActionListener.class));
+
+        modelManager.checkpointUpdatedModels();
+        ArgumentCaptor<UpdateRequest> updateRequestCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(updateRequestCaptor.capture(), any());
+        assertEquals("content", updateRequestCaptor.getValue().doc().sourceAsMap().get(MLModel.MODEL_CONTENT_FIELD));
+        // failed checkpoint will be retried in next run
+        verify(modelCacheHelper).markModelUpdated(modelId);
+    }
+
     private void testDeployModel_FailedToRetrieveModelChunks(boolean lastChunk) {
         when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
         when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
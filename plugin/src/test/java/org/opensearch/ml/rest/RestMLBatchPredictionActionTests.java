@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.rest.RestMLBatchPredictionAction.PARAMETER_BATCH_SIZE;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.TestHelper.getXContentRegistry;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBatchPredictionActionTests extends OpenSearchTestCase {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private RestMLBatchPredictionAction restMLBatchPredictionAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+    @Mock
+    MLModelManager modelManager;
+    @Mock
+    MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(modelManager.getOptionalModelFunctionName(anyString())).thenReturn(Optional.empty());
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(true);
+        restMLBatchPredictionAction = new RestMLBatchPredictionAction(modelManager, mlFeatureEnabledSetting);
+
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+
+        doAnswer(invocation -> null).when(client).execute(eq(MLBatchPredictionTaskAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testConstructor() {
+        RestMLBatchPredictionAction mlBatchPredictionAction = new RestMLBatchPredictionAction(modelManager, mlFeatureEnabledSetting);
+        assertNotNull(mlBatchPredictionAction);
+    }
+
+    public void testGetName() {
+        String actionName = restMLBatchPredictionAction.getName();
+        assertFalse(Strings.isNullOrEmpty(actionName));
+        assertEquals("ml_batch_prediction_action", actionName);
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBatchPredictionAction.routes();
+        assertNotNull(routes);
+        assertFalse(routes.isEmpty());
+        RestHandler.Route route = routes.get(0);
+        assertEquals(RestRequest.Method.POST, route.getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_batch_predict", route.getPath());
+    }
+
+    public void testGetRequest() throws IOException {
+        RestRequest request = getRestRequest_BatchPredict("16");
+        MLBatchPredictionTaskRequest batchPredictionRequest = restMLBatchPredictionAction
+            .getRequest("modelId", FunctionName.TEXT_EMBEDDING.name(), 16, request);
+
+        assertEquals("modelId", batchPredictionRequest.getModelId());
+        assertEquals(16, batchPredictionRequest.getBatchSize());
+        verifyParsedTextDocs(batchPredictionRequest.getMlInput(), FunctionName.TEXT_EMBEDDING);
+    }
+
+    public void testPrepareRequest_DefaultBatchSize() throws Exception {
+        when(modelManager.getOptionalModelFunctionName("model_id")).thenReturn(Optional.of(FunctionName.TEXT_EMBEDDING));
+        RestRequest request = getRestRequest_BatchPredict(null);
+        restMLBatchPredictionAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<MLBatchPredictionTaskRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionTaskAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals(MLBatchPredictionTaskRequest.DEFAULT_BATCH_SIZE, argumentCaptor.getValue().getBatchSize());
+    }
+
+    public void testGetRequest_RemoteModel() throws IOException {
+        RestRequest request = getRestRequest_BatchPredict("8");
+        MLBatchPredictionTaskRequest batchPredictionRequest = restMLBatchPredictionAction
+            .getRequest("modelId", FunctionName.REMOTE.name(), 8, request);
+
+        // remote models get the same text docs input as text embedding models
+        verifyParsedTextDocs(batchPredictionRequest.getMlInput(), FunctionName.REMOTE);
+    }
+
+    public void testGetRequest_RemoteInferenceDisabled() throws IOException {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(false);
+        RestRequest request = getRestRequest_BatchPredict(null);
+        restMLBatchPredictionAction.getRequest("modelId", FunctionName.REMOTE.name(), 8, request);
+    }
+
+    public void testPrepareRequest() throws Exception {
+        when(modelManager.getOptionalModelFunctionName("model_id")).thenReturn(Optional.of(FunctionName.TEXT_EMBEDDING));
+        RestRequest request = getRestRequest_BatchPredict("16");
+        restMLBatchPredictionAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<MLBatchPredictionTaskRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionTaskAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("model_id", argumentCaptor.getValue().getModelId());
+        verify(modelManager, never()).getModelInfo(anyString(), any());
+        verifyParsedTextDocs(argumentCaptor.getValue().getMlInput(), FunctionName.TEXT_EMBEDDING);
+    }
+
+    public void testPrepareRequest_ModelNotDeployedOnNode() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(MLModel.builder().algorithm(FunctionName.REMOTE).build());
+            return null;
+        }).when(modelManager).getModelInfo(eq("model_id"), any());
+        RestRequest request = getRestRequest_BatchPredict("16");
+        restMLBatchPredictionAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<MLBatchPredictionTaskRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionTaskAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals(16, argumentCaptor.getValue().getBatchSize());
+        verifyParsedTextDocs(argumentCaptor.getValue().getMlInput(), FunctionName.REMOTE);
+    }
+
+    public void testPrepareRequest_ModelNotFound() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onFailure(new MLResourceNotFoundException("Failed to find model"));
+            return null;
+        }).when(modelManager).getModelInfo(eq("model_id"), any());
+        RestRequest request = getRestRequest_BatchPredict("16");
+        when(channel.request()).thenReturn(request);
+        when(channel.newErrorBuilder()).thenReturn(XContentFactory.jsonBuilder());
+        restMLBatchPredictionAction.handleRequest(request, channel, client);
+
+        verify(client, never()).execute(eq(MLBatchPredictionTaskAction.INSTANCE), any(), any());
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel, times(1)).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.NOT_FOUND, responseCaptor.getValue().status());
+    }
+
+    private RestRequest getRestRequest_BatchPredict(String batchSize) {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_MODEL_ID, "model_id");
+        if (batchSize != null) {
+            params.put(PARAMETER_BATCH_SIZE, batchSize);
+        }
+        String requestContent = "{\"text_docs\":[\"doc1\",\"doc2\",\"doc3\"]}";
+        return new FakeRestRequest.Builder(getXContentRegistry())
+            .withParams(params)
+            .withContent(new BytesArray(requestContent), XContentType.JSON)
+            .build();
+    }
+
+    private void verifyParsedTextDocs(MLInput mlInput, FunctionName functionName) {
+        assertEquals(functionName, mlInput.getAlgorithm());
+        TextDocsInputDataSet inputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        assertEquals(List.of("doc1", "doc2", "doc3"), inputDataSet.getDocs());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.TestHelper.getXContentRegistry;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceAction;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceInput;
+import org.opensearch.ml.common.transport.bulk_inference.MLBulkInferenceRequest;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBulkInferenceActionTests extends OpenSearchTestCase {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private RestMLBulkInferenceAction restMLBulkInferenceAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Before
+    public void setup() {
+        restMLBulkInferenceAction = new RestMLBulkInferenceAction();
+
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+
+        doAnswer(invocation -> null).when(client).execute(eq(MLBulkInferenceAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testConstructor() {
+        RestMLBulkInferenceAction mlBulkInferenceAction = new RestMLBulkInferenceAction();
+        assertNotNull(mlBulkInferenceAction);
+    }
+
+    public void testGetName() {
+        String actionName = restMLBulkInferenceAction.getName();
+        assertFalse(Strings.isNullOrEmpty(actionName));
+        assertEquals("ml_bulk_inference_action", actionName);
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBulkInferenceAction.routes();
+        assertNotNull(routes);
+        assertFalse(routes.isEmpty());
+        RestHandler.Route route = routes.get(0);
+        assertEquals(RestRequest.Method.POST, route.getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_bulk_inference", route.getPath());
+    }
+
+    public void testGetRequest_Start() throws IOException {
+        String requestContent = "{\"source_index\":\"source_index\",\"source_field\":\"text\",\"target_index\":\"target_index\","
+            + "\"target_field\":\"embedding\",\"batch_size\":50,\"max_in_flight_batches\":4,\"max_docs_per_second\":100}";
+        MLBulkInferenceRequest bulkInferenceRequest = restMLBulkInferenceAction.getRequest(getRestRequest(requestContent));
+
+        MLBulkInferenceInput input = bulkInferenceRequest.getBulkInferenceInput();
+        assertEquals("test_model_id", input.getModelId());
+        assertFalse(input.isResume());
+        assertEquals("source_index", input.getSourceIndex());
+        assertEquals("text", input.getSourceField());
+        assertEquals("target_index", input.getTargetIndex());
+        assertEquals("embedding", input.getTargetField());
+        assertEquals(50, input.getBatchSize());
+        assertEquals(4, input.getMaxInFlightBatches());
+        assertEquals(100f, input.getMaxDocsPerSecond(), 0.0f);
+        assertNull(bulkInferenceRequest.validate());
+    }
+
+    public void testGetRequest_Resume() throws IOException {
+        RestRequest request = getRestRequest("{\"task_id\":\"test_task_id\"}");
+        MLBulkInferenceRequest bulkInferenceRequest = restMLBulkInferenceAction.getRequest(request);
+
+        MLBulkInferenceInput input = bulkInferenceRequest.getBulkInferenceInput();
+        assertEquals("test_model_id", input.getModelId());
+        assertTrue(input.isResume());
+        assertEquals("test_task_id", input.getTaskId());
+        assertNull(bulkInferenceRequest.validate());
+    }
+
+    public void testGetRequest_ModelIdFromPath() throws IOException {
+        // the model id in the path wins over the one in the request body
+        String requestContent = "{\"model_id\":\"other_model_id\",\"task_id\":\"test_task_id\"}";
+        MLBulkInferenceRequest bulkInferenceRequest = restMLBulkInferenceAction.getRequest(getRestRequest(requestContent));
+        assertEquals("test_model_id", bulkInferenceRequest.getBulkInferenceInput().getModelId());
+    }
+
+    public void testGetRequest_ExceedMaxBatchSize() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("batch_size must be between 1 and " + MLBulkInferenceInput.MAX_BATCH_SIZE);
+        restMLBulkInferenceAction.getRequest(getRestRequest("{\"source_index\":\"source_index\",\"batch_size\":100000}"));
+    }
+
+    public void testPrepareRequest() throws Exception {
+        RestRequest request = getRestRequest("{\"task_id\":\"test_task_id\"}");
+        restMLBulkInferenceAction.handleRequest(request, mock(RestChannel.class), client);
+
+        ArgumentCaptor<MLBulkInferenceRequest> argumentCaptor = ArgumentCaptor.forClass(MLBulkInferenceRequest.class);
+        verify(client, times(1)).execute(eq(MLBulkInferenceAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("test_task_id", argumentCaptor.getValue().getBulkInferenceInput().getTaskId());
+    }
+
+    private RestRequest getRestRequest(String requestContent) {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_MODEL_ID, "test_model_id");
+        return new FakeRestRequest.Builder(getXContentRegistry())
+            .withParams(params)
+            .withContent(new BytesArray(requestContent), XContentType.JSON)
+            .build();
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.*;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
 import static org.opensearch.ml.utils.TestHelper.getKMeansRestRequest;
+import static org.opensearch.ml.utils.TestHelper.getXContentRegistry;
 import static org.opensearch.ml.utils.TestHelper.verifyParsedKMeansMLInput;
 
 import java.io.IOException;
@@ -26,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.ml.common.FunctionName;
@@ -43,6 +45,7 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.action.RestToXContentListener;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -113,6 +116,20 @@ public class RestMLPredictionActionTests extends OpenSearchTestCase {
         verifyParsedKMeansMLInput(mlInput);
     }
 
+    public void testGetRequest_OnlineUpdate() throws IOException {
+        RestRequest kmeansRequest = getKMeansRestRequest();
+        RestRequest request = new FakeRestRequest.Builder(getXContentRegistry())
+            .withPath("/_plugins/_ml/models/model_id/_online_update")
+            .withContent(kmeansRequest.content(), XContentType.JSON)
+            .build();
+        MLPredictionTaskRequest mlPredictionTaskRequest = restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), request);
+        assertTrue(mlPredictionTaskRequest.isOnlineUpdate());
+        verifyParsedKMeansMLInput(mlPredictionTaskRequest.getMlInput());
+
+        mlPredictionTaskRequest = restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), getRestRequest_PredictModel());
+        assertFalse(mlPredictionTaskRequest.isOnlineUpdate());
+    }
+
     public void testGetRequest_RemoteInferenceDisabled() throws IOException {
         thrown.expect(IllegalStateException.class);
         thrown.expectMessage(REMOTE_INFERENCE_DISABLED_ERR_MSG);
@@ -15,6 +15,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_THREAD_POOL_PREFIX;
 
 import java.nio.file.Path;
 import java.util.Map;
@@ -34,6 +36,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.TrainingMemoryCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLTask;
@@ -41,6 +44,7 @@ import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.transport.MLTaskResponse;
@@ -57,6 +61,8 @@ import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -97,6 +103,8 @@ public class MLTrainAndPredictTaskRunnerTests extends OpenSearchTestCase {
     String errorMessage = "test error";
     Settings settings;
     MLEngine mlEngine;
+    ThreadPool testThreadPool;
+    TrainingMemoryCircuitBreaker trainingMemoryBreaker;
     private Encryptor encryptor;
 
     @Before
@@ -124,6 +132,11 @@ public class MLTrainAndPredictTaskRunnerTests extends OpenSearchTestCase {
         this.mlStats = new MLStats(stats);
 
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
+        testThreadPool = new TestThreadPool(
+            this.getClass().getSimpleName() + "ThreadPool",
+            new FixedExecutorBuilder(Settings.EMPTY, GENERAL_THREAD_POOL, 1, 10, ML_THREAD_POOL_PREFIX + GENERAL_THREAD_POOL, false)
+        );
+        trainingMemoryBreaker = new TrainingMemoryCircuitBreaker(50, 1L << 40);
         taskRunner = spy(
             new MLTrainAndPredictTaskRunner(
                 threadPool,
@@ -135,7 +148,8 @@ public class MLTrainAndPredictTaskRunnerTests extends OpenSearchTestCase {
                 mlTaskDispatcher,
                 mlCircuitBreakerService,
                 nodeHelper,
-                mlEngine
+                mlEngine,
+                new TrainingMemoryTracker(testThreadPool, trainingMemoryBreaker)
             )
         );
         dataFrame = TestData.constructTestDataFrame(100);
@@ -162,6 +176,28 @@ public class MLTrainAndPredictTaskRunnerTests extends OpenSearchTestCase {
         requestWithQuery = MLTrainingTaskRequest.builder().async(false).mlInput(mlInputWithQuery).build();
     }
 
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        terminate(testThreadPool);
+    }
+
+    public void testExecuteTask_ReleaseTrainingMemory() {
+        taskRunner.executeTask(requestWithDataFrame, listener);
+        verify(listener).onResponse(any());
+        assertEquals(0, trainingMemoryBreaker.getReservedBytes());
+    }
+
+    public void testExecuteTask_TrainingMemoryLimitExceeded() {
+        trainingMemoryBreaker.reserve(trainingMemoryBreaker.getLimitBytes());
+        taskRunner.executeTask(requestWithDataFrame, listener);
+        verify(listener, never()).onResponse(any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        assertEquals(trainingMemoryBreaker.getLimitBytes(), trainingMemoryBreaker.getReservedBytes());
+    }
+
     @Ignore
     public void testExecuteTask_OnLocalNode() {
         doAnswer(invocation -> {
@@ -6,6 +6,7 @@
 package org.opensearch.ml.task;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -14,11 +15,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_THREAD_POOL_PREFIX;
 
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -37,15 +41,19 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.TrainingMemoryCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLTrainingOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskAction;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskRequest;
@@ -61,6 +69,8 @@ import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 import org.opensearch.transport.TransportService;
@@ -107,12 +117,14 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
 
     MLEngine mlEngine;
     Encryptor encryptor;
+    ThreadPool testThreadPool;
+    TrainingMemoryCircuitBreaker trainingMemoryBreaker;
 
     @Before
     public void setup() {
         MockitoAnnotations.openMocks(this);
         encryptor = new EncryptorImpl("m+dWmfmnNRiNlOdej/QelEkvMTyH//frS2TBeS2BP4w=");
-        mlEngine = new MLEngine(Path.of("/tmp/djl-cache_" + randomAlphaOfLength(10)), encryptor);
+        mlEngine = spy(new MLEngine(Path.of("/tmp/djl-cache_" + randomAlphaOfLength(10)), encryptor));
         localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         remoteNode = new DiscoveryNode("remoteNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         when(clusterService.localNode()).thenReturn(localNode);
@@ -132,6 +144,11 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
         this.mlStats = new MLStats(stats);
 
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
+        testThreadPool = new TestThreadPool(
+            this.getClass().getSimpleName() + "ThreadPool",
+            new FixedExecutorBuilder(Settings.EMPTY, GENERAL_THREAD_POOL, 1, 10, ML_THREAD_POOL_PREFIX + GENERAL_THREAD_POOL, false)
+        );
+        trainingMemoryBreaker = new TrainingMemoryCircuitBreaker(50, 1L << 40);
         taskRunner = spy(
             new MLTrainingTaskRunner(
                 threadPool,
@@ -144,7 +161,8 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
                 mlTaskDispatcher,
                 mlCircuitBreakerService,
                 nodeHelper,
-                mlEngine
+                mlEngine,
+                new TrainingMemoryTracker(testThreadPool, trainingMemoryBreaker)
             )
         );
 
@@ -180,6 +198,12 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
         when(threadPool.getThreadContext()).thenReturn(threadContext);
     }
 
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        terminate(testThreadPool);
+    }
+
     @Ignore
     public void testExecuteTask_OnLocalNode_SyncRequest() {
         setupMocks(true, false, false, false);
@@ -296,6 +320,65 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_ReserveTrainingMemory() {
+        setupMocks(true, false, false, false);
+        AtomicLong reservedWhileTraining = new AtomicLong();
+        doAnswer(invocation -> {
+            reservedWhileTraining.set(trainingMemoryBreaker.getReservedBytes());
+            return invocation.callRealMethod();
+        }).when(mlEngine).train(any());
+        taskRunner.executeTask(requestWithDataFrame, listener);
+
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        MLTrainingOutput output = (MLTrainingOutput) argumentCaptor.getValue().getOutput();
+        assertTrue(output.getEstimatedMemoryBytes() > 0);
+        assertEquals(output.getEstimatedMemoryBytes().longValue(), reservedWhileTraining.get());
+        assertTrue(output.getPeakMemoryBytes() >= 0);
+        assertEquals(0, trainingMemoryBreaker.getReservedBytes());
+    }
+
+    public void testExecuteTask_AsyncRequest_StoreTrainingMemory() {
+        setupMocks(true, false, false, false);
+        taskRunner.executeTask(asyncRequestWithDataFrame, listener);
+
+        verify(listener).onResponse(any());
+        ArgumentCaptor<Map<String, Object>> argumentCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("taskId"), argumentCaptor.capture(), anyLong(), eq(true));
+        Map<String, Object> updatedFields = argumentCaptor.getValue();
+        assertEquals(MLTaskState.COMPLETED, updatedFields.get(MLTask.STATE_FIELD));
+        assertEquals("modelId", updatedFields.get(MLTask.MODEL_ID_FIELD));
+        assertTrue((Long) updatedFields.get(MLTrainingOutput.ESTIMATED_MEMORY_BYTES_FIELD) > 0);
+        assertTrue((Long) updatedFields.get(MLTrainingOutput.PEAK_MEMORY_BYTES_FIELD) >= 0);
+    }
+
+    public void testExecuteTask_TrainingMemoryLimitExceeded() {
+        setupMocks(true, false, false, false);
+        trainingMemoryBreaker.reserve(trainingMemoryBreaker.getLimitBytes());
+        taskRunner.executeTask(requestWithDataFrame, listener);
+
+        verify(listener, never()).onResponse(any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        verify(mlEngine, never()).train(any());
+        verify(client, never()).index(any(), any());
+        assertEquals(trainingMemoryBreaker.getLimitBytes(), trainingMemoryBreaker.getReservedBytes());
+    }
+
+    public void testExecuteTask_ReleaseTrainingMemoryOnFailure() {
+        setupMocks(true, false, false, false);
+        doThrow(new RuntimeException(errorMessage)).when(mlEngine).train(any());
+        taskRunner.executeTask(requestWithDataFrame, listener);
+
+        verify(listener, never()).onResponse(any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
+        verify(client, never()).index(any(), any());
+        assertEquals(0, trainingMemoryBreaker.getReservedBytes());
+    }
+
     private void setupMocks(
         boolean runOnLocalNode,
         boolean failedToCreateTask,
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_THREAD_POOL_PREFIX;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.breaker.TrainingMemoryCircuitBreaker;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class TrainingMemoryTrackerTests extends OpenSearchTestCase {
+    private ThreadPool threadPool;
+    private TrainingMemoryCircuitBreaker breaker;
+    private AtomicLong heapUsed;
+    private AtomicInteger heapSamples;
+    private TrainingMemoryTracker tracker;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(
+            this.getClass().getSimpleName() + "ThreadPool",
+            new FixedExecutorBuilder(Settings.EMPTY, GENERAL_THREAD_POOL, 1, 10, ML_THREAD_POOL_PREFIX + GENERAL_THREAD_POOL, false)
+        );
+        breaker = new TrainingMemoryCircuitBreaker(50, 1000);
+        heapUsed = new AtomicLong(100);
+        heapSamples = new AtomicInteger();
+        tracker = new TrainingMemoryTracker(threadPool, breaker, () -> {
+            heapSamples.incrementAndGet();
+            return heapUsed.get();
+        });
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        terminate(threadPool);
+    }
+
+    public void testReserve_SamplePeakAndRelease() throws Exception {
+        TrainingMemoryTracker.Reservation reservation = tracker.reserve(300);
+        assertEquals(300, reservation.getEstimatedBytes());
+        assertEquals(300, breaker.getReservedBytes());
+
+        heapUsed.set(500);
+        int samples = heapSamples.get();
+        assertBusy(() -> assertTrue(heapSamples.get() > samples));
+        heapUsed.set(200);
+
+        reservation.close();
+        assertEquals(0, breaker.getReservedBytes());
+        assertEquals(400, reservation.getPeakBytes());
+
+        // closing again must not release the memory twice
+        reservation.close();
+        assertEquals(0, breaker.getReservedBytes());
+    }
+
+    public void testReserve_ExceedLimit() {
+        breaker.reserve(400);
+        expectThrows(MLLimitExceededException.class, () -> tracker.reserve(200));
+        assertEquals(400, breaker.getReservedBytes());
+    }
+}
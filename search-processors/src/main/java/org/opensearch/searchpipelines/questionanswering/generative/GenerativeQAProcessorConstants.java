@@ -39,6 +39,12 @@ public class GenerativeQAProcessorConstants {
     public static final String CONFIG_NAME_SYSTEM_PROMPT = "system_prompt";
     public static final String CONFIG_NAME_USER_INSTRUCTIONS = "user_instructions";
 
+    // How many LLM answers to cache. Caching is off unless this is set.
+    public static final String CONFIG_NAME_RESPONSE_CACHE_SIZE = "response_cache_size";
+    public static final String CONFIG_NAME_RESPONSE_CACHE_TTL_SECONDS = "response_cache_ttl_seconds";
+    // Whether to cache answers of questions asked in a conversation.
+    public static final String CONFIG_NAME_RESPONSE_CACHE_CONVERSATIONS = "response_cache_conversations";
+
     public static final Setting<Boolean> RAG_PIPELINE_FEATURE_ENABLED = Setting
         .boolSetting("plugins.ml_commons.rag_pipeline_feature_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
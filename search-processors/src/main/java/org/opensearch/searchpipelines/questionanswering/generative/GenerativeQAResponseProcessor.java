@@ -27,14 +27,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
 
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.client.Client;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
@@ -43,8 +49,10 @@ import org.opensearch.searchpipelines.questionanswering.generative.ext.Generativ
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompletionOutput;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.Llm;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.LlmIOUtil;
+import org.opensearch.searchpipelines.questionanswering.generative.llm.LlmResponseCache;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ModelLocator;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
+import org.opensearch.searchpipelines.questionanswering.generative.prompt.TokenBudget;
 
 import com.google.gson.JsonArray;
 
@@ -74,6 +82,8 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
     @Setter
     private ConversationalMemoryClient memoryClient;
 
+    private final Client client;
+
     @Getter
     @Setter
     // Mainly for unit testing purpose
@@ -81,6 +91,9 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
 
     private final BooleanSupplier featureFlagSupplier;
 
+    // Null unless response caching is configured for this processor.
+    private final LlmResponseCache responseCache;
+
     protected GenerativeQAResponseProcessor(
         Client client,
         String tag,
@@ -92,6 +105,22 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         String systemPrompt,
         String userInstructions,
         BooleanSupplier supplier
+    ) {
+        this(client, tag, description, ignoreFailure, llm, llmModel, contextFields, systemPrompt, userInstructions, supplier, null);
+    }
+
+    protected GenerativeQAResponseProcessor(
+        Client client,
+        String tag,
+        String description,
+        boolean ignoreFailure,
+        Llm llm,
+        String llmModel,
+        List<String> contextFields,
+        String systemPrompt,
+        String userInstructions,
+        BooleanSupplier supplier,
+        LlmResponseCache responseCache
     ) {
         super(tag, description, ignoreFailure);
         this.llmModel = llmModel;
@@ -99,85 +128,164 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         this.systemPrompt = systemPrompt;
         this.userInstructions = userInstructions;
         this.llm = llm;
+        this.client = client;
         this.memoryClient = new ConversationalMemoryClient(client);
         this.featureFlagSupplier = supplier;
+        this.responseCache = responseCache;
     }
 
     @Override
     public SearchResponse processResponse(SearchRequest request, SearchResponse response) throws Exception {
+        PlainActionFuture<SearchResponse> future = PlainActionFuture.newFuture();
+        processResponseAsync(request, response, null, future);
+        // Each step is bounded by its own timeout, so wait for the memory calls around the LLM call as well
+        int timeout = getTimeoutInSeconds(GenerativeQAParamUtil.getGenerativeQAParameters(request));
+        return future.actionGet(TimeValue.timeValueSeconds(timeout).millis() + 2 * ConversationalMemoryClient.DEFAULT_TIMEOUT_IN_MILLIS);
+    }
 
+    @Override
+    public void processResponseAsync(
+        SearchRequest request,
+        SearchResponse response,
+        PipelineProcessingContext requestContext,
+        ActionListener<SearchResponse> responseListener
+    ) {
         log.info("Entering processResponse.");
 
-        if (!this.featureFlagSupplier.getAsBoolean()) {
-            throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
-        }
+        try {
+            if (!this.featureFlagSupplier.getAsBoolean()) {
+                throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
+            }
 
-        GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
+            GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
 
-        Integer timeout = params.getTimeout();
-        if (timeout == null || timeout == GenerativeQAParameters.SIZE_NULL_VALUE) {
-            timeout = DEFAULT_PROCESSOR_TIME_IN_SECONDS;
-        }
-        log.info("Timeout for this request: {} seconds.", timeout);
+            int timeout = getTimeoutInSeconds(params);
+            log.info("Timeout for this request: {} seconds.", timeout);
 
-        String llmQuestion = params.getLlmQuestion();
-        String llmModel = params.getLlmModel() == null ? this.llmModel : params.getLlmModel();
-        if (llmModel == null) {
-            throw new IllegalArgumentException("llm_model cannot be null.");
-        }
-        String conversationId = params.getConversationId();
-        log.info("LLM question: {}, LLM model {}, conversation id: {}", llmQuestion, llmModel, conversationId);
-        Instant start = Instant.now();
-        Integer interactionSize = params.getInteractionSize();
-        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
-            interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
-        }
-        log.info("Using interaction size of {}", interactionSize);
-        List<Interaction> chatHistory = (conversationId == null)
-            ? Collections.emptyList()
-            : memoryClient.getInteractions(conversationId, interactionSize);
-        log.info("Retrieved chat history. ({})", getDuration(start));
-
-        Integer topN = params.getContextSize();
-        if (topN == null) {
-            topN = GenerativeQAParameters.SIZE_NULL_VALUE;
-        }
-        List<String> searchResults = getSearchResults(response, topN);
-
-        log.info("system_prompt: {}", systemPrompt);
-        log.info("user_instructions: {}", userInstructions);
-        start = Instant.now();
-        ChatCompletionOutput output = llm
-            .doChatCompletion(
-                LlmIOUtil
-                    .createChatCompletionInput(systemPrompt, userInstructions, llmModel, llmQuestion, chatHistory, searchResults, timeout)
-            );
-        log.info("doChatCompletion complete. ({})", getDuration(start));
-
-        String answer = null;
-        String errorMessage = null;
-        String interactionId = null;
-        if (output.isErrorOccurred()) {
-            errorMessage = output.getErrors().get(0);
-        } else {
-            answer = (String) output.getAnswers().get(0);
-
-            if (conversationId != null) {
-                start = Instant.now();
-                interactionId = memoryClient
+            String llmQuestion = params.getLlmQuestion();
+            String llmModel = params.getLlmModel() == null ? this.llmModel : params.getLlmModel();
+            if (llmModel == null) {
+                throw new IllegalArgumentException("llm_model cannot be null.");
+            }
+            String conversationId = params.getConversationId();
+            log.info("LLM question: {}, LLM model {}, conversation id: {}", llmQuestion, llmModel, conversationId);
+            Integer interactionSize = params.getInteractionSize();
+            if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
+                interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
+            }
+            log.info("Using interaction size of {}", interactionSize);
+            // A cached answer skips the model access check of the LLM call, so it is only served to the same user and roles.
+            String user = responseCache == null
+                ? null
+                : client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+
+            // Start fetching chat history first, so it overlaps with collecting the contexts from search hits.
+            Instant historyStart = Instant.now();
+            StepListener<List<Interaction>> chatHistoryListener = new StepListener<>();
+            if (conversationId == null) {
+                chatHistoryListener.onResponse(Collections.emptyList());
+            } else {
+                memoryClient.getInteractions(conversationId, interactionSize, chatHistoryListener);
+            }
+
+            Integer topN = params.getContextSize();
+            if (topN == null) {
+                topN = GenerativeQAParameters.SIZE_NULL_VALUE;
+            }
+            List<String> searchResults = getSearchResults(response, topN);
+
+            log.info("system_prompt: {}", systemPrompt);
+            log.info("user_instructions: {}", userInstructions);
+            int llmTimeout = timeout;
+            Integer maxPromptTokens = params.getMaxPromptTokens();
+            StepListener<ChatCompletionOutput> llmListener = new StepListener<>();
+            chatHistoryListener.whenComplete(history -> {
+                log.info("Retrieved chat history. ({})", getDuration(historyStart));
+                List<Interaction> chatHistory = history;
+                List<String> contexts = searchResults;
+                if (maxPromptTokens != null && maxPromptTokens != GenerativeQAParameters.SIZE_NULL_VALUE) {
+                    TokenBudget budget = TokenBudget
+                        .fit(maxPromptTokens, systemPrompt, userInstructions, llmQuestion, history, searchResults);
+                    chatHistory = budget.getChatHistory();
+                    contexts = budget.getContexts();
+                    log
+                        .info(
+                            "Fit {} search results and {} interactions into {} tokens.",
+                            contexts.size(),
+                            chatHistory.size(),
+                            maxPromptTokens
+                        );
+                }
+                String cacheKey = null;
+                if (responseCache != null && (conversationId == null || responseCache.isIncludeConversations())) {
+                    cacheKey = LlmResponseCache.key(user, llmModel, systemPrompt, userInstructions, llmQuestion, chatHistory, contexts);
+                    String cachedAnswer = responseCache.get(cacheKey);
+                    if (cachedAnswer != null) {
+                        log.debug("Found the answer in the LLM response cache.");
+                        llmListener.onResponse(new ChatCompletionOutput(List.of(cachedAnswer), null));
+                        return;
+                    }
+                }
+                String key = cacheKey;
+                Instant llmStart = Instant.now();
+                llm
+                    .doChatCompletion(
+                        LlmIOUtil
+                            .createChatCompletionInput(
+                                systemPrompt,
+                                userInstructions,
+                                llmModel,
+                                llmQuestion,
+                                chatHistory,
+                                contexts,
+                                llmTimeout
+                            ),
+                        ActionListener.runBefore(ActionListener.wrap(output -> {
+                            if (key != null && !output.isErrorOccurred()) {
+                                responseCache.put(key, (String) output.getAnswers().get(0));
+                            }
+                            llmListener.onResponse(output);
+                        }, llmListener::onFailure), () -> log.info("doChatCompletion complete. ({})", getDuration(llmStart)))
+                    );
+            }, responseListener::onFailure);
+
+            llmListener.whenComplete(output -> {
+                if (output.isErrorOccurred()) {
+                    responseListener.onResponse(insertAnswer(response, null, output.getErrors().get(0), null));
+                    return;
+                }
+                String answer = (String) output.getAnswers().get(0);
+                if (conversationId == null) {
+                    responseListener.onResponse(insertAnswer(response, answer, null, null));
+                    return;
+                }
+                // The interaction id is part of the response, so wait for it without holding a thread.
+                Instant interactionStart = Instant.now();
+                memoryClient
                     .createInteraction(
                         conversationId,
                         llmQuestion,
                         PromptUtil.getPromptTemplate(systemPrompt, userInstructions),
                         answer,
                         GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
-                        jsonArrayToString(searchResults)
+                        jsonArrayToString(searchResults),
+                        ActionListener.wrap(interactionId -> {
+                            log.info("Created a new interaction: {} ({})", interactionId, getDuration(interactionStart));
+                            responseListener.onResponse(insertAnswer(response, answer, null, interactionId));
+                        }, responseListener::onFailure)
                     );
-                log.info("Created a new interaction: {} ({})", interactionId, getDuration(start));
-            }
+            }, responseListener::onFailure);
+        } catch (Exception e) {
+            responseListener.onFailure(e);
         }
+    }
 
-        return insertAnswer(response, answer, errorMessage, interactionId);
+    private static int getTimeoutInSeconds(GenerativeQAParameters params) {
+        Integer timeout = params == null ? null : params.getTimeout();
+        if (timeout == null || timeout == GenerativeQAParameters.SIZE_NULL_VALUE) {
+            return DEFAULT_PROCESSOR_TIME_IN_SECONDS;
+        }
+        return timeout;
     }
 
     long getDuration(Instant start) {
@@ -306,6 +414,61 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                         systemPrompt,
                         userInstructions
                     );
+                LlmResponseCache responseCache = null;
+                Integer responseCacheSize = ConfigurationUtils
+                    .readIntProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_SIZE,
+                        0
+                    );
+                Integer responseCacheTtl = ConfigurationUtils
+                    .readIntProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_TTL_SECONDS,
+                        (int) LlmResponseCache.DEFAULT_EXPIRE_AFTER_WRITE.seconds()
+                    );
+                boolean responseCacheConversations = ConfigurationUtils
+                    .readBooleanProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_CONVERSATIONS,
+                        false
+                    );
+                if (responseCacheSize < 0) {
+                    throw newConfigurationException(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_SIZE,
+                        "can't be negative."
+                    );
+                }
+                if (responseCacheTtl <= 0) {
+                    throw newConfigurationException(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_TTL_SECONDS,
+                        "must be positive."
+                    );
+                }
+                if (responseCacheSize > 0) {
+                    log
+                        .info(
+                            "Caching up to {} LLM responses for {} seconds, include conversations: {}",
+                            responseCacheSize,
+                            responseCacheTtl,
+                            responseCacheConversations
+                        );
+                    responseCache = new LlmResponseCache(
+                        responseCacheSize,
+                        TimeValue.timeValueSeconds(responseCacheTtl),
+                        responseCacheConversations
+                    );
+                }
                 return new GenerativeQAResponseProcessor(
                     client,
                     tag,
@@ -316,7 +479,8 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                     contextFields,
                     systemPrompt,
                     userInstructions,
-                    featureFlagSupplier
+                    featureFlagSupplier,
+                    responseCache
                 );
             } else {
                 throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
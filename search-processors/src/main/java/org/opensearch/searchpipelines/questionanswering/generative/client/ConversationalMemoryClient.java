@@ -22,7 +22,10 @@ import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.ListenerTimeouts;
 import org.opensearch.client.Client;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationAction;
@@ -34,6 +37,7 @@ import org.opensearch.ml.memory.action.conversation.CreateInteractionResponse;
 import org.opensearch.ml.memory.action.conversation.GetInteractionsAction;
 import org.opensearch.ml.memory.action.conversation.GetInteractionsRequest;
 import org.opensearch.ml.memory.action.conversation.GetInteractionsResponse;
+import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.base.Preconditions;
 
@@ -48,7 +52,7 @@ import lombok.extern.log4j.Log4j2;
 public class ConversationalMemoryClient {
 
     private final static Logger logger = LogManager.getLogger();
-    private final static long DEFAULT_TIMEOUT_IN_MILLIS = 10_000l;
+    public final static long DEFAULT_TIMEOUT_IN_MILLIS = 10_000l;
 
     private Client client;
 
@@ -82,6 +86,30 @@ public class ConversationalMemoryClient {
         return res.getId();
     }
 
+    public void createInteraction(
+        String conversationId,
+        String input,
+        String promptTemplate,
+        String response,
+        String origin,
+        String additionalInfo,
+        ActionListener<String> listener
+    ) {
+        Preconditions.checkNotNull(conversationId);
+        Preconditions.checkNotNull(input);
+        Preconditions.checkNotNull(response);
+        ActionListener<String> timeoutListener = withTimeout(listener, "create interaction");
+        client
+            .execute(
+                CreateInteractionAction.INSTANCE,
+                new CreateInteractionRequest(conversationId, input, promptTemplate, response, origin, additionalInfo),
+                ActionListener.wrap(res -> {
+                    log.info("createInteraction: interactionId: {}", res.getId());
+                    timeoutListener.onResponse(res.getId());
+                }, timeoutListener::onFailure)
+            );
+    }
+
     public List<Interaction> getInteractions(String conversationId, int lastN) {
 
         Preconditions.checkArgument(lastN > 0, "lastN must be at least 1.");
@@ -114,4 +142,57 @@ public class ConversationalMemoryClient {
 
         return interactions;
     }
+
+    /**
+     * Asynchronous version of getInteractions, fetches the next page only after the previous one arrives.
+     * The listener fails with a timeout if all the pages don't arrive within the default timeout.
+     * @param conversationId the conversation whose interactions to get
+     * @param lastN how many of the most recent interactions to get
+     * @param listener receives the interactions sorted by recency
+     */
+    public void getInteractions(String conversationId, int lastN, ActionListener<List<Interaction>> listener) {
+        Preconditions.checkArgument(lastN > 0, "lastN must be at least 1.");
+        log.info("In getInteractions, conversationId {}, lastN {}", conversationId, lastN);
+        getInteractions(conversationId, lastN, new ArrayList<>(), withTimeout(listener, "get interactions"));
+    }
+
+    private <T> ActionListener<T> withTimeout(ActionListener<T> listener, String action) {
+        return ListenerTimeouts
+            .wrapWithTimeout(
+                client.threadPool(),
+                listener,
+                TimeValue.timeValueMillis(DEFAULT_TIMEOUT_IN_MILLIS),
+                ThreadPool.Names.GENERIC,
+                action
+            );
+    }
+
+    private void getInteractions(
+        String conversationId,
+        int lastN,
+        List<Interaction> interactions,
+        ActionListener<List<Interaction>> listener
+    ) {
+        int from = interactions.size();
+        int maxResults = lastN - from;
+        client
+            .execute(
+                GetInteractionsAction.INSTANCE,
+                new GetInteractionsRequest(conversationId, maxResults, from),
+                ActionListener.wrap(response -> {
+                    List<Interaction> list = response.getInteractions();
+                    if (list == null || CollectionUtils.isEmpty(list)) {
+                        // Without any results we ignore hasMorePages to avoid an infinite loop.
+                        listener.onResponse(interactions);
+                        return;
+                    }
+                    interactions.addAll(list);
+                    if (interactions.size() < lastN && response.hasMorePages()) {
+                        getInteractions(conversationId, lastN, interactions, listener);
+                    } else {
+                        listener.onResponse(interactions);
+                    }
+                }, listener::onFailure)
+            );
+    }
 }
@@ -70,6 +70,10 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
     // from a remote inference endpoint before timing out the request.
     private static final ParseField TIMEOUT = new ParseField("timeout");
 
+    // Optional parameter; if provided, search results and interactions are trimmed so that the
+    // estimated size of the prompt stays within this many tokens.
+    private static final ParseField MAX_PROMPT_TOKENS = new ParseField("max_prompt_tokens");
+
     public static final int SIZE_NULL_VALUE = -1;
 
     static {
@@ -80,6 +84,7 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
         PARSER.declareIntOrNull(GenerativeQAParameters::setContextSize, SIZE_NULL_VALUE, CONTEXT_SIZE);
         PARSER.declareIntOrNull(GenerativeQAParameters::setInteractionSize, SIZE_NULL_VALUE, INTERACTION_SIZE);
         PARSER.declareIntOrNull(GenerativeQAParameters::setTimeout, SIZE_NULL_VALUE, TIMEOUT);
+        PARSER.declareIntOrNull(GenerativeQAParameters::setMaxPromptTokens, SIZE_NULL_VALUE, MAX_PROMPT_TOKENS);
     }
 
     @Setter
@@ -106,6 +111,9 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
     @Getter
     private Integer timeout;
 
+    @Getter
+    private Integer maxPromptTokens;
+
     public GenerativeQAParameters(
         String conversationId,
         String llmModel,
@@ -113,6 +121,18 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
         Integer contextSize,
         Integer interactionSize,
         Integer timeout
+    ) {
+        this(conversationId, llmModel, llmQuestion, contextSize, interactionSize, timeout, null);
+    }
+
+    public GenerativeQAParameters(
+        String conversationId,
+        String llmModel,
+        String llmQuestion,
+        Integer contextSize,
+        Integer interactionSize,
+        Integer timeout,
+        Integer maxPromptTokens
     ) {
         this.conversationId = conversationId;
         this.llmModel = llmModel;
@@ -124,6 +144,16 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
         this.contextSize = (contextSize == null) ? SIZE_NULL_VALUE : contextSize;
         this.interactionSize = (interactionSize == null) ? SIZE_NULL_VALUE : interactionSize;
         this.timeout = (timeout == null) ? SIZE_NULL_VALUE : timeout;
+        setMaxPromptTokens((maxPromptTokens == null) ? SIZE_NULL_VALUE : maxPromptTokens);
+    }
+
+    public void setMaxPromptTokens(Integer maxPromptTokens) {
+        Preconditions
+            .checkArgument(
+                maxPromptTokens == null || maxPromptTokens == SIZE_NULL_VALUE || maxPromptTokens > 0,
+                MAX_PROMPT_TOKENS.getPreferredName() + " must be a positive number or " + SIZE_NULL_VALUE + "."
+            );
+        this.maxPromptTokens = maxPromptTokens;
     }
 
     public GenerativeQAParameters(StreamInput input) throws IOException {
@@ -133,6 +163,7 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
         this.contextSize = input.readInt();
         this.interactionSize = input.readInt();
         this.timeout = input.readInt();
+        this.maxPromptTokens = input.readOptionalInt();
     }
 
     @Override
@@ -143,7 +174,8 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
             .field(LLM_QUESTION.getPreferredName(), this.llmQuestion)
             .field(CONTEXT_SIZE.getPreferredName(), this.contextSize)
             .field(INTERACTION_SIZE.getPreferredName(), this.interactionSize)
-            .field(TIMEOUT.getPreferredName(), this.timeout);
+            .field(TIMEOUT.getPreferredName(), this.timeout)
+            .field(MAX_PROMPT_TOKENS.getPreferredName(), this.maxPromptTokens);
     }
 
     @Override
@@ -156,6 +188,7 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
         out.writeInt(contextSize);
         out.writeInt(interactionSize);
         out.writeInt(timeout);
+        out.writeOptionalInt(maxPromptTokens);
     }
 
     public static GenerativeQAParameters parse(XContentParser parser) throws IOException {
@@ -177,6 +210,7 @@ public class GenerativeQAParameters implements Writeable, ToXContentObject {
             && Objects.equals(this.llmQuestion, other.getLlmQuestion())
             && (this.contextSize == other.getContextSize())
             && (this.interactionSize == other.getInteractionSize())
-            && (this.timeout == other.getTimeout());
+            && (this.timeout == other.getTimeout())
+            && Objects.equals(this.maxPromptTokens, other.getMaxPromptTokens());
     }
 }
@@ -23,8 +23,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.action.support.ListenerTimeouts;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -33,6 +36,7 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.searchpipelines.questionanswering.generative.client.MachineLearningInternalClient;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
+import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -54,11 +58,14 @@ public class DefaultLlmImpl implements Llm {
 
     private final String openSearchModelId;
 
+    private final Client client;
+
     private MachineLearningInternalClient mlClient;
 
     public DefaultLlmImpl(String openSearchModelId, Client client) {
         checkNotNull(openSearchModelId);
         this.openSearchModelId = openSearchModelId;
+        this.client = client;
         this.mlClient = new MachineLearningInternalClient(client);
     }
 
@@ -75,11 +82,52 @@ public class DefaultLlmImpl implements Llm {
      */
     @Override
     public ChatCompletionOutput doChatCompletion(ChatCompletionInput chatCompletionInput) {
+        ActionFuture<MLOutput> future = mlClient.predict(this.openSearchModelId, buildMLInput(chatCompletionInput));
+        MLOutput mlOutput = future.actionGet(chatCompletionInput.getTimeoutInSeconds() * 1000);
+        return parseChatCompletionOutput(chatCompletionInput.getModelProvider(), mlOutput);
+    }
+
+    /**
+     * Use ChatCompletion API to generate an answer without blocking the calling thread.
+     * The listener fails with a timeout if the model doesn't answer within the input's timeout.
+     *
+     * @param chatCompletionInput
+     * @param listener
+     */
+    @Override
+    public void doChatCompletion(ChatCompletionInput chatCompletionInput, ActionListener<ChatCompletionOutput> listener) {
+        ActionListener<ChatCompletionOutput> timeoutListener = ListenerTimeouts
+            .wrapWithTimeout(
+                client.threadPool(),
+                listener,
+                TimeValue.timeValueSeconds(chatCompletionInput.getTimeoutInSeconds()),
+                ThreadPool.Names.GENERIC,
+                "chat completion"
+            );
+        try {
+            mlClient
+                .predict(
+                    this.openSearchModelId,
+                    buildMLInput(chatCompletionInput),
+                    ActionListener
+                        .wrap(
+                            mlOutput -> timeoutListener
+                                .onResponse(parseChatCompletionOutput(chatCompletionInput.getModelProvider(), mlOutput)),
+                            timeoutListener::onFailure
+                        )
+                );
+        } catch (Exception e) {
+            timeoutListener.onFailure(e);
+        }
+    }
 
+    private MLInput buildMLInput(ChatCompletionInput chatCompletionInput) {
         MLInputDataset dataset = RemoteInferenceInputDataSet.builder().parameters(getInputParameters(chatCompletionInput)).build();
-        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataset).build();
-        ActionFuture<MLOutput> future = mlClient.predict(this.openSearchModelId, mlInput);
-        ModelTensorOutput modelOutput = (ModelTensorOutput) future.actionGet(chatCompletionInput.getTimeoutInSeconds() * 1000);
+        return MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataset).build();
+    }
+
+    private ChatCompletionOutput parseChatCompletionOutput(ModelProvider provider, MLOutput mlOutput) {
+        ModelTensorOutput modelOutput = (ModelTensorOutput) mlOutput;
 
         // Response from a remote model
         Map<String, ?> dataAsMap = modelOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap();
@@ -87,7 +135,7 @@ public class DefaultLlmImpl implements Llm {
 
         // TODO dataAsMap can be null or can contain information such as throttling. Handle non-happy cases.
 
-        return buildChatCompletionOutput(chatCompletionInput.getModelProvider(), dataAsMap);
+        return buildChatCompletionOutput(provider, dataAsMap);
     }
 
     protected Map<String, String> getInputParameters(ChatCompletionInput chatCompletionInput) {
@@ -17,6 +17,8 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative.llm;
 
+import org.opensearch.core.action.ActionListener;
+
 /**
  * Capabilities of large language models, e.g. completion, embeddings, etc.
  */
@@ -29,4 +31,15 @@ public interface Llm {
     }
 
     ChatCompletionOutput doChatCompletion(ChatCompletionInput input);
+
+    /**
+     * Asynchronous chat completion. The default implementation runs the synchronous one on the calling thread,
+     * implementations talking to remote models should override it so no thread waits on the model.
+     *
+     * @param input chat completion input
+     * @param listener receives the chat completion output
+     */
+    default void doChatCompletion(ChatCompletionInput input, ActionListener<ChatCompletionOutput> listener) {
+        ActionListener.completeWith(listener, () -> doChatCompletion(input));
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.llm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.conversation.Interaction;
+
+import lombok.Getter;
+
+/**
+ * Node-local cache of LLM answers, so repeated questions over the same search results don't call the LLM again.
+ *
+ * Answers are keyed on everything that goes into the prompt: the LLM model, the system prompt and user instructions,
+ * the normalized question, the search results and, for conversations, the chat history. Questions are normalized
+ * by case, whitespace and trailing punctuation only, so "What is X?" and "what is x" share an answer.
+ * The key also includes the requesting user and roles, since a hit skips the LLM call and the model access check
+ * done with it: an answer is only served to the same user and roles that passed the check when it was cached.
+ * Entries are bounded in number and expire after a while, so answers don't outlive changes to the model, data or
+ * model permissions for long.
+ */
+public class LlmResponseCache {
+    public static final TimeValue DEFAULT_EXPIRE_AFTER_WRITE = TimeValue.timeValueMinutes(10);
+
+    private static final String TRAILING_PUNCTUATION = "[\\s?!.]+$";
+
+    // Node level counters over the caches of all processors, read by the ML stats.
+    private static final AtomicLong totalHits = new AtomicLong(0);
+    private static final AtomicLong totalMisses = new AtomicLong(0);
+
+    private final Cache<String, String> cache;
+    // Conversational answers depend on the chat history too, so they are less likely to be asked again.
+    @Getter
+    private final boolean includeConversations;
+
+    /**
+     * Constructor
+     * @param maxEntries how many answers to keep
+     * @param expireAfterWrite how long an answer stays valid after it's cached
+     * @param includeConversations whether to cache answers of questions asked in a conversation
+     */
+    public LlmResponseCache(long maxEntries, TimeValue expireAfterWrite, boolean includeConversations) {
+        this.cache = CacheBuilder.<String, String>builder().setMaximumWeight(maxEntries).setExpireAfterWrite(expireAfterWrite).build();
+        this.includeConversations = includeConversations;
+    }
+
+    /**
+     * Build the cache key of a prompt
+     * @param user the requesting user with its roles, null if security is disabled
+     * @param llmModel the LLM model
+     * @param systemPrompt system prompt
+     * @param userInstructions user instructions
+     * @param question the question
+     * @param chatHistory interactions put in the prompt
+     * @param contexts search results put in the prompt
+     * @return a digest of the prompt
+     */
+    public static String key(
+        String user,
+        String llmModel,
+        String systemPrompt,
+        String userInstructions,
+        String question,
+        List<Interaction> chatHistory,
+        List<String> contexts
+    ) {
+        MessageDigest digest = MessageDigests.sha256();
+        update(digest, user);
+        update(digest, llmModel);
+        update(digest, systemPrompt);
+        update(digest, userInstructions);
+        update(digest, normalizeQuestion(question));
+        update(digest, String.valueOf(chatHistory.size()));
+        for (Interaction interaction : chatHistory) {
+            update(digest, interaction.getInput());
+            update(digest, interaction.getResponse());
+        }
+        for (String context : contexts) {
+            update(digest, context);
+        }
+        return MessageDigests.toHexString(digest.digest());
+    }
+
+    static String normalizeQuestion(String question) {
+        if (question == null) {
+            return null;
+        }
+        return question.trim().replaceAll("\\s+", " ").replaceAll(TRAILING_PUNCTUATION, "").toLowerCase(Locale.ROOT);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        // Prefix every value with its length so adjacent values can't run into each other.
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    /**
+     * Get a cached answer
+     * @param key the key of the prompt
+     * @return the answer, or null if it's not cached
+     */
+    public String get(String key) {
+        String answer = cache.get(key);
+        if (answer == null) {
+            totalMisses.incrementAndGet();
+        } else {
+            totalHits.incrementAndGet();
+        }
+        return answer;
+    }
+
+    public void put(String key, String answer) {
+        cache.put(key, answer);
+    }
+
+    public long getHits() {
+        return cache.stats().getHits();
+    }
+
+    public long getMisses() {
+        return cache.stats().getMisses();
+    }
+
+    /**
+     * @return how many answers were served from the caches of all processors on this node
+     */
+    public static long getTotalHits() {
+        return totalHits.get();
+    }
+
+    /**
+     * @return how many lookups in the caches of all processors on this node found no answer
+     */
+    public static long getTotalMisses() {
+        return totalMisses.get();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.prompt;
+
+import static org.opensearch.ml.common.utils.TokenEstimator.estimateTokens;
+import static org.opensearch.ml.common.utils.TokenEstimator.truncate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.core.common.Strings;
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.ml.common.utils.TokenEstimator;
+
+import lombok.Getter;
+
+/**
+ * Fits search results and chat history into a token budget for the LLM prompt.
+ *
+ * Token counts are estimated with {@link TokenEstimator}, which errs on the high side, since an over budget prompt
+ * fails the whole request while an under filled one doesn't.
+ * The system prompt, user instructions and question are always kept. Search results are added in rank order,
+ * and the last one which doesn't fit is truncated. Whatever budget is left goes to the chat history, newest first.
+ */
+@Getter
+public class TokenBudget {
+
+    // Role and separators every chat message adds on top of its content.
+    static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    // Don't bother adding a truncated search result shorter than this.
+    static final int MIN_TRUNCATED_CONTEXT_TOKENS = 16;
+
+    private final List<String> contexts;
+    private final List<Interaction> chatHistory;
+
+    private TokenBudget(List<String> contexts, List<Interaction> chatHistory) {
+        this.contexts = contexts;
+        this.chatHistory = chatHistory;
+    }
+
+    /**
+     * Pick the search results and interactions which fit into the budget.
+     * @param maxTokens token budget of the whole prompt
+     * @param systemPrompt system prompt
+     * @param userInstructions user instructions
+     * @param question the question
+     * @param chatHistory interactions, newest first
+     * @param contexts search results, most relevant first
+     * @return the search results and interactions to put in the prompt, in their original order
+     */
+    public static TokenBudget fit(
+        int maxTokens,
+        String systemPrompt,
+        String userInstructions,
+        String question,
+        List<Interaction> chatHistory,
+        List<String> contexts
+    ) {
+        // The question message and the trailing answer message.
+        int used = estimateTokens(question) + 2 * MESSAGE_OVERHEAD_TOKENS;
+        if (!Strings.isNullOrEmpty(systemPrompt)) {
+            used += estimateTokens(systemPrompt) + MESSAGE_OVERHEAD_TOKENS;
+        }
+        if (!Strings.isNullOrEmpty(userInstructions)) {
+            used += estimateTokens(userInstructions) + MESSAGE_OVERHEAD_TOKENS;
+        }
+
+        List<String> fittedContexts = new ArrayList<>();
+        for (String context : contexts) {
+            int tokens = estimateTokens(context) + MESSAGE_OVERHEAD_TOKENS;
+            if (used + tokens <= maxTokens) {
+                fittedContexts.add(context);
+                used += tokens;
+                continue;
+            }
+            int remaining = maxTokens - used - MESSAGE_OVERHEAD_TOKENS;
+            if (remaining >= MIN_TRUNCATED_CONTEXT_TOKENS) {
+                fittedContexts.add(truncate(context, remaining));
+                used = maxTokens;
+            }
+            break;
+        }
+
+        List<Interaction> fittedHistory = new ArrayList<>();
+        for (Interaction interaction : chatHistory) {
+            int tokens = estimateTokens(interaction.getInput()) + estimateTokens(interaction.getResponse()) + 2 * MESSAGE_OVERHEAD_TOKENS;
+            if (used + tokens > maxTokens) {
+                break;
+            }
+            fittedHistory.add(interaction);
+            used += tokens;
+        }
+        return new TokenBudget(fittedContexts, fittedHistory);
+    }
+}
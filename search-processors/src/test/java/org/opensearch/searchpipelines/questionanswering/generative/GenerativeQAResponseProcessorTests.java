@@ -19,7 +19,10 @@ package org.opensearch.searchpipelines.questionanswering.generative;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,11 +35,16 @@ import java.util.function.BooleanSupplier;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.conversation.Interaction;
@@ -52,6 +60,7 @@ import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompl
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompletionOutput;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.Llm;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 
 public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
@@ -122,7 +131,11 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
         Llm llm = mock(Llm.class);
         ChatCompletionOutput output = mock(ChatCompletionOutput.class);
-        when(llm.doChatCompletion(any())).thenReturn(output);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
         when(output.getAnswers()).thenReturn(List.of("foo"));
         processor.setLlm(llm);
 
@@ -148,8 +161,16 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         ).create(null, "tag", "desc", true, config, null);
 
         ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
-        when(memoryClient.getInteractions(any(), anyInt()))
-            .thenReturn(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(6);
+            listener.onResponse("iid");
+            return null;
+        }).when(memoryClient).createInteraction(any(), any(), any(), any(), any(), any(), any());
         processor.setMemoryClient(memoryClient);
 
         SearchRequest request = new SearchRequest();
@@ -180,13 +201,17 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
         Llm llm = mock(Llm.class);
         ChatCompletionOutput output = mock(ChatCompletionOutput.class);
-        when(llm.doChatCompletion(any())).thenReturn(output);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
         when(output.getAnswers()).thenReturn(List.of("foo"));
         processor.setLlm(llm);
 
         ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
         SearchResponse res = processor.processResponse(request, response);
-        verify(llm).doChatCompletion(captor.capture());
+        verify(llm).doChatCompletion(captor.capture(), any());
         ChatCompletionInput input = captor.getValue();
         assertTrue(input instanceof ChatCompletionInput);
         List<String> passages = ((ChatCompletionInput) input).getContexts();
@@ -196,6 +221,155 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         assertTrue(res instanceof GenerativeSearchResponse);
     }
 
+    public void testProcessResponseCachedAnswer() throws Exception {
+        Client client = mock(Client.class);
+        mockThreadContext(client);
+        GenerativeQAResponseProcessor processor = createCachingProcessor(client);
+        SearchResponse response = createSearchResponse(3);
+        Llm llm = mockLlm("foo");
+        processor.setLlm(llm);
+
+        for (String question : List.of("What is OpenSearch?", "what is opensearch")) {
+            SearchResponse res = processor.processResponse(createSearchRequest(question), response);
+            assertTrue(res instanceof GenerativeSearchResponse);
+            assertTrue(res.toString().contains("\"answer\":\"foo\""));
+        }
+        verify(llm, times(1)).doChatCompletion(any(), any());
+    }
+
+    public void testProcessResponseCachedAnswer_NotSharedAcrossUsers() throws Exception {
+        Client client = mock(Client.class);
+        ThreadContext threadContext = mockThreadContext(client);
+        GenerativeQAResponseProcessor processor = createCachingProcessor(client);
+        SearchResponse response = createSearchResponse(3);
+        Llm llm = mockLlm("foo");
+        processor.setLlm(llm);
+
+        for (String user : List.of("alice|role1|", "bob||", "alice|role1|")) {
+            try (ThreadContext.StoredContext context = threadContext.stashContext()) {
+                threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, user);
+                SearchResponse res = processor.processResponse(createSearchRequest("What is OpenSearch?"), response);
+                assertTrue(res.toString().contains("\"answer\":\"foo\""));
+            }
+        }
+        // bob doesn't get the answer cached for alice, alice gets her own cached answer
+        verify(llm, times(2)).doChatCompletion(any(), any());
+    }
+
+    private ThreadContext mockThreadContext(Client client) {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        return threadContext;
+    }
+
+    private GenerativeQAResponseProcessor createCachingProcessor(Client client) throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_SIZE, 10);
+        return (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(client, alwaysOn)
+            .create(null, "tag", "desc", true, config, null);
+    }
+
+    private SearchResponse createSearchResponse(int numHits) throws Exception {
+        SearchHit[] hitsArray = new SearchHit[numHits];
+        for (int i = 0; i < numHits; i++) {
+            XContentBuilder sourceContent = JsonXContent.contentBuilder().startObject().field("text", "passage" + i).endObject();
+            hitsArray[i] = new SearchHit(i, "doc" + i, Map.of(), Map.of());
+            hitsArray[i].sourceRef(BytesReference.bytes(sourceContent));
+        }
+        SearchHits searchHits = new SearchHits(hitsArray, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        return new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+    }
+
+    private SearchRequest createSearchRequest(String question) {
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(new GenerativeQAParameters(null, "llm_model", question, null, null, null));
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+        return request;
+    }
+
+    private Llm mockLlm(String answer) {
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = mock(ChatCompletionOutput.class);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        when(output.getAnswers()).thenReturn(List.of(answer));
+        return llm;
+    }
+
+    public void testProcessorFactoryNegativeResponseCacheSize() throws Exception {
+        Client client = mock(Client.class);
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "xyz");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_RESPONSE_CACHE_SIZE, -1);
+
+        exceptionRule.expect(OpenSearchParseException.class);
+        new GenerativeQAResponseProcessor.Factory(client, alwaysOn).create(null, "tag", "desc", true, config, null);
+    }
+
+    public void testProcessResponseAsyncLlmError() throws Exception {
+        Client client = mock(Client.class);
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+
+        GenerativeQAResponseProcessor processor = (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(
+            client,
+            alwaysOn
+        ).create(null, "tag", "desc", true, config, null);
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of());
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        processor.setMemoryClient(memoryClient);
+
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParameters params = new GenerativeQAParameters("12345", "llm_model", "You are kind.", null, null, null);
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(params);
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+
+        XContentBuilder sourceContent = JsonXContent.contentBuilder().startObject().field("text", "passage").endObject();
+        SearchHit hit = new SearchHit(0, "doc0", Map.of(), Map.of());
+        hit.sourceRef(BytesReference.bytes(sourceContent));
+        SearchHits searchHits = new SearchHits(new SearchHit[] { hit }, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        SearchResponse response = new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = new ChatCompletionOutput(null, List.of("throttled"));
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        processor.setLlm(llm);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(request, response, null, responseListener);
+        ArgumentCaptor<SearchResponse> captor = ArgumentCaptor.forClass(SearchResponse.class);
+        verify(responseListener).onResponse(captor.capture());
+        assertTrue(captor.getValue() instanceof GenerativeSearchResponse);
+        verify(memoryClient, never()).createInteraction(any(), any(), any(), any(), any(), any(), any());
+    }
+
     public void testProcessResponseSmallerContextSize() throws Exception {
         Client client = mock(Client.class);
         Map<String, Object> config = new HashMap<>();
@@ -208,8 +382,16 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         ).create(null, "tag", "desc", true, config, null);
 
         ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
-        when(memoryClient.getInteractions(any(), anyInt()))
-            .thenReturn(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(6);
+            listener.onResponse("iid");
+            return null;
+        }).when(memoryClient).createInteraction(any(), any(), any(), any(), any(), any(), any());
         processor.setMemoryClient(memoryClient);
 
         SearchRequest request = new SearchRequest();
@@ -241,13 +423,17 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
         Llm llm = mock(Llm.class);
         ChatCompletionOutput output = mock(ChatCompletionOutput.class);
-        when(llm.doChatCompletion(any())).thenReturn(output);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
         when(output.getAnswers()).thenReturn(List.of("foo"));
         processor.setLlm(llm);
 
         ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
         SearchResponse res = processor.processResponse(request, response);
-        verify(llm).doChatCompletion(captor.capture());
+        verify(llm).doChatCompletion(captor.capture(), any());
         ChatCompletionInput input = captor.getValue();
         assertTrue(input instanceof ChatCompletionInput);
         List<String> passages = ((ChatCompletionInput) input).getContexts();
@@ -269,8 +455,16 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         ).create(null, "tag", "desc", true, config, null);
 
         ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
-        when(memoryClient.getInteractions(any(), anyInt()))
-            .thenReturn(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(6);
+            listener.onResponse("iid");
+            return null;
+        }).when(memoryClient).createInteraction(any(), any(), any(), any(), any(), any(), any());
         processor.setMemoryClient(memoryClient);
 
         SearchRequest request = new SearchRequest();
@@ -301,7 +495,11 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
         Llm llm = mock(Llm.class);
         ChatCompletionOutput output = mock(ChatCompletionOutput.class);
-        when(llm.doChatCompletion(any())).thenReturn(output);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
         when(output.getAnswers()).thenReturn(List.of("foo"));
         processor.setLlm(llm);
 
@@ -26,8 +26,11 @@ import java.util.UUID;
 import java.util.stream.IntStream;
 
 import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchTimeoutException;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationAction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationRequest;
@@ -38,6 +41,8 @@ import org.opensearch.ml.memory.action.conversation.GetInteractionsAction;
 import org.opensearch.ml.memory.action.conversation.GetInteractionsRequest;
 import org.opensearch.ml.memory.action.conversation.GetInteractionsResponse;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public class ConversationalMemoryClientTests extends OpenSearchTestCase {
 
@@ -185,4 +190,80 @@ public class ConversationalMemoryClientTests extends OpenSearchTestCase {
         String actual = memoryClient.createInteraction("cid", "input", "prompt", "answer", "origin", "hits");
         assertEquals(id, actual);
     }
+
+    public void testGetInteractionsAsyncWithPagination() {
+        Client client = mock(Client.class);
+        mockThreadPool(client);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        int lastN = 5;
+        String conversationId = UUID.randomUUID().toString();
+        List<Interaction> page = new ArrayList<>();
+        IntStream
+            .range(0, lastN)
+            .forEach(i -> page.add(new Interaction(Integer.toString(i), Instant.now(), conversationId, "foo", "bar", "x", "y", null)));
+        doAnswer(invocation -> {
+            GetInteractionsRequest request = invocation.getArgument(1);
+            ActionListener<GetInteractionsResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new GetInteractionsResponse(page, request.getFrom() + lastN, request.getFrom() == 0));
+            return null;
+        }).when(client).execute(eq(GetInteractionsAction.INSTANCE), any(), any());
+        ArgumentCaptor<GetInteractionsRequest> captor = ArgumentCaptor.forClass(GetInteractionsRequest.class);
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> listener = mock(ActionListener.class);
+        memoryClient.getInteractions(conversationId, 2 * lastN, listener);
+        verify(client, times(2)).execute(eq(GetInteractionsAction.INSTANCE), captor.capture(), any());
+        List<GetInteractionsRequest> actualRequests = captor.getAllValues();
+        assertEquals(2 * lastN, actualRequests.get(0).getMaxResults());
+        assertEquals(0, actualRequests.get(0).getFrom());
+        assertEquals(lastN, actualRequests.get(1).getMaxResults());
+        assertEquals(lastN, actualRequests.get(1).getFrom());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Interaction>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(resultCaptor.capture());
+        assertEquals(2 * lastN, resultCaptor.getValue().size());
+    }
+
+    public void testCreateInteractionAsync() {
+        Client client = mock(Client.class);
+        mockThreadPool(client);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        String id = UUID.randomUUID().toString();
+        doAnswer(invocation -> {
+            ActionListener<CreateInteractionResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new CreateInteractionResponse(id));
+            return null;
+        }).when(client).execute(eq(CreateInteractionAction.INSTANCE), any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<String> listener = mock(ActionListener.class);
+        memoryClient.createInteraction("cid", "input", "prompt", "answer", "origin", "hits", listener);
+        verify(listener).onResponse(id);
+    }
+
+    public void testGetInteractionsAsyncTimeout() {
+        Client client = mock(Client.class);
+        ArgumentCaptor<Runnable> timeoutCaptor = mockThreadPool(client);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> listener = mock(ActionListener.class);
+        memoryClient.getInteractions("cid", 10, listener);
+        verify(client.threadPool())
+            .schedule(
+                any(Runnable.class),
+                eq(TimeValue.timeValueMillis(ConversationalMemoryClient.DEFAULT_TIMEOUT_IN_MILLIS)),
+                eq(ThreadPool.Names.GENERIC)
+            );
+        // The memory index never answers
+        timeoutCaptor.getValue().run();
+        verify(listener).onFailure(any(OpenSearchTimeoutException.class));
+        verify(listener, never()).onResponse(any());
+    }
+
+    private ArgumentCaptor<Runnable> mockThreadPool(Client client) {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(threadPool.schedule(timeoutCaptor.capture(), any(), any())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        when(client.threadPool()).thenReturn(threadPool);
+        return timeoutCaptor;
+    }
 }
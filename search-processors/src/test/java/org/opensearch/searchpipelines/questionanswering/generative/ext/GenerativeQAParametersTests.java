@@ -26,10 +26,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentGenerator;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -122,6 +125,38 @@ public class GenerativeQAParametersTests extends OpenSearchTestCase {
         assertTrue(timeout == intValues.get(2));
     }
 
+    public void testStreamRoundTripWithMaxPromptTokens() throws IOException {
+        GenerativeQAParameters parameters = new GenerativeQAParameters("a", "b", "c", 1, 2, 10, 1000);
+        BytesStreamOutput output = new BytesStreamOutput();
+        parameters.writeTo(output);
+        GenerativeQAParameters actual = new GenerativeQAParameters(output.bytes().streamInput());
+        assertEquals(parameters, actual);
+        assertEquals(Integer.valueOf(1000), actual.getMaxPromptTokens());
+        assertNotEquals(parameters, new GenerativeQAParameters("a", "b", "c", 1, 2, 10));
+    }
+
+    public void testInvalidMaxPromptTokens() {
+        for (int maxPromptTokens : new int[] { 0, -2 }) {
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new GenerativeQAParameters("a", "b", "c", null, null, null, maxPromptTokens)
+            );
+            assertEquals("max_prompt_tokens must be a positive number or -1.", e.getMessage());
+        }
+        assertEquals(Integer.valueOf(-1), new GenerativeQAParameters("a", "b", "c", null, null, null, -1).getMaxPromptTokens());
+    }
+
+    public void testParseInvalidMaxPromptTokens() throws IOException {
+        for (int maxPromptTokens : new int[] { 0, -2 }) {
+            XContentParser parser = createParser(
+                XContentType.JSON.xContent(),
+                "{\"llm_question\": \"c\", \"max_prompt_tokens\": " + maxPromptTokens + "}"
+            );
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> GenerativeQAParameters.parse(parser));
+            assertEquals("max_prompt_tokens must be a positive number or -1.", e.getCause().getMessage());
+        }
+    }
+
     public void testMisc() {
         String conversationId = "a";
         String llmModel = "b";
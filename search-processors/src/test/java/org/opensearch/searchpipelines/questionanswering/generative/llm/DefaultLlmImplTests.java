@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -33,6 +34,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -45,6 +47,8 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.searchpipelines.questionanswering.generative.client.MachineLearningInternalClient;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
 public class DefaultLlmImplTests extends OpenSearchTestCase {
 
@@ -151,6 +155,45 @@ public class DefaultLlmImplTests extends OpenSearchTestCase {
         assertEquals("answer", (String) output.getAnswers().get(0));
     }
 
+    public void testChatCompletionApiAsync() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            Client client = mock(Client.class);
+            when(client.threadPool()).thenReturn(threadPool);
+            MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
+            DefaultLlmImpl connector = new DefaultLlmImpl("model_id", client);
+            connector.setMlClient(mlClient);
+
+            Map<String, String> messageMap = Map.of("role", "agent", "content", "answer");
+            Map<String, ?> dataAsMap = Map.of("choices", List.of(Map.of("message", messageMap)));
+            ModelTensor tensor = new ModelTensor("tensor", new Number[0], new long[0], MLResultDataType.STRING, null, null, dataAsMap);
+            ModelTensorOutput mlOutput = new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+            doAnswer(invocation -> {
+                ActionListener<MLOutput> listener = invocation.getArgument(2);
+                listener.onResponse(mlOutput);
+                return null;
+            }).when(mlClient).predict(any(), any(), any());
+            ChatCompletionInput input = new ChatCompletionInput(
+                "model",
+                "question",
+                Collections.emptyList(),
+                Collections.emptyList(),
+                30,
+                "prompt",
+                "instructions",
+                Llm.ModelProvider.OPENAI
+            );
+            @SuppressWarnings("unchecked")
+            ActionListener<ChatCompletionOutput> listener = mock(ActionListener.class);
+            connector.doChatCompletion(input, listener);
+            ArgumentCaptor<ChatCompletionOutput> captor = ArgumentCaptor.forClass(ChatCompletionOutput.class);
+            verify(listener, times(1)).onResponse(captor.capture());
+            assertEquals("answer", (String) captor.getValue().getAnswers().get(0));
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
     public void testChatCompletionThrowingError() throws Exception {
         MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
         ArgumentCaptor<MLInput> captor = ArgumentCaptor.forClass(MLInput.class);
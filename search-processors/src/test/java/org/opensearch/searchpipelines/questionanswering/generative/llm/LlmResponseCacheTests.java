@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.llm;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LlmResponseCacheTests extends OpenSearchTestCase {
+
+    public void testNormalizeQuestion() {
+        assertEquals("what is opensearch", LlmResponseCache.normalizeQuestion("  What   is\tOpenSearch?? "));
+        assertNull(LlmResponseCache.normalizeQuestion(null));
+    }
+
+    public void testKey_SameForNormalizedQuestion() {
+        List<String> contexts = List.of("passage0", "passage1");
+        List<Interaction> noHistory = Collections.emptyList();
+        String key = LlmResponseCache.key("user", "gpt", "prompt", "instructions", "What is OpenSearch?", noHistory, contexts);
+        assertEquals(key, LlmResponseCache.key("user", "gpt", "prompt", "instructions", "what is opensearch", noHistory, contexts));
+    }
+
+    public void testKey_DiffersByPrompt() {
+        List<String> contexts = List.of("passage0", "passage1");
+        List<Interaction> noHistory = Collections.emptyList();
+        String key = LlmResponseCache.key("user", "gpt", "prompt", "instructions", "question", noHistory, contexts);
+        assertNotEquals(key, LlmResponseCache.key("user", "gpt-4", "prompt", "instructions", "question", noHistory, contexts));
+        assertNotEquals(key, LlmResponseCache.key("user", "gpt", "other", "instructions", "question", noHistory, contexts));
+        assertNotEquals(key, LlmResponseCache.key("user", "gpt", "prompt", null, "question", noHistory, contexts));
+        assertNotEquals(key, LlmResponseCache.key("user", "gpt", "prompt", "instructions", "question", noHistory, List.of("passage0")));
+        assertNotEquals(
+            key,
+            LlmResponseCache.key("user", "gpt", "prompt", "instructions", "question", noHistory, List.of("passage0passage1"))
+        );
+        Interaction interaction = new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}");
+        assertNotEquals(key, LlmResponseCache.key("user", "gpt", "prompt", "instructions", "question", List.of(interaction), contexts));
+    }
+
+    public void testKey_DiffersByUser() {
+        List<String> contexts = List.of("passage0", "passage1");
+        List<Interaction> noHistory = Collections.emptyList();
+        String key = LlmResponseCache.key("alice|role1|", "gpt", "prompt", "instructions", "question", noHistory, contexts);
+        assertNotEquals(key, LlmResponseCache.key("bob|role1|", "gpt", "prompt", "instructions", "question", noHistory, contexts));
+        assertNotEquals(key, LlmResponseCache.key("alice|role2|", "gpt", "prompt", "instructions", "question", noHistory, contexts));
+        assertNotEquals(key, LlmResponseCache.key(null, "gpt", "prompt", "instructions", "question", noHistory, contexts));
+    }
+
+    public void testGetAndPut() {
+        LlmResponseCache cache = new LlmResponseCache(10, TimeValue.timeValueMinutes(1), false);
+        long totalHits = LlmResponseCache.getTotalHits();
+        long totalMisses = LlmResponseCache.getTotalMisses();
+        assertNull(cache.get("key"));
+        cache.put("key", "answer");
+        assertEquals("answer", cache.get("key"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(totalHits + 1, LlmResponseCache.getTotalHits());
+        assertEquals(totalMisses + 1, LlmResponseCache.getTotalMisses());
+        assertFalse(cache.isIncludeConversations());
+    }
+
+    public void testMaxEntries() {
+        LlmResponseCache cache = new LlmResponseCache(2, TimeValue.timeValueMinutes(1), true);
+        cache.put("key0", "answer0");
+        cache.put("key1", "answer1");
+        cache.put("key2", "answer2");
+        assertNull(cache.get("key0"));
+        assertEquals("answer2", cache.get("key2"));
+    }
+}
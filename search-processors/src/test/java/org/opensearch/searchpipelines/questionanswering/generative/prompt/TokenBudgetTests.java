@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.prompt;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.ml.common.utils.TokenEstimator;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TokenBudgetTests extends OpenSearchTestCase {
+
+    private static String text(int tokens) {
+        return "a".repeat(tokens * TokenEstimator.CHARS_PER_TOKEN);
+    }
+
+    private static Interaction interaction(String id, int tokens) {
+        return new Interaction(id, Instant.now(), "cid", text(tokens), "pt", text(tokens), "origin", "{}");
+    }
+
+    public void testFit_TruncatesNonAsciiContext() {
+        // Question (10) plus the question and answer messages (8) leaves 82 tokens, 78 for the context.
+        List<String> contexts = List.of("日本語".repeat(100));
+        TokenBudget budget = TokenBudget.fit(100, null, null, text(10), List.of(), contexts);
+        assertEquals(1, budget.getContexts().size());
+        assertEquals(78, budget.getContexts().get(0).length());
+        assertEquals(78, TokenEstimator.estimateTokens(budget.getContexts().get(0)));
+    }
+
+    public void testFit_EverythingFits() {
+        List<String> contexts = List.of(text(10), text(10));
+        List<Interaction> history = List.of(interaction("1", 10));
+        TokenBudget budget = TokenBudget.fit(1000, "system", "instructions", "question", history, contexts);
+        assertEquals(contexts, budget.getContexts());
+        assertEquals(history, budget.getChatHistory());
+    }
+
+    public void testFit_TruncatesContextAndDropsHistory() {
+        // Question (10) plus the question and answer messages (8) leaves 82 tokens.
+        List<String> contexts = List.of(text(40), text(100), text(10));
+        List<Interaction> history = List.of(interaction("1", 1));
+        TokenBudget budget = TokenBudget.fit(100, null, null, text(10), history, contexts);
+        assertEquals(2, budget.getContexts().size());
+        assertEquals(contexts.get(0), budget.getContexts().get(0));
+        // 82 - 44 for the first context - 4 message overhead
+        assertEquals(34, TokenEstimator.estimateTokens(budget.getContexts().get(1)));
+        assertTrue(budget.getChatHistory().isEmpty());
+    }
+
+    public void testFit_SkipsShortTruncatedContext() {
+        List<String> contexts = List.of(text(70), text(100));
+        TokenBudget budget = TokenBudget.fit(100, null, null, text(10), List.of(), contexts);
+        assertEquals(1, budget.getContexts().size());
+    }
+
+    public void testFit_KeepsNewestInteractions() {
+        List<Interaction> history = List.of(interaction("newest", 10), interaction("older", 10), interaction("oldest", 10));
+        // Each interaction takes 28 tokens, 18 go to the question.
+        TokenBudget budget = TokenBudget.fit(80, null, null, text(10), history, List.of());
+        assertEquals(2, budget.getChatHistory().size());
+        assertEquals("newest", budget.getChatHistory().get(0).getId());
+        assertEquals("older", budget.getChatHistory().get(1).getId());
+    }
+}